@@ -12,16 +12,23 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.BooleanValue;
 import com.sun.jdi.Bootstrap;
 import com.sun.jdi.Field;
+import com.sun.jdi.IncompatibleThreadStateException;
 import com.sun.jdi.LocalVariable;
 import com.sun.jdi.Location;
 import com.sun.jdi.Mirror;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
 import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.Value;
 import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.connect.Connector;
@@ -30,12 +37,12 @@ import com.sun.jdi.event.BreakpointEvent;
 import com.sun.jdi.event.ClassPrepareEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventSet;
-import com.sun.jdi.event.LocatableEvent;
 import com.sun.jdi.event.StepEvent;
 import com.sun.jdi.event.VMDisconnectEvent;
 import com.sun.jdi.event.VMStartEvent;
 import com.sun.jdi.request.BreakpointRequest;
 import com.sun.jdi.request.ClassPrepareRequest;
+import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.EventRequestManager;
 import com.sun.jdi.request.StepRequest;
 
@@ -44,12 +51,14 @@ import logicfl.coverage.CoverageInfo;
 import logicfl.coverage.JUnit4TestRunner;
 import logicfl.coverage.JUnit5TestRunner;
 import logicfl.coverage.TestRunner;
+import logicfl.logic.FactCompiler;
 import logicfl.logic.FactManager;
 import logicfl.logic.Val;
 import logicfl.logic.codefacts.Line;
 import logicfl.logic.codefacts.NameRef;
 import logicfl.probe.LineMatcher;
 import logicfl.probe.NodeVisitor;
+import logicfl.probe.ProbeRecorder;
 import logicfl.utils.CodeUtils;
 import logicfl.utils.Configuration;
 import logicfl.utils.JSONUtils;
@@ -71,6 +80,10 @@ public class DynamicAnalyzer {
     private Path coverageInfoPath;
     private Map<String, LineMatcher> matchers;
     private Map<String, Map<Integer, Set<String>>> monitorTargets;
+    private Map<BreakpointRequest, BreakpointHits> breakpointHits;
+    private Map<Location, List<LocalVariable>> visibleVariables;
+    private Map<ThreadReference, PendingStep> pendingSteps;
+    private int removedBreakpoints;
 
     public DynamicAnalyzer(String configFilePath) {
         this.configFilePath = configFilePath;
@@ -78,11 +91,15 @@ public class DynamicAnalyzer {
         config.loadTestsInfo();
         classMap = new HashMap<>();
         variableMap = new HashMap<>();
-        predicates = new HashMap<>();
+        predicates = new ConcurrentHashMap<>();
         npeInfoPath = config.getOutputFilePath(PROBE_NPE_TRACE_INFO);
         coverageInfoPath = config.getOutputFilePath(PROBE_COVERAGE_INFO);
         matchers = new HashMap<>();
         monitorTargets = new HashMap<>();
+        breakpointHits = new ConcurrentHashMap<>();
+        visibleVariables = new ConcurrentHashMap<>();
+        pendingSteps = new ConcurrentHashMap<>();
+        removedBreakpoints = 0;
     }
 
     public Configuration getConfig() {
@@ -94,10 +111,15 @@ public class DynamicAnalyzer {
         timer.setStart();
         //Load NPE stack trace information.
         Map<String, List<Integer>> targets = null;
-        String classPath = config.getOutputFilePath("classes").toAbsolutePath() + File.pathSeparator + config.classPathStr;
+        Path probedClassPath = config.inMemoryCompile ? config.probedJarPath : config.getOutputFilePath("classes");
+        String classPath = probedClassPath.toAbsolutePath() + File.pathSeparator + config.classPathStr;
         CoverageAnalyzer analyzer = new CoverageAnalyzer(configFilePath);
         config.npeInfoPath = npeInfoPath;
         config.coverageInfoPath = coverageInfoPath;
+        String testJvmArgs = config.testJvmArgs;
+        boolean testDaemon = config.testDaemon;
+        if(config.monitorProbeRecorder())
+            prepareProbeRecorder();
         if(config.monitorCoverage()) {
             TestRunner.runTestsWithCoverage(configFilePath, classPath, config, true);
             CoverageInfo coverage = new CoverageInfo();
@@ -113,6 +135,8 @@ public class DynamicAnalyzer {
             TestRunner.runTests(configFilePath, classPath, config, true);
             targets = JSONUtils.loadTraceInfoFromJSON(npeInfoPath, true, true);
         }
+        config.testJvmArgs = testJvmArgs;
+        config.testDaemon = testDaemon;
 
         //Load class & variable references from predicates.
         loadFromPredicates();
@@ -124,9 +148,89 @@ public class DynamicAnalyzer {
         if(config.monitorTargetOnly())
             JSONUtils.loadMonitorTargets(monitorTargets, config.monitorTargetPath);
 
+        if(config.monitorProbeRecorder())
+            loadRecordedValues(targets);
+        else
+            collectValues(classPath, targets);
+        exportPredicates();
+        //Dynamic facts are added to FL facts, so they are compiled again.
+        if(config.factsQlf)
+            FactCompiler.compile(config.flFactsPath);
+        timer.setEnd();
+        JSONUtils.exportExecutionTime(timer, config.execTimePath);
+        System.out.println("Exec. Time - " + timer.getExecTimeStr());
+    }
+
+    /**
+     * Makes the following test runs record probe values to a file instead of attaching a debugger.
+     * Values are recorded while tests are executed for coverage or traces, so tests are executed only once.
+     * A daemon runner is not used, since recorded values are written when a runner exits.
+     */
+    private void prepareProbeRecorder() {
+        try {
+            Files.deleteIfExists(config.probeValuesPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        ProbeRecorder.reset();
+        String property = "-D" + ProbeRecorder.VALUES_PROPERTY + "=" + config.probeValuesPath.toAbsolutePath();
+        config.testJvmArgs = config.testJvmArgs.isBlank() ? property : config.testJvmArgs + " " + property;
+        config.testDaemon = false;
+    }
+
+    /**
+     * Adds val/3 predicates from values recorded by probes.
+     * With the trace target, only probes of traced lines are considered as the debugger does.
+     */
+    private void loadRecordedValues(Map<String, List<Integer>> targets) {
+        //Tests executed in process share the recorder with the analyzer.
+        if(config.testInProcess)
+            ProbeRecorder.flush(config.probeValuesPath.toString());
+        Map<String, Set<Integer>> targetLines = config.monitorCoverage() ? null : getOriginalLines(targets);
+        try {
+            List<String> lines = config.probeValuesPath.toFile().exists()
+                ? Files.readAllLines(config.probeValuesPath) : List.of();
+            for(String line : lines) {
+                String[] fields = line.split(ProbeRecorder.FIELD_DELIM);
+                int index = fields[0].indexOf(NodeVisitor.CLASS_SEP);
+                if(fields.length < 2 || index < 0)
+                    continue;
+                String value = fields[1];
+                if(value.equals(ProbeRecorder.NULL) ? !config.monitorNull() : !config.monitorBoolean())
+                    continue;
+                String className = fields[0].substring(0, index);
+                String varName = fields[0].substring(index + NodeVisitor.CLASS_SEP.length());
+                if(targetLines != null) {
+                    Set<Integer> classLines = targetLines.get(className);
+                    if(classLines == null || !classLines.contains(getProbeLine(varName)))
+                        continue;
+                }
+                addValPredicate(className, -1, varName, value);
+            }
+            System.out.println("Recorded probe values - " + lines.size() + " from " + config.probeValuesPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private Map<String, Set<Integer>> getOriginalLines(Map<String, List<Integer>> targets) {
+        Map<String, Set<Integer>> originalLines = new HashMap<>();
+        for(Map.Entry<String, List<Integer>> entry : targets.entrySet()) {
+            String className = CodeUtils.getIncludingClass(entry.getKey());
+            String classRef = classMap.getOrDefault(className, className);
+            LineMatcher matcher = matchers.get(classRef);
+            Set<Integer> lines = originalLines.computeIfAbsent(className, k -> new HashSet<>());
+            for(Integer lineNum : entry.getValue())
+                lines.add(matcher == null ? lineNum : matcher.getOriginalLine(lineNum));
+        }
+        return originalLines;
+    }
+
+    private void collectValues(String classPath, Map<String, List<Integer>> targets) {
         //Attach debugger and collect values.
         VirtualMachine vm = null;
         EventSet eventSet = null;
+        ExecutorService workers = null;
         try {
             LaunchingConnector connector = Bootstrap.virtualMachineManager().defaultConnector();
             Map<String, Connector.Argument> options = connector.defaultArguments();
@@ -148,49 +252,23 @@ public class DynamicAnalyzer {
 
             boolean vmDisconnected = false;
             String className = null;
-            int lineNum = -1;
+            if(config.jdiThreads > 1)
+                workers = Executors.newFixedThreadPool(config.jdiThreads);
             while (!vmDisconnected) {
                 eventSet = vm.eventQueue().remove();
+                //Events suspending only their threads are handled by workers, which resume the threads.
+                if(workers != null && eventSet.suspendPolicy() == EventRequest.SUSPEND_EVENT_THREAD) {
+                    EventSet events = eventSet;
+                    workers.execute(() -> handleEvents(events, eventRequestManager));
+                    continue;
+                }
                 for (Event event : eventSet) {
                     if (event instanceof VMDisconnectEvent) {
                         vmDisconnected = true;
-                    } else if (event instanceof BreakpointEvent) {
-                        LocatableEvent e = (LocatableEvent)event;
-                        Location loc = e.location();
-                        ReferenceType clazz = loc.declaringType();
-                        className = CodeUtils.getIncludingClass(clazz.name());
-                        lineNum = loc.lineNumber();
-                        if(config.monitorAllVisible()) {
-                            StackFrame top = e.thread().frame(0);
-                            List<LocalVariable> visibleVariables = top.visibleVariables();
-                            for (LocalVariable variable : visibleVariables) {
-                                addValue(top.getValue(variable), variable, className, lineNum);
-                            }
-                        } else if(config.monitorTargetOnly() && monitorTargets.containsKey(className)) {
-                            Set<String> variables = monitorTargets.get(className).get(lineNum);
-                            if(variables != null && variables.size() > 0) {
-                                fireStepOverRequest(eventRequestManager, e.thread());
-                            }
-                        }
+                    } else if (event instanceof BreakpointEvent e) {
+                        handleBreakpoint(e, eventRequestManager);
                     } else if (event instanceof StepEvent stepEvent) {
-                        StackFrame top = stepEvent.thread().frame(0);
-                        if(config.monitorTargetOnly() && monitorTargets.containsKey(className)) {
-                            Set<String> variables = monitorTargets.get(className).get(lineNum);
-                            if(variables != null) {
-                                for (String varName : variables) {
-                                    LocalVariable variable = top.visibleVariableByName(varName);
-                                    if(variable == null && config.printDebugInfo) {
-                                        System.out.printf("The variable %s is not visible at line %d.\n", varName, lineNum);
-                                        continue;
-                                    }
-                                    addValue(top.getValue(variable), variable, className, lineNum);
-                                }
-                            }
-                        }
-                        // Disable the step request after the step over
-                        StepRequest curr = (StepRequest)stepEvent.request();
-                        curr.disable();
-                        eventRequestManager.deleteEventRequest(curr);
+                        handleStep(stepEvent, eventRequestManager);
                     } else if (event instanceof ClassPrepareEvent cpe) {
                         ReferenceType classType = cpe.referenceType();
                         className = classType.name();
@@ -205,6 +283,7 @@ public class DynamicAnalyzer {
                                 }
                                 loc = locations.get(locations.size()-1);
                                 breakpointRequest = eventRequestManager.createBreakpointRequest(loc);
+                                breakpointRequest.setSuspendPolicy(getSuspendPolicy());
                                 breakpointRequest.enable();
                             }
                         }
@@ -220,14 +299,212 @@ public class DynamicAnalyzer {
                 vm.exit(1);
             }
         } finally {
+            if(workers != null) {
+                workers.shutdown();
+                try {
+                    workers.awaitTermination(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
             if(config.printDebugInfo) {
                 printOutput(vm);
             }
         }
-        exportPredicates();
-        timer.setEnd();
-        JSONUtils.exportExecutionTime(timer, config.execTimePath);
-        System.out.println("Exec. Time - " + timer.getExecTimeStr());
+        if(config.breakpointHitLimit > 0 || config.lazyBreakpointRemoval) {
+            System.out.println("Breakpoints removed - " + removedBreakpoints + " of " + breakpointHits.size()
+                + " hit breakpoints, " + breakpointHits.values().stream().mapToLong(h -> h.count).sum() + " hits in total.");
+        }
+    }
+
+    /**
+     * Breakpoints and steps suspend only their threads if events are handled by multiple threads,
+     * so that other threads of the test runner keep running while values are read.
+     */
+    private int getSuspendPolicy() {
+        return config.jdiThreads > 1 ? EventRequest.SUSPEND_EVENT_THREAD : EventRequest.SUSPEND_ALL;
+    }
+
+    /**
+     * Handles breakpoint and step events of a thread on a worker, and resumes the thread.
+     */
+    private void handleEvents(EventSet events, EventRequestManager eventRequestManager) {
+        try {
+            for(Event event : events) {
+                if(event instanceof BreakpointEvent e)
+                    handleBreakpoint(e, eventRequestManager);
+                else if(event instanceof StepEvent stepEvent)
+                    handleStep(stepEvent, eventRequestManager);
+            }
+        } catch (VMDisconnectedException e) {
+            return;
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        try {
+            events.resume();
+        } catch (VMDisconnectedException e) {
+            //The test runner has already finished.
+        }
+    }
+
+    private void handleBreakpoint(BreakpointEvent e, EventRequestManager eventRequestManager)
+        throws IncompatibleThreadStateException, AbsentInformationException {
+        Location loc = e.location();
+        ReferenceType clazz = loc.declaringType();
+        String className = CodeUtils.getIncludingClass(clazz.name());
+        int lineNum = loc.lineNumber();
+        BreakpointRequest request = (BreakpointRequest)e.request();
+        BreakpointHits hits = breakpointHits.computeIfAbsent(request, r -> new BreakpointHits());
+        hits.hit();
+        if(config.monitorAllVisible()) {
+            StackFrame top = e.thread().frame(0);
+            List<LocalVariable> visibleVariables = getMonitoredVariables(top, className, lineNum);
+            Map<LocalVariable, Value> values = top.getValues(visibleVariables);
+            for (LocalVariable variable : visibleVariables) {
+                Value value = values.get(variable);
+                addValue(value, variable, className, lineNum);
+                hits.observe(variable.name(), variable.typeName(), value);
+            }
+            removeBreakpoint(eventRequestManager, request, hits);
+        } else if(config.monitorTargetOnly() && monitorTargets.containsKey(className)) {
+            Set<String> variables = monitorTargets.get(className).get(lineNum);
+            if(variables != null && variables.size() > 0) {
+                pendingSteps.put(e.thread(), new PendingStep(className, lineNum, request));
+                fireStepOverRequest(eventRequestManager, e.thread());
+            } else {
+                removeBreakpoint(eventRequestManager, request, hits);
+            }
+        }
+    }
+
+    private void handleStep(StepEvent stepEvent, EventRequestManager eventRequestManager)
+        throws IncompatibleThreadStateException, AbsentInformationException {
+        StackFrame top = stepEvent.thread().frame(0);
+        PendingStep step = pendingSteps.remove(stepEvent.thread());
+        if(step != null) {
+            String className = step.className;
+            int lineNum = step.lineNum;
+            BreakpointHits hits = breakpointHits.get(step.breakpoint);
+            Set<String> variables = monitorTargets.get(className).get(lineNum);
+            for (String varName : variables) {
+                LocalVariable variable = top.visibleVariableByName(varName);
+                if(variable == null && config.printDebugInfo) {
+                    System.out.printf("The variable %s is not visible at line %d.\n", varName, lineNum);
+                    continue;
+                }
+                Value value = top.getValue(variable);
+                addValue(value, variable, className, lineNum);
+                hits.observe(varName, variable.typeName(), value);
+            }
+            removeBreakpoint(eventRequestManager, step.breakpoint, hits);
+        }
+        // Disable the step request after the step over
+        StepRequest curr = (StepRequest)stepEvent.request();
+        curr.disable();
+        eventRequestManager.deleteEventRequest(curr);
+    }
+
+    /**
+     * Returns visible variables of a frame whose values can be val/3 predicates, cached for each location.
+     * If mapped.variables.only is set, variables without name references in code facts are also excluded.
+     */
+    private List<LocalVariable> getMonitoredVariables(StackFrame frame, String className, int lineNum)
+        throws AbsentInformationException {
+        Location loc = frame.location();
+        List<LocalVariable> variables = visibleVariables.get(loc);
+        if(variables == null) {
+            variables = new ArrayList<>();
+            for(LocalVariable variable : frame.visibleVariables()) {
+                //Values of other primitive types are never added.
+                String typeName = variable.typeName();
+                if(BreakpointHits.PRIMITIVES.contains(typeName) && !typeName.equals("boolean"))
+                    continue;
+                if(config.mappedVariablesOnly && !variable.name().contains(NodeVisitor.LINE_SEP)
+                    && !variableMap.containsKey(getVariableKey(className, lineNum, variable.name())))
+                    continue;
+                variables.add(variable);
+            }
+            visibleVariables.put(loc, variables);
+        }
+        return variables;
+    }
+
+    /**
+     * Deletes a breakpoint if it reaches the hit limit,
+     * or all values that it can observe have been recorded when lazy removal is enabled.
+     */
+    private synchronized void removeBreakpoint(EventRequestManager eventRequestManager, BreakpointRequest request, BreakpointHits hits) {
+        if(hits.removed)
+            return;
+        if((config.breakpointHitLimit > 0 && hits.count >= config.breakpointHitLimit)
+            || (config.lazyBreakpointRemoval && hits.isSaturated())) {
+            request.disable();
+            eventRequestManager.deleteEventRequest(request);
+            hits.removed = true;
+            removedBreakpoints++;
+        }
+    }
+
+    /**
+     * A breakpoint of a thread waiting for the step over, to read values of monitor targets after the line.
+     */
+    private static class PendingStep {
+        private String className;
+        private int lineNum;
+        private BreakpointRequest breakpoint;
+
+        PendingStep(String className, int lineNum, BreakpointRequest breakpoint) {
+            this.className = className;
+            this.lineNum = lineNum;
+            this.breakpoint = breakpoint;
+        }
+    }
+
+    /**
+     * Hit count of a breakpoint, and values observed for each variable at the breakpoint.
+     * Observed values are kept as flags, which are compared with the values that val/3 predicates can have.
+     */
+    private class BreakpointHits {
+        private static final int NULL = 1;
+        private static final int TRUE = 2;
+        private static final int FALSE = 4;
+        private static final Set<String> PRIMITIVES = Set.of(
+            "byte", "short", "int", "long", "float", "double", "char", "boolean");
+
+        long count = 0;
+        boolean removed = false;
+        private Map<String, Integer> observed = new HashMap<>();
+        private Map<String, Integer> expected = new HashMap<>();
+
+        synchronized void hit() {
+            count++;
+        }
+
+        synchronized void observe(String varName, String typeName, Value value) {
+            int flag = 0;
+            if(value == null)
+                flag = NULL;
+            else if(value instanceof BooleanValue bool)
+                flag = bool.value() ? TRUE : FALSE;
+            observed.merge(varName, flag, (f1, f2) -> f1 | f2);
+            expected.computeIfAbsent(varName, k -> getExpectedFlags(typeName));
+        }
+
+        private int getExpectedFlags(String typeName) {
+            if(typeName.equals("boolean"))
+                return config.monitorBoolean() ? TRUE | FALSE : 0;
+            return !PRIMITIVES.contains(typeName) && config.monitorNull() ? NULL : 0;
+        }
+
+        synchronized boolean isSaturated() {
+            for(Map.Entry<String, Integer> entry : expected.entrySet()) {
+                int flags = entry.getValue();
+                if((observed.get(entry.getKey()) & flags) != flags)
+                    return false;
+            }
+            return true;
+        }
     }
 
     private void addValue(Value value, Mirror variable, String className, int lineNum) {
@@ -240,8 +517,10 @@ public class DynamicAnalyzer {
     }
 
     private void fireStepOverRequest(EventRequestManager eventRequestManager, ThreadReference thread) {
-        //Make sure previous step requests are removed.
+        //Make sure previous step requests of the thread are removed.
         for(StepRequest stepRequest : eventRequestManager.stepRequests()) {
+            if(!stepRequest.thread().equals(thread))
+                continue;
             stepRequest.disable();
             eventRequestManager.deleteEventRequest(stepRequest);
         }
@@ -251,6 +530,7 @@ public class DynamicAnalyzer {
             StepRequest.STEP_OVER
         );
         stepRequest.addCountFilter(1); // Next step only
+        stepRequest.setSuspendPolicy(getSuspendPolicy());
         stepRequest.enable();
     }
 
@@ -314,6 +594,20 @@ public class DynamicAnalyzer {
         } else if(variable instanceof Field field) {
             varName = field.name();
         }
+        addValPredicate(className, locLineNum, varName, value);
+    }
+
+    private int getProbeLine(String varName) {
+        int index = varName.lastIndexOf(NodeVisitor.LINE_SEP);
+        if(index < 0)
+            return -1;
+        int pIndex = varName.indexOf(NodeVisitor.PROBE_INDEX_SEP, index);
+        return Integer.parseInt(
+                varName.substring(index + NodeVisitor.LINE_SEP.length(),
+                    pIndex < 0 ? varName.length() : pIndex));
+    }
+
+    private void addValPredicate(String className, int locLineNum, String varName, String value) {
         if(config.printDebugInfo)
             System.out.println(varName + " - " + value);
         String classRef = classMap.containsKey(className)
@@ -321,10 +615,7 @@ public class DynamicAnalyzer {
                         : className;
         if (varName.contains(NodeVisitor.LINE_SEP)){
             int index = varName.lastIndexOf(NodeVisitor.LINE_SEP);
-            int pIndex = varName.indexOf(NodeVisitor.PROBE_INDEX_SEP, index);
-            int lineNum = Integer.parseInt(
-                    varName.substring(index + NodeVisitor.LINE_SEP.length(),
-                        pIndex < 0 ? varName.length() : pIndex));
+            int lineNum = getProbeLine(varName);
             String varKey = varName.substring(0, index);
             Line line = new Line(classRef, lineNum);
             Val val = new Val(varKey, value, line);
@@ -332,7 +623,7 @@ public class DynamicAnalyzer {
         } else {
             LineMatcher matcher = matchers.get(classRef);
             int lineNum = matcher == null ? locLineNum : matcher.getOriginalLine(locLineNum);
-            String key = classRef + NodeVisitor.CLASS_SEP + varName + NodeVisitor.LINE_SEP + lineNum;
+            String key = getVariableKey(className, locLineNum, varName);
             if(variableMap.containsKey(key)) {
                 Line line = new Line(classRef, lineNum);
                 Val val = new Val(variableMap.get(key), value, line);
@@ -346,6 +637,18 @@ public class DynamicAnalyzer {
         }
     }
 
+    /**
+     * Returns a key of variableMap for a variable at a line of a probed class.
+     */
+    private String getVariableKey(String className, int locLineNum, String varName) {
+        String classRef = classMap.containsKey(className)
+                        ? classMap.get(className)
+                        : className;
+        LineMatcher matcher = matchers.get(classRef);
+        int lineNum = matcher == null ? locLineNum : matcher.getOriginalLine(locLineNum);
+        return classRef + NodeVisitor.CLASS_SEP + varName + NodeVisitor.LINE_SEP + lineNum;
+    }
+
     public static void main(String[] args) {
         String configFilePath = "config.properties";
         if(args.length > 0) {
@@ -0,0 +1,277 @@
+package logicfl.analyzer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import logicfl.logic.FactManager;
+import logicfl.logic.FactSlice;
+import logicfl.logic.Facts;
+import logicfl.logic.codefacts.NameRef;
+import logicfl.probe.LineMatcher;
+import logicfl.utils.CodeUtils;
+import logicfl.utils.Configuration;
+import logicfl.utils.JSONUtils;
+
+/**
+ * On-disk cache of static facts, probed source and line matching information per class.
+ *
+ * A class is keyed by a hash of its source, the class path fingerprint and its covered lines.
+ * Since {@code name_ref/4} IDs are numbered over all classes in the sorted order,
+ * the key also includes a digest of name references added by the preceding classes.
+ * Name references added by each class are stored with its entry, and restored on a hit.
+ */
+public class FactCache {
+
+    //Version 3 entries may hold the line-indexed reverse-lookup facts, which are no longer written.
+    private static final String VERSION = "4";
+
+    private static class NameRefEntry {
+        public int type;
+        public String mapKey;
+        public NameRef ref;
+
+        public NameRefEntry(int type, String mapKey, NameRef ref) {
+            this.type = type;
+            this.mapKey = mapKey;
+            this.ref = ref;
+        }
+    }
+
+    public static class Entry {
+        private String contentKey;
+        private String key;
+        private FactSlice slice;
+        private List<NameRefEntry> nameRefs;
+        private String probedSource;
+        private LineMatcher lineMatcher;
+        private Map<Integer, Set<String>> targetMap;
+
+        public String getProbedSource() {
+            return probedSource;
+        }
+
+        public LineMatcher getLineMatcher() {
+            return lineMatcher;
+        }
+
+        public Map<Integer, Set<String>> getTargetMap() {
+            return targetMap;
+        }
+    }
+
+    private Configuration config;
+    private Path cacheDir;
+    private String classPathFingerprint;
+    private long stateDigest;
+    private Map<Integer, Integer> nameRefSizes;
+    private Map<String, Entry> loaded;
+    private Map<String, Entry> pending;
+
+    public FactCache(Configuration config) {
+        this.config = config;
+        this.cacheDir = config.staticCachePath;
+        this.classPathFingerprint = CodeUtils.getClassPathFingerprint(config.classPath);
+        stateDigest = 0;
+        nameRefSizes = new HashMap<>();
+        loaded = new HashMap<>();
+        pending = new HashMap<>();
+    }
+
+    public String getContentKey(String className, String source) {
+        List<String> values = new ArrayList<>();
+        values.add(VERSION);
+        values.add(className);
+        values.add(source);
+        values.add(classPathFingerprint);
+        values.add(String.valueOf(config.coveredOnly));
+        values.add(config.monitorMethod);
+        BitSet covered = config.coverage.getCoveredLineSet(className);
+        if(covered != null)
+            covered.stream().forEach(lineNum -> values.add(String.valueOf(lineNum)));
+        return CodeUtils.getHash(values);
+    }
+
+    /**
+     * Returns a key of a class, which also depends on the class ID and name references of preceding classes.
+     */
+    public String getKey(String contentKey, String classId) {
+        return CodeUtils.getHash(List.of(contentKey, classId, String.valueOf(stateDigest)));
+    }
+
+    public boolean hasEntry(String className, String contentKey) {
+        Entry entry = load(className);
+        return entry != null && entry.contentKey.equals(contentKey);
+    }
+
+    public Entry getEntry(String className, String key) {
+        Entry entry = load(className);
+        return entry != null && entry.key.equals(key) ? entry : null;
+    }
+
+    /**
+     * Adds cached facts of a class, and name references added by the class.
+     *
+     * @param facts facts to add the cached class.
+     * @param className the qualified name of the class.
+     * @param classId the id of the class.
+     * @param entry the cache entry of the class.
+     */
+    public void restore(Facts facts, String className, String classId, Entry entry) {
+        Map<Integer, Map<String, NameRef>> nameRefMap = facts.getNameRefMap();
+        for(NameRefEntry e : entry.nameRefs) {
+            nameRefMap.get(e.type).putIfAbsent(e.mapKey, e.ref);
+        }
+        updateState(entry.nameRefs);
+        facts.addSlice(classId, className, entry.slice);
+        loaded.remove(className);
+    }
+
+    /**
+     * Takes a snapshot of name references before visiting a class.
+     */
+    public void beginClass(Facts facts) {
+        facts.getNameRefMap().forEach((type, map) -> nameRefSizes.put(type, map.size()));
+    }
+
+    /**
+     * Collects name references added while visiting a class.
+     *
+     * @param facts facts containing the class.
+     * @param className the qualified name of the class.
+     * @param classId the id of the class.
+     * @param contentKey the content key of the class, or {@code null} if the class should not be stored.
+     */
+    public void endClass(Facts facts, String className, String classId, String contentKey) {
+        List<NameRefEntry> added = new ArrayList<>();
+        facts.getNameRefMap().forEach((type, map) -> {
+            int skip = nameRefSizes.getOrDefault(type, 0);
+            Iterator<Map.Entry<String, NameRef>> it = map.entrySet().iterator();
+            for(int i=0; i<skip && it.hasNext(); i++)
+                it.next();
+            while(it.hasNext()) {
+                Map.Entry<String, NameRef> e = it.next();
+                added.add(new NameRefEntry(type, e.getKey(), e.getValue()));
+            }
+        });
+        if(contentKey != null) {
+            Entry entry = new Entry();
+            entry.contentKey = contentKey;
+            entry.key = getKey(contentKey, classId);
+            entry.nameRefs = added;
+            pending.put(className, entry);
+        }
+        updateState(added);
+    }
+
+    /**
+     * Stores a class visited after {@link #endClass(Facts, String, String, String)}.
+     *
+     * @return rendered facts of the class, or {@code null} if the class is not stored.
+     */
+    public FactSlice store(Facts facts, String className, String classId, String probedSource,
+        LineMatcher lineMatcher, Map<Integer, Set<String>> targetMap) {
+        Entry entry = pending.remove(className);
+        if(entry == null || probedSource == null || lineMatcher == null)
+            return null;
+        entry.slice = FactManager.createFactSlice(facts, classId);
+
+        JSONObject root = new JSONObject();
+        root.put("content.key", entry.contentKey);
+        root.put("key", entry.key);
+        root.put("facts", entry.slice.getJSONObject());
+        JSONArray refs = new JSONArray();
+        for(NameRefEntry e : entry.nameRefs) {
+            JSONObject ref = new JSONObject();
+            ref.put("type", e.type);
+            ref.put("map.key", e.mapKey);
+            ref.put("id", e.ref.getId());
+            ref.put("kind", e.ref.getKind());
+            ref.put("name", e.ref.getName());
+            ref.put("key", e.ref.getKey());
+            refs.put(ref);
+        }
+        root.put("name.refs", refs);
+        root.put("probed.source", probedSource);
+        root.put("probe_ranges", JSONUtils.toJSONArray(lineMatcher));
+        if(targetMap != null) {
+            JSONObject targets = new JSONObject();
+            targetMap.forEach((lineNum, names) -> targets.put(String.valueOf(lineNum), new JSONArray(names)));
+            root.put("monitor.targets", targets);
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+            Files.writeString(getEntryPath(className), root.toString());
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Failed to store static facts of " + className);
+        }
+        return entry.slice;
+    }
+
+    private Entry load(String className) {
+        if(loaded.containsKey(className))
+            return loaded.get(className);
+        Entry entry = null;
+        Path entryPath = getEntryPath(className);
+        if(entryPath.toFile().exists()) {
+            try {
+                JSONObject root = new JSONObject(Files.readString(entryPath));
+                entry = new Entry();
+                entry.contentKey = root.getString("content.key");
+                entry.key = root.getString("key");
+                entry.slice = new FactSlice(root.getJSONObject("facts"));
+                entry.nameRefs = new ArrayList<>();
+                JSONArray refs = root.getJSONArray("name.refs");
+                for(int i=0; i<refs.length(); i++) {
+                    JSONObject ref = refs.getJSONObject(i);
+                    NameRef nameRef = new NameRef(ref.getString("id"), ref.getInt("kind"),
+                        ref.getString("name"), ref.getString("key"));
+                    entry.nameRefs.add(new NameRefEntry(ref.getInt("type"), ref.getString("map.key"), nameRef));
+                }
+                entry.probedSource = root.getString("probed.source");
+                entry.lineMatcher = JSONUtils.toLineMatcher(root.getJSONArray("probe_ranges"));
+                JSONObject targets = root.optJSONObject("monitor.targets");
+                if(targets != null) {
+                    entry.targetMap = new HashMap<>();
+                    for(String lineNum : targets.keySet()) {
+                        Set<String> names = new HashSet<>();
+                        JSONUtils.toStringList(targets.getJSONArray(lineNum)).forEach(names::add);
+                        entry.targetMap.put(Integer.valueOf(lineNum), names);
+                    }
+                }
+            } catch (Exception e) {
+                System.err.println("Ignoring a broken cache entry - " + entryPath);
+                entry = null;
+            }
+        }
+        loaded.put(className, entry);
+        return entry;
+    }
+
+    private Path getEntryPath(String className) {
+        return Paths.get(cacheDir.toString(), className + ".json");
+    }
+
+    private void updateState(List<NameRefEntry> entries) {
+        //Order independent, so that the digest only depends on the set of name references.
+        for(NameRefEntry e : entries) {
+            String hash = CodeUtils.getHash(List.of(String.valueOf(e.type), e.mapKey, e.ref.getId(),
+                String.valueOf(e.ref.getKind()), e.ref.getName(), e.ref.getKey()));
+            stateDigest += Long.parseUnsignedLong(hash.substring(0, 16), 16);
+        }
+    }
+}
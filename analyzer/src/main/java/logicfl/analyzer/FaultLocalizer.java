@@ -2,16 +2,23 @@ package logicfl.analyzer;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jpl7.Atom;
 import org.jpl7.Query;
 import org.jpl7.Term;
 
 import logicfl.coverage.NPETrace;
+import logicfl.coverage.NPETraceReader;
 import logicfl.coverage.StackTrace;
+import logicfl.logic.FactCompiler;
 import logicfl.logic.codefacts.Line;
 import logicfl.utils.Configuration;
 import logicfl.utils.JSONUtils;
@@ -20,12 +27,17 @@ import logicfl.utils.Timer;
 public class FaultLocalizer {
     private Configuration config;
     private List<StackTrace> candidates;
+    private String module;
 
     public FaultLocalizer(String configFilePath) {
         config = new Configuration(configFilePath);
         candidates = new ArrayList<>();
     }
 
+    public Configuration getConfig() {
+        return this.config;
+    }
+
     public List<StackTrace> getCandidates() {
         return this.candidates;
     }
@@ -35,22 +47,67 @@ public class FaultLocalizer {
         if(args.length > 0) {
             configFilePath = args[0];
         }
+        if(args.length > 1) {
+            runConcurrently(args);
+            return;
+        }
         System.out.println("Getting configurations from "+configFilePath);
 
         FaultLocalizer localizer = new FaultLocalizer(configFilePath);
         localizer.run();
     }
 
+    /**
+     * Runs localizers of multiple configurations concurrently, sharing rules loaded in the engine pool.
+     */
+    private static void runConcurrently(String[] configFilePaths) {
+        List<FaultLocalizer> localizers = new ArrayList<>();
+        for(String configFilePath : configFilePaths) {
+            System.out.println("Getting configurations from "+configFilePath);
+            localizers.add(new FaultLocalizer(configFilePath));
+        }
+        runConcurrently(localizers);
+    }
+
+    /**
+     * Runs the given localizers concurrently, sharing rules loaded in the engine pool.
+     */
+    public static void runConcurrently(List<FaultLocalizer> localizers) {
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(localizers.size(), Runtime.getRuntime().availableProcessors()));
+        List<Future<?>> results = new ArrayList<>();
+        for(FaultLocalizer localizer : localizers) {
+            //Facts of different bugs should be loaded into their own modules.
+            localizer.getConfig().prologEnginePool = true;
+            results.add(executor.submit(localizer::run));
+        }
+        for(Future<?> result : results) {
+            try {
+                result.get();
+            } catch (InterruptedException | ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
+        executor.shutdown();
+    }
+
     public void loadTracesFromJSON() {
-        List<NPETrace> traces = JSONUtils.loadTracesFromJSON(config.npeInfoPath);
-        for(NPETrace trace : traces) {
-            // Consider the first target stack trace entry as candidates.
-            for (StackTrace st : trace.traces) {
-                if (st.isTarget) {
-                    candidates.add(st);
-                    break;
+        if(!config.npeInfoPath.toFile().exists())
+            return;
+        //Only candidates are kept, while traces are read one by one.
+        try (NPETraceReader reader = new NPETraceReader(config.npeInfoPath)) {
+            while(reader.hasNext()) {
+                NPETrace trace = reader.next();
+                // Consider the first target stack trace entry as candidates.
+                for (StackTrace st : trace.traces) {
+                    if (st.isTarget) {
+                        candidates.add(st);
+                        break;
+                    }
                 }
             }
+        } catch (IOException e) {
+            e.printStackTrace();
         }
     }
 
@@ -59,22 +116,42 @@ public class FaultLocalizer {
         timer.setStart();
         System.out.println("Running Fault Localizer with");
         System.out.println("Rules: " + config.rulesPath);
-        System.out.println("Facts: " + config.flFactsPath);
-        System.out.println("Code Facts: " + config.codeFactsPath);
-        Query main = new Query("consult",
-            Term.termArrayToList(
-                new Term[]{
-                    new Atom(config.flFactsPath.toString()),
-                    new Atom(config.codeFactsPath.toString()),
-                    new Atom(config.rulesPath.toString())
-                }));
-        System.out.println("consult "+(main.hasSolution() ? "Succeeded" : "Failed"));
+        Path flFactsPath = config.factsQlf ? FactCompiler.getLoadPath(config.flFactsPath) : config.flFactsPath;
+        Path codeFactsPath = config.factsQlf ? FactCompiler.getLoadPath(config.codeFactsPath) : config.codeFactsPath;
+        System.out.println("Facts: " + flFactsPath);
+        System.out.println("Code Facts: " + codeFactsPath);
+        if(config.prologEnginePool) {
+            module = PrologEnginePool.acquire(config.rulesPath, flFactsPath, codeFactsPath);
+            try {
+                localize();
+            } finally {
+                //Quick load files are registered with their source files.
+                PrologEnginePool.release(module, flFactsPath, codeFactsPath, config.flFactsPath, config.codeFactsPath);
+                module = null;
+            }
+        } else {
+            Query main = new Query("consult",
+                Term.termArrayToList(
+                    new Term[]{
+                        new Atom(flFactsPath.toString()),
+                        new Atom(codeFactsPath.toString()),
+                        new Atom(config.rulesPath.toString())
+                    }));
+            System.out.println("consult "+(main.hasSolution() ? "Succeeded" : "Failed"));
+            localize();
+        }
+        timer.setEnd();
+        JSONUtils.exportExecutionTime(timer, config.execTimePath);
+        System.out.println("Exec. Time - " + timer.getExecTimeStr());
+    }
 
+    private void localize() {
         StringBuffer sb = new StringBuffer("Fault Localization Results");
         StringBuffer sb2 = new StringBuffer();
         //find_npe_cause(Expr, Line, Cause, Loc)
-        String textQuery = "find_npe_cause(Expr, Line, Cause, Loc)";
-        Query q = new Query(Term.textToTerm(textQuery));
+        //Tables of tabled rules are private to the engine, and may have answers for facts of another bug.
+        String textQuery = "abolish_all_tables, find_npe_cause(Expr, Line, Cause, Loc)";
+        Query q = createQuery(textQuery);
         Map<String, Term>[] solutions = q.allSolutions();
         for(Map<String, Term> sol : solutions) {
             String expr = sol.get("Expr").toString();
@@ -90,7 +167,7 @@ public class FaultLocalizer {
                 sb.append("\n\t can be caused by \n");
                 sb.append(String.join("", cause, "[", causeCode, "] - ", loc, ".\n"));
                 Line faultyLine = new Line(loc);
-                Query classQuery = new Query(Term.textToTerm("class(" + faultyLine.getClassId() +", ClassName)"));
+                Query classQuery = createQuery("class(" + faultyLine.getClassId() +", ClassName)");
                 if(classQuery.hasSolution()) {
                     String className = classQuery.oneSolution().get("ClassName").toString();
                     className = className.substring(1, className.length()-1);
@@ -110,13 +187,14 @@ public class FaultLocalizer {
         } catch (IOException e) {
             e.printStackTrace();
         }
-        timer.setEnd();
-        JSONUtils.exportExecutionTime(timer, config.execTimePath);
-        System.out.println("Exec. Time - " + timer.getExecTimeStr());
+    }
+
+    private Query createQuery(String textQuery) {
+        return module == null ? new Query(textQuery) : PrologEnginePool.query(module, textQuery);
     }
 
     private String getCode(String expr) {
-        Query q = new Query("expr(" + expr +", Code)");
+        Query q = createQuery("expr(" + expr +", Code)");
         if(q.hasSolution()) {
             return q.oneSolution().get("Code").toString();
         }
@@ -0,0 +1,172 @@
+package logicfl.analyzer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jpl7.Atom;
+import org.jpl7.Compound;
+import org.jpl7.Query;
+import org.jpl7.Term;
+
+import logicfl.utils.CodeUtils;
+
+/**
+ * Keeps rules and facts of fault localization loaded in the Prolog engines of the current JVM.
+ *
+ * Rules are loaded once into a module for each rules file, and reloaded only if the file is modified.
+ * Their predicates are made module transparent, so that goals in the rules are resolved in the module of the caller.
+ * Tabled predicates are excluded, since their tables are evaluated in the rules module;
+ * they should take the module of facts as an argument instead.
+ * Facts of a bug are loaded into their own module, which imports the rules module,
+ * and are unloaded when no localizer uses them anymore.
+ * Since JPL attaches a pool engine to each thread running a query, localizers can run concurrently on different threads.
+ */
+public class PrologEnginePool {
+
+    private static final Map<String, Long> rulesModules = new HashMap<>();
+    private static final Map<String, Integer> factModules = new HashMap<>();
+    private static final Map<String, Path> delegateFiles = new HashMap<>();
+    private static final Map<Path, String> loadedFacts = new HashMap<>();
+
+    private PrologEnginePool() {
+    }
+
+    /**
+     * Loads rules and facts if they are not loaded yet, and returns the module of the facts.
+     * Fails if a file of the facts is still used by a module of other rules.
+     */
+    public static synchronized String acquire(Path rulesPath, Path... factPaths) {
+        String rulesModule = loadRules(rulesPath);
+        List<String> keys = new ArrayList<>();
+        keys.add(rulesPath.toAbsolutePath().toString());
+        for(Path factPath : factPaths)
+            keys.add(factPath.toAbsolutePath().toString());
+        String factModule = "facts_" + CodeUtils.getHash(keys).substring(0, 16);
+
+        int users = factModules.getOrDefault(factModule, 0);
+        if(users == 0) {
+            //A file is loaded into a single module, so loading it again would remove its facts from the other module.
+            for(Path factPath : factPaths) {
+                String module = loadedFacts.get(factPath.toAbsolutePath());
+                if(module != null)
+                    throw new IllegalStateException(factPath + " is already loaded into " + module);
+            }
+            for(Path factPath : factPaths)
+                loadedFacts.put(factPath.toAbsolutePath(), factModule);
+            new Query("add_import_module", new Term[] {
+                new Atom(factModule), new Atom(rulesModule), new Atom("start")
+            }).hasSolution();
+            boolean loaded = false;
+            try {
+                Path delegates = writeDelegates(rulesModule, factModule);
+                delegateFiles.put(factModule, delegates);
+                //Delegates are loaded first, so that facts are added to their multifile predicates.
+                Path[] paths = new Path[factPaths.length + 1];
+                paths[0] = delegates;
+                System.arraycopy(factPaths, 0, paths, 1, factPaths.length);
+                loaded = loadFiles(factModule, paths);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            System.out.println("Loading facts into " + factModule + " " + (loaded ? "Succeeded" : "Failed"));
+        }
+        factModules.put(factModule, users + 1);
+        return factModule;
+    }
+
+    /**
+     * Unloads facts of a module if no other localizer uses them.
+     */
+    public static synchronized void release(String factModule, Path... factPaths) {
+        int users = factModules.getOrDefault(factModule, 0) - 1;
+        if(users > 0) {
+            factModules.put(factModule, users);
+            return;
+        }
+        factModules.remove(factModule);
+        for(Path factPath : factPaths) {
+            new Query("unload_file", new Term[] { new Atom(factPath.toAbsolutePath().toString()) }).hasSolution();
+            loadedFacts.remove(factPath.toAbsolutePath());
+        }
+        Path delegates = delegateFiles.remove(factModule);
+        if(delegates != null) {
+            new Query("unload_file", new Term[] { new Atom(delegates.toAbsolutePath().toString()) }).hasSolution();
+            try {
+                Files.deleteIfExists(delegates);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Creates a query which is resolved in the given module.
+     */
+    public static Query query(String module, String textQuery) {
+        return new Query(Term.textToTerm(module + ":(" + textQuery + ")"));
+    }
+
+    private static String loadRules(Path rulesPath) {
+        String rulesModule = "rules_" + CodeUtils.getHash(List.of(rulesPath.toAbsolutePath().toString())).substring(0, 16);
+        long modified = rulesPath.toFile().lastModified();
+        Long loadedModified = rulesModules.get(rulesModule);
+        if(loadedModified != null && loadedModified == modified)
+            return rulesModule;
+
+        boolean loaded = loadFiles(rulesModule, rulesPath);
+        //Goals in rules should find facts in the module of the caller.
+        String transparent = String.format("forall((current_predicate(%1$s:Name/Arity), functor(Head, Name, Arity),"
+            + " \\+ predicate_property(%1$s:Head, dynamic), \\+ predicate_property(%1$s:Head, imported_from(_)),"
+            + " \\+ predicate_property(%1$s:Head, tabled)),"
+            + " module_transparent(%1$s:Name/Arity))", rulesModule);
+        loaded = loaded && new Query(Term.textToTerm(transparent)).hasSolution();
+        System.out.println("Loading rules into " + rulesModule + " " + (loaded ? "Succeeded" : "Failed"));
+        if(loaded)
+            rulesModules.put(rulesModule, modified);
+        return rulesModule;
+    }
+
+    /**
+     * Writes clauses which call rules of multifile predicates, such as assign/3, in the context of a facts module.
+     * Otherwise, facts of the same predicates in the facts module hide the rules imported from the rules module.
+     */
+    private static Path writeDelegates(String rulesModule, String factModule) throws IOException {
+        String textQuery = String.format("findall(Name/Arity, (current_predicate(%1$s:Name/Arity), functor(Head, Name, Arity),"
+            + " predicate_property(%1$s:Head, multifile), predicate_property(%1$s:Head, number_of_clauses(N)), N > 0),"
+            + " Predicates)", rulesModule);
+        Map<String, Term> solution = new Query(Term.textToTerm(textQuery)).oneSolution();
+        StringBuilder sb = new StringBuilder();
+        if(solution != null) {
+            for(Term predicate : solution.get("Predicates").listToTermArray()) {
+                String name = "'" + predicate.arg(1).name().replace("'", "\\'") + "'";
+                int arity = predicate.arg(2).intValue();
+                List<String> args = new ArrayList<>();
+                for(int i=1; i<=arity; i++)
+                    args.add("A" + i);
+                String head = arity == 0 ? name : name + "(" + String.join(", ", args) + ")";
+                sb.append(String.format(":- multifile %s/%d.\n", name, arity));
+                sb.append(String.format("%s :- @(%s:%s, %s).\n", head, rulesModule, head, factModule));
+            }
+        }
+        Path delegates = Files.createTempFile(factModule, ".pl");
+        Files.writeString(delegates, sb.toString());
+        return delegates;
+    }
+
+    /**
+     * Loads files into a module, even if they have been loaded before.
+     */
+    private static boolean loadFiles(String module, Path... paths) {
+        Term[] atoms = new Term[paths.length];
+        for(int i=0; i<paths.length; i++)
+            atoms[i] = new Atom(paths[i].toAbsolutePath().toString());
+        Term files = new Compound(":", new Term[] { new Atom(module), Term.termArrayToList(atoms) });
+        Term options = Term.termArrayToList(new Term[] { new Compound("if", new Term[] { new Atom("true") }) });
+        return new Query("load_files", new Term[] { files, options }).hasSolution();
+    }
+}
@@ -2,19 +2,28 @@ package logicfl.analyzer;
 
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Assignment;
@@ -25,8 +34,11 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
 
 import logicfl.coverage.NPETrace;
+import logicfl.coverage.NPETraceReader;
 import logicfl.coverage.StackTrace;
+import logicfl.logic.FactCompiler;
 import logicfl.logic.FactManager;
+import logicfl.logic.FactSlice;
 import logicfl.logic.Facts;
 import logicfl.logic.Throw;
 import logicfl.logic.codefacts.CodeEntity;
@@ -37,15 +49,34 @@ import logicfl.probe.NodeVisitor;
 import logicfl.probe.ProbeInjector;
 import logicfl.utils.CodeUtils;
 import logicfl.utils.Configuration;
+import logicfl.utils.InMemoryCompiler;
+import logicfl.utils.IncrementalCompiler;
 import logicfl.utils.JSONUtils;
 import logicfl.utils.Timer;
 
 public class StaticAnalyzer {
 
+    private static class ProbedClass {
+        public String className;
+        public String classId;
+        public String probedSource = null;
+        public LineMatcher lineMatcher = null;
+        public Map<Integer, Set<String>> targetMap = null;
+
+        public ProbedClass(String className, String classId) {
+            this.className = className;
+            this.classId = classId;
+        }
+    }
+
     private Configuration config;
     private Facts facts;
     private Map<String, MethodMatcher> methodMatchers;
     private Map<String, Map<Integer, Set<String>>> monitorTargets;
+    private FactCache cache;
+    private IncrementalCompiler compiler;
+    private Set<String> probedClasses;
+    private Map<String, String> probedSources;
 
     public StaticAnalyzer(String configFilePath) {
         this(new Configuration(configFilePath));
@@ -56,12 +87,15 @@ public class StaticAnalyzer {
         facts = new Facts();
         methodMatchers = new HashMap<>();
         monitorTargets = new HashMap<>();
+        cache = null;
+        compiler = null;
+        probedClasses = new HashSet<>();
+        probedSources = new HashMap<>();
     }
 
     public void run() {
         Timer timer = new Timer("static_analyzer");
         timer.setStart();
-        NodeVisitor visitor = null;
         List<String> classes = new ArrayList<>(config.coverage.getClasses());
         Collections.sort(classes);
         System.out.println("Total " + classes.size() + " Target classes.");
@@ -69,80 +103,313 @@ public class StaticAnalyzer {
         try {
             Path srcDir = config.getOutputFilePath("src");
             Path classDir = config.getOutputFilePath("classes");
-            deleteDirectory(srcDir);
-            deleteDirectory(classDir);
+            //Prior outputs are kept to compile only changed sources.
+            if(config.inMemoryCompile || !config.incrementalCompile) {
+                deleteDirectory(srcDir);
+                deleteDirectory(classDir);
+            }
+            //Probed sources are not written if they are compiled in memory.
+            if(config.inMemoryCompile)
+                srcDir = null;
+            probedClasses.clear();
+            probedSources.clear();
 
             Map<String, LineMatcher> lineMatchers = new HashMap<>();
             loadTracesFromJSON();
+            if(config.staticCache) {
+                System.out.println("Using cached static facts in " + config.staticCachePath);
+                cache = new FactCache(config);
+            }
 
-            for(String className : classes) {
-                System.out.println("Analyzing class - "+className);
-                String source = CodeUtils.getSource(className, config.srcPath);
-                if(source == null) {
-                    System.out.println("Cannot read the class. Skip analysis on the class.");
-                    continue;
-                }
-                String classId = getClassId(className);
-                CompilationUnit cu = CodeUtils.getCompilationUnit(classId, config.classPath, config.srcPath, source);
-                MethodMatcher methodMatcher = methodMatchers.get(className);
-                visitor = new NodeVisitor(className, classId, cu, config.coverage, facts, config.coveredOnly);
-                visitor.setMethodMatcher(methodMatcher);
-                cu.accept(visitor);
-
-                //Add remaining throw/3 predicates if there is no other candidate.
-                if(methodMatcher != null) {
-                    Map<Integer, List<CodeEntity>> candidates = methodMatcher.getCandidates();
-                    for(Entry<Integer, List<CodeEntity>> e : candidates.entrySet()) {
-                        int lineNum = e.getKey();
-                        List<CodeEntity> entities = e.getValue();
-                        if(entities.size() == 1) {
-                            CodeEntity ce = entities.get(0);
-                            Throw t = new Throw(ce.getId(), Facts.NPE_ATOM, new Line(ce.getClassId(), lineNum));
-                            visitor.addPredicate(t);
-                        }
+            if(config.staticThreads > 1) {
+                analyzeClassesInParallel(classes, srcDir, lineMatchers);
+            } else {
+                Map<String, CompilationUnit> units = config.batchParsing ? parseClasses(getUncachedClasses(classes)) : null;
+                for(String className : classes) {
+                    System.out.println("Analyzing class - "+className);
+                    String source = CodeUtils.getSource(className, config.srcPath);
+                    if(source == null) {
+                        System.out.println("Cannot read the class. Skip analysis on the class.");
+                        continue;
                     }
+                    String classId = getClassId(className);
+                    String contentKey = getContentKey(className, source);
+                    ProbedClass cached = restoreClass(className, classId, contentKey, srcDir);
+                    if(cached != null) {
+                        storeProbedClass(cached, lineMatchers);
+                        continue;
+                    }
+                    CompilationUnit cu = units != null && units.containsKey(className) ? units.get(className)
+                        : CodeUtils.getCompilationUnit(classId, config.classPath, config.srcPath, source);
+                    if(cu == null) {
+                        System.out.println("Cannot parse the class. Skip analysis on the class.");
+                        continue;
+                    }
+                    NodeVisitor visitor = visitClass(className, classId, cu, contentKey);
+                    ProbedClass probed = injectProbes(className, classId, cu, source, visitor, srcDir);
+                    storeProbedClass(probed, lineMatchers);
                 }
-
-                //Store probed classes.
-                String newSource = null;
-                Path newJavaFile = Paths.get(srcDir.toString(), CodeUtils.qualifiedToPath(className, ".java"));
-                if(newJavaFile.getParent().toFile().exists()
-                    || newJavaFile.getParent().toFile().mkdirs()) {
-                    ProbeInjector probeInjector = new ProbeInjector(cu, source);
-                    newSource = probeInjector.inject(visitor.getProbes(), newJavaFile, visitor.getNonInitMap());
-                    lineMatchers.put(classId, probeInjector.getLineMatcher());
-                }
-
-                //Identify monitor targets, only if target_only is set.
-                if(config.monitorTargetOnly())
-                    identifyMonitorTargets(className, classId, newSource, visitor.getProbeNames());
-
             }
+
             //Compile probed classes.
-            boolean success = CodeUtils.compileJavaFiles(srcDir, classDir, config.getTotalClassPathStr());
+            boolean success;
+            if(config.inMemoryCompile) {
+                success = InMemoryCompiler.compileToJar(probedSources, config.probedJarPath, config.getTotalClassPathStr());
+            } else if(config.incrementalCompile) {
+                removeStaleSources(srcDir);
+                if(compiler == null)
+                    compiler = new IncrementalCompiler(config.compileStatePath);
+                success = compiler.compile(srcDir, classDir, config.classPath);
+            } else {
+                success = CodeUtils.compileJavaFiles(srcDir, classDir, config.getTotalClassPathStr());
+            }
             if(!success) {
                 return;
             }
             FactManager.exportClassFacts(facts, config);
+            if(config.factsQlf)
+                FactCompiler.compile(config.flFactsPath, config.codeFactsPath);
             JSONUtils.exportLineInfo(lineMatchers, config.lineInfoPath);
             if(config.monitorTargetOnly())
                 JSONUtils.exportMonitorTargets(monitorTargets, config.monitorTargetPath);
         } catch (IOException e) {
             e.printStackTrace();
+        } finally {
+            if(compiler != null) {
+                compiler.close();
+                compiler = null;
+            }
         }
         timer.setEnd();
         JSONUtils.exportExecutionTime(timer, config.execTimePath);
         System.out.println("Exec. Time - " + timer.getExecTimeStr());
     }
 
-    private void identifyMonitorTargets(String className, String classId, String newSource, Set<String> probeNames) {
+    /**
+     * Analyzes classes on a bounded worker pool.
+     * Parsing and probe injection of each class run on workers,
+     * while visiting with {@link NodeVisitor} stays serial in the sorted order of classes
+     * since {@code name_ref/4} IDs are shared among all classes, which bounds the speedup.
+     * Results are merged in the same order, so produced facts are identical to a serial run,
+     * and a failure of a worker stops the analysis as in a serial run.
+     */
+    private void analyzeClassesInParallel(List<String> classes, Path srcDir, Map<String, LineMatcher> lineMatchers) throws IOException {
+        int threads = Math.min(config.staticThreads, Math.max(classes.size(), 1));
+        System.out.println("Analyzing classes with " + threads + " threads.");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            //Assign class IDs in the sorted order before starting workers.
+            Map<String, String> sources = new HashMap<>();
+            Map<String, String> classIds = new LinkedHashMap<>();
+            for(String className : classes) {
+                String source = CodeUtils.getSource(className, config.srcPath);
+                if(source == null) {
+                    System.out.println("Cannot read the class - " + className + ". Skip analysis on the class.");
+                    continue;
+                }
+                sources.put(className, source);
+                classIds.put(className, getClassId(className));
+            }
+
+            //Batch parsing shares one binding environment, so it is done at once.
+            List<String> uncached = getUncachedClasses(classIds.keySet());
+            Map<String, CompilationUnit> units = config.batchParsing ? parseClasses(uncached) : null;
+            Map<String, Future<CompilationUnit>> parsed = new HashMap<>();
+            for(String className : uncached) {
+                if(units != null) {
+                    parsed.put(className, CompletableFuture.completedFuture(units.get(className)));
+                } else {
+                    String classId = classIds.get(className);
+                    String source = sources.get(className);
+                    parsed.put(className, executor.submit(
+                        () -> CodeUtils.getCompilationUnit(classId, config.classPath, config.srcPath, source)));
+                }
+            }
+
+            List<Future<ProbedClass>> probedClasses = new ArrayList<>();
+            for(Entry<String, String> e : classIds.entrySet()) {
+                String className = e.getKey();
+                String classId = e.getValue();
+                String source = sources.get(className);
+                System.out.println("Analyzing class - "+className);
+                String contentKey = getContentKey(className, source);
+                ProbedClass cached = restoreClass(className, classId, contentKey, srcDir);
+                if(cached != null) {
+                    probedClasses.add(CompletableFuture.completedFuture(cached));
+                    continue;
+                }
+                //A cached class is parsed here if preceding classes are changed.
+                CompilationUnit cu = parsed.containsKey(className) ? getResult(parsed.get(className), className)
+                    : CodeUtils.getCompilationUnit(classId, config.classPath, config.srcPath, source);
+                if(cu == null) {
+                    System.out.println("Cannot parse the class. Skip analysis on the class.");
+                    continue;
+                }
+                NodeVisitor visitor = visitClass(className, classId, cu, contentKey);
+                probedClasses.add(executor.submit(
+                    () -> injectProbes(className, classId, cu, source, visitor, srcDir)));
+            }
+
+            for(Future<ProbedClass> f : probedClasses) {
+                ProbedClass probed = getResult(f, null);
+                if(probed != null)
+                    storeProbedClass(probed, lineMatchers);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String getContentKey(String className, String source) {
+        //Classes matched with stack traces have additional throw/3 predicates, so they are not cached.
+        if(cache == null || methodMatchers.containsKey(className))
+            return null;
+        return cache.getContentKey(className, source);
+    }
+
+    private List<String> getUncachedClasses(Collection<String> classes) throws IOException {
+        List<String> uncached = new ArrayList<>();
+        for(String className : classes) {
+            String source = cache == null ? null : CodeUtils.getSource(className, config.srcPath);
+            String contentKey = source == null ? null : getContentKey(className, source);
+            if(contentKey == null || !cache.hasEntry(className, contentKey))
+                uncached.add(className);
+        }
+        return uncached;
+    }
+
+    private ProbedClass restoreClass(String className, String classId, String contentKey, Path srcDir) throws IOException {
+        if(contentKey == null)
+            return null;
+        FactCache.Entry entry = cache.getEntry(className, cache.getKey(contentKey, classId));
+        if(entry == null)
+            return null;
+        System.out.println("Using cached facts of the class.");
+        cache.restore(facts, className, classId, entry);
+        if(srcDir != null) {
+            Path newJavaFile = Paths.get(srcDir.toString(), CodeUtils.qualifiedToPath(className, ".java"));
+            Files.createDirectories(newJavaFile.getParent());
+            Files.writeString(newJavaFile, entry.getProbedSource());
+        }
+
+        ProbedClass probed = new ProbedClass(className, classId);
+        probed.probedSource = entry.getProbedSource();
+        probed.lineMatcher = entry.getLineMatcher();
+        if(config.monitorTargetOnly())
+            probed.targetMap = entry.getTargetMap();
+        return probed;
+    }
+
+    private Map<String, CompilationUnit> parseClasses(Collection<String> classes) {
+        Map<String, Path> sourceFiles = new HashMap<>();
+        for(String className : classes) {
+            Path sourceFile = CodeUtils.getSourceFile(className, config.srcPath);
+            if(sourceFile != null)
+                sourceFiles.put(className, sourceFile);
+        }
+        System.out.println("Parsing " + sourceFiles.size() + " classes in a batch.");
+        return CodeUtils.getCompilationUnits(sourceFiles, config.classPath, config.srcPath);
+    }
+
+    /**
+     * Returns the result of a worker, and throws its failure as a serial run does.
+     */
+    private <T> T getResult(Future<T> future, String className) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while analyzing classes.");
+        } catch (ExecutionException e) {
+            System.err.println("Error while analyzing a class" + (className == null ? "." : " - " + className));
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException)
+                throw (IOException)cause;
+            if(cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            if(cause instanceof Error)
+                throw (Error)cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private NodeVisitor visitClass(String className, String classId, CompilationUnit cu, String contentKey) {
+        if(cache != null)
+            cache.beginClass(facts);
+        MethodMatcher methodMatcher = methodMatchers.get(className);
+        NodeVisitor visitor = new NodeVisitor(className, classId, cu, config.coverage, facts, config.coveredOnly);
+        visitor.setMethodMatcher(methodMatcher);
+        cu.accept(visitor);
+
+        //Add remaining throw/3 predicates if there is no other candidate.
+        if(methodMatcher != null) {
+            Map<Integer, List<CodeEntity>> candidates = methodMatcher.getCandidates();
+            for(Entry<Integer, List<CodeEntity>> e : candidates.entrySet()) {
+                int lineNum = e.getKey();
+                List<CodeEntity> entities = e.getValue();
+                if(entities.size() == 1) {
+                    CodeEntity ce = entities.get(0);
+                    Throw t = new Throw(ce.getId(), Facts.NPE_ATOM, new Line(ce.getClassId(), lineNum));
+                    visitor.addPredicate(t);
+                }
+            }
+        }
+        if(cache != null)
+            cache.endClass(facts, className, classId, contentKey);
+        return visitor;
+    }
+
+    private ProbedClass injectProbes(String className, String classId, CompilationUnit cu, String source,
+        NodeVisitor visitor, Path srcDir) {
+        ProbedClass probed = new ProbedClass(className, classId);
+
+        //Store probed classes.
+        String newSource = null;
+        Path newJavaFile = srcDir == null ? null : Paths.get(srcDir.toString(), CodeUtils.qualifiedToPath(className, ".java"));
+        File parentDir = newJavaFile == null ? null : newJavaFile.getParent().toFile();
+        //Other workers may create the same directory at the same time, so check it again.
+        if(parentDir == null || parentDir.exists() || parentDir.mkdirs() || parentDir.exists()) {
+            ProbeInjector probeInjector = new ProbeInjector(cu, source);
+            if(config.monitorProbeRecorder())
+                probeInjector.setRecorder(className);
+            newSource = probeInjector.inject(visitor.getProbes(), newJavaFile, visitor.getNonInitMap());
+            probed.probedSource = newSource;
+            probed.lineMatcher = probeInjector.getLineMatcher();
+        }
+
+        //Identify monitor targets, only if target_only is set.
+        if(config.monitorTargetOnly())
+            probed.targetMap = identifyMonitorTargets(newSource, visitor.getProbeNames());
+
+        return probed;
+    }
+
+    private void storeProbedClass(ProbedClass probed, Map<String, LineMatcher> lineMatchers) {
+        if(probed.lineMatcher != null) {
+            lineMatchers.put(probed.classId, probed.lineMatcher);
+            probedClasses.add(probed.className);
+            if(config.inMemoryCompile && probed.probedSource != null)
+                probedSources.put(probed.className, probed.probedSource);
+        }
+        if(probed.targetMap != null)
+            monitorTargets.put(probed.className, probed.targetMap);
+        if(cache != null && probed.probedSource != null) {
+            FactSlice slice = cache.store(facts, probed.className, probed.classId,
+                probed.probedSource, probed.lineMatcher, probed.targetMap);
+            //Export the rendered facts as they are, instead of rendering them again.
+            if(slice != null)
+                facts.addSlice(probed.classId, probed.className, slice);
+        }
+    }
+
+    private Map<Integer, Set<String>> identifyMonitorTargets(String newSource, Set<String> probeNames) {
         if(newSource == null) {
             System.out.println("Probe injection wasn't successful. Skip identifying monitor targets.");
-            return;
+            return null;
         }
         Map<Integer, Set<String>> targetMap = new HashMap<>();
-        monitorTargets.put(className, targetMap);
-        final CompilationUnit newCu = CodeUtils.getCompilationUnit(classId, config.classPath, config.srcPath, newSource);
+        //Only names and lines of probes are necessary, so bindings are not resolved.
+        final CompilationUnit newCu = CodeUtils.getCompilationUnit(newSource);
         newCu.accept(new ASTVisitor() {
             @Override
             public boolean visit(Assignment node) {
@@ -172,6 +439,21 @@ public class StaticAnalyzer {
                 }
             }
         });
+        return targetMap;
+    }
+
+    /**
+     * Removes probed sources of previous runs, which are not probed in this run.
+     */
+    private void removeStaleSources(Path srcDir) {
+        Set<Path> current = new HashSet<>();
+        for(String className : probedClasses) {
+            current.add(Paths.get(srcDir.toString(), CodeUtils.qualifiedToPath(className, ".java")));
+        }
+        for(File javaFile : CodeUtils.getJavaFiles(srcDir.toFile())) {
+            if(!current.contains(javaFile.toPath()))
+                javaFile.delete();
+        }
     }
 
     private void deleteDirectory(Path directory) {
@@ -203,7 +485,7 @@ public class StaticAnalyzer {
         analyzer.run();
     }
 
-    public String getClassId(String className) {
+    public synchronized String getClassId(String className) {
         String simpleLower = CodeUtils.camelToLower(CodeUtils.qualifiedToSimple(className));
         int index = 1;
         String classId = CodeUtils.createClassId(simpleLower, index++);
@@ -215,29 +497,33 @@ public class StaticAnalyzer {
     }
 
     private void loadTracesFromJSON() {
-        List<NPETrace> traces = JSONUtils.loadTracesFromJSON(config.npeInfoPath);
-        facts.addTraces(traces);
-        updateMethodCallInfo(traces);
-    }
-
-    private void updateMethodCallInfo(List<NPETrace> traces) {
-        for(NPETrace trace : traces) {
-            List<StackTrace> list = trace.traces;
-            for(int i=0; i<list.size(); i++) {
-                StackTrace curr = list.get(i);
-                if(!curr.isTarget || i == 0) {
-                    StackTrace next = i+1 < list.size() ? list.get(i+1) : null;
-                    //Add a throw predicate for methods called by a target method appeared in stack traces.
-                    if(next != null && next.isTarget) {
-                        methodMatchers.putIfAbsent(next.className, new MethodMatcher());
-                        MethodMatcher matcher = methodMatchers.get(next.className);
-                        //Use className as methodName for constructor <init>.
-                        if(curr.methodName.equals("<init>")) {
-                            String simpleClassName = curr.className.substring(curr.className.lastIndexOf('.')+1);
-                            matcher.addMethodCallInfo(curr.className, simpleClassName, next.lineNum);
-                        } else {
-                            matcher.addMethodCallInfo(curr.className, curr.methodName, next.lineNum);
-                        }
+        //Traces are read one by one, and read again when facts are exported.
+        facts.setNPEInfoPath(config.npeInfoPath);
+        if(!config.npeInfoPath.toFile().exists())
+            return;
+        try (NPETraceReader reader = new NPETraceReader(config.npeInfoPath)) {
+            reader.forEachRemaining(this::updateMethodCallInfo);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void updateMethodCallInfo(NPETrace trace) {
+        List<StackTrace> list = trace.traces;
+        for(int i=0; i<list.size(); i++) {
+            StackTrace curr = list.get(i);
+            if(!curr.isTarget || i == 0) {
+                StackTrace next = i+1 < list.size() ? list.get(i+1) : null;
+                //Add a throw predicate for methods called by a target method appeared in stack traces.
+                if(next != null && next.isTarget) {
+                    methodMatchers.putIfAbsent(next.className, new MethodMatcher());
+                    MethodMatcher matcher = methodMatchers.get(next.className);
+                    //Use className as methodName for constructor <init>.
+                    if(curr.methodName.equals("<init>")) {
+                        String simpleClassName = curr.className.substring(curr.className.lastIndexOf('.')+1);
+                        matcher.addMethodCallInfo(curr.className, simpleClassName, next.lineNum);
+                    } else {
+                        matcher.addMethodCallInfo(curr.className, curr.methodName, next.lineNum);
                     }
                 }
             }
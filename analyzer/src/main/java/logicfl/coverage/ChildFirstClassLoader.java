@@ -0,0 +1,75 @@
+package logicfl.coverage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.jacoco.core.instr.Instrumenter;
+
+/**
+ * A class loader which loads classes from its own class path before the parent,
+ * except for classes shared with LogicFL, e.g. JUnit, which are always loaded by the parent.
+ * If an instrumenter is given, classes loaded from its own class path are instrumented for coverage.
+ */
+public class ChildFirstClassLoader extends URLClassLoader {
+
+    private static final String[] SHARED_PREFIXES = {
+        "java.", "javax.", "jdk.", "sun.", "com.sun.",
+        "logicfl.", "org.junit.", "junit.", "org.opentest4j.", "org.apiguardian.", "org.hamcrest.",
+        "org.json.", "org.jacoco."
+    };
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private Instrumenter instrumenter;
+
+    public ChildFirstClassLoader(URL[] urls, ClassLoader parent, Instrumenter instrumenter) {
+        super(urls, parent);
+        this.instrumenter = instrumenter;
+    }
+
+    public static boolean isShared(String className) {
+        for(String prefix : SHARED_PREFIXES) {
+            if(className.startsWith(prefix))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if(isShared(name))
+            return super.loadClass(name, resolve);
+        synchronized(getClassLoadingLock(name)) {
+            Class<?> c = findLoadedClass(name);
+            if(c == null) {
+                try {
+                    c = findClass(name);
+                } catch (ClassNotFoundException e) {
+                    c = getParent().loadClass(name);
+                }
+            }
+            if(resolve)
+                resolveClass(c);
+            return c;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        if(instrumenter == null)
+            return super.findClass(name);
+        URL resource = findResource(name.replace('.', '/') + ".class");
+        if(resource == null)
+            throw new ClassNotFoundException(name);
+        try (InputStream in = resource.openStream()) {
+            byte[] instrumented = instrumenter.instrument(in, name);
+            return defineClass(name, instrumented, 0, instrumented.length);
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+        }
+    }
+}
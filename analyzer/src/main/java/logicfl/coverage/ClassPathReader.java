@@ -0,0 +1,66 @@
+package logicfl.coverage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads class files from directories and jar files on a class path through NIO.
+ * Jar files are opened once as zip file systems, which can be read by multiple threads.
+ * As a class loader does, the first entry containing a class is used.
+ */
+public class ClassPathReader implements Closeable {
+
+    private List<Path> roots;
+    private List<FileSystem> jars;
+
+    public ClassPathReader(String[] classPath) {
+        roots = new ArrayList<>();
+        jars = new ArrayList<>();
+        for(String entry : classPath) {
+            Path path = Paths.get(entry);
+            if(Files.isDirectory(path)) {
+                roots.add(path);
+            } else if(Files.isRegularFile(path)) {
+                try {
+                    FileSystem jar = FileSystems.newFileSystem(path);
+                    jars.add(jar);
+                    roots.add(jar.getPath("/"));
+                } catch (IOException e) {
+                    System.err.println("Error while opening a class path entry - " + entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns bytes of a class file, or {@code null} if the class is not found.
+     *
+     * @param resourcePath the path of a class file, e.g. {@code sample/Example.class}.
+     */
+    public byte[] read(String resourcePath) throws IOException {
+        for(Path root : roots) {
+            Path classFile = root.resolve(resourcePath);
+            if(Files.isRegularFile(classFile))
+                return Files.readAllBytes(classFile);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        for(FileSystem jar : jars) {
+            try {
+                jar.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
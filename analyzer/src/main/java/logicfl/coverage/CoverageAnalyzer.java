@@ -1,15 +1,21 @@
 package logicfl.coverage;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jacoco.core.analysis.Analyzer;
 import org.jacoco.core.analysis.CoverageBuilder;
@@ -27,8 +33,31 @@ import logicfl.utils.Timer;
 
 public class CoverageAnalyzer {
 
+	private static final String PASSED_NPE_TRACES = "npe.traces.passed.json";
+
+	/**
+	 * Covered lines of a class analyzed by a worker.
+	 */
+	private static class ClassCoverage {
+		public String name;
+		public BitSet lines;
+		public int lineCount;
+
+		public ClassCoverage(IClassCoverage cc) {
+			name = CodeUtils.pathToQualified(cc.getName(), true);
+			lines = new BitSet();
+			for (int line = cc.getFirstLine(); line <= cc.getLastLine(); line++){
+				if(isCovered(cc.getLine(line).getStatus()))
+					lines.set(line);
+			}
+			lineCount = cc.getLineCounter().getTotalCount();
+		}
+	}
+
     private Configuration config;
 	private String configFilePath;
+	//Per-test execution data merged into the coverage, only if it is collected.
+	private Path testExecPath = null;
 
 	public CoverageAnalyzer(String configFilePath) {
 		this.configFilePath = configFilePath;
@@ -70,9 +99,31 @@ public class CoverageAnalyzer {
 		try {
 			deletePreviousExecutionOutputs();
 			System.out.println("Running Tests...");
-			TestRunner.runTestsWithCoverage(configFilePath, config, true);
-			System.out.println("Analyzing Coverage Data...");
-			analyzeCoverageData(failedCoverage);
+			if(config.testInProcess && !config.perTestCoverage) {
+				//Execution data is analyzed directly, and only NPE traces are stored for later steps.
+				InProcessTestRunner.Result result = InProcessTestRunner.runTests(config, config.classPathStr,
+					config.testsInfoPath.toString(), true, true);
+				TestRunner.storeNPEInfo(result.getTraces(), config.npeInfoPath.toString());
+				System.out.println("Analyzing Coverage Data...");
+				analyzeCoverageData(failedCoverage, result.getExecutionData(),
+					JSONUtils.toTraceInfo(result.getTraces().iterator(), true, false), config.coverageInfoPath, false);
+			} else {
+				if(config.perTestCoverage) {
+					testExecPath = config.testExecPath;
+					TestRunner.runTestsWithTestCoverage(configFilePath, config.npeInfoPath.toString(), testExecPath, config, true);
+				} else {
+					TestRunner.runTestsWithCoverage(configFilePath, config, true);
+				}
+				System.out.println("Analyzing Coverage Data...");
+				analyzeCoverageData(failedCoverage);
+			}
+			if(config.perTestCoverage) {
+				//Passed tests are also needed for spectra, but they are not included in the coverage.
+				System.out.println("Running passed tests for the coverage matrix...");
+				TestRunner.runTestsWithTestCoverage(configFilePath, config.getOutputFilePath(PASSED_NPE_TRACES).toString(),
+					testExecPath, config, false);
+				buildCoverageMatrix(testExecPath).export(config.coverageMatrixPath);
+			}
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
@@ -87,6 +138,7 @@ public class CoverageAnalyzer {
 		executionDataFile.delete();
 		File npeTraceFile = config.npeInfoPath.toFile();
 		npeTraceFile.delete();
+		config.testExecPath.toFile().delete();
 	}
 
 	public void analyzeCoverageData(CoverageInfo coverage) throws IOException {
@@ -107,53 +159,150 @@ public class CoverageAnalyzer {
 	public void analyzeCoverageData(CoverageInfo coverage, Path coverageInfoPath, Path npeInfoPath,
 			boolean separateInnerClass) throws IOException {
 		ExecutionDataStore dataStore = readExecutionData(config.jacocoExecPath);
-		CoverageBuilder coverageBuilder = new CoverageBuilder();
-		Analyzer analyzer = new Analyzer(dataStore, coverageBuilder);
-		List<String> classNames = dataStore.getContents().stream()
-                .map(ExecutionData::getName)
-				.map(CodeUtils::pathToQualified)
-				.filter(className -> className.startsWith(config.targetPackagePrefix))
-				.filter(className -> !isTestClass(className) || config.testsInfo.isTestClass(className))
-				.filter(className -> !config.testsInfo.isFiltered(className))
-                .toList();
+		if(testExecPath != null && testExecPath.toFile().exists())
+			readExecutionData(testExecPath, dataStore);
+		analyzeCoverageData(coverage, dataStore, JSONUtils.loadTraceInfoFromJSON(npeInfoPath, true, separateInnerClass),
+			coverageInfoPath, separateInnerClass);
+	}
+
+	/**
+	 * Analyzes execution data and lines of NPE traces, and exports the coverage.
+	 */
+	public void analyzeCoverageData(CoverageInfo coverage, ExecutionDataStore dataStore,
+			Map<String, List<Integer>> traceMap, Path coverageInfoPath, boolean separateInnerClass) throws IOException {
+		List<String> classNames = getTargetClasses(dataStore);
 		System.out.println("Covered Classes:"+classNames);
 
 		//Load classes from class path.
-		URL[] jarUrls = getJarURLs();
-		try (URLClassLoader classLoader = new URLClassLoader(jarUrls, null)) {
-			//Analyzing covered classes.
-			for (String className : classNames) {
-				String resourcePath = CodeUtils.qualifiedToPath(className, ".class");
-				try (InputStream inputStream = classLoader.getResourceAsStream(resourcePath)) {
-					analyzer.analyzeClass(inputStream, resourcePath);
-				} catch (IOException e) {
-					System.out.println("Error while analyzing a class - "+className);
-				} catch (NullPointerException e) {
-					System.out.println("Error to read class - " + className);
-				}
-			}
+		List<ClassCoverage> classes;
+		try (ClassPathReader reader = new ClassPathReader(config.classPath)) {
+			classes = analyzeClasses(dataStore, classNames, reader);
 		}
 
-		for (final IClassCoverage cc : coverageBuilder.getClasses()){
-			String className = CodeUtils.pathToQualified(cc.getName(), true);
-			className = separateInnerClass ? className : CodeUtils.getIncludingClass(className);
+		for (ClassCoverage cc : classes){
+			String className = separateInnerClass ? cc.name : CodeUtils.getIncludingClass(cc.name);
 			coverage.addClass(className);
-			for (int line = cc.getFirstLine(); line <= cc.getLastLine(); line++){
-				int status = cc.getLine(line).getStatus();
-				if(isCovered(status)){
-					coverage.addCoverage(className, line);
-				}
-			}
-			coverage.setLineCount(className, cc.getLineCounter().getTotalCount());
+			coverage.addCoverage(className, cc.lines);
+			coverage.setLineCount(className, cc.lineCount);
 		}
 
 		//Add NPE traces.
-		Map<String, List<Integer>> traceMap = JSONUtils.loadTraceInfoFromJSON(npeInfoPath, true, separateInnerClass);
 		traceMap.forEach(
 			(className, lines) ->
 				lines.forEach(line -> coverage.addCoverage(className, line)));
 
-		JSONUtils.exportCoverageInfo(coverage, coverageInfoPath);
+		if(config.binaryCoverage)
+			CoverageStore.export(coverage, coverageInfoPath);
+		else
+			JSONUtils.exportCoverageInfo(coverage, coverageInfoPath);
+	}
+
+	/**
+	 * Builds a tests x lines matrix from execution data dumped per test.
+	 * Each session of the execution data has the outcome and the ID of a test.
+	 */
+	public CoverageMatrix buildCoverageMatrix(Path testExecPath) throws IOException {
+		Map<String, ExecutionDataStore> sessions = new LinkedHashMap<>();
+		try (InputStream in = new BufferedInputStream(new FileInputStream(testExecPath.toFile()))) {
+			ExecutionDataReader reader = new ExecutionDataReader(in);
+			ExecutionDataStore[] current = new ExecutionDataStore[1];
+			reader.setSessionInfoVisitor(info ->
+				current[0] = sessions.computeIfAbsent(info.getId(), k -> new ExecutionDataStore()));
+			reader.setExecutionDataVisitor(data -> {
+				if(current[0] != null)
+					current[0].put(data);
+			});
+			while(reader.read()){ }
+		}
+
+		CoverageMatrix matrix = new CoverageMatrix();
+		try (ClassPathReader reader = new ClassPathReader(config.classPath)) {
+			for(Map.Entry<String, ExecutionDataStore> e : sessions.entrySet()) {
+				String sessionId = e.getKey();
+				int delim = sessionId.indexOf(CoverageDumper.SESSION_DELIM);
+				if(delim < 0)
+					continue;
+				boolean failed = CoverageDumper.FAILED.equals(sessionId.substring(0, delim));
+				int testIndex = matrix.addTest(sessionId.substring(delim + 1), failed);
+				ExecutionDataStore dataStore = e.getValue();
+				for (ClassCoverage cc : analyzeClasses(dataStore, getTargetClasses(dataStore), reader)) {
+					String className = CodeUtils.getIncludingClass(cc.name);
+					cc.lines.stream().forEach(line -> matrix.addCoverage(testIndex, className, line));
+				}
+			}
+		}
+		return matrix;
+	}
+
+	private List<String> getTargetClasses(ExecutionDataStore dataStore) {
+		return dataStore.getContents().stream()
+                .map(ExecutionData::getName)
+				.map(CodeUtils::pathToQualified)
+				.filter(className -> className.startsWith(config.targetPackagePrefix))
+				.filter(className -> !isTestClass(className) || config.testsInfo.isTestClass(className))
+				.filter(className -> !config.testsInfo.isFiltered(className))
+                .toList();
+	}
+
+	/**
+	 * Analyzes covered classes on {@code coverage.threads} workers.
+	 * Each worker takes the next class from the list, and analyzes it with its own {@link CoverageBuilder}.
+	 * Results are returned in the order of the given classes, where classes failed to be analyzed are skipped.
+	 */
+	private List<ClassCoverage> analyzeClasses(ExecutionDataStore dataStore, List<String> classNames, ClassPathReader reader) {
+		int threads = Math.min(Math.max(config.coverageThreads, 1), Math.max(classNames.size(), 1));
+		List<List<ClassCoverage>> results = new ArrayList<>();
+		for (int i = 0; i < classNames.size(); i++)
+			results.add(null);
+		AtomicInteger next = new AtomicInteger();
+		Runnable worker = () -> {
+			for (int i = next.getAndIncrement(); i < classNames.size(); i = next.getAndIncrement()) {
+				results.set(i, analyzeClass(dataStore, classNames.get(i), reader));
+			}
+		};
+
+		if (threads == 1) {
+			worker.run();
+		} else {
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < threads; i++)
+					futures.add(executor.submit(worker));
+				for (Future<?> f : futures)
+					f.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				System.out.println("Interrupted while analyzing classes.");
+			} catch (ExecutionException e) {
+				e.getCause().printStackTrace();
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		List<ClassCoverage> classes = new ArrayList<>();
+		results.stream().filter(r -> r != null).forEach(classes::addAll);
+		return classes;
+	}
+
+	private List<ClassCoverage> analyzeClass(ExecutionDataStore dataStore, String className, ClassPathReader reader) {
+		CoverageBuilder coverageBuilder = new CoverageBuilder();
+		Analyzer analyzer = new Analyzer(dataStore, coverageBuilder);
+		String resourcePath = CodeUtils.qualifiedToPath(className, ".class");
+		try {
+			byte[] classBytes = reader.read(resourcePath);
+			if (classBytes == null) {
+				System.out.println("Error to read class - " + className);
+				return null;
+			}
+			analyzer.analyzeClass(classBytes, resourcePath);
+		} catch (IOException | RuntimeException e) {
+			//Errors of a class are skipped, so that other classes are still analyzed.
+			System.out.println("Error while analyzing a class - "+className);
+			return null;
+		}
+		return coverageBuilder.getClasses().stream().map(ClassCoverage::new).toList();
 	}
 
 	private boolean isTestClass(String className) {
@@ -163,24 +312,12 @@ public class CoverageAnalyzer {
 			|| className.startsWith("Test");
 	}
 
-	private URL[] getJarURLs() {
-		URL[] jarUrls = new URL[config.classPath.length];
-		for (int i = 0; i < config.classPath.length; i++) {
-			try {
-				if(config.classPath[i].endsWith(".jar") || config.classPath[i].endsWith("*"))
-					jarUrls[i] = new URL("file:" + config.classPath[i]);
-				else
-					jarUrls[i] = new URL("file:" + config.classPath[i] + "/");
-			} catch (MalformedURLException e) {
-				System.err.println("Error while getting URL for "+config.classPath[i]);
-			}
-		}
-		return jarUrls;
+	private ExecutionDataStore readExecutionData(Path jacocoExecPath) throws IOException {
+		return readExecutionData(jacocoExecPath, new ExecutionDataStore());
 	}
 
-	private ExecutionDataStore readExecutionData(Path jacocoExecPath) throws IOException {
+	private ExecutionDataStore readExecutionData(Path jacocoExecPath, ExecutionDataStore executionDataStore) throws IOException {
 		FileInputStream in = new FileInputStream(jacocoExecPath.toFile());
-		ExecutionDataStore executionDataStore = new ExecutionDataStore();
 		SessionInfoStore sessionInfoStore = new SessionInfoStore();
 		ExecutionDataReader reader = new ExecutionDataReader(in);
 		reader.setSessionInfoVisitor(sessionInfoStore);
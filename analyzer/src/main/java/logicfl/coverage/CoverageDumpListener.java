@@ -0,0 +1,23 @@
+package logicfl.coverage;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+public class CoverageDumpListener implements TestExecutionListener {
+
+    private CoverageDumper dumper;
+
+    public CoverageDumpListener(CoverageDumper dumper) {
+        this.dumper = dumper;
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if(testIdentifier.isTest()) {
+            TestId info = new TestId(testIdentifier.getUniqueIdObject());
+            boolean failed = testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED;
+            dumper.dump(info.getClassName() + "#" + info.getMethodName(), failed);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package logicfl.coverage;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+public class CoverageDumpRunListener extends RunListener {
+
+    private CoverageDumper dumper;
+    private Set<Description> failed;
+
+    public CoverageDumpRunListener(CoverageDumper dumper) {
+        this.dumper = dumper;
+        this.failed = new HashSet<>();
+    }
+
+    @Override
+    public void testFailure(Failure failure) throws Exception {
+        super.testFailure(failure);
+        failed.add(failure.getDescription());
+    }
+
+    @Override
+    public void testFinished(Description description) throws Exception {
+        super.testFinished(description);
+        dumper.dump(description.getClassName() + "#" + description.getMethodName(), failed.remove(description));
+    }
+}
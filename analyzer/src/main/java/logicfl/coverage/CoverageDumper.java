@@ -0,0 +1,83 @@
+package logicfl.coverage;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Dumps and resets JaCoCo execution data after each test through the runtime API of the agent.
+ *
+ * Execution data of each test is appended to one file as a separate session,
+ * whose ID has the outcome and the test, e.g. {@code fail:sample.ExampleTest#test1}.
+ * The agent is accessed by reflection, since it is only available in the forked test runner.
+ */
+public class CoverageDumper implements Closeable {
+
+    public static final String PASSED = "pass";
+    public static final String FAILED = "fail";
+    public static final String SESSION_DELIM = ":";
+
+    private Object agent;
+    private Method setSessionId;
+    private Method getExecutionData;
+    private OutputStream out;
+
+    private CoverageDumper(Object agent, Class<?> agentClass, Path testExecPath) throws IOException, ReflectiveOperationException {
+        this.agent = agent;
+        this.setSessionId = agentClass.getMethod("setSessionId", String.class);
+        this.getExecutionData = agentClass.getMethod("getExecutionData", boolean.class);
+        this.out = new BufferedOutputStream(Files.newOutputStream(testExecPath,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Opens a dumper if the per-test execution data file is given to the test runner.
+     *
+     * @return a dumper, or {@code null} if the file is not given or the JaCoCo agent is not attached.
+     */
+    public static CoverageDumper open() {
+        String testExecPath = System.getProperty(TestRunner.TEST_EXEC_PROPERTY);
+        if(testExecPath == null)
+            return null;
+        try {
+            Class<?> rtClass = Class.forName("org.jacoco.agent.rt.RT");
+            Class<?> agentClass = Class.forName("org.jacoco.agent.rt.IAgent");
+            Object agent = rtClass.getMethod("getAgent").invoke(null);
+            //Discard data of the test runner itself.
+            agentClass.getMethod("reset").invoke(agent);
+            System.out.println("Dump execution data of each test to " + testExecPath);
+            return new CoverageDumper(agent, agentClass, Paths.get(testExecPath));
+        } catch (ReflectiveOperationException | IOException e) {
+            e.printStackTrace();
+            System.err.println("Cannot access the JaCoCo agent. Execution data is not dumped per test.");
+            return null;
+        }
+    }
+
+    public static String getSessionId(String testId, boolean failed) {
+        return (failed ? FAILED : PASSED) + SESSION_DELIM + testId;
+    }
+
+    public synchronized void dump(String testId, boolean failed) {
+        try {
+            setSessionId.invoke(agent, getSessionId(testId, failed));
+            byte[] data = (byte[]) getExecutionData.invoke(agent, true);
+            out.write(data);
+            out.flush();
+        } catch (ReflectiveOperationException | IOException e) {
+            e.printStackTrace();
+            System.err.println("Failed to dump execution data of " + testId);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -1,7 +1,8 @@
 package logicfl.coverage;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -11,8 +12,58 @@ import java.util.Set;
 
 public class CoverageInfo {
 
+    /**
+     * Covered lines of a class in a bit set, and hit counts indexed by line numbers.
+     * Counts are allocated only when a line is hit more than once, otherwise each covered line is counted once.
+     */
+    private static class LineCoverage {
+        private BitSet lines = new BitSet();
+        private int[] counts = null;
+
+        public boolean isCovered(int startLine, int endLine) {
+            int next = lines.nextSetBit(Math.max(startLine, 0));
+            return next >= 0 && next <= endLine;
+        }
+
+        public void add(int lineNum, int count) {
+            if(lineNum < 0 || count <= 0)
+                return;
+            //The first count of a line is kept unless it is 1.
+            if(counts == null && (count > 1 || lines.get(lineNum))) {
+                counts = new int[Math.max(lines.length(), lineNum + 1)];
+                lines.stream().forEach(l -> counts[l] = 1);
+            }
+            if(counts != null) {
+                if(lineNum >= counts.length)
+                    counts = Arrays.copyOf(counts, Math.max(lineNum + 1, counts.length * 2));
+                counts[lineNum] += count;
+            }
+            lines.set(lineNum);
+        }
+
+        public void add(BitSet covered) {
+            if(counts == null && !lines.intersects(covered)) {
+                lines.or(covered);
+            } else {
+                covered.stream().forEach(lineNum -> add(lineNum, 1));
+            }
+        }
+
+        public int getCount(int lineNum) {
+            if(lineNum < 0 || !lines.get(lineNum))
+                return 0;
+            return counts == null ? 1 : counts[lineNum];
+        }
+
+        public Map<Integer, Integer> toMap() {
+            Map<Integer, Integer> map = new HashMap<>();
+            lines.stream().forEach(lineNum -> map.put(lineNum, getCount(lineNum)));
+            return map;
+        }
+    }
+
     private Set<String> executedClasses;
-    private Map<String, Map<Integer, Integer>> coverage;
+    private Map<String, LineCoverage> coverage;
     private Map<String, Integer> lineCount;
 
     public CoverageInfo() {
@@ -30,49 +81,64 @@ public class CoverageInfo {
         return executedClasses;
     }
 
+    /**
+     * Returns a snapshot of hit counts of covered lines, or {@code null} if the class is not executed.
+     * The returned map is a copy, so changes to it are not reflected in this coverage.
+     * Lines added with a count of 0 are not included, since they are not covered.
+     */
     public Map<Integer, Integer> getCoverage(String className) {
-        return coverage.get(className);
+        LineCoverage lines = coverage.get(className);
+        return lines == null ? null : lines.toMap();
+    }
+
+    /**
+     * Returns covered lines of a class as a bit set, or {@code null} if the class is not executed.
+     */
+    public BitSet getCoveredLineSet(String className) {
+        LineCoverage lines = coverage.get(className);
+        return lines == null ? null : (BitSet)lines.lines.clone();
+    }
+
+    public int getCount(String className, int lineNum) {
+        LineCoverage lines = coverage.get(className);
+        return lines == null ? 0 : lines.getCount(lineNum);
     }
 
     public boolean isCovered(String className, int lineNum) {
-        return isCovered(className, lineNum, lineNum);
+        LineCoverage lines = coverage.get(className);
+        return lines != null && lineNum >= 0 && lines.lines.get(lineNum);
     }
 
     public boolean isCovered(String className, int startLine, int endLine) {
-        if(coverage.containsKey(className)) {
-            Map<Integer, Integer> map = coverage.get(className);
-            for(int lineNum = startLine; lineNum <= endLine; lineNum++) {
-                if(map.containsKey(lineNum) && map.get(lineNum) > 0)
-                    return true;
-            }
-
-        }
-        return false;
+        LineCoverage lines = coverage.get(className);
+        return lines != null && lines.isCovered(startLine, endLine);
     }
 
     public void addCoverage(String className, Map<Integer, Integer> covered) {
-        if(coverage.containsKey(className)) {
-            Map<Integer, Integer> map = coverage.get(className);
-            for(Entry<Integer, Integer> e : covered.entrySet()) {
-                map.compute(e.getKey(), (k, v) -> v==null ? e.getValue() : v+e.getValue());
-            }
-        } else {
-            executedClasses.add(className);
-            coverage.put(className, covered);
+        LineCoverage lines = getLineCoverage(className);
+        for(Entry<Integer, Integer> e : covered.entrySet()) {
+            lines.add(e.getKey(), e.getValue());
         }
     }
 
+    /**
+     * Adds covered lines of a class as a bit set, where each line is counted once.
+     */
+    public void addCoverage(String className, BitSet lines) {
+        getLineCoverage(className).add(lines);
+    }
+
     public void addCoverage(String className, int lineNum) {
-        if(!coverage.containsKey(className)) {
-            addClass(className);
-        }
-        Map<Integer, Integer> map = coverage.get(className);
-        map.compute(lineNum, (k, v) -> v == null ? 1 : v+1);
+        getLineCoverage(className).add(lineNum, 1);
     }
 
     public void addClass(String className) {
+        getLineCoverage(className);
+    }
+
+    private LineCoverage getLineCoverage(String className) {
         executedClasses.add(className);
-        coverage.putIfAbsent(className, new HashMap<>());
+        return coverage.computeIfAbsent(className, k -> new LineCoverage());
     }
 
     public void setLineCount(String className, int count) {
@@ -81,11 +147,8 @@ public class CoverageInfo {
 
     public Map<String, List<Integer>> getCoveredLines() {
         Map<String, List<Integer>> lines = new HashMap<>();
-        for(String className : coverage.keySet()) {
-            lines.putIfAbsent(className, new ArrayList<>());
-            lines.get(className).addAll(coverage.get(className).keySet());
-            Collections.sort(lines.get(className));
-        }
+        coverage.forEach((className, lineCoverage) ->
+            lines.put(className, new ArrayList<>(lineCoverage.lines.stream().boxed().toList())));
         return lines;
     }
 }
@@ -0,0 +1,137 @@
+package logicfl.coverage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import logicfl.utils.CodeUtils;
+
+/**
+ * A tests x lines hit matrix, where each test has a bit set of covered line indices.
+ */
+public class CoverageMatrix {
+
+    private List<String> tests;
+    private BitSet failed;
+    private List<BitSet> rows;
+    private List<String> lines;
+    private Map<String, Integer> lineIndex;
+
+    public CoverageMatrix() {
+        tests = new ArrayList<>();
+        failed = new BitSet();
+        rows = new ArrayList<>();
+        lines = new ArrayList<>();
+        lineIndex = new HashMap<>();
+    }
+
+    public static String getLineKey(String className, int lineNum) {
+        return className + CodeUtils.NAME_KEY_DELIM + lineNum;
+    }
+
+    /**
+     * Adds a test, and returns the index of the test.
+     */
+    public int addTest(String testId, boolean isFailed) {
+        int index = tests.size();
+        tests.add(testId);
+        rows.add(new BitSet());
+        failed.set(index, isFailed);
+        return index;
+    }
+
+    public void addCoverage(int testIndex, String className, int lineNum) {
+        String key = getLineKey(className, lineNum);
+        Integer index = lineIndex.get(key);
+        if(index == null) {
+            index = lines.size();
+            lines.add(key);
+            lineIndex.put(key, index);
+        }
+        rows.get(testIndex).set(index);
+    }
+
+    public List<String> getTests() {
+        return tests;
+    }
+
+    public boolean isFailed(int testIndex) {
+        return failed.get(testIndex);
+    }
+
+    public boolean isCovered(int testIndex, String className, int lineNum) {
+        Integer index = lineIndex.get(getLineKey(className, lineNum));
+        return index != null && rows.get(testIndex).get(index);
+    }
+
+    /**
+     * Returns the spectrum of a line, {ef, ep, nf, np}.
+     */
+    public int[] getSpectrum(String className, int lineNum) {
+        int[] spectrum = new int[4];
+        Integer index = lineIndex.get(getLineKey(className, lineNum));
+        for(int i=0; i<tests.size(); i++) {
+            boolean covered = index != null && rows.get(i).get(index);
+            int k = (covered ? 0 : 2) + (failed.get(i) ? 0 : 1);
+            spectrum[k]++;
+        }
+        return spectrum;
+    }
+
+    /**
+     * Returns the Ochiai suspiciousness of a line.
+     */
+    public double getOchiai(String className, int lineNum) {
+        int[] s = getSpectrum(className, lineNum);
+        double denominator = Math.sqrt((double)(s[0] + s[2]) * (s[0] + s[1]));
+        return denominator == 0 ? 0 : s[0] / denominator;
+    }
+
+    public void export(Path matrixPath) {
+        JSONObject root = new JSONObject();
+        root.put("lines", new JSONArray(lines));
+        JSONArray testArray = new JSONArray();
+        for(int i=0; i<tests.size(); i++) {
+            JSONObject test = new JSONObject();
+            test.put("test", tests.get(i));
+            test.put("failed", failed.get(i));
+            test.put("covered", new JSONArray(rows.get(i).stream().toArray()));
+            testArray.put(test);
+        }
+        root.put("tests", testArray);
+        try {
+            Files.writeString(matrixPath, root.toString());
+            System.out.println("Coverage matrix of " + tests.size() + " tests exported to " + matrixPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static CoverageMatrix load(Path matrixPath) throws IOException {
+        CoverageMatrix matrix = new CoverageMatrix();
+        JSONObject root = new JSONObject(Files.readString(matrixPath));
+        JSONArray lineArray = root.getJSONArray("lines");
+        for(int i=0; i<lineArray.length(); i++) {
+            matrix.lines.add(lineArray.getString(i));
+            matrix.lineIndex.put(lineArray.getString(i), i);
+        }
+        JSONArray testArray = root.getJSONArray("tests");
+        for(int i=0; i<testArray.length(); i++) {
+            JSONObject test = testArray.getJSONObject(i);
+            int index = matrix.addTest(test.getString("test"), test.getBoolean("failed"));
+            JSONArray covered = test.getJSONArray("covered");
+            for(int j=0; j<covered.length(); j++) {
+                matrix.rows.get(index).set(covered.getInt(j));
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,135 @@
+package logicfl.coverage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Binary coverage store, which is read through a memory-mapped buffer.
+ *
+ * <pre>
+ * header   : magic(int) version(int) classCount(int)
+ * strings  : classCount x (length(int) utf8 bytes) - class names in the sorted order
+ * coverage : classCount x (encoding(byte) size(int) size x int)
+ * </pre>
+ * A class is encoded with either words of a line bit set, or pairs of (start line, run length),
+ * whichever is smaller.
+ */
+public class CoverageStore {
+
+    public static final int MAGIC = 0x4C464356; // LFCV
+    public static final int VERSION = 1;
+
+    private static final byte ENC_BITSET = 0;
+    private static final byte ENC_RUNS = 1;
+
+    public static boolean isBinary(Path path) {
+        if(!path.toFile().isFile() || path.toFile().length() < Integer.BYTES)
+            return false;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(buffer, 0);
+            buffer.flip();
+            return buffer.getInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static void export(CoverageInfo coverage, Path path) {
+        List<String> classes = new ArrayList<>(coverage.getClasses());
+        classes.sort(null);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(classes.size());
+            for(String className : classes) {
+                byte[] name = className.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+            }
+            for(String className : classes) {
+                BitSet lines = coverage.getCoveredLineSet(className);
+                writeLines(out, lines == null ? new BitSet() : lines);
+            }
+            System.out.println("Coverage information exported to " + path);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void writeLines(DataOutputStream out, BitSet lines) throws IOException {
+        List<Integer> runs = new ArrayList<>();
+        for(int start = lines.nextSetBit(0); start >= 0; start = lines.nextSetBit(start)) {
+            int end = lines.nextClearBit(start);
+            runs.add(start);
+            runs.add(end - start);
+            start = end;
+        }
+        //Words are written as two ints each.
+        long[] words = lines.toLongArray();
+        if(runs.size() <= words.length * 2) {
+            out.writeByte(ENC_RUNS);
+            out.writeInt(runs.size());
+            for(int value : runs)
+                out.writeInt(value);
+        } else {
+            out.writeByte(ENC_BITSET);
+            out.writeInt(words.length * 2);
+            for(long word : words)
+                out.writeLong(word);
+        }
+    }
+
+    public static CoverageInfo load(Path path) {
+        CoverageInfo info = new CoverageInfo();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                System.err.println("Unsupported coverage file - " + path);
+                return info;
+            }
+            int classCount = buffer.getInt();
+            String[] classes = new String[classCount];
+            for(int i=0; i<classCount; i++) {
+                byte[] name = new byte[buffer.getInt()];
+                buffer.get(name);
+                classes[i] = new String(name, StandardCharsets.UTF_8);
+            }
+            for(int i=0; i<classCount; i++) {
+                info.addCoverage(classes[i], readLines(buffer));
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            System.err.println("Failed to load coverage from " + path);
+        }
+        return info;
+    }
+
+    private static BitSet readLines(ByteBuffer buffer) {
+        byte encoding = buffer.get();
+        int size = buffer.getInt();
+        if(encoding == ENC_BITSET) {
+            long[] words = new long[size / 2];
+            buffer.asLongBuffer().get(words);
+            buffer.position(buffer.position() + words.length * Long.BYTES);
+            return BitSet.valueOf(words);
+        }
+        BitSet lines = new BitSet();
+        for(int i=0; i<size; i+=2) {
+            int start = buffer.getInt();
+            lines.set(start, start + buffer.getInt());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,134 @@
+package logicfl.coverage;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jacoco.core.data.ExecutionDataStore;
+import org.jacoco.core.data.ExecutionDataWriter;
+import org.jacoco.core.data.SessionInfoStore;
+import org.jacoco.core.instr.Instrumenter;
+import org.jacoco.core.runtime.IRuntime;
+import org.jacoco.core.runtime.LoggerRuntime;
+import org.jacoco.core.runtime.RuntimeData;
+
+import logicfl.utils.Configuration;
+import logicfl.utils.JSONUtils;
+
+/**
+ * Runs tests in the current JVM without forking a test runner.
+ *
+ * Classes of a subject are loaded by a {@link ChildFirstClassLoader}, which instruments them with
+ * the JaCoCo {@link Instrumenter} on a {@link LoggerRuntime} instead of the agent.
+ * JUnit and LogicFL classes are shared with the current JVM, so the subject should use compatible versions of them.
+ * Since runners keep the test information in static fields, only one execution runs at a time.
+ */
+public class InProcessTestRunner {
+
+    public static class Result {
+        private List<NPETrace> traces;
+        private ExecutionDataStore executionData;
+        private SessionInfoStore sessionInfos;
+
+        public Result() {
+            traces = new ArrayList<>();
+            executionData = new ExecutionDataStore();
+            sessionInfos = new SessionInfoStore();
+        }
+
+        public List<NPETrace> getTraces() {
+            return traces;
+        }
+
+        public ExecutionDataStore getExecutionData() {
+            return executionData;
+        }
+
+        public SessionInfoStore getSessionInfos() {
+            return sessionInfos;
+        }
+    }
+
+    /**
+     * Runs tests selected from a tests information file, and returns NPE traces and execution data.
+     * No files are written, except for the failure output of the runner if it is set.
+     */
+    public static synchronized Result runTests(Configuration config, String classPath, String testsInfoPath,
+        boolean failedOnly, boolean withCoverage) {
+        Result result = new Result();
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        TestInfo testsInfo = config.testsInfo;
+        Configuration runnerConfig = TestRunner.config;
+        IRuntime runtime = withCoverage ? new LoggerRuntime() : null;
+        RuntimeData data = new RuntimeData();
+        try {
+            config.testsInfo = JSONUtils.loadTestsInfo(Paths.get(testsInfoPath));
+            TestRunner.config = config;
+            if(runtime != null)
+                runtime.startup(data);
+            Instrumenter instrumenter = runtime == null ? null : new Instrumenter(runtime);
+            try (ChildFirstClassLoader loader = new ChildFirstClassLoader(getURLs(config, classPath),
+                    InProcessTestRunner.class.getClassLoader(), instrumenter)) {
+                thread.setContextClassLoader(loader);
+                System.out.println("Running tests in process with " + loader.getURLs().length + " class path entries.");
+                if(config.junitVersion.equals(Configuration.JUNIT4))
+                    result.traces = JUnit4TestRunner.execute(failedOnly, null, null);
+                else
+                    result.traces = JUnit5TestRunner.execute(failedOnly, null, null);
+            }
+            if(runtime != null)
+                data.collect(result.executionData, result.sessionInfos, false);
+        } catch (Throwable e) {
+            e.printStackTrace();
+            System.err.println("Failed to run tests in process.");
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+            if(runtime != null)
+                runtime.shutdown();
+            config.testsInfo = testsInfo;
+            TestRunner.config = runnerConfig;
+        }
+        return result;
+    }
+
+    /**
+     * Runs tests in process, and stores results to the files which a forked test runner writes.
+     */
+    static void runTests(Configuration config, String classPath, String jacocoExecPath, String npeInfoPath,
+        String testsInfoPath, String outputPath, boolean failedOnly, boolean withCoverage) {
+        String runnerOutputPath = TestRunner.outputPath;
+        Result result;
+        try {
+            TestRunner.outputPath = outputPath;
+            result = runTests(config, classPath, testsInfoPath, failedOnly, withCoverage);
+        } finally {
+            TestRunner.outputPath = runnerOutputPath;
+        }
+        TestRunner.storeNPEInfo(result.getTraces(), npeInfoPath);
+        if(withCoverage) {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Paths.get(jacocoExecPath)))) {
+                ExecutionDataWriter writer = new ExecutionDataWriter(out);
+                result.getSessionInfos().accept(writer);
+                result.getExecutionData().accept(writer);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static URL[] getURLs(Configuration config, String classPath) throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        for(String entry : config.expandClassPath(classPath)) {
+            urls.add(new File(entry).toURI().toURL());
+        }
+        return urls.toArray(new URL[urls.size()]);
+    }
+}
@@ -20,59 +20,77 @@ public class JUnit4TestRunner extends TestRunner {
     }
 
     public static void main(String[] args) {
-        int filterOption = prepareTestInfo(args) ? TestRunnerBuilder.ONLY_TARGETS : TestRunnerBuilder.EXCLUDE_TARGETS;
+        boolean failedOnly = prepareTestInfo(args);
 
         //Execute Tests.
         try {
-            TestResult testResult = new TestResult();
+            NPETraceWriter writer = openNPETraceWriter(TestRunner.npeInfoPath);
+            CoverageDumper dumper = CoverageDumper.open();
+            List<NPETrace> traces = execute(failedOnly, writer, dumper);
+            storeNPEInfo(traces, writer, TestRunner.npeInfoPath);
+            if(dumper != null)
+                dumper.close();
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Executes tests selected from the loaded test information, and returns collected NPE traces.
+     * Test classes are loaded by the context class loader of the current thread.
+     */
+    static List<NPETrace> execute(boolean failedOnly, NPETraceWriter writer, CoverageDumper dumper) throws Throwable {
+        int filterOption = failedOnly ? TestRunnerBuilder.ONLY_TARGETS : TestRunnerBuilder.EXCLUDE_TARGETS;
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        TestResult testResult = new TestResult();
+
+        JUnitCore core = new JUnitCore();
+        NPERunListener listener = new NPERunListener(config.targetPackagePrefix, writer);
+        core.addListener(listener);
+        core.addListener(new ProgressRunListener());
+        if(dumper != null)
+            core.addListener(new CoverageDumpRunListener(dumper));
+        //Execute Failed Tests.
+        for(String testClass : config.testsInfo.failedTests.keySet()) {
+            List<String> targetTests = config.testsInfo.failedTests.get(testClass).stream().map(testMethod -> testClass + "#" + testMethod).toList();
+            TestRunnerBuilder builder = new TestRunnerBuilder(targetTests, filterOption);
+            Result result = core.run(builder.runnerForClass(Class.forName(testClass, true, loader)));
+            combineResults(testResult, result);
+        }
 
-            JUnitCore core = new JUnitCore();
-            NPERunListener listener = new NPERunListener(config.targetPackagePrefix);
-            core.addListener(listener);
-            //Execute Failed Tests.
-            for(String testClass : config.testsInfo.failedTests.keySet()) {
-                List<String> targetTests = config.testsInfo.failedTests.get(testClass).stream().map(testMethod -> testClass + "#" + testMethod).toList();
+        //Execute Passed Tests.
+        if (filterOption == TestRunnerBuilder.EXCLUDE_TARGETS) {
+            for(String testClass : config.testsInfo.passedClasses) {
+                List<String> targetTests = new ArrayList<>();
                 TestRunnerBuilder builder = new TestRunnerBuilder(targetTests, filterOption);
-                Result result = core.run(builder.runnerForClass(Class.forName(testClass)));
+                Result result = core.run(builder.runnerForClass(Class.forName(testClass, true, loader)));
                 combineResults(testResult, result);
             }
+        }
 
-            //Execute Passed Tests.
-            if (filterOption == TestRunnerBuilder.EXCLUDE_TARGETS) {
-                for(String testClass : config.testsInfo.passedClasses) {
-                    List<String> targetTests = new ArrayList<>();
-                    TestRunnerBuilder builder = new TestRunnerBuilder(targetTests, filterOption);
-                    Result result = core.run(builder.runnerForClass(Class.forName(testClass)));
-                    combineResults(testResult, result);
-                }
-            }
-
-            System.out.println("Test execution summary:");
-            System.out.println("Tests executed - " + testResult.runCount);
-            System.out.println("Tests succeeded - " + testResult.passedCount);
-            System.out.println("Tests failed - " + testResult.failedCount);
-            if(outputPath != null) {
-                try (PrintWriter out = new PrintWriter(new FileOutputStream(Paths.get(outputPath).toFile()))){
-                    testResult.failures.forEach(f -> {
-                        out.println(f.toString());
-                        out.println(f.getMessage());
-                        out.println(f.getTrace());
-                    });
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+        System.out.println("Test execution summary:");
+        System.out.println("Tests executed - " + testResult.runCount);
+        System.out.println("Tests succeeded - " + testResult.passedCount);
+        System.out.println("Tests failed - " + testResult.failedCount);
+        TestExecPolicy.printStats(testResult.runCount);
+        if(outputPath != null) {
+            try (PrintWriter out = new PrintWriter(new FileOutputStream(Paths.get(outputPath).toFile()))){
+                testResult.failures.forEach(f -> {
+                    out.println(f.toString());
+                    out.println(f.getMessage());
+                    out.println(f.getTrace());
+                });
+            } catch (Exception e) {
+                e.printStackTrace();
             }
-            testResult.failures.forEach(f -> {
-                System.out.println(f.toString());
-                System.out.println(f.getMessage());
-                System.out.println(f.getTrace());
-            });
-
-            List<NPETrace> traces = listener.getTraces();
-            storeNPEInfo(traces, TestRunner.npeInfoPath);
-        } catch (Throwable e) {
-            e.printStackTrace();
         }
+        testResult.failures.forEach(f -> {
+            System.out.println(f.toString());
+            System.out.println(f.getMessage());
+            System.out.println(f.getTrace());
+        });
+
+        return listener.getTraces();
     }
 
     private static void combineResults(TestResult testResult, Result result) {
@@ -3,6 +3,7 @@ package logicfl.coverage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Paths;
 import java.util.List;
@@ -22,18 +23,41 @@ public class JUnit5TestRunner extends TestRunner {
 
     public static void main(String[] args) {
         boolean failedOnly = prepareTestInfo(args);
+        NPETraceWriter writer = openNPETraceWriter(TestRunner.npeInfoPath);
+        CoverageDumper dumper = CoverageDumper.open();
 
+        List<NPETrace> traces = execute(failedOnly, writer, dumper);
+
+        //Store NPE information.
+        storeNPEInfo(traces, writer, TestRunner.npeInfoPath);
+        if(dumper != null) {
+            try {
+                dumper.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Executes tests selected from the loaded test information, and returns collected NPE traces.
+     * Test classes are loaded by the context class loader of the current thread.
+     */
+    static List<NPETrace> execute(boolean failedOnly, NPETraceWriter writer, CoverageDumper dumper) {
         LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request();
         discoverTests(builder, failedOnly);
         LauncherDiscoveryRequest request = builder.build();
 
         SummaryGeneratingListener listener = new SummaryGeneratingListener();
-        NPECollectionListener npeListener = new NPECollectionListener(config.targetPackagePrefix);
+        NPECollectionListener npeListener = new NPECollectionListener(config.targetPackagePrefix, writer);
 
         try (LauncherSession session = LauncherFactory.openSession()) {
             Launcher launcher = session.getLauncher();
             launcher.registerTestExecutionListeners(listener);
             launcher.registerTestExecutionListeners(npeListener);
+            launcher.registerTestExecutionListeners(new ProgressListener());
+            if(dumper != null)
+                launcher.registerTestExecutionListeners(new CoverageDumpListener(dumper));
             try{
                 launcher.execute(request);
             }catch(Exception e) {
@@ -46,6 +70,7 @@ public class JUnit5TestRunner extends TestRunner {
         System.out.println("Tests found - "+summary.getTestsFoundCount());
         System.out.println("Tests succeeded - "+summary.getTestsSucceededCount());
         System.out.println("Tests failed - "+summary.getTestsFailedCount());
+        TestExecPolicy.printStats(summary.getTestsFoundCount());
         if(outputPath != null) {
             try (PrintWriter out = new PrintWriter(new FileOutputStream(Paths.get(outputPath).toFile()))){
                 summary.printFailuresTo(out);
@@ -55,10 +80,7 @@ public class JUnit5TestRunner extends TestRunner {
         }
         PrintWriter out = new PrintWriter(System.out, true);
         summary.printFailuresTo(out);
-
-        //Store NPE information.
-        List<NPETrace> traces = npeListener.getTraces();
-        storeNPEInfo(traces, TestRunner.npeInfoPath);
+        return npeListener.getTraces();
     }
 
     private static void discoverTests(LauncherDiscoveryRequestBuilder builder, boolean failedOnly) {
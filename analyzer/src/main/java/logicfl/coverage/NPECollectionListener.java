@@ -11,10 +11,19 @@ public class NPECollectionListener implements TestExecutionListener {
 
     private String targetPrefix;
     private List<NPETrace> traces;
+    private NPETraceWriter writer;
 
     public NPECollectionListener(String targetPrefix) {
+        this(targetPrefix, null);
+    }
+
+    /**
+     * If a writer is given, traces are written as soon as each test is finished instead of being kept.
+     */
+    public NPECollectionListener(String targetPrefix, NPETraceWriter writer) {
         this.targetPrefix = targetPrefix;
         this.traces = new ArrayList<>();
+        this.writer = writer;
     }
 
     @Override
@@ -22,7 +31,6 @@ public class NPECollectionListener implements TestExecutionListener {
         if(testExecutionResult.getThrowable().isPresent()) {
             TestId info = new TestId(testIdentifier.getUniqueIdObject());
             NPETrace npeTrace = new NPETrace(info);
-            traces.add(npeTrace);
 
             Throwable throwable = testExecutionResult.getThrowable().get();
             if(throwable instanceof NullPointerException) {
@@ -30,6 +38,11 @@ public class NPECollectionListener implements TestExecutionListener {
             } else if(throwable.getCause() instanceof NullPointerException) {
                 npeTrace.addTraces(throwable.getCause(), targetPrefix);
             }
+
+            if(writer != null)
+                writer.write(npeTrace);
+            else
+                traces.add(npeTrace);
         }
     }
 
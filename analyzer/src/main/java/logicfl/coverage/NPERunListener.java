@@ -10,10 +10,19 @@ import org.junit.runner.notification.RunListener;
 public class NPERunListener extends RunListener {
     private String targetPrefix;
     private List<NPETrace> traces;
+    private NPETraceWriter writer;
 
     public NPERunListener(String targetPrefix) {
+        this(targetPrefix, null);
+    }
+
+    /**
+     * If a writer is given, traces are written as soon as each failure is reported instead of being kept.
+     */
+    public NPERunListener(String targetPrefix, NPETraceWriter writer) {
         this.targetPrefix = targetPrefix;
         this.traces = new ArrayList<>();
+        this.writer = writer;
     }
 
     public List<NPETrace> getTraces() {
@@ -48,13 +57,17 @@ public class NPERunListener extends RunListener {
         if(throwable !=  null) {
             TestId info = new TestId(desc.getClassName(), desc.getMethodName());
             NPETrace npeTrace = new NPETrace(info);
-            traces.add(npeTrace);
 
             if(throwable instanceof NullPointerException) {
                 npeTrace.addTraces(throwable, targetPrefix);
             } else if(throwable.getCause() instanceof NullPointerException) {
                 npeTrace.addTraces(throwable.getCause(), targetPrefix);
             }
+
+            if(writer != null)
+                writer.write(npeTrace);
+            else
+                traces.add(npeTrace);
         }
     }
 }
@@ -0,0 +1,109 @@
+package logicfl.coverage;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Reads NPE traces one by one, without loading the whole file.
+ *
+ * Both the JSON lines format written by {@link NPETraceWriter}
+ * and the document format with the {@code npe.traces} array are supported.
+ * For the document format, elements of the array are pulled one by one from the tokener.
+ */
+public class NPETraceReader implements Iterator<NPETrace>, Closeable {
+
+    private static final int HEADER_SIZE = 256;
+    private static final Pattern DOCUMENT_HEADER = Pattern.compile("^\\s*\\{\\s*\"npe\\.traces\"\\s*:");
+
+    private BufferedReader reader;
+    private JSONTokener tokener;
+    private boolean isDocument;
+    private NPETrace next;
+
+    public NPETraceReader(Path npeInfoPath) throws IOException {
+        reader = Files.newBufferedReader(npeInfoPath, StandardCharsets.UTF_8);
+        isDocument = isDocumentFormat();
+        tokener = new JSONTokener(reader);
+        try {
+            if(isDocument)
+                moveToTraces();
+        } catch (JSONException e) {
+            reader.close();
+            throw new IOException("Cannot read NPE traces from " + npeInfoPath, e);
+        }
+        advance();
+    }
+
+    private boolean isDocumentFormat() throws IOException {
+        reader.mark(HEADER_SIZE);
+        char[] header = new char[HEADER_SIZE];
+        int length = reader.read(header);
+        reader.reset();
+        return length > 0 && DOCUMENT_HEADER.matcher(new String(header, 0, length)).find();
+    }
+
+    private void moveToTraces() {
+        tokener.nextClean(); // {
+        tokener.nextValue(); // "npe.traces"
+        tokener.nextClean(); // :
+        if(tokener.nextClean() != '[')
+            throw tokener.syntaxError("The npe.traces array is expected");
+    }
+
+    private NPETrace readNext() {
+        char c = tokener.nextClean();
+        if(c == 0)
+            return null;
+        if(isDocument) {
+            if(c == ',')
+                c = tokener.nextClean();
+            if(c == ']')
+                return null;
+        }
+        tokener.back();
+        Object value = tokener.nextValue();
+        if(!(value instanceof JSONObject))
+            throw tokener.syntaxError("An NPE trace object is expected");
+        return new NPETrace((JSONObject)value);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public NPETrace next() {
+        if(next == null)
+            throw new NoSuchElementException();
+        NPETrace current = next;
+        advance();
+        return current;
+    }
+
+    private void advance() {
+        try {
+            next = readNext();
+        } catch (JSONException e) {
+            //A trace being written when the runner is killed can be incomplete.
+            System.err.println("Stop reading NPE traces - " + e.getMessage());
+            next = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,39 @@
+package logicfl.coverage;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes NPE traces in the JSON lines format, one trace per line.
+ *
+ * Each trace is flushed as soon as it is written,
+ * so that traces of finished tests are kept even if the test runner is killed by the timeout.
+ */
+public class NPETraceWriter implements Closeable {
+
+    private BufferedWriter writer;
+
+    public NPETraceWriter(Path npeInfoPath) throws IOException {
+        writer = Files.newBufferedWriter(npeInfoPath, StandardCharsets.UTF_8);
+    }
+
+    public synchronized void write(NPETrace trace) {
+        try {
+            writer.write(trace.getJSONObject(false).toString());
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Failed to write the NPE trace of " + trace.testClass + "#" + trace.testMethod);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
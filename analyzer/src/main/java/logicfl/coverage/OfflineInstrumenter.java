@@ -0,0 +1,165 @@
+package logicfl.coverage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+
+import org.jacoco.core.JaCoCo;
+import org.jacoco.core.instr.Instrumenter;
+import org.jacoco.core.internal.instr.InstrSupport;
+import org.jacoco.core.runtime.IExecutionDataAccessorGenerator;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import logicfl.utils.CodeUtils;
+import logicfl.utils.Configuration;
+
+/**
+ * Instruments target classes on a class path with the JaCoCo {@link Instrumenter} before tests are executed,
+ * so that a test runner does not need the agent to instrument them at load time.
+ *
+ * Instrumented classes are written to a directory for each class path, which should be placed ahead of the class path.
+ * The index of the directory keeps hashes of the original class files, and only new or modified classes are instrumented.
+ * The runtime of instrumented classes is in the JaCoCo agent jar, which should also be on the class path.
+ * Since the runtime package of the agent depends on its version, instrumented classes call the runtime found in the agent jar
+ * rather than the one of the JaCoCo core library.
+ */
+public class OfflineInstrumenter {
+
+    public static final String INDEX_FILE = "index.json";
+    private static final Pattern RUNTIME_CLASS = Pattern.compile("org/jacoco/agent/rt/internal_[^/]+/Offline\\.class");
+
+    private Configuration config;
+    private String runtimeClass;
+    private Instrumenter instrumenter;
+
+    /**
+     * @throws IOException if the agent jar cannot be read or it has no runtime for offline instrumented classes.
+     */
+    public OfflineInstrumenter(Configuration config) throws IOException {
+        this.config = config;
+        this.runtimeClass = findRuntimeClass(config.jacocoPath);
+        this.instrumenter = new Instrumenter(new IExecutionDataAccessorGenerator() {
+            @Override
+            public int generateDataAccessor(long classId, String className, int probeCount, MethodVisitor mv) {
+                //Same as OfflineInstrumentationAccessGenerator, except for the runtime class.
+                mv.visitLdcInsn(Long.valueOf(classId));
+                mv.visitLdcInsn(className);
+                InstrSupport.push(mv, probeCount);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, runtimeClass, "getProbes", "(JLjava/lang/String;I)[Z", false);
+                return 4;
+            }
+        });
+    }
+
+    /**
+     * Returns the internal name of the runtime class of offline instrumented classes in an agent jar.
+     */
+    static String findRuntimeClass(String jacocoPath) throws IOException {
+        try (JarFile jar = new JarFile(jacocoPath)) {
+            return jar.stream().map(JarEntry::getName)
+                .filter(name -> RUNTIME_CLASS.matcher(name).matches())
+                .map(name -> name.substring(0, name.length() - ".class".length()))
+                .findFirst()
+                .orElseThrow(() -> new IOException("No runtime for offline instrumentation in " + jacocoPath));
+        }
+    }
+
+    /**
+     * Instruments target classes of a class path, and returns the directory of instrumented classes.
+     * The directory depends on the runtime class of the agent and the version of JaCoCo as well,
+     * since classes instrumented for another agent cannot find its runtime.
+     */
+    public Path instrument(String classPath) throws IOException {
+        String key = CodeUtils.getHash(List.of(classPath, runtimeClass, JaCoCo.VERSION));
+        Path outputDir = config.instrumentedClassesPath.resolve(key.substring(0, 16));
+        Files.createDirectories(outputDir);
+        Path indexPath = outputDir.resolve(INDEX_FILE);
+        JSONObject prevIndex = loadIndex(indexPath);
+        JSONObject index = new JSONObject();
+        int instrumented = 0;
+
+        Set<String> visited = new HashSet<>();
+        List<FileSystem> jars = new ArrayList<>();
+        try {
+            for(String entry : config.expandClassPath(classPath)) {
+                Path root = getRoot(Paths.get(entry), jars);
+                if(root == null)
+                    continue;
+                List<Path> classFiles;
+                try (var files = Files.walk(root)) {
+                    classFiles = files.filter(f -> f.toString().endsWith(".class")).toList();
+                }
+                for(Path classFile : classFiles) {
+                    String resource = root.relativize(classFile).toString().replace(File.separatorChar, '/');
+                    String className = resource.substring(0, resource.length() - ".class".length()).replace('/', '.');
+                    //module-info and multi-release entries are not instrumented.
+                    if(!className.startsWith(config.targetPackagePrefix) || ChildFirstClassLoader.isShared(className)
+                            || className.contains("-") || !visited.add(resource))
+                        continue;
+                    byte[] original = Files.readAllBytes(classFile);
+                    String hash = CodeUtils.getHash(original);
+                    Path outputFile = outputDir.resolve(resource);
+                    if(!hash.equals(prevIndex.optString(resource)) || !Files.exists(outputFile)) {
+                        Files.createDirectories(outputFile.getParent());
+                        Files.write(outputFile, instrumenter.instrument(original, className));
+                        instrumented++;
+                    }
+                    index.put(resource, hash);
+                }
+            }
+        } finally {
+            for(FileSystem jar : jars)
+                jar.close();
+        }
+
+        //Remove classes which are not on the class path anymore.
+        for(String resource : prevIndex.keySet()) {
+            if(!index.has(resource))
+                Files.deleteIfExists(outputDir.resolve(resource));
+        }
+        Files.writeString(indexPath, index.toString(4));
+        System.out.println("Offline instrumentation - " + instrumented + " of " + index.length()
+            + " classes instrumented to " + outputDir);
+        return outputDir;
+    }
+
+    private Path getRoot(Path entry, List<FileSystem> jars) {
+        if(Files.isDirectory(entry))
+            return entry;
+        if(Files.isRegularFile(entry) && entry.toString().endsWith(".jar")) {
+            try {
+                FileSystem jar = FileSystems.newFileSystem(entry);
+                jars.add(jar);
+                return jar.getPath("/");
+            } catch (IOException e) {
+                System.err.println("Error while opening a class path entry - " + entry);
+            }
+        }
+        return null;
+    }
+
+    private JSONObject loadIndex(Path indexPath) {
+        if(indexPath.toFile().exists()) {
+            try {
+                return new JSONObject(Files.readString(indexPath));
+            } catch (IOException | JSONException e) {
+                System.err.println("Ignoring a broken index of instrumented classes - " + indexPath);
+            }
+        }
+        return new JSONObject();
+    }
+}
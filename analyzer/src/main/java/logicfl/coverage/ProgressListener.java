@@ -0,0 +1,27 @@
+package logicfl.coverage;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+public class ProgressListener implements TestExecutionListener {
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if(testIdentifier.isTest())
+            TestRunner.printProgress(TestRunner.STARTED, getTestId(testIdentifier));
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if(testIdentifier.isTest()) {
+            boolean failed = testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED;
+            TestRunner.printProgress(failed ? TestRunner.FAILED : TestRunner.PASSED, getTestId(testIdentifier));
+        }
+    }
+
+    private String getTestId(TestIdentifier testIdentifier) {
+        TestId info = new TestId(testIdentifier.getUniqueIdObject());
+        return info.getClassName() + "#" + info.getMethodName();
+    }
+}
@@ -0,0 +1,39 @@
+package logicfl.coverage;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+public class ProgressRunListener extends RunListener {
+
+    private Set<Description> failed;
+
+    public ProgressRunListener() {
+        this.failed = new HashSet<>();
+    }
+
+    @Override
+    public void testStarted(Description description) throws Exception {
+        super.testStarted(description);
+        TestRunner.printProgress(TestRunner.STARTED, getTestId(description));
+    }
+
+    @Override
+    public void testFailure(Failure failure) throws Exception {
+        super.testFailure(failure);
+        failed.add(failure.getDescription());
+    }
+
+    @Override
+    public void testFinished(Description description) throws Exception {
+        super.testFinished(description);
+        TestRunner.printProgress(failed.remove(description) ? TestRunner.FAILED : TestRunner.PASSED, getTestId(description));
+    }
+
+    private String getTestId(Description description) {
+        return description.getClassName() + "#" + description.getMethodName();
+    }
+}
@@ -0,0 +1,236 @@
+package logicfl.coverage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.json.JSONObject;
+
+import logicfl.utils.Configuration;
+import logicfl.utils.JSONUtils;
+import logicfl.utils.Timer;
+
+/**
+ * Timeout and JVM options of a forked test runner.
+ *
+ * If the adaptive timeout is enabled, the timeout is scaled with the number of selected tests,
+ * using the time per test of the previous execution in {@code exec.time.json}, or the configured one.
+ * Each execution is recorded in {@code exec.time.json} with the chosen options and the peak heap usage
+ * reported by the test runner. Since the peak heap usage is sampled periodically while tests are executed,
+ * it can be lower than the actual peak.
+ */
+public class TestExecPolicy {
+
+    public static final String STATS = "@@logicfl.stats";
+    public static final int ADAPTIVE_FACTOR = 3;
+    public static final String FAILED_TESTS_TIMER = "test_runner_failed";
+    public static final String ALL_TESTS_TIMER = "test_runner_all";
+    public static final long HEAP_SAMPLE_MILLIS = 10;
+
+    private static final AtomicLong sampledPeakHeap = new AtomicLong();
+    private static ScheduledExecutorService heapSampler;
+
+    private String timerName;
+    private Path execTimePath;
+    private int selectedTests;
+    private long timeout;
+    private String minHeap;
+    private String maxHeap;
+    private List<String> jvmArgs;
+    private long outputLimit;
+    private Path outputSpillPath;
+    private boolean offlineInstrumented = false;
+    private Timer timer;
+    private long peakHeap = -1;
+    private int executedTests = -1;
+
+    private TestExecPolicy(Configuration config, String timerName, int selectedTests) {
+        this.timerName = timerName;
+        this.execTimePath = config.execTimePath;
+        this.selectedTests = selectedTests;
+        this.minHeap = config.testHeapMin;
+        this.maxHeap = config.testHeapMax;
+        this.jvmArgs = new ArrayList<>();
+        if(!config.testJvmArgs.isBlank())
+            jvmArgs.addAll(List.of(config.testJvmArgs.trim().split("\\s+")));
+        this.outputLimit = config.testOutputLimit;
+        this.outputSpillPath = config.testOutputSpillPath;
+        this.timeout = config.testTimeout;
+        if(config.adaptiveTimeout) {
+            long perTest = config.testTimeoutPerTest;
+            JSONObject previous = JSONUtils.loadExecutionTime(timerName, execTimePath);
+            if(previous != null && previous.has("per_test_millis"))
+                perTest = Math.max(perTest, previous.getLong("per_test_millis"));
+            timeout = Math.max(timeout, ADAPTIVE_FACTOR * perTest * selectedTests);
+        }
+    }
+
+    /**
+     * Creates a policy for tests selected from a tests information file.
+     * All test methods of failed tests are counted for failed tests only, otherwise test classes are counted.
+     */
+    public static TestExecPolicy create(Configuration config, String testsInfoPath, boolean failedOnly) {
+        return create(config, testsInfoPath, failedOnly, -1);
+    }
+
+    /**
+     * Creates a policy for a shard of tests, which is recorded separately from other shards.
+     * The shard index is ignored if it is negative.
+     */
+    public static TestExecPolicy create(Configuration config, String testsInfoPath, boolean failedOnly, int shard) {
+        int selectedTests = 1;
+        try {
+            TestInfo testsInfo = JSONUtils.loadTestsInfo(Paths.get(testsInfoPath));
+            if(failedOnly)
+                selectedTests = testsInfo.failedTests.values().stream().mapToInt(List::size).sum();
+            else
+                selectedTests = testsInfo.passedClasses.size() + testsInfo.failedClasses.size();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return new TestExecPolicy(config, getTimerName(failedOnly, shard), Math.max(selectedTests, 1));
+    }
+
+    /**
+     * Returns the name of the timer recorded to {@code exec.time.json}.
+     */
+    public static String getTimerName(boolean failedOnly, int shard) {
+        String timerName = failedOnly ? FAILED_TESTS_TIMER : ALL_TESTS_TIMER;
+        return shard < 0 ? timerName : timerName + "_shard_" + shard;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns the maximum number of characters of the test runner output forwarded to stdout,
+     * where the output is not limited if it is not positive.
+     */
+    public long getOutputLimit() {
+        return outputLimit;
+    }
+
+    /**
+     * Returns a file where the test runner output is written after the limit is reached.
+     */
+    public Path getOutputSpillPath() {
+        return outputSpillPath;
+    }
+
+    public void setOutputSpillPath(Path outputSpillPath) {
+        this.outputSpillPath = outputSpillPath;
+    }
+
+    /**
+     * Returns true if classes on the class path are instrumented offline, then the agent is not attached.
+     */
+    public boolean isOfflineInstrumented() {
+        return offlineInstrumented;
+    }
+
+    public void setOfflineInstrumented(boolean offlineInstrumented) {
+        this.offlineInstrumented = offlineInstrumented;
+    }
+
+    /**
+     * Returns JVM options for heap sizes and the additional arguments.
+     */
+    public List<String> getJvmOptions() {
+        List<String> options = new ArrayList<>();
+        if(!minHeap.isBlank())
+            options.add("-Xms" + minHeap);
+        if(!maxHeap.isBlank())
+            options.add("-Xmx" + maxHeap);
+        options.addAll(jvmArgs);
+        return options;
+    }
+
+    /**
+     * Prints statistics of a test runner, which are parsed by {@link #parseStats(String)},
+     * and stops sampling the heap usage.
+     */
+    public static synchronized void printStats(long executedTests) {
+        sampleHeap();
+        if(heapSampler != null) {
+            heapSampler.shutdownNow();
+            heapSampler = null;
+        }
+        System.out.println(STATS + " tests=" + executedTests + " peak_heap=" + sampledPeakHeap.get());
+    }
+
+    /**
+     * Resets the peak heap usage, and starts sampling the heap usage until the statistics are printed.
+     * Peak usages of memory pools are not summed, since pools do not reach their peaks at the same time.
+     */
+    public static synchronized void resetStats() {
+        if(heapSampler != null)
+            heapSampler.shutdownNow();
+        sampledPeakHeap.set(0);
+        heapSampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "heap_sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heapSampler.scheduleAtFixedRate(TestExecPolicy::sampleHeap, 0, HEAP_SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private static void sampleHeap() {
+        long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        sampledPeakHeap.accumulateAndGet(used, Math::max);
+    }
+
+    /**
+     * Parses lines of the test runner output, and keeps the statistics if the line has them.
+     */
+    public void parseStats(String output) {
+        for(String line : output.split("\\R")) {
+            if(!line.startsWith(STATS))
+                continue;
+            for(String field : line.substring(STATS.length()).trim().split("\\s+")) {
+                String[] keyValue = field.split("=", 2);
+                try {
+                    if(keyValue[0].equals("tests"))
+                        executedTests = Integer.parseInt(keyValue[1]);
+                    else if(keyValue[0].equals("peak_heap"))
+                        peakHeap = Long.parseLong(keyValue[1]);
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    System.err.println("Invalid test runner statistics - " + line);
+                }
+            }
+        }
+    }
+
+    public void start() {
+        timer = new Timer(timerName);
+        timer.setStart();
+    }
+
+    /**
+     * Records the execution time and the chosen options to {@code exec.time.json}.
+     */
+    public void record() {
+        if(timer == null)
+            return;
+        timer.setEnd();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("selected_tests", selectedTests);
+        info.put("per_test_millis", timer.getExecutionTime().toMillis() / selectedTests);
+        info.put("timeout_millis", timeout);
+        info.put("jvm_options", String.join(" ", getJvmOptions()));
+        if(executedTests >= 0)
+            info.put("executed_tests", executedTests);
+        if(peakHeap >= 0)
+            info.put("peak_heap_bytes", peakHeap);
+        JSONUtils.exportExecutionTime(timer, info, execTimePath);
+    }
+}
@@ -0,0 +1,113 @@
+package logicfl.coverage;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.exec.LogOutputStream;
+
+/**
+ * Forwards output lines of a test runner to stdout as they arrive.
+ *
+ * Progress events and statistics printed by the test runner are parsed instead of being forwarded.
+ * Once the forwarded output reaches the limit, the remaining lines are written to a spill file.
+ */
+public class TestOutputHandler extends LogOutputStream {
+
+    private TestExecPolicy policy;
+    private long limit;
+    private Path spillPath;
+    private PrintWriter spill;
+    private long forwarded = 0;
+    private int started = 0;
+    private int passed = 0;
+    private int failed = 0;
+
+    public TestOutputHandler(TestExecPolicy policy) {
+        this.policy = policy;
+        this.limit = policy.getOutputLimit();
+        this.spillPath = policy.getOutputSpillPath();
+    }
+
+    @Override
+    protected void processLine(String line, int logLevel) {
+        handleLine(line);
+    }
+
+    public synchronized void handleLine(String line) {
+        if(line.startsWith(TestRunner.PROGRESS)) {
+            handleProgress(line.substring(TestRunner.PROGRESS.length()).trim());
+            return;
+        }
+        if(line.startsWith(TestExecPolicy.STATS)) {
+            policy.parseStats(line);
+            return;
+        }
+        if(spill == null && (limit <= 0 || forwarded + line.length() <= limit)) {
+            forwarded += line.length() + 1;
+            System.out.println(line);
+        } else {
+            spill(line);
+        }
+    }
+
+    private void handleProgress(String event) {
+        String[] fields = event.split("\\s+", 2);
+        switch(fields[0]) {
+            case TestRunner.STARTED:
+                started++;
+                break;
+            case TestRunner.PASSED:
+                passed++;
+                break;
+            case TestRunner.FAILED:
+                failed++;
+                System.out.println("Test failed - " + (fields.length > 1 ? fields[1] : ""));
+                break;
+            default:
+                System.err.println("Unknown progress event - " + event);
+        }
+    }
+
+    private void spill(String line) {
+        if(spill == null) {
+            try {
+                spill = new PrintWriter(Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8));
+                System.out.println("Test runner output exceeds " + limit + " characters. Remaining output is written to " + spillPath);
+            } catch (IOException e) {
+                e.printStackTrace();
+                limit = Long.MAX_VALUE;
+                System.out.println(line);
+                return;
+            }
+        }
+        spill.println(line);
+    }
+
+    public int getStartedCount() {
+        return started;
+    }
+
+    public int getPassedCount() {
+        return passed;
+    }
+
+    public int getFailedCount() {
+        return failed;
+    }
+
+    public void printProgress() {
+        System.out.println("Test progress - started: " + started + ", passed: " + passed + ", failed: " + failed);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        super.close();
+        if(spill != null) {
+            spill.close();
+            spill = null;
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package logicfl.coverage;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
@@ -24,6 +23,11 @@ public class TestRunner {
     public static final long DEFAULT_TIMEOUT = 10000;
     public static final String JUNIT5_TEST_RUNNER = "logicfl.coverage.JUnit5TestRunner";
 	public static final String JUNIT4_TEST_RUNNER = "logicfl.coverage.JUnit4TestRunner";
+    public static final String TEST_EXEC_PROPERTY = "logicfl.test.exec";
+    public static final String PROGRESS = "@@logicfl.progress";
+    public static final String STARTED = "started";
+    public static final String PASSED = "passed";
+    public static final String FAILED = "failed";
 
     protected static Configuration config;
     protected static String npeInfoPath = null;
@@ -33,6 +37,11 @@ public class TestRunner {
     protected static boolean prepareTestInfo(String[] args) {
         String configFilePath = "config.properties";
         boolean failedOnly = true;
+        //Runners can be called repeatedly by a daemon.
+        npeInfoPath = null;
+        testsInfoPath = null;
+        outputPath = null;
+        TestExecPolicy.resetStats();
         switch(args.length) {
             case 5:
                 outputPath = args[4];
@@ -64,6 +73,45 @@ public class TestRunner {
         return failedOnly;
     }
 
+    /**
+     * Prints a progress event of a test, which is parsed by {@link TestOutputHandler}.
+     */
+    static void printProgress(String event, String testId) {
+        System.out.println(PROGRESS + " " + event + " " + testId);
+    }
+
+    /**
+     * Opens a writer of NPE traces if traces are streamed, otherwise returns {@code null}.
+     */
+    protected static NPETraceWriter openNPETraceWriter(String npeInfoPath) {
+        if(!config.npeTraceStreaming)
+            return null;
+        try {
+            System.out.println("Stream NPE traces to " + npeInfoPath);
+            return new NPETraceWriter(Paths.get(npeInfoPath));
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Failed to open " + npeInfoPath + ". NPE traces are stored after the execution.");
+            return null;
+        }
+    }
+
+    /**
+     * Stores collected NPE traces, or closes the writer if traces are already streamed.
+     */
+    protected static void storeNPEInfo(List<NPETrace> traces, NPETraceWriter writer, String npeInfoPath) {
+        if(writer == null) {
+            storeNPEInfo(traces, npeInfoPath);
+            return;
+        }
+        try {
+            writer.close();
+            System.out.println("NPE Stack Traces exported to " + npeInfoPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     protected static void storeNPEInfo(List<NPETrace> traces, String npeInfoPath) {
         System.out.println("Store NPE traces to " + npeInfoPath);
         try {
@@ -82,15 +130,56 @@ public class TestRunner {
         }
     }
 
-    private static void runTests(String configFilePath, String classPath, String jacocoPath,
-        String jacocoExecPath, String npeInfoPath, String testsInfoPath, String outputPath, String jvm, String junitVersion, boolean failedOnly, boolean withCoverage) {
+    private static void runTests(Configuration config, String configFilePath, String classPath, String npeInfoPath,
+        String testsInfoPath, String outputPath, boolean failedOnly, boolean withCoverage, String testExecPath) {
+        if(config.testInProcess && testExecPath == null) {
+            InProcessTestRunner.runTests(config, classPath, config.jacocoExecPath.toString(), npeInfoPath,
+                testsInfoPath, outputPath, failedOnly, withCoverage);
+        } else if(config.testDaemon && config.testShards <= 1) {
+            TestRunnerDaemonClient.runTests(configFilePath, classPath, config, config.jacocoExecPath.toString(),
+                npeInfoPath, testsInfoPath, outputPath, failedOnly, withCoverage, testExecPath);
+        } else {
+            boolean offline = false;
+            if(withCoverage && testExecPath == null && config.offlineInstrumentation) {
+                try {
+                    Path instrumented = new OfflineInstrumenter(config).instrument(classPath);
+                    classPath = String.join(File.pathSeparator, instrumented.toString(), classPath, config.jacocoPath);
+                    offline = true;
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    System.err.println("Offline instrumentation failed. The JaCoCo agent is used instead.");
+                }
+            }
+            if(config.testShards > 1) {
+                TestShardRunner.runTests(config, configFilePath, classPath, npeInfoPath, testsInfoPath, outputPath,
+                    failedOnly, withCoverage, testExecPath, offline);
+            } else {
+                TestExecPolicy policy = TestExecPolicy.create(config, testsInfoPath, failedOnly);
+                policy.setOfflineInstrumented(offline);
+                runTests(configFilePath, classPath, config.jacocoPath, config.jacocoExecPath.toString(), npeInfoPath,
+                    testsInfoPath, outputPath, config.jvm, config.junitVersion, failedOnly, withCoverage, testExecPath,
+                    policy);
+            }
+        }
+    }
+
+    static void runTests(String configFilePath, String classPath, String jacocoPath,
+        String jacocoExecPath, String npeInfoPath, String testsInfoPath, String outputPath, String jvm, String junitVersion,
+        boolean failedOnly, boolean withCoverage, String testExecPath, TestExecPolicy policy) {
         CommandLine command = CommandLine.parse(jvm);
-        command.addArgument("-Xms256m");
-        command.addArgument("-Xmx1024m");
+        for(String option : policy.getJvmOptions())
+            command.addArgument(option);
         command.addArgument("-classpath");
         command.addArgument(classPath);
-        if(withCoverage)
+        if(withCoverage && policy.isOfflineInstrumented()) {
+            //The agent jar on the class path is the runtime of instrumented classes.
+            command.addArgument("-Djacoco-agent.append=false");
+            command.addArgument("-Djacoco-agent.destfile="+jacocoExecPath);
+        } else if(withCoverage) {
             command.addArgument("-javaagent:"+jacocoPath+"=excludes=org.junit.*,append=false,destfile="+jacocoExecPath);
+        }
+        if(withCoverage && testExecPath != null)
+            command.addArgument("-D" + TEST_EXEC_PROPERTY + "=" + testExecPath);
         if(junitVersion.equals(Configuration.JUNIT4))
             command.addArgument(JUNIT4_TEST_RUNNER);
         else
@@ -103,40 +192,57 @@ public class TestRunner {
             command.addArgument(outputPath);
         System.out.println("Executing command - "+String.join(" ", command.toStrings()));
 
-        ExecuteWatchdog watchdog = new ExecuteWatchdog(TestRunner.DEFAULT_TIMEOUT);
+        ExecuteWatchdog watchdog = new ExecuteWatchdog(policy.getTimeout());
         DefaultExecutor executor = new DefaultExecutor();
         executor.setWatchdog(watchdog);
 
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TestOutputHandler out = new TestOutputHandler(policy);
 
         executor.setExitValue(0);
         executor.setStreamHandler(new PumpStreamHandler(out));
 
+        policy.start();
         try {
             executor.execute(command);
-            System.out.println(out.toString(StandardCharsets.UTF_8));
         } catch (ExecuteException e) {
             System.err.println("Exit Value:"+e.getExitValue());
+            if(watchdog.killedProcess())
+                System.err.println("Test runner is killed after the timeout - " + policy.getTimeout() + "ms");
             e.printStackTrace();
-            System.out.println(out.toString(StandardCharsets.UTF_8));
         } catch (IOException e) {
             e.printStackTrace();
+        } finally {
+            try {
+                out.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
         }
+        out.printProgress();
+        policy.record();
     }
 
     public static void runTests(String configFilePath, String classPath, Configuration config, boolean failedOnly) {
-        runTests(configFilePath, classPath, config.jacocoPath, config.jacocoExecPath.toString(),
-            config.npeInfoPath.toString(), config.testsInfoPath.toString(), null, config.jvm, config.junitVersion, failedOnly, false);
+        runTests(config, configFilePath, classPath, config.npeInfoPath.toString(), config.testsInfoPath.toString(),
+            null, failedOnly, false, null);
     }
 
     public static void runTestsWithCoverage(String configFilePath, String classPath, Configuration config, boolean failedOnly) {
-        runTests(configFilePath, classPath, config.jacocoPath, config.jacocoExecPath.toString(),
-            config.npeInfoPath.toString(), config.testsInfoPath.toString(), null, config.jvm, config.junitVersion, failedOnly, true);
+        runTests(config, configFilePath, classPath, config.npeInfoPath.toString(), config.testsInfoPath.toString(),
+            null, failedOnly, true, null);
     }
 
     public static void runTestsWithCoverage(String configFilePath, String classPath, String npeInfoPath, String testsInfoPath, String outputPath, Configuration config, boolean failedOnly) {
-        runTests(configFilePath, classPath, config.jacocoPath, config.jacocoExecPath.toString(),
-            npeInfoPath, testsInfoPath, outputPath, config.jvm, config.junitVersion, failedOnly, true);
+        runTests(config, configFilePath, classPath, npeInfoPath, testsInfoPath, outputPath, failedOnly, true, null);
+    }
+
+    /**
+     * Runs tests with coverage, where execution data of each test is appended to {@code testExecPath}.
+     */
+    public static void runTestsWithTestCoverage(String configFilePath, String npeInfoPath, Path testExecPath,
+        Configuration config, boolean failedOnly) {
+        runTests(config, configFilePath, config.classPathStr, npeInfoPath, config.testsInfoPath.toString(),
+            null, failedOnly, true, testExecPath.toString());
     }
 
     public static void runTestsWithCoverage(String configFilePath, Configuration config, boolean failedOnly) {
@@ -0,0 +1,124 @@
+package logicfl.coverage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A long-lived test runner, which receives requests from stdin and runs tests with
+ * {@link JUnit5TestRunner} or {@link JUnit4TestRunner} in the same JVM.
+ *
+ * A request is a tab separated line,
+ * {@code RUN {with_coverage} {jacoco_exec_file} {test_exec_file} {runner_class} {runner_args...}},
+ * where an empty test exec file means no per-test coverage. {@code EXIT} stops the daemon.
+ * After each request, {@link #DONE} is printed to stdout with the result, {@code ok} or {@code error}.
+ *
+ * The JaCoCo agent is attached with {@code output=none}, and its execution data is reset before
+ * each request and written to the JaCoCo exec file after the request when coverage is requested.
+ * Classes of a subject are loaded by a new {@link ChildFirstClassLoader} for each request,
+ * so that static states are not kept across requests and class initializers are executed again.
+ */
+public class TestRunnerDaemon {
+
+    public static final String RUN = "RUN";
+    public static final String EXIT = "EXIT";
+    public static final String DONE = "@@logicfl.daemon.done";
+    public static final String FIELD_DELIM = "\t";
+
+    private Object agent;
+    private Method reset;
+    private Method getExecutionData;
+    private URL[] classPath;
+
+    public TestRunnerDaemon() {
+        try {
+            Class<?> rtClass = Class.forName("org.jacoco.agent.rt.RT");
+            Class<?> agentClass = Class.forName("org.jacoco.agent.rt.IAgent");
+            agent = rtClass.getMethod("getAgent").invoke(null);
+            reset = agentClass.getMethod("reset");
+            getExecutionData = agentClass.getMethod("getExecutionData", boolean.class);
+        } catch (ReflectiveOperationException | IllegalStateException e) {
+            System.err.println("JaCoCo agent is not attached. Coverage is not collected by the daemon.");
+            agent = null;
+        }
+        List<URL> urls = new ArrayList<>();
+        for(String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            try {
+                urls.add(new File(entry).toURI().toURL());
+            } catch (MalformedURLException e) {
+                System.err.println("Invalid class path entry - " + entry);
+            }
+        }
+        classPath = urls.toArray(new URL[0]);
+    }
+
+    public static void main(String[] args) {
+        TestRunnerDaemon daemon = new TestRunnerDaemon();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            String line;
+            while((line = in.readLine()) != null) {
+                if(line.equals(EXIT))
+                    break;
+                boolean result = daemon.run(line.split(FIELD_DELIM, -1));
+                System.out.flush();
+                System.err.flush();
+                System.out.println(DONE + " " + (result ? "ok" : "error"));
+                System.out.flush();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private boolean run(String[] request) {
+        if(request.length < 5 || !request[0].equals(RUN)) {
+            System.err.println("Invalid request - " + String.join(" ", request));
+            return false;
+        }
+        boolean withCoverage = Boolean.parseBoolean(request[1]);
+        String jacocoExecPath = request[2];
+        String testExecPath = request[3];
+        String runnerClass = request[4];
+        String[] runnerArgs = Arrays.copyOfRange(request, 5, request.length);
+        try {
+            if(withCoverage && !testExecPath.isEmpty())
+                System.setProperty(TestRunner.TEST_EXEC_PROPERTY, testExecPath);
+            else
+                System.clearProperty(TestRunner.TEST_EXEC_PROPERTY);
+            if(agent != null)
+                reset.invoke(agent);
+
+            Thread thread = Thread.currentThread();
+            ClassLoader contextLoader = thread.getContextClassLoader();
+            try (ChildFirstClassLoader loader = new ChildFirstClassLoader(classPath,
+                    TestRunnerDaemon.class.getClassLoader(), null)) {
+                thread.setContextClassLoader(loader);
+                Class.forName(runnerClass).getMethod("main", String[].class).invoke(null, (Object) runnerArgs);
+            } finally {
+                thread.setContextClassLoader(contextLoader);
+            }
+
+            if(withCoverage && agent != null) {
+                byte[] data = (byte[]) getExecutionData.invoke(agent, false);
+                Files.write(Paths.get(jacocoExecPath), data);
+            }
+            return true;
+        } catch (InvocationTargetException e) {
+            e.getCause().printStackTrace();
+        } catch (ReflectiveOperationException | IOException e) {
+            e.printStackTrace();
+        }
+        return false;
+    }
+}
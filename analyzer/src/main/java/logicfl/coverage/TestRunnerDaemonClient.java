@@ -0,0 +1,184 @@
+package logicfl.coverage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import logicfl.utils.CodeUtils;
+import logicfl.utils.Configuration;
+
+/**
+ * Starts a {@link TestRunnerDaemon} on demand and sends requests to it.
+ *
+ * Daemons are kept for each JVM, class path and JUnit version, and reused by later requests.
+ * Since loaded classes cannot be reloaded, a daemon is restarted when jar files or class files
+ * on its class path are modified. All daemons are stopped on the shutdown of this JVM.
+ */
+public class TestRunnerDaemonClient {
+
+    private static final Map<String, TestRunnerDaemonClient> daemons = new ConcurrentHashMap<>();
+    private static final Timer watchdog = new Timer("test_runner_daemon", true);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> daemons.values().forEach(TestRunnerDaemonClient::stop)));
+    }
+
+    private String[] classPath;
+    private String fingerprint;
+    private Process process;
+    private BufferedReader in;
+    private BufferedWriter out;
+
+    private TestRunnerDaemonClient(String jvm, String classPath, String jacocoPath, List<String> jvmOptions) throws IOException {
+        this.classPath = classPath.split(File.pathSeparator);
+        this.fingerprint = CodeUtils.getClassPathFingerprint(this.classPath);
+        List<String> command = new ArrayList<>(List.of(jvm.split("\\s+")));
+        command.addAll(jvmOptions);
+        command.add("-classpath");
+        command.add(classPath);
+        command.add("-javaagent:" + jacocoPath + "=excludes=org.junit.*,output=none");
+        command.add(TestRunnerDaemon.class.getName());
+        System.out.println("Starting test runner daemon - " + String.join(" ", command));
+        process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        out = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs tests on a daemon, where a new daemon is started if there is no reusable one.
+     */
+    public static void runTests(String configFilePath, String classPath, Configuration config, String jacocoExecPath,
+        String npeInfoPath, String testsInfoPath, String outputPath, boolean failedOnly, boolean withCoverage,
+        String testExecPath) {
+        String key = String.join(File.pathSeparator, config.jvm, config.junitVersion, classPath);
+        TestExecPolicy policy = TestExecPolicy.create(config, testsInfoPath, failedOnly);
+        TestRunnerDaemonClient daemon = null;
+        synchronized(daemons) {
+            daemon = daemons.get(key);
+            if(daemon != null && !daemon.isReusable()) {
+                System.out.println("Class path is modified, restarting the test runner daemon.");
+                daemon.stop();
+                daemon = null;
+            }
+            if(daemon == null) {
+                try {
+                    daemon = new TestRunnerDaemonClient(config.jvm, classPath, config.jacocoPath, policy.getJvmOptions());
+                    daemons.put(key, daemon);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    System.err.println("Failed to start a test runner daemon. Tests are executed on a new JVM.");
+                }
+            }
+        }
+        if(daemon == null || !daemon.run(config.junitVersion, configFilePath, jacocoExecPath, npeInfoPath,
+                testsInfoPath, outputPath, failedOnly, withCoverage, testExecPath, policy)) {
+            daemons.remove(key, daemon);
+            if(daemon != null)
+                daemon.stop();
+            TestRunner.runTests(configFilePath, classPath, config.jacocoPath, jacocoExecPath, npeInfoPath,
+                testsInfoPath, outputPath, config.jvm, config.junitVersion, failedOnly, withCoverage, testExecPath,
+                policy);
+        }
+    }
+
+    /**
+     * Returns process IDs of running daemons.
+     */
+    public static Set<Long> getDaemonPids() {
+        return daemons.values().stream().filter(d -> d.process.isAlive()).map(d -> d.process.pid())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Sends a request and prints outputs of the daemon until the request is done.
+     *
+     * @return {@code false} if the daemon is stopped without timeout, then tests should be executed again.
+     */
+    private synchronized boolean run(String junitVersion, String configFilePath, String jacocoExecPath,
+        String npeInfoPath, String testsInfoPath, String outputPath, boolean failedOnly, boolean withCoverage,
+        String testExecPath, TestExecPolicy policy) {
+        List<String> request = new ArrayList<>();
+        request.add(TestRunnerDaemon.RUN);
+        request.add(String.valueOf(withCoverage));
+        request.add(jacocoExecPath);
+        request.add(testExecPath == null ? "" : testExecPath);
+        request.add(junitVersion.equals(Configuration.JUNIT4) ? TestRunner.JUNIT4_TEST_RUNNER : TestRunner.JUNIT5_TEST_RUNNER);
+        request.add(configFilePath);
+        request.add(String.valueOf(failedOnly));
+        request.add(npeInfoPath);
+        request.add(testsInfoPath);
+        if(outputPath != null)
+            request.add(outputPath);
+        System.out.println("Sending request to test runner daemon - " + String.join(" ", request));
+
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        TimerTask kill = new TimerTask() {
+            @Override
+            public void run() {
+                System.err.println("Test runner daemon timed out.");
+                timedOut.set(true);
+                process.destroyForcibly();
+            }
+        };
+        watchdog.schedule(kill, policy.getTimeout());
+        TestOutputHandler handler = new TestOutputHandler(policy);
+        policy.start();
+        try {
+            out.write(String.join(TestRunnerDaemon.FIELD_DELIM, request));
+            out.newLine();
+            out.flush();
+            String line;
+            while((line = in.readLine()) != null) {
+                if(line.startsWith(TestRunnerDaemon.DONE)) {
+                    handler.printProgress();
+                    policy.record();
+                    return true;
+                }
+                handler.handleLine(line);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            kill.cancel();
+            try {
+                handler.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if(timedOut.get())
+            policy.record();
+        return timedOut.get();
+    }
+
+    private boolean isReusable() {
+        return process.isAlive() && fingerprint.equals(CodeUtils.getClassPathFingerprint(classPath));
+    }
+
+    private synchronized void stop() {
+        try {
+            if(process.isAlive()) {
+                out.write(TestRunnerDaemon.EXIT);
+                out.newLine();
+                out.flush();
+            }
+        } catch (IOException e) {
+            //The daemon is already closed.
+        } finally {
+            process.destroy();
+        }
+    }
+}
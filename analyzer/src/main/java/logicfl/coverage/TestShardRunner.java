@@ -0,0 +1,212 @@
+package logicfl.coverage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jacoco.core.data.ExecutionDataReader;
+import org.jacoco.core.data.ExecutionDataStore;
+import org.jacoco.core.data.ExecutionDataWriter;
+import org.jacoco.core.data.SessionInfoStore;
+
+import logicfl.utils.Configuration;
+import logicfl.utils.JSONUtils;
+
+/**
+ * Runs tests on multiple forked JVMs.
+ *
+ * Test classes are split across shards in the sorted order, and each shard has its own
+ * tests information, JaCoCo execution data, NPE traces and output file in a temporary directory.
+ * After all shards are finished, their outputs are merged into the original paths.
+ * Execution times of shards are recorded under the timer names with their shard index.
+ */
+public class TestShardRunner {
+
+    private static class Shard {
+        public Path testsInfoPath;
+        public Path jacocoExecPath;
+        public Path npeInfoPath;
+        public Path testExecPath;
+        public Path outputPath;
+
+        public Shard(Path shardDir, int index) {
+            testsInfoPath = shardDir.resolve("tests." + index + ".json");
+            jacocoExecPath = shardDir.resolve("jacoco." + index + ".exec");
+            npeInfoPath = shardDir.resolve("npe.traces." + index + ".json");
+            testExecPath = shardDir.resolve("jacoco.tests." + index + ".exec");
+            outputPath = shardDir.resolve("output." + index + ".txt");
+        }
+    }
+
+    public static void runTests(Configuration config, String configFilePath, String classPath, String npeInfoPath,
+        String testsInfoPath, String outputPath, boolean failedOnly, boolean withCoverage, String testExecPath,
+        boolean offlineInstrumented) {
+        List<TestInfo> testInfos = null;
+        try {
+            testInfos = split(JSONUtils.loadTestsInfo(Paths.get(testsInfoPath)), config.testShards, failedOnly);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if(testInfos == null || testInfos.size() <= 1) {
+            TestExecPolicy policy = TestExecPolicy.create(config, testsInfoPath, failedOnly);
+            policy.setOfflineInstrumented(offlineInstrumented);
+            TestRunner.runTests(configFilePath, classPath, config.jacocoPath, config.jacocoExecPath.toString(), npeInfoPath,
+                testsInfoPath, outputPath, config.jvm, config.junitVersion, failedOnly, withCoverage, testExecPath, policy);
+            return;
+        }
+
+        Path shardDir = null;
+        ExecutorService executor = Executors.newFixedThreadPool(testInfos.size());
+        try {
+            shardDir = Files.createTempDirectory(config.jacocoExecPath.toAbsolutePath().getParent(), "shards");
+            System.out.println("Running tests on " + testInfos.size() + " shards in " + shardDir);
+            List<Shard> shards = new ArrayList<>();
+            List<Future<?>> futures = new ArrayList<>();
+            for(int i=0; i<testInfos.size(); i++) {
+                Shard shard = new Shard(shardDir, i);
+                JSONUtils.exportTestInfo(testInfos.get(i), shard.testsInfoPath);
+                shards.add(shard);
+                TestExecPolicy policy = TestExecPolicy.create(config, shard.testsInfoPath.toString(), failedOnly, i);
+                policy.setOutputSpillPath(Paths.get(config.testOutputSpillPath + "." + i));
+                policy.setOfflineInstrumented(offlineInstrumented);
+                futures.add(executor.submit(() -> TestRunner.runTests(configFilePath, classPath, config.jacocoPath,
+                    shard.jacocoExecPath.toString(), shard.npeInfoPath.toString(), shard.testsInfoPath.toString(),
+                    shard.outputPath.toString(), config.jvm, config.junitVersion, failedOnly, withCoverage,
+                    testExecPath == null ? null : shard.testExecPath.toString(), policy)));
+            }
+            for(Future<?> f : futures)
+                f.get();
+
+            if(withCoverage)
+                mergeExecutionData(shards, config.jacocoExecPath);
+            if(testExecPath != null)
+                appendFiles(shards.stream().map(s -> s.testExecPath).toList(), Paths.get(testExecPath));
+            if(outputPath != null) {
+                Files.deleteIfExists(Paths.get(outputPath));
+                appendFiles(shards.stream().map(s -> s.outputPath).toList(), Paths.get(outputPath));
+            }
+            mergeNPETraces(shards, Paths.get(npeInfoPath), config.npeTraceStreaming);
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            e.printStackTrace();
+        } catch (ExecutionException e) {
+            e.getCause().printStackTrace();
+        } finally {
+            executor.shutdownNow();
+            deleteDirectory(shardDir);
+        }
+    }
+
+    /**
+     * Splits test classes across shards.
+     * For failed tests only, failed classes are split with their failed tests.
+     * Otherwise passed and failed classes are split, where failed tests of each class are kept to exclude them.
+     */
+    static List<TestInfo> split(TestInfo testsInfo, int shardCount, boolean failedOnly) {
+        TreeSet<String> classes = new TreeSet<>(testsInfo.failedTests.keySet());
+        if(!failedOnly) {
+            classes.addAll(testsInfo.passedClasses);
+            classes.addAll(testsInfo.failedClasses);
+        }
+        int count = Math.min(shardCount, classes.size());
+        List<TestInfo> shards = new ArrayList<>();
+        for(int i=0; i<count; i++) {
+            TestInfo shard = new TestInfo();
+            shard.filteredClasses.addAll(testsInfo.filteredClasses);
+            shards.add(shard);
+        }
+        int index = 0;
+        for(String className : classes) {
+            TestInfo shard = shards.get(index++ % count);
+            if(testsInfo.passedClasses.contains(className))
+                shard.passedClasses.add(className);
+            if(testsInfo.failedClasses.contains(className))
+                shard.failedClasses.add(className);
+            if(testsInfo.failedTests.containsKey(className))
+                shard.failedTests.put(className, new ArrayList<>(testsInfo.failedTests.get(className)));
+        }
+        return shards;
+    }
+
+    private static void mergeExecutionData(List<Shard> shards, Path jacocoExecPath) throws IOException {
+        ExecutionDataStore dataStore = new ExecutionDataStore();
+        SessionInfoStore sessionInfoStore = new SessionInfoStore();
+        for(Shard shard : shards) {
+            if(!shard.jacocoExecPath.toFile().exists())
+                continue;
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(shard.jacocoExecPath))) {
+                ExecutionDataReader reader = new ExecutionDataReader(in);
+                reader.setSessionInfoVisitor(sessionInfoStore);
+                reader.setExecutionDataVisitor(dataStore);
+                while(reader.read()){ }
+            }
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(jacocoExecPath))) {
+            ExecutionDataWriter writer = new ExecutionDataWriter(out);
+            sessionInfoStore.accept(writer);
+            dataStore.accept(writer);
+        }
+        System.out.println("Execution data of shards merged to " + jacocoExecPath);
+    }
+
+    private static void mergeNPETraces(List<Shard> shards, Path npeInfoPath, boolean streaming) throws IOException {
+        List<NPETrace> traces = new ArrayList<>();
+        NPETraceWriter writer = streaming ? new NPETraceWriter(npeInfoPath) : null;
+        try {
+            for(Shard shard : shards) {
+                if(!shard.npeInfoPath.toFile().exists())
+                    continue;
+                try (NPETraceReader reader = new NPETraceReader(shard.npeInfoPath)) {
+                    while(reader.hasNext()) {
+                        NPETrace trace = reader.next();
+                        if(writer != null)
+                            writer.write(trace);
+                        else
+                            traces.add(trace);
+                    }
+                }
+            }
+        } finally {
+            if(writer != null)
+                writer.close();
+        }
+        if(writer == null)
+            TestRunner.storeNPEInfo(traces, npeInfoPath.toString());
+    }
+
+    private static void appendFiles(List<Path> files, Path target) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for(Path file : files) {
+                if(file.toFile().exists())
+                    Files.copy(file, out);
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        if(directory == null || !directory.toFile().exists())
+            return;
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
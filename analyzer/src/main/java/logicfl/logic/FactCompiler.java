@@ -0,0 +1,54 @@
+package logicfl.logic;
+
+import java.nio.file.Path;
+
+import org.jpl7.Atom;
+import org.jpl7.Compound;
+import org.jpl7.Query;
+import org.jpl7.Term;
+
+/**
+ * Compiles fact files to SWI-Prolog quick load files ({@code .qlf}), which are loaded much faster than text facts.
+ *
+ * A quick load file is written next to its fact file, and it is used instead of the fact file only if it is up to date.
+ */
+public class FactCompiler {
+
+    public static final String QLF_EXT = ".qlf";
+    private static final String COMPILE_MODULE = "logicfl_qcompile";
+
+    private FactCompiler() {
+    }
+
+    public static Path getQlfPath(Path factsPath) {
+        String fileName = factsPath.getFileName().toString();
+        int index = fileName.lastIndexOf('.');
+        String baseName = index < 0 ? fileName : fileName.substring(0, index);
+        return factsPath.resolveSibling(baseName + QLF_EXT);
+    }
+
+    /**
+     * Compiles fact files, which are loaded into a temporary module while they are compiled.
+     */
+    public static synchronized void compile(Path... factsPaths) {
+        for(Path factsPath : factsPaths) {
+            Atom file = new Atom(factsPath.toAbsolutePath().toString());
+            boolean compiled = new Query("qcompile", new Term[] {
+                new Compound(":", new Term[] { new Atom(COMPILE_MODULE), file })
+            }).hasSolution();
+            new Query("unload_file", new Term[] { file }).hasSolution();
+            System.out.println("Compiling " + factsPath + " to " + getQlfPath(factsPath) + " "
+                + (compiled ? "Succeeded" : "Failed"));
+        }
+    }
+
+    /**
+     * Returns the quick load file of a fact file if it is newer than the fact file, otherwise the fact file.
+     */
+    public static Path getLoadPath(Path factsPath) {
+        Path qlfPath = getQlfPath(factsPath);
+        if(qlfPath.toFile().exists() && qlfPath.toFile().lastModified() >= factsPath.toFile().lastModified())
+            return qlfPath;
+        return factsPath;
+    }
+}
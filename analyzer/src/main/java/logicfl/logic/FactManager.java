@@ -13,10 +13,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 
 import logicfl.coverage.NPETrace;
+import logicfl.coverage.NPETraceReader;
 import logicfl.coverage.StackTrace;
 import logicfl.logic.codefacts.CodeEntity;
 import logicfl.logic.codefacts.Line;
@@ -42,6 +44,15 @@ public class FactManager {
     public static final String MARKER_NAME_REFS = "%%% Name References";
     public static final String MARKER_DYNAMIC_START = "%%% Values\n";
     public static final String MARKER_DYNAMIC_END = "%%% End of Facts";
+    public static final String[] CODE_SECTIONS = {
+        MARKER_METHODS,
+        MARKER_BLOCKS,
+        MARKER_STATEMENTS,
+        MARKER_EXPRESSIONS,
+        MARKER_NAMES,
+        MARKER_LITERALS,
+        MARKER_CODE_ENTITIES
+    };
     public static Pattern pClassPredicate = Pattern.compile("class\\(([_a-z0-9]+), "+getQuotedString("(.*)")+"\\).*");
 
     public static String getFactStrings(List<? extends Predicate> predicates) {
@@ -136,31 +147,39 @@ public class FactManager {
             sb.append(" - ");
             sb.append(facts.getClassName(classId));
             sb.append("\n");
-            sb.append(getFactStrings(facts.getPredicates(classId)));
+            sb.append(getPredicateFactStrings(facts, classId));
         });
         sb.append("\n\n");
 
         sb.append("% Stack Trace Info.");
         int fIndex = 1;
         int tIndex = 1;
-        for(NPETrace trace : facts.getTraces()) {
-            String failureId = TestFailure.PREFIX+fIndex++;
-            TestFailure failure = new TestFailure(failureId, trace.testClass, trace.testMethod);
-            if(trace.traces.size() > 0) {
-                //Set the first trace's parent ID as failureId.
-                StackTrace st = trace.traces.get(0);
-                String traceId = Trace.PREFIX + tIndex++;
-                failure.addTrace(getTrace(facts, traceId, failureId, failureId, st));
-                String parentId = traceId;
-
-                for(int i=1; i<trace.traces.size(); i++) {
-                    st = trace.traces.get(i);
-                    traceId = Trace.PREFIX + tIndex++;
-                    failure.addTrace(getTrace(facts, traceId, parentId, failureId, st));
-                    parentId = traceId;
+        Path npeInfoPath = facts.getNPEInfoPath();
+        if(npeInfoPath != null && npeInfoPath.toFile().exists()) {
+            try (NPETraceReader reader = new NPETraceReader(npeInfoPath)) {
+                while(reader.hasNext()) {
+                    NPETrace trace = reader.next();
+                    String failureId = TestFailure.PREFIX+fIndex++;
+                    TestFailure failure = new TestFailure(failureId, trace.testClass, trace.testMethod);
+                    if(trace.traces.size() > 0) {
+                        //Set the first trace's parent ID as failureId.
+                        StackTrace st = trace.traces.get(0);
+                        String traceId = Trace.PREFIX + tIndex++;
+                        failure.addTrace(getTrace(facts, traceId, failureId, failureId, st));
+                        String parentId = traceId;
+
+                        for(int i=1; i<trace.traces.size(); i++) {
+                            st = trace.traces.get(i);
+                            traceId = Trace.PREFIX + tIndex++;
+                            failure.addTrace(getTrace(facts, traceId, parentId, failureId, st));
+                            parentId = traceId;
+                        }
+                    }
+                    exportNPETrace(failure, sb);
                 }
+            } catch (IOException e) {
+                e.printStackTrace();
             }
-            exportNPETrace(failure, sb);
         }
         sb.append("\n\n");
 
@@ -207,117 +226,18 @@ public class FactManager {
             sb.append(getClassFactString(classId, className));
         });
 
-        sb.append("\n\n");
-        sb.append(MARKER_METHODS);
-        facts.getClassIds().forEach(classId -> {
-            sb.append("\n");
-            sb.append("%");
-            sb.append(classId);
-            sb.append(" - ");
-            sb.append(facts.getClassName(classId));
-            facts.getMethods(classId).values().stream()
-                .sorted()
-                .forEach(m -> {
-                    sb.append("\n");
-                    sb.append(FactManager.getFactString(m));
-                });
-        });
-
-        sb.append("\n\n");
-        sb.append(MARKER_BLOCKS);
-        facts.getClassIds().forEach(classId -> {
-            sb.append("\n");
-            sb.append("%");
-            sb.append(classId);
-            sb.append(" - ");
-            sb.append(facts.getClassName(classId));
-            facts.getBlockMap(classId).values().stream()
-                .sorted()
-                .forEach(block -> {
-                    sb.append("\n");
-                    sb.append(FactManager.getFactString(block));
-                });
-        });
-
-        sb.append("\n\n");
-        sb.append(MARKER_STATEMENTS);
-        facts.getClassIds().forEach(classId -> {
-            sb.append("\n");
-            sb.append("%");
-            sb.append(classId);
-            sb.append(" - ");
-            sb.append(facts.getClassName(classId));
-            facts.getStmtMap(classId).values().stream()
-                .sorted()
-                .forEach(stmt -> {
-                    sb.append("\n");
-                    sb.append(FactManager.getFactString(stmt));
-                });
-        });
-
-        sb.append("\n\n");
-        sb.append(MARKER_EXPRESSIONS);
-        facts.getClassIds().forEach(classId -> {
-            sb.append("\n");
-            sb.append("%");
-            sb.append(classId);
-            sb.append(" - ");
-            sb.append(facts.getClassName(classId));
-            facts.getExprFacts(classId).entrySet().stream()
-                .sorted(Comparator.comparing(Entry::getKey))
-                .forEach(e -> {
-                    sb.append("\n");
-                    sb.append(FactManager.getFactString(e.getKey().toString(e.getValue())));
-                });
-        });
-
-        sb.append("\n\n");
-        sb.append(MARKER_NAMES);
-        facts.getClassIds().forEach(classId -> {
-            sb.append("\n");
-            sb.append("%");
-            sb.append(classId);
-            sb.append(" - ");
-            sb.append(facts.getClassName(classId));
-            facts.getNameMap(classId).values().stream()
-                .sorted()
-                .forEach(name -> {
-                    sb.append("\n");
-                    sb.append(FactManager.getFactString(name));
-                });
-        });
-
-        sb.append("\n\n");
-        sb.append(MARKER_LITERALS);
-        facts.getClassIds().forEach(classId -> {
-            sb.append("\n");
-            sb.append("%");
-            sb.append(classId);
-            sb.append(" - ");
-            sb.append(facts.getClassName(classId));
-            facts.getLiteralMap(classId).values().stream()
-                .sorted()
-                .forEach(literal -> {
-                    sb.append("\n");
-                    sb.append(FactManager.getFactString(literal));
-                });
-        });
-
-        sb.append("\n\n");
-        sb.append(MARKER_CODE_ENTITIES);
-        facts.getClassIds().forEach(classId -> {
-            sb.append("\n");
-            sb.append("%");
-            sb.append(classId);
-            sb.append(" - ");
-            sb.append(facts.getClassName(classId));
-            facts.getCodeMap(classId).values().stream()
-                .sorted()
-                .forEach(ce -> {
-                    sb.append("\n");
-                    sb.append(FactManager.getFactString(ce));
-                });
-        });
+        for(String marker : CODE_SECTIONS) {
+            sb.append("\n\n");
+            sb.append(marker);
+            facts.getClassIds().forEach(classId -> {
+                sb.append("\n");
+                sb.append("%");
+                sb.append(classId);
+                sb.append(" - ");
+                sb.append(facts.getClassName(classId));
+                sb.append(getCodeFactStrings(facts, classId, marker));
+            });
+        }
 
         sb.append("\n\n");
         sb.append(MARKER_NAME_REFS);
@@ -332,6 +252,69 @@ public class FactManager {
         });
     }
 
+    /**
+     * Returns facts of a class in a section of code facts, each of which starts with a new line.
+     * Pre-rendered facts are used if the class has a {@code FactSlice}.
+     *
+     * @param facts facts containing the class.
+     * @param classId the id of the class.
+     * @param marker the marker of a section, one of {@code CODE_SECTIONS}.
+     * @return fact strings of the class in the section.
+     */
+    public static String getCodeFactStrings(Facts facts, String classId, String marker) {
+        FactSlice slice = facts.getSlice(classId);
+        if(slice != null)
+            return slice.getCodeFacts(marker);
+
+        Stream<String> factStrings = switch(marker) {
+            case MARKER_METHODS -> facts.getMethods(classId).values().stream()
+                .sorted().map(m -> getFactString(m));
+            case MARKER_BLOCKS -> facts.getBlockMap(classId).values().stream()
+                .sorted().map(block -> getFactString(block));
+            case MARKER_STATEMENTS -> facts.getStmtMap(classId).values().stream()
+                .sorted().map(stmt -> getFactString(stmt));
+            case MARKER_EXPRESSIONS -> facts.getExprFacts(classId).entrySet().stream()
+                .sorted(Comparator.comparing(Entry::getKey))
+                .map(e -> getFactString(e.getKey().toString(e.getValue())));
+            case MARKER_NAMES -> facts.getNameMap(classId).values().stream()
+                .sorted().map(name -> getFactString(name));
+            case MARKER_LITERALS -> facts.getLiteralMap(classId).values().stream()
+                .sorted().map(literal -> getFactString(literal));
+            case MARKER_CODE_ENTITIES -> facts.getCodeMap(classId).values().stream()
+                .sorted().map(ce -> getFactString(ce));
+            default -> Stream.empty();
+        };
+        StringBuffer sb = new StringBuffer();
+        factStrings.forEach(fact -> {
+            sb.append("\n");
+            sb.append(fact);
+        });
+        return sb.toString();
+    }
+
+    public static String getPredicateFactStrings(Facts facts, String classId) {
+        FactSlice slice = facts.getSlice(classId);
+        if(slice != null)
+            return slice.getPredicates();
+        return getFactStrings(facts.getPredicates(classId));
+    }
+
+    /**
+     * Renders all facts of a class, so that the class can be exported without its AST.
+     *
+     * @param facts facts containing the class.
+     * @param classId the id of the class.
+     * @return a {@code FactSlice} of the class.
+     */
+    public static FactSlice createFactSlice(Facts facts, String classId) {
+        FactSlice slice = new FactSlice(getPredicateFactStrings(facts, classId));
+        for(String marker : CODE_SECTIONS) {
+            slice.putCodeFacts(marker, getCodeFactStrings(facts, classId, marker));
+        }
+        facts.getMethods(classId).forEach((lineNum, method) -> slice.putMethodId(lineNum, method.getId()));
+        return slice;
+    }
+
     public static String exportDynamicFacts(Path path, List<? extends Predicate> predicates) throws IOException {
         String facts = "\n" + FactManager.getFactStrings(predicates) + "\n";
         exportFactsToFile(path, facts, true, MARKER_DYNAMIC_START, MARKER_DYNAMIC_END);
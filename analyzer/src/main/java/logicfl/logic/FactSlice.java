@@ -0,0 +1,70 @@
+package logicfl.logic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.json.JSONObject;
+
+/**
+ * Rendered facts of a single class.
+ * It contains everything {@code FactManager} needs to export the class,
+ * so that the class can be exported without its AST.
+ */
+public class FactSlice {
+
+    private String predicates;
+    private Map<String, String> codeFacts;
+    private TreeMap<Integer, String> methodIds;
+
+    public FactSlice(String predicates) {
+        this.predicates = predicates;
+        this.codeFacts = new HashMap<>();
+        this.methodIds = new TreeMap<>();
+    }
+
+    public FactSlice(JSONObject jsonObject) {
+        this(jsonObject.getString("predicates"));
+        JSONObject codeObject = jsonObject.getJSONObject("code.facts");
+        for(String marker : codeObject.keySet()) {
+            codeFacts.put(marker, codeObject.getString(marker));
+        }
+        JSONObject methodObject = jsonObject.getJSONObject("methods");
+        for(String lineNum : methodObject.keySet()) {
+            methodIds.put(Integer.valueOf(lineNum), methodObject.getString(lineNum));
+        }
+    }
+
+    public String getPredicates() {
+        return predicates;
+    }
+
+    public String getCodeFacts(String marker) {
+        return codeFacts.getOrDefault(marker, "");
+    }
+
+    public void putCodeFacts(String marker, String facts) {
+        codeFacts.put(marker, facts);
+    }
+
+    public void putMethodId(int lineNum, String methodId) {
+        methodIds.put(lineNum, methodId);
+    }
+
+    public String getMethodId(int lineNum) {
+        Integer methodStartLine = methodIds.floorKey(lineNum);
+        return methodStartLine == null ? null : methodIds.get(methodStartLine);
+    }
+
+    public JSONObject getJSONObject() {
+        JSONObject slice = new JSONObject();
+        slice.put("predicates", predicates);
+        JSONObject codeObject = new JSONObject();
+        codeFacts.forEach(codeObject::put);
+        slice.put("code.facts", codeObject);
+        JSONObject methodObject = new JSONObject();
+        methodIds.forEach((lineNum, methodId) -> methodObject.put(String.valueOf(lineNum), methodId));
+        slice.put("methods", methodObject);
+        return slice;
+    }
+}
@@ -1,8 +1,10 @@
 package logicfl.logic;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,7 +13,6 @@ import java.util.TreeMap;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.IBinding;
 
-import logicfl.coverage.NPETrace;
 import logicfl.logic.codefacts.CodeBlock;
 import logicfl.logic.codefacts.CodeEntity;
 import logicfl.logic.codefacts.CodeName;
@@ -48,7 +49,8 @@ public class Facts {
     private Map<String, Map<ASTNode, Literal>> literalMap;
     private Map<Integer, Map<String, NameRef>> nameRefMap;
     private Map<String, List<Predicate>> predicates;
-    private List<NPETrace> traces;
+    private Path npeInfoPath;
+    private Map<String, FactSlice> slices;
 
     public Facts() {
         classIdNameMap = new HashMap<>();
@@ -60,10 +62,11 @@ public class Facts {
         nameMap = new HashMap<>();
         literalMap = new HashMap<>();
         nameRefMap = new HashMap<>();
+        //Keep the insertion order to identify name references added by each class.
         for(int type : NAME_TYPES)
-            nameRefMap.put(type, new HashMap<>());
+            nameRefMap.put(type, new LinkedHashMap<>());
         predicates = new HashMap<>();
-        traces = new ArrayList<>();
+        slices = new HashMap<>();
     }
 
     public Facts(String classId, String className) {
@@ -165,15 +168,36 @@ public class Facts {
         return methodMap.get(classId);
     }
 
-    public List<NPETrace> getTraces() {
-        return this.traces;
+    /**
+     * Returns the file of NPE traces, which are read again when facts are exported instead of being kept in memory.
+     */
+    public Path getNPEInfoPath() {
+        return this.npeInfoPath;
     }
 
-    public void addTraces(List<NPETrace> traces) {
-        this.traces.addAll(traces);
+    public void setNPEInfoPath(Path npeInfoPath) {
+        this.npeInfoPath = npeInfoPath;
+    }
+
+    public FactSlice getSlice(String classId) {
+        return slices.get(classId);
+    }
+
+    /**
+     * Adds a class whose facts are already rendered, e.g., loaded from a cache.
+     *
+     * @param classId the id of the class.
+     * @param className the qualified name of the class.
+     * @param slice rendered facts of the class.
+     */
+    public void addSlice(String classId, String className, FactSlice slice) {
+        addClassId(classId, className);
+        slices.put(classId, slice);
     }
 
     public String getMethodId(String classId, int lineNum) {
+        if(slices.containsKey(classId))
+            return slices.get(classId).getMethodId(lineNum);
         TreeMap<Integer, MethodDecl> methods = methodMap.get(classId);
         if(methods != null) {
             Integer methodStartLine = methods.floorKey(lineNum);
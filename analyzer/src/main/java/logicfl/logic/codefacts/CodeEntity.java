@@ -148,7 +148,14 @@ public class CodeEntity implements Comparable<CodeEntity> {
 
     @Override
     public int compareTo(CodeEntity entity) {
-        return this.range.compareTo(entity.range);
+        int cmp = this.range.compareTo(entity.range);
+        //Entities starting at the same position are ordered from the enclosing one, then by ids,
+        //so that the order does not depend on the order of visiting them.
+        if(cmp == 0)
+            cmp = Integer.compare(entity.range.getLength(), this.range.getLength());
+        if(cmp == 0 && this.id != null && entity.id != null)
+            cmp = this.id.compareTo(entity.id);
+        return cmp;
     }
 
     @Override
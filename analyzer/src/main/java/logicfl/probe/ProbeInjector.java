@@ -45,6 +45,7 @@ import org.eclipse.jdt.core.dom.PrimitiveType;
 import org.eclipse.jdt.core.dom.ReturnStatement;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.VariableDeclarationExpression;
@@ -84,6 +85,7 @@ public class ProbeInjector {
     private Map<String, SimpleEntry<VariableDeclarationStatement, ListRewrite>> markerEndMap;
     private Map<ASTNode, ASTNode> relocatedNodes;
     private Map<Probe, VariableDeclarationFragment> nonInitMap;
+    private String recordedClass;
 
     public ProbeInjector(CompilationUnit cu, String source) {
         this.cu = cu;
@@ -98,6 +100,14 @@ public class ProbeInjector {
         markerStartMap = null;
         markerEndMap = null;
         nonInitMap = null;
+        recordedClass = null;
+    }
+
+    /**
+     * Makes probes pass their values to {@link ProbeRecorder}, with keys prefixed by the given class name.
+     */
+    public void setRecorder(String className) {
+        this.recordedClass = className;
     }
 
     public String inject(List<Probe> probes, Path outFilePath, Map<Probe, VariableDeclarationFragment> nonInitMap) {
@@ -678,6 +688,7 @@ public class ProbeInjector {
 
         //Update child probes included in the expression.
         Expression newNode = (Expression)ASTNode.copySubtree(ast, p.getTarget());
+        Expression initValue = wrapWithRecorder(p, newNode);
 
         //Replace the target with the new variable.
         if(p.getParent() == null)
@@ -688,18 +699,18 @@ public class ProbeInjector {
         //newChildLoc == null indicates the short-circuit probe w/ conditional evaluation.
         Type type = createTypeNode(p.getTarget());
         if(mode == MODE_ASSIGN_ONLY || mode == MODE_SHORT_CIRCUIT) {
-            ExpressionStatement es = createAssignment(p, type, newNode);
+            ExpressionStatement es = createAssignment(p, type, initValue);
             p.getLocation().insert(es, listRewrite);
             p.setProbeNode(es, newNode);
             mode = mode == MODE_SHORT_CIRCUIT ? MODE_STATEMENT : mode;
         } else {
             //Add new VDS before the target location.
             if(mode == MODE_FIELD) {
-                FieldDeclaration fd = createFieldDeclaration(p, type, newNode);
+                FieldDeclaration fd = createFieldDeclaration(p, type, initValue);
                 p.getLocation().insert(fd, listRewrite);
                 p.setProbeNode(fd, newNode);
             } else {
-                VariableDeclarationStatement vds = createVariableDeclaration(p, type, newNode);
+                VariableDeclarationStatement vds = createVariableDeclaration(p, type, initValue);
                 p.getLocation().insert(vds, listRewrite);
                 p.setProbeNode(vds, newNode);
             }
@@ -976,6 +987,25 @@ public class ProbeInjector {
         return castExpr;
     }
 
+    /**
+     * Wraps the value of a probe with a recorder call, if the recorder is set and the value is either boolean or a reference.
+     */
+    private Expression wrapWithRecorder(Probe p, Expression value) {
+        if(recordedClass == null)
+            return value;
+        ITypeBinding tb = p.getTarget().resolveTypeBinding();
+        if(tb == null || tb.isNullType() || (tb.isPrimitive() && !tb.getName().equals("boolean")))
+            return value;
+        MethodInvocation invoc = ast.newMethodInvocation();
+        invoc.setExpression(ast.newName(ProbeRecorder.class.getName()));
+        invoc.setName(ast.newSimpleName("record"));
+        StringLiteral key = ast.newStringLiteral();
+        key.setLiteralValue(recordedClass + NodeVisitor.CLASS_SEP + p.getName());
+        invoc.arguments().add(key);
+        invoc.arguments().add(value);
+        return invoc;
+    }
+
     private <T> VariableDeclarationFragment createVariableDeclarationFragment(Probe p, Type type, Expression initValue) {
         ITypeBinding tb = p.getTarget().resolveTypeBinding();
         if(isCastRequired(tb, p.getTarget())) {
@@ -1085,7 +1115,9 @@ public class ProbeInjector {
             TextEdit edits = rewrite.rewriteAST(doc, JavaCore.getDefaultOptions());
             edits.apply(doc);
             newSource = doc.get();
-            Files.writeString(outFilePath, newSource);
+            //The probed source is kept only in memory if no output path is given.
+            if(outFilePath != null)
+                Files.writeString(outFilePath, newSource);
             matcher.computeLineMapping(CodeUtils.getCompilationUnit(newSource));
         } catch (MalformedTreeException | BadLocationException e) {
             e.printStackTrace();
@@ -0,0 +1,113 @@
+package logicfl.probe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records values of probe variables in a test runner without a debugger.
+ *
+ * Injected probes pass their values to {@code record} methods with a key, {@code class;probe_name}.
+ * Only whether a probe has been null, true or false is kept as bit flags in a byte array indexed by keys.
+ * Observed values are appended once to the file given by {@link #VALUES_PROPERTY} when the runner exits,
+ * one {@code key value} line for each observed value, so that forked runners of test shards can share the file.
+ */
+public final class ProbeRecorder {
+
+    public static final String VALUES_PROPERTY = "logicfl.probe.values";
+    public static final String NULL = "null";
+    public static final String TRUE = "true";
+    public static final String FALSE = "false";
+    public static final String FIELD_DELIM = "\t";
+
+    private static final byte NULL_FLAG = 1;
+    private static final byte TRUE_FLAG = 2;
+    private static final byte FALSE_FLAG = 4;
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static String[] keys = new String[256];
+    private static byte[] flags = new byte[256];
+    private static int count = 0;
+
+    static {
+        String valuesPath = System.getProperty(VALUES_PROPERTY);
+        if(valuesPath != null)
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(valuesPath)));
+    }
+
+    private ProbeRecorder() {
+    }
+
+    public static <T> T record(String key, T value) {
+        if(value == null)
+            mark(key, NULL_FLAG);
+        return value;
+    }
+
+    public static boolean record(String key, boolean value) {
+        mark(key, value ? TRUE_FLAG : FALSE_FLAG);
+        return value;
+    }
+
+    private static void mark(String key, byte flag) {
+        int id = ids.computeIfAbsent(key, ProbeRecorder::register);
+        byte[] current = flags;
+        if(id < current.length && (current[id] & flag) != 0)
+            return;
+        synchronized(ProbeRecorder.class) {
+            flags[id] |= flag;
+        }
+    }
+
+    private static synchronized int register(String key) {
+        int id = count++;
+        if(id >= keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            flags = Arrays.copyOf(flags, flags.length * 2);
+        }
+        keys[id] = key;
+        return id;
+    }
+
+    /**
+     * Appends observed values to a file, which is locked while it is written.
+     */
+    public static synchronized void flush(String valuesPath) {
+        StringBuilder sb = new StringBuilder();
+        for(int id = 0; id < count; id++) {
+            if((flags[id] & NULL_FLAG) != 0)
+                sb.append(keys[id]).append(FIELD_DELIM).append(NULL).append('\n');
+            if((flags[id] & TRUE_FLAG) != 0)
+                sb.append(keys[id]).append(FIELD_DELIM).append(TRUE).append('\n');
+            if((flags[id] & FALSE_FLAG) != 0)
+                sb.append(keys[id]).append(FIELD_DELIM).append(FALSE).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(valuesPath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            FileLock lock = channel.lock();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+                while(buffer.hasRemaining())
+                    channel.write(buffer);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Clears observed values, when tests are executed repeatedly in the same JVM.
+     */
+    public static synchronized void reset() {
+        Arrays.fill(flags, (byte)0);
+    }
+}
@@ -2,12 +2,16 @@ package logicfl.utils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +35,7 @@ import org.eclipse.jdt.core.dom.BooleanLiteral;
 import org.eclipse.jdt.core.dom.CharacterLiteral;
 import org.eclipse.jdt.core.dom.ChildListPropertyDescriptor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.IVariableBinding;
@@ -74,6 +79,43 @@ public class CodeUtils {
         return cu;
     }
 
+    /**
+     * Parses all the given source files with a single parser, sharing one binding environment.
+     *
+     * @param sourceFiles source files to parse, mapped by keys used in the returned map.
+     * @param classPath class path entries to resolve bindings.
+     * @param sourcePath source path entries to resolve bindings.
+     * @return compilation units mapped by the keys of {@code sourceFiles}.
+     */
+    public static Map<String, CompilationUnit> getCompilationUnits(Map<String, Path> sourceFiles, String[] classPath, String[] sourcePath) {
+        ASTParser parser = ASTParser.newParser(JAVA_LEVEL);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        Map<String, String> options = JavaCore.getOptions();
+        JavaCore.setComplianceOptions(JAVA_VERSION, options);
+        parser.setCompilerOptions(options);
+        parser.setEnvironment(classPath, sourcePath, null, true);
+        parser.setResolveBindings(true);
+
+        Map<String, String> keys = new HashMap<>();
+        sourceFiles.forEach((key, path) -> keys.put(path.toAbsolutePath().toString(), key));
+        String[] filePaths = keys.keySet().toArray(new String[keys.size()]);
+        //Sources are read as UTF-8 elsewhere, use the same encoding to keep positions identical.
+        String[] encodings = new String[filePaths.length];
+        Arrays.fill(encodings, StandardCharsets.UTF_8.name());
+
+        Map<String, CompilationUnit> units = new HashMap<>();
+        parser.createASTs(filePaths, encodings, new String[0], new FileASTRequestor() {
+            @Override
+            public void acceptAST(String sourceFilePath, CompilationUnit ast) {
+                String key = keys.get(sourceFilePath);
+                if(key != null)
+                    units.put(key, ast);
+            }
+        }, null);
+
+        return units;
+    }
+
     public static CompilationUnit getCompilationUnit(String source) {
         ASTParser parser = ASTParser.newParser(JAVA_LEVEL);
         parser.setKind(ASTParser.K_COMPILATION_UNIT);
@@ -91,15 +133,20 @@ public class CodeUtils {
     }
 
     public static String getSource(String className, String[] srcPaths) throws IOException {
+        Path srcFile = getSourceFile(className, srcPaths);
+        return srcFile == null ? null : Files.readString(srcFile);
+    }
+
+    public static Path getSourceFile(String className, String[] srcPaths) {
         String filePath = CodeUtils.qualifiedToPath(className, ".java");
-        String source = null;
+        Path sourceFile = null;
         //Use a file found from a directory in the order of the source path configuration.
         for(String sourcePath : srcPaths) {
             Path srcFile = Paths.get(sourcePath, filePath);
             if(srcFile.toFile().exists())
-                source = Files.readString(srcFile);
+                sourceFile = srcFile;
         }
-        return source;
+        return sourceFile;
     }
 
     public static String getMethodCode(String className, String methodName, String[] srcPaths) {
@@ -378,19 +425,7 @@ public class CodeUtils {
 
             // Compile the source code
             success = task.call();
-
-            if (success) {
-                System.out.println("Compilation successful!");
-            } else {
-                System.out.println("Compilation failed!");
-                for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
-                    if(diagnostic.getSource() != null) {
-                        System.err.println(diagnostic.getSource().getName());
-                        System.err.println(diagnostic.getMessage(null));
-                        System.err.println("Line:"+diagnostic.getLineNumber());
-                    }
-                }
-            }
+            printCompileResult(success, diagnostics);
 
             fileManager.close();
         } catch (IOException e) {
@@ -400,6 +435,70 @@ public class CodeUtils {
         return success;
     }
 
+    static void printCompileResult(boolean success, DiagnosticCollector<JavaFileObject> diagnostics) {
+        if (success) {
+            System.out.println("Compilation successful!");
+        } else {
+            System.out.println("Compilation failed!");
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if(diagnostic.getSource() != null) {
+                    System.err.println(diagnostic.getSource().getName());
+                    System.err.println(diagnostic.getMessage(null));
+                    System.err.println("Line:"+diagnostic.getLineNumber());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a SHA-256 hash of the given values in hex.
+     */
+    public static String getHash(List<String> values) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for(String value : values) {
+                md.update(value.getBytes(StandardCharsets.UTF_8));
+                md.update((byte)0);
+            }
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String getHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a hash of class path entries, including sizes and modified times of jar files,
+     * and the last modified time of files in directories.
+     */
+    public static String getClassPathFingerprint(String[] classPath) {
+        List<String> values = new ArrayList<>();
+        for(String entry : classPath) {
+            File file = new File(entry);
+            if(file.isFile()) {
+                values.add(String.join(NAME_KEY_DELIM, entry, String.valueOf(file.length()),
+                    String.valueOf(file.lastModified())));
+            } else if(file.isDirectory()) {
+                try (var files = Files.walk(file.toPath())) {
+                    values.add(String.join(NAME_KEY_DELIM, entry,
+                        String.valueOf(files.mapToLong(f -> f.toFile().lastModified()).max().orElse(0))));
+                } catch (IOException e) {
+                    values.add(entry);
+                }
+            } else {
+                values.add(entry);
+            }
+        }
+        return getHash(values);
+    }
+
     public static List<File> getJavaFiles(File directory) {
         List<File> javaFiles = new ArrayList<>();
         File[] files = directory.listFiles();
@@ -11,7 +11,9 @@ import java.util.List;
 import java.util.Properties;
 
 import logicfl.coverage.CoverageInfo;
+import logicfl.coverage.CoverageStore;
 import logicfl.coverage.TestInfo;
+import logicfl.coverage.TestRunner;
 
 public class Configuration {
 
@@ -28,6 +30,7 @@ public class Configuration {
     public static final String MONITOR_NULL_BOOLEAN = "null_boolean";
     public static final String MONITOR_ALL_VISIBLE = "all_visible";
     public static final String MONITOR_TARGET_ONLY = "target_only";
+    public static final String MONITOR_PROBE_RECORDER = "probe_recorder";
 
     public CoverageInfo coverage;
     public String baseDir;
@@ -43,6 +46,25 @@ public class Configuration {
     public String targetPackagePrefix;
     public Path coverageInfoPath;
     public Path npeInfoPath;
+    public boolean npeTraceStreaming;
+    public boolean binaryCoverage;
+    public boolean perTestCoverage;
+    public int coverageThreads;
+    public int testShards;
+    public boolean testDaemon;
+    public boolean testInProcess;
+    public boolean offlineInstrumentation;
+    public Path instrumentedClassesPath;
+    public long testTimeout;
+    public boolean adaptiveTimeout;
+    public long testTimeoutPerTest;
+    public String testHeapMin;
+    public String testHeapMax;
+    public String testJvmArgs;
+    public long testOutputLimit;
+    public Path testOutputSpillPath;
+    public Path testExecPath;
+    public Path coverageMatrixPath;
     public Path flFactsPath;
     public Path codeFactsPath;
     public Path rulesPath;
@@ -57,6 +79,21 @@ public class Configuration {
     public Path faultyLinesPath;
     public Path monitorTargetPath;
     public Path execTimePath;
+    public int staticThreads;
+    public boolean batchParsing;
+    public boolean staticCache;
+    public Path staticCachePath;
+    public boolean incrementalCompile;
+    public Path compileStatePath;
+    public boolean inMemoryCompile;
+    public Path probedJarPath;
+    public Path probeValuesPath;
+    public int breakpointHitLimit;
+    public boolean lazyBreakpointRemoval;
+    public boolean mappedVariablesOnly;
+    public int jdiThreads;
+    public boolean prologEnginePool;
+    public boolean factsQlf;
 
     public Configuration(String filePath) {
         loadConfig(filePath);
@@ -84,6 +121,7 @@ public class Configuration {
             junitVersion = prop.getProperty("junit.version", JUNIT5);
             jacocoPath = prop.getProperty("jacoco.path", "jacocoagent.jar");
             jacocoExecPath = getOutputFilePath(prop.getProperty("jacoco.exec", "jacoco.exec"));
+            testExecPath = getOutputFilePath(prop.getProperty("jacoco.test.exec", "jacoco.tests.exec"));
             testsInfoPath = getBaseDirFilePath(prop.getProperty("tests.info", "tests.json"));
             targetPackagePrefix = prop.getProperty("target.prefix", "");
             coverageInfoPath = getBaseDirFilePath(prop.getProperty(K_COVERAGE_INFO, "coverage.json"));
@@ -93,6 +131,24 @@ public class Configuration {
 
             //Output directory files.
             npeInfoPath = getOutputFilePath(prop.getProperty("npe.info.path", "npe.traces.json"));
+            npeTraceStreaming = Boolean.parseBoolean(prop.getProperty("npe.trace.streaming", "false"));
+            binaryCoverage = Boolean.parseBoolean(prop.getProperty("coverage.binary", "false"));
+            perTestCoverage = Boolean.parseBoolean(prop.getProperty("coverage.per.test", "false"));
+            coverageThreads = Integer.parseInt(prop.getProperty("coverage.threads", "1"));
+            testShards = Integer.parseInt(prop.getProperty("test.shards", "1"));
+            testDaemon = Boolean.parseBoolean(prop.getProperty("test.daemon", "false"));
+            testInProcess = Boolean.parseBoolean(prop.getProperty("test.in.process", "false"));
+            offlineInstrumentation = Boolean.parseBoolean(prop.getProperty("coverage.offline", "false"));
+            instrumentedClassesPath = getOutputFilePath(prop.getProperty("instr.classes.dir", "instrumented"));
+            testTimeout = Long.parseLong(prop.getProperty("test.timeout", String.valueOf(TestRunner.DEFAULT_TIMEOUT)));
+            adaptiveTimeout = Boolean.parseBoolean(prop.getProperty("test.timeout.adaptive", "false"));
+            testTimeoutPerTest = Long.parseLong(prop.getProperty("test.timeout.per.test", "1000"));
+            testHeapMin = prop.getProperty("test.heap.min", "256m");
+            testHeapMax = prop.getProperty("test.heap.max", "1024m");
+            testJvmArgs = prop.getProperty("test.jvm.args", "");
+            testOutputLimit = Long.parseLong(prop.getProperty("test.output.limit", "0"));
+            testOutputSpillPath = getOutputFilePath(prop.getProperty("test.output.spill", "test.output.log"));
+            coverageMatrixPath = getOutputFilePath(prop.getProperty("coverage.matrix.path", "coverage.matrix.json"));
             flFactsPath = getOutputFilePath(prop.getProperty("facts.pl", "logic-fl.pl"));
             codeFactsPath = getOutputFilePath(prop.getProperty("code.facts.pl", "code-facts.pl"));
             rootCausePath = getOutputFilePath(prop.getProperty("root.cause", "root_cause.txt"));
@@ -100,13 +156,28 @@ public class Configuration {
             lineInfoPath = getOutputFilePath(prop.getProperty("line.info", "line.info.json"));
             monitorTargetPath = getOutputFilePath(prop.getProperty("monitor.target.path", "monitor.targets.json"));
             execTimePath = getOutputFilePath(prop.getProperty("exec.time.path", "exec.time.json"));
+            staticCachePath = getOutputFilePath(prop.getProperty("static.cache.dir", "static.cache"));
+            compileStatePath = getOutputFilePath(prop.getProperty("compile.state.path", "compile.state.json"));
+            probedJarPath = getOutputFilePath(prop.getProperty("probed.jar.path", "probed.jar"));
+            probeValuesPath = getOutputFilePath(prop.getProperty("probe.values.path", "probe.values.txt"));
 
             //Options
             printDebugInfo = Boolean.parseBoolean(prop.getProperty("print.debug.info", "false"));
             monitorTarget = prop.getProperty("monitor.target", MONITOR_TRACE);
             monitorValues = prop.getProperty("monitor.value", MONITOR_NULL_ONLY);
             monitorMethod = prop.getProperty("monitor.method", MONITOR_ALL_VISIBLE);
+            breakpointHitLimit = Integer.parseInt(prop.getProperty("breakpoint.hit.limit", "0"));
+            lazyBreakpointRemoval = Boolean.parseBoolean(prop.getProperty("breakpoint.lazy.removal", "false"));
+            mappedVariablesOnly = Boolean.parseBoolean(prop.getProperty("mapped.variables.only", "false"));
+            jdiThreads = Integer.parseInt(prop.getProperty("jdi.threads", "1"));
+            prologEnginePool = Boolean.parseBoolean(prop.getProperty("prolog.engine.pool", "false"));
+            factsQlf = Boolean.parseBoolean(prop.getProperty("facts.qlf", "false"));
             coveredOnly = Boolean.parseBoolean(prop.getProperty("covered.only", "true"));
+            staticThreads = Integer.parseInt(prop.getProperty("static.threads", "1"));
+            batchParsing = Boolean.parseBoolean(prop.getProperty("batch.parsing", "false"));
+            staticCache = Boolean.parseBoolean(prop.getProperty("static.cache", "false"));
+            incrementalCompile = Boolean.parseBoolean(prop.getProperty("incremental.compile", "false"));
+            inMemoryCompile = Boolean.parseBoolean(prop.getProperty("in.memory.compile", "false"));
         }catch(IOException e) {
             System.out.println("Error while loading coverage information.");
             e.printStackTrace();
@@ -114,10 +185,21 @@ public class Configuration {
     }
 
     public void loadCoverage() {
-        coverage = JSONUtils.loadCoverage(coverageInfoPath);
+        //The binary store is detected by its header, so that either format can be given.
+        if(CoverageStore.isBinary(coverageInfoPath))
+            coverage = CoverageStore.load(coverageInfoPath);
+        else
+            coverage = JSONUtils.loadCoverage(coverageInfoPath);
     }
 
     public void setClassPath(String classPathStr) {
+        classPath = expandClassPath(classPathStr);
+    }
+
+    /**
+     * Splits a class path string into entries, where wildcard entries are expanded to jar files.
+     */
+    public String[] expandClassPath(String classPathStr) {
         List<String> classPathEntries = new ArrayList<>();
         if(classPathStr != null) {
             for(String entry : classPathStr.split(File.pathSeparator)) {
@@ -128,7 +210,7 @@ public class Configuration {
                 }
             }
         }
-        classPath = classPathEntries.toArray(new String[classPathEntries.size()]);
+        return classPathEntries.toArray(new String[classPathEntries.size()]);
     }
 
     public Path getBaseDirFilePath(String filePath) {
@@ -175,6 +257,10 @@ public class Configuration {
         return this.monitorMethod.equals(MONITOR_TARGET_ONLY);
     }
 
+    public boolean monitorProbeRecorder() {
+        return this.monitorMethod.equals(MONITOR_PROBE_RECORDER);
+    }
+
     public boolean monitorCoverage() {
         return this.monitorTarget.equals(MONITOR_COVERAGE);
     }
@@ -0,0 +1,141 @@
+package logicfl.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles probed sources kept in memory, and packs the generated classes into one jar file.
+ * Neither sources nor class files are written to disk, except the jar file.
+ */
+public class InMemoryCompiler {
+
+    private static class SourceObject extends SimpleJavaFileObject {
+        private String source;
+
+        public SourceObject(String className, String source) {
+            super(URI.create("string:///" + CodeUtils.qualifiedToPath(className, Kind.SOURCE.extension)), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static class ClassObject extends SimpleJavaFileObject {
+        private ByteArrayOutputStream bytes;
+
+        public ClassObject(String binaryName) {
+            super(URI.create("bytes:///" + binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+            bytes = new ByteArrayOutputStream();
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+
+        public byte[] getBytes() {
+            return bytes.toByteArray();
+        }
+    }
+
+    private static class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        //Sorted by binary names, so that jar entries have a stable order.
+        private Map<String, ClassObject> classes = new TreeMap<>();
+
+        public MemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, Kind kind,
+            FileObject sibling) throws IOException {
+            if(kind != Kind.CLASS)
+                return super.getJavaFileForOutput(location, className, kind, sibling);
+            ClassObject classObject = new ClassObject(className);
+            classes.put(className, classObject);
+            return classObject;
+        }
+    }
+
+    /**
+     * Compiles the given sources and writes the generated classes to a jar file.
+     *
+     * @param sources probed sources keyed by qualified class names.
+     * @param jarPath the path of the jar file to write.
+     * @param classPath the class path to compile the sources.
+     * @return {@code true} if the compilation is successful and the jar file is written.
+     *         Otherwise, the jar file is deleted, so that classes of a previous compilation are not used.
+     */
+    public static boolean compileToJar(Map<String, String> sources, Path jarPath, String classPath) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = false;
+
+        try (MemoryFileManager fileManager = new MemoryFileManager(compiler.getStandardFileManager(diagnostics, null, null))) {
+            List<JavaFileObject> compilationUnits = new ArrayList<>();
+            sources.forEach((className, source) -> compilationUnits.add(new SourceObject(className, source)));
+            Iterable<String> options = Arrays.asList("-cp", classPath, "-g");
+            CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, compilationUnits);
+            success = task.call();
+            CodeUtils.printCompileResult(success, diagnostics);
+            if(success)
+                writeJar(fileManager.classes, jarPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Failed to write probed classes to " + jarPath);
+            success = false;
+        }
+        if(!success) {
+            try {
+                Files.deleteIfExists(jarPath);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return success;
+    }
+
+    private static void writeJar(Map<String, ClassObject> classes, Path jarPath) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        Path parent = jarPath.toAbsolutePath().getParent();
+        if(parent != null)
+            Files.createDirectories(parent);
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarPath), manifest)) {
+            for(Map.Entry<String, ClassObject> e : classes.entrySet()) {
+                JarEntry entry = new JarEntry(e.getKey().replace('.', '/') + Kind.CLASS.extension);
+                jar.putNextEntry(entry);
+                jar.write(e.getValue().getBytes());
+                jar.closeEntry();
+            }
+        }
+        System.out.println(classes.size() + " classes are written to " + jarPath);
+    }
+}
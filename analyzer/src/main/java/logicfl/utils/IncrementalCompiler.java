@@ -0,0 +1,279 @@
+package logicfl.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Compiles probed sources only if they are changed since the last compilation.
+ *
+ * Hashes of compiled sources, their type names and class files are stored in a state file.
+ * Only changed sources and the sources depending on them are compiled again, with class files of the others on the class path.
+ * A source is considered to depend on another if it mentions any type declared in the other, directly or transitively,
+ * which also covers constants inlined by javac. All sources are compiled again if the class path is changed.
+ * The file manager is kept open, so that class path entries are not opened again for each compilation.
+ */
+public class IncrementalCompiler {
+
+    private static final String KEY_CLASS_PATH = "class.path";
+    private static final String KEY_SOURCES = "sources";
+    private static final String KEY_HASH = "hash";
+    private static final String KEY_TYPES = "types";
+    private static final String KEY_OUTPUTS = "outputs";
+    private static final Pattern TYPE_DECLARATION = Pattern.compile("\\b(?:class|interface|enum|record)\\s+([\\w$]+)");
+    private static final Pattern IDENTIFIER = Pattern.compile("[\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*");
+
+    private JavaCompiler compiler;
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+    private StandardJavaFileManager fileManager;
+    private Path statePath;
+
+    public IncrementalCompiler(Path statePath) {
+        this.statePath = statePath;
+        compiler = ToolProvider.getSystemJavaCompiler();
+        diagnostics = new DiagnosticCollector<>();
+        fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+    }
+
+    public boolean compile(Path sourceDirectory, Path outputDirectory, String[] classPath) {
+        JSONObject state = loadState();
+        String fingerprint = CodeUtils.getClassPathFingerprint(classPath);
+        //Recompile all sources if the class path is changed.
+        boolean classPathChanged = !fingerprint.equals(state.optString(KEY_CLASS_PATH));
+        JSONObject prevSources = state.optJSONObject(KEY_SOURCES);
+        if(prevSources == null)
+            prevSources = new JSONObject();
+
+        Map<String, File> javaFiles = new TreeMap<>();
+        Map<String, String> contents = new HashMap<>();
+        Map<String, String> hashes = new HashMap<>();
+        Set<String> changed = new HashSet<>();
+        try {
+            for(File javaFile : CodeUtils.getJavaFiles(sourceDirectory.toFile())) {
+                String key = sourceDirectory.relativize(javaFile.toPath()).toString();
+                String content = Files.readString(javaFile.toPath());
+                String hash = CodeUtils.getHash(List.of(content));
+                javaFiles.put(key, javaFile);
+                contents.put(key, content);
+                hashes.put(key, hash);
+                JSONObject prev = prevSources.optJSONObject(key);
+                if(classPathChanged || prev == null || !hash.equals(prev.optString(KEY_HASH)) || !outputsExist(outputDirectory, prev))
+                    changed.add(key);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+        Set<String> removed = new HashSet<>(prevSources.keySet());
+        removed.removeAll(javaFiles.keySet());
+
+        if(changed.isEmpty() && removed.isEmpty()) {
+            System.out.println("No changed sources to compile.");
+            return true;
+        }
+
+        Map<String, Set<String>> types = new HashMap<>();
+        for(String key : javaFiles.keySet())
+            types.put(key, getDeclaredTypes(contents.get(key)));
+        Set<String> targets = getDependents(changed, removed, prevSources, types, contents);
+
+        //Class files of recompiled sources are removed first, as well as those of sources which are not probed anymore.
+        for(String key : prevSources.keySet()) {
+            if(targets.contains(key) || removed.contains(key))
+                deleteOutputs(outputDirectory, prevSources.getJSONObject(key));
+        }
+        List<File> targetFiles = new ArrayList<>();
+        for(String key : targets)
+            targetFiles.add(javaFiles.get(key));
+        System.out.println("Compiling " + targetFiles.size() + " of " + javaFiles.size() + " sources.");
+        Map<String, Set<String>> outputs = new HashMap<>();
+        boolean success = targetFiles.isEmpty() || compileFiles(targetFiles, outputDirectory, classPath, outputs);
+
+        //Unchanged sources keep their class files, while failed ones are compiled again next time.
+        JSONObject sources = new JSONObject();
+        for(String key : javaFiles.keySet()) {
+            JSONObject source = new JSONObject();
+            if(targets.contains(key)) {
+                if(!success)
+                    continue;
+                source.put(KEY_OUTPUTS, new JSONArray(outputs.getOrDefault(getSourceKey(javaFiles.get(key).toPath()), Set.of())));
+            } else {
+                source.put(KEY_OUTPUTS, prevSources.getJSONObject(key).getJSONArray(KEY_OUTPUTS));
+            }
+            source.put(KEY_HASH, hashes.get(key));
+            source.put(KEY_TYPES, new JSONArray(types.get(key)));
+            sources.put(key, source);
+        }
+
+        JSONObject newState = new JSONObject();
+        newState.put(KEY_CLASS_PATH, fingerprint);
+        newState.put(KEY_SOURCES, sources);
+        try {
+            Files.writeString(statePath, newState.toString(4));
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Failed to store the compilation state to " + statePath);
+        }
+        return success;
+    }
+
+    /**
+     * Returns changed sources with the sources mentioning types of changed or removed sources, transitively.
+     */
+    private Set<String> getDependents(Set<String> changed, Set<String> removed, JSONObject prevSources,
+        Map<String, Set<String>> types, Map<String, String> contents) {
+        Set<String> dependents = new TreeSet<>(changed);
+        Set<String> names = new HashSet<>();
+        for(String key : changed)
+            names.addAll(types.get(key));
+        //Previous types are also considered, since dependents of a renamed or removed type should be compiled again.
+        Set<String> prevKeys = new HashSet<>(changed);
+        prevKeys.addAll(removed);
+        for(String key : prevKeys) {
+            JSONObject prev = prevSources.optJSONObject(key);
+            JSONArray prevTypes = prev == null ? null : prev.optJSONArray(KEY_TYPES);
+            if(prevTypes != null)
+                prevTypes.forEach(type -> names.add(type.toString()));
+        }
+        Map<String, Set<String>> identifiers = new HashMap<>();
+        boolean added = true;
+        while(added) {
+            added = false;
+            for(String key : types.keySet()) {
+                if(dependents.contains(key))
+                    continue;
+                Set<String> mentioned = identifiers.computeIfAbsent(key, k -> getIdentifiers(contents.get(k)));
+                if(!Collections.disjoint(mentioned, names)) {
+                    dependents.add(key);
+                    names.addAll(types.get(key));
+                    added = true;
+                }
+            }
+        }
+        return dependents;
+    }
+
+    private Set<String> getDeclaredTypes(String content) {
+        Set<String> declared = new TreeSet<>();
+        Matcher m = TYPE_DECLARATION.matcher(content);
+        while(m.find())
+            declared.add(m.group(1));
+        return declared;
+    }
+
+    private Set<String> getIdentifiers(String content) {
+        Set<String> identifiers = new HashSet<>();
+        Matcher m = IDENTIFIER.matcher(content);
+        while(m.find())
+            identifiers.add(m.group());
+        return identifiers;
+    }
+
+    private boolean compileFiles(List<File> javaFiles, Path outputDirectory, String[] classPath,
+        Map<String, Set<String>> outputs) {
+        diagnostics = new DiagnosticCollector<>();
+        //Track class files generated from each source file.
+        JavaFileManager tracker = new ForwardingJavaFileManager<StandardJavaFileManager>(fileManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className,
+                JavaFileObject.Kind kind, FileObject sibling) throws IOException {
+                JavaFileObject output = super.getJavaFileForOutput(location, className, kind, sibling);
+                if(kind == JavaFileObject.Kind.CLASS && sibling != null) {
+                    String classFile = outputDirectory.toAbsolutePath().normalize()
+                        .relativize(Paths.get(output.toUri()).normalize()).toString();
+                    outputs.computeIfAbsent(getSourceKey(Paths.get(sibling.toUri())), k -> new HashSet<>()).add(classFile);
+                }
+                return output;
+            }
+        };
+
+        boolean success = false;
+        try {
+            Files.createDirectories(outputDirectory);
+            String totalClassPath = outputDirectory.toString() + File.pathSeparator + String.join(File.pathSeparator, classPath);
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(javaFiles);
+            Iterable<String> options = Arrays.asList("-cp", totalClassPath, "-g", "-d", outputDirectory.toString());
+            CompilationTask task = compiler.getTask(null, tracker, diagnostics, options, null, compilationUnits);
+            success = task.call();
+            CodeUtils.printCompileResult(success, diagnostics);
+            fileManager.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return success;
+    }
+
+    private String getSourceKey(Path javaFile) {
+        return javaFile.toAbsolutePath().normalize().toString();
+    }
+
+    private boolean outputsExist(Path outputDirectory, JSONObject source) {
+        JSONArray outputs = source.optJSONArray(KEY_OUTPUTS);
+        if(outputs == null || outputs.isEmpty())
+            return false;
+        for(int i=0; i<outputs.length(); i++) {
+            if(!outputDirectory.resolve(outputs.getString(i)).toFile().exists())
+                return false;
+        }
+        return true;
+    }
+
+    private void deleteOutputs(Path outputDirectory, JSONObject source) {
+        JSONArray outputs = source.optJSONArray(KEY_OUTPUTS);
+        if(outputs == null)
+            return;
+        for(int i=0; i<outputs.length(); i++) {
+            try {
+                Files.deleteIfExists(outputDirectory.resolve(outputs.getString(i)));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private JSONObject loadState() {
+        if(statePath.toFile().exists()) {
+            try {
+                return new JSONObject(Files.readString(statePath));
+            } catch (Exception e) {
+                System.err.println("Ignoring a broken compilation state - " + statePath);
+            }
+        }
+        return new JSONObject();
+    }
+
+    public void close() {
+        try {
+            fileManager.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
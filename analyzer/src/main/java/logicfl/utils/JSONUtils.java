@@ -1,7 +1,6 @@
 package logicfl.utils;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -10,6 +9,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -17,30 +17,28 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
-import org.json.JSONTokener;
 
 import logicfl.coverage.CoverageInfo;
 import logicfl.coverage.NPETrace;
+import logicfl.coverage.NPETraceReader;
+import logicfl.coverage.StackTrace;
 import logicfl.coverage.TestInfo;
 import logicfl.probe.LineMatcher;
 import logicfl.probe.ProbeRange;
 
 public class JSONUtils {
 
+    /**
+     * Loads all NPE traces of a file into a list.
+     * Use {@link NPETraceReader} directly to process traces without keeping all of them in memory.
+     */
     public static List<NPETrace> loadTracesFromJSON(Path npeInfoPath) {
         List<NPETrace> traces = new ArrayList<>();
-        File npeTraceFile = npeInfoPath.toFile();
-        if (npeTraceFile.exists()) {
-            try (FileInputStream fis = new FileInputStream(npeTraceFile)) {
-                JSONTokener tokener = new JSONTokener(fis);
-                JSONObject root = new JSONObject(tokener);
-                JSONArray traceArray = root.getJSONArray("npe.traces");
-                for (int i = 0; i < traceArray.length(); i++) {
-                    JSONObject traceObject = traceArray.getJSONObject(i);
-                    NPETrace npeTrace = new NPETrace(traceObject);
-                    traces.add(npeTrace);
-                }
+        if (npeInfoPath.toFile().exists()) {
+            try (NPETraceReader reader = new NPETraceReader(npeInfoPath)) {
+                reader.forEachRemaining(traces::add);
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -49,35 +47,37 @@ public class JSONUtils {
     }
 
     public static Map<String, List<Integer>> loadTraceInfoFromJSON(Path npeInfoPath, boolean targetOnly, boolean separateInnerClass) {
-		Map<String, List<Integer>> traceMap = new HashMap<>();
-		if (npeInfoPath.toFile().exists()) {
-			try {
-                String jsonStr = Files.readString(npeInfoPath);
-				JSONObject root = new JSONObject(jsonStr);
-				JSONArray traceArray = root.getJSONArray("npe.traces");
-
-				for (int i = 0; i < traceArray.length(); i++) {
-					JSONObject traceNode = traceArray.getJSONObject(i);
-					JSONArray tracesArray = traceNode.getJSONArray("traces");
-					for (int j = 0; j < tracesArray.length(); j++) {
-						JSONObject trace = tracesArray.getJSONObject(j);
-						boolean isTarget = trace.optBoolean("is_target", true);
-						if (targetOnly && !isTarget) {
-							continue;
-						}
-						String className = separateInnerClass ? trace.getString("class")
-								: CodeUtils.getIncludingClass(trace.getString("class"));
-                        traceMap.putIfAbsent(className, new ArrayList<>());
-                        traceMap.get(className).add(trace.getInt("line"));
-					}
-				}
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-		}
-
-		return traceMap;
-	}
+        Map<String, List<Integer>> traceMap = new HashMap<>();
+        if (npeInfoPath.toFile().exists()) {
+            //Traces are read one by one, and only their lines are kept.
+            try (NPETraceReader reader = new NPETraceReader(npeInfoPath)) {
+                return toTraceInfo(reader, targetOnly, separateInnerClass);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        return traceMap;
+    }
+
+    /**
+     * Returns lines of stack traces for each class.
+     */
+    public static Map<String, List<Integer>> toTraceInfo(Iterator<NPETrace> traces, boolean targetOnly, boolean separateInnerClass) {
+        Map<String, List<Integer>> traceMap = new HashMap<>();
+        while (traces.hasNext()) {
+            for (StackTrace trace : traces.next().traces) {
+                if (targetOnly && !trace.isTarget) {
+                    continue;
+                }
+                String className = separateInnerClass ? trace.className
+                        : CodeUtils.getIncludingClass(trace.className);
+                traceMap.putIfAbsent(className, new ArrayList<>());
+                traceMap.get(className).add(trace.lineNum);
+            }
+        }
+        return traceMap;
+    }
 
     public static TestInfo loadTestsInfo(Path testsInfoPath) throws IOException {
         String jsonStr = Files.readString(testsInfoPath);
@@ -188,20 +188,7 @@ public class JSONUtils {
                 for (int i = 0; i < classesArray.length(); i++) {
                     JSONObject classInfo = classesArray.getJSONObject(i);
                     String classId = classInfo.getString("classId");
-                    LineMatcher matcher = new LineMatcher();
-                    JSONArray ranges = classInfo.getJSONArray("probe_ranges");
-
-                    for (int j = 0; j < ranges.length(); j++) {
-                        JSONObject range = ranges.getJSONObject(j);
-                        ProbeRange probeRange = new ProbeRange(
-                                range.getInt(ProbeRange.K_START_LINE),
-                                range.getInt(ProbeRange.K_END_LINE),
-                                range.getInt(ProbeRange.K_ORG_LINE_START),
-                                range.getInt(ProbeRange.K_ORG_LINE_END),
-                                range.getInt(ProbeRange.K_PROBED_LINE_END),
-                                range.getInt(ProbeRange.K_OFFSET));
-                        matcher.addProbeRange(probeRange);
-                    }
+                    LineMatcher matcher = toLineMatcher(classInfo.getJSONArray("probe_ranges"));
                     matchers.put(classId, matcher);
                 }
             } catch (IOException e) {
@@ -218,19 +205,7 @@ public class JSONUtils {
         for (String classId : matchers.keySet()) {
             JSONObject classInfo = new JSONObject();
             classInfo.put("classId", classId);
-            JSONArray ranges = new JSONArray();
-            classInfo.put("probe_ranges", ranges);
-            LineMatcher matcher = matchers.get(classId);
-            matcher.getProbeRanges().forEach((startLine, probeRange) -> {
-                JSONObject node = new JSONObject();
-                node.put(ProbeRange.K_START_LINE, probeRange.getStartLine());
-                node.put(ProbeRange.K_END_LINE, probeRange.getEndLine());
-                node.put(ProbeRange.K_ORG_LINE_START, probeRange.getOrgLineStart());
-                node.put(ProbeRange.K_ORG_LINE_END, probeRange.getOrgLineEnd());
-                node.put(ProbeRange.K_PROBED_LINE_END, probeRange.getProbedLineEnd());
-                node.put(ProbeRange.K_OFFSET, probeRange.getOffset());
-                ranges.put(node);
-            });
+            classInfo.put("probe_ranges", toJSONArray(matchers.get(classId)));
             infoArray.put(classInfo);
         }
 
@@ -245,6 +220,37 @@ public class JSONUtils {
         }
     }
 
+    public static JSONArray toJSONArray(LineMatcher matcher) {
+        JSONArray ranges = new JSONArray();
+        matcher.getProbeRanges().forEach((startLine, probeRange) -> {
+            JSONObject node = new JSONObject();
+            node.put(ProbeRange.K_START_LINE, probeRange.getStartLine());
+            node.put(ProbeRange.K_END_LINE, probeRange.getEndLine());
+            node.put(ProbeRange.K_ORG_LINE_START, probeRange.getOrgLineStart());
+            node.put(ProbeRange.K_ORG_LINE_END, probeRange.getOrgLineEnd());
+            node.put(ProbeRange.K_PROBED_LINE_END, probeRange.getProbedLineEnd());
+            node.put(ProbeRange.K_OFFSET, probeRange.getOffset());
+            ranges.put(node);
+        });
+        return ranges;
+    }
+
+    public static LineMatcher toLineMatcher(JSONArray ranges) {
+        LineMatcher matcher = new LineMatcher();
+        for (int i = 0; i < ranges.length(); i++) {
+            JSONObject range = ranges.getJSONObject(i);
+            ProbeRange probeRange = new ProbeRange(
+                    range.getInt(ProbeRange.K_START_LINE),
+                    range.getInt(ProbeRange.K_END_LINE),
+                    range.getInt(ProbeRange.K_ORG_LINE_START),
+                    range.getInt(ProbeRange.K_ORG_LINE_END),
+                    range.getInt(ProbeRange.K_PROBED_LINE_END),
+                    range.getInt(ProbeRange.K_OFFSET));
+            matcher.addProbeRange(probeRange);
+        }
+        return matcher;
+    }
+
     public static void exportCoverageInfo(CoverageInfo coverage, Path coverageInfoPath) {
         JSONObject root = new JSONObject();
 
@@ -338,7 +344,16 @@ public class JSONUtils {
     }
 
     public static void exportExecutionTime(Timer timer, Path execTimePath) {
+        exportExecutionTime(timer, null, execTimePath);
+    }
+
+    /**
+     * Exports the execution time of a timer with additional information, e.g. options of a test execution.
+     */
+    public static synchronized void exportExecutionTime(Timer timer, Map<String, Object> info, Path execTimePath) {
         JSONObject timerJsonObject = timer.getJsonObject();
+        if(info != null)
+            info.forEach(timerJsonObject::put);
         try {
             JSONObject jsonObject;
             if (Files.exists(execTimePath)) {
@@ -354,4 +369,18 @@ public class JSONUtils {
             e.printStackTrace();
         }        
     }
+
+    /**
+     * Returns a previously exported execution time of a timer, or {@code null} if it does not exist.
+     */
+    public static synchronized JSONObject loadExecutionTime(String timerName, Path execTimePath) {
+        if(!Files.exists(execTimePath))
+            return null;
+        try {
+            return new JSONObject(Files.readString(execTimePath)).optJSONObject(timerName);
+        } catch (IOException | JSONException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
 }
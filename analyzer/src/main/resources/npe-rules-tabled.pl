@@ -0,0 +1,5 @@
+%Tabled variant of npe-rules.pl, selected with rules.pl=npe-rules-tabled.pl.
+%Transfers of values and has_val/3 are evaluated with tabling instead of lists of considered pairs.
+:- create_prolog_flag(npe_rules_tabled, true, [type(boolean), keep(false)]).
+:- include('npe-rules.pl').
+:- set_prolog_flag(npe_rules_tabled, false).
@@ -145,6 +145,62 @@ originated_from(val(Expr, Val, Line), (Origin, Loc)) :-
     Origin = Expr1, Loc = Line1.
 
 %This part keeps looking for another expr which transfers the value to the current expr.
+:- if(current_prolog_flag(npe_rules_tabled, true)).
+%Tabled predicates run in the module of their definition, so they take the module of facts as an argument,
+%which also keeps their answers for facts of different modules apart.
+%Pairs are listed in the order of the first occurrences of can_be_transferred/2 below, which ranks causes,
+%by a depth-first search expanding each pair once with the tabled single steps.
+%(Expr, Line) itself is only found by a single step, as it is considered from the start.
+can_be_transferred(val(Expr, Val, Line), (Expr1, Line1)) :-
+    context_module(M),
+    transfer_steps(M, val(Expr, Val, Line), Steps),
+    empty_assoc(Empty),
+    add_transferred(Steps, Empty, Found0, [], Rev0),
+    put_assoc((Expr, Line), Found0, true, Found),
+    put_assoc((Expr, Line), Empty, true, Expanded),
+    expand_transferred(Steps, M, Val, s(Found, Expanded, Rev0), s(_, _, Rev)),
+    reverse(Rev, Pairs),
+    member((Expr1, Line1), Pairs).
+%Same as multi_step_transfer/3, single steps of all the next pairs are found before expanding each of them.
+expand_transferred(Steps, M, Val, s(Found0, Expanded, Rev0), State) :-
+    unexpanded(Steps, Expanded, Next),
+    add_next_steps(Next, M, Val, Found0, Found, Rev0, Rev),
+    expand_next(Next, M, Val, s(Found, Expanded, Rev), State).
+unexpanded([], _, []).
+unexpanded([Pair|Pairs], Expanded, Next) :-
+    (   get_assoc(Pair, Expanded, _)
+    ->  Next = Next1
+    ;   Next = [Pair|Next1]
+    ),
+    unexpanded(Pairs, Expanded, Next1).
+add_next_steps([], _, _, Found, Found, Rev, Rev).
+add_next_steps([(Expr, Line)|Pairs], M, Val, Found0, Found, Rev0, Rev) :-
+    transfer_steps(M, val(Expr, Val, Line), Steps),
+    add_transferred(Steps, Found0, Found1, Rev0, Rev1),
+    add_next_steps(Pairs, M, Val, Found1, Found, Rev1, Rev).
+expand_next([], _, _, State, State).
+expand_next([(Expr, Line)|Pairs], M, Val, s(Found0, Expanded0, Rev0), State) :-
+    (   get_assoc((Expr, Line), Expanded0, _)
+    ->  State1 = s(Found0, Expanded0, Rev0)
+    ;   put_assoc((Expr, Line), Expanded0, true, Expanded1),
+        transfer_steps(M, val(Expr, Val, Line), Steps),
+        expand_transferred(Steps, M, Val, s(Found0, Expanded1, Rev0), State1)
+    ),
+    expand_next(Pairs, M, Val, State1, State).
+add_transferred([], Found, Found, Rev, Rev).
+add_transferred([Pair|Pairs], Found0, Found, Rev0, Rev) :-
+    (   get_assoc(Pair, Found0, _)
+    ->  add_transferred(Pairs, Found0, Found, Rev0, Rev)
+    ;   put_assoc(Pair, Found0, true, Found1),
+        add_transferred(Pairs, Found1, Found, [Pair|Rev0], Rev)
+    ).
+
+%transfer_steps/3 keeps single steps of a pair in their order, where Val is bound by callers.
+:- table transfer_steps/3.
+transfer_steps(M, val(Expr, Val, Line), Steps) :-
+    findall((Expr1, Line1), M:single_step_transfer(val(Expr, Val, Line), (Expr1, Line1)), Pairs),
+    remove_duplicates(Pairs, Steps).
+:- else.
 can_be_transferred(val(Expr, Val, Line), (Expr1, Line1)) :-
     findall((Expr1, Line1), can_be_transferred_internal(val(Expr, Val, Line), (Expr1, Line1)), Pairs),
     remove_duplicates(Pairs, UniquePairs),
@@ -152,12 +208,15 @@ can_be_transferred(val(Expr, Val, Line), (Expr1, Line1)) :-
 can_be_transferred_internal(val(Expr, Val, Line), (Expr1, Line1)) :-
 	single_step_transfer(val(Expr, Val, Line), (Expr1, Line1)) ;
     multi_step_transfer(val(Expr, Val, Line), (Expr1, Line1), [(Expr, Line)]).
+:- endif.
 
 single_step_transfer(val(Expr, Val, Line), (Expr1, Line1)) :-
     copied_from_expr(val(Expr, Val, Line), (Expr1, Line1)).
 single_step_transfer(val(Expr, Val, Line), (Expr1, Line1)) :-
     is_var(Expr),
     assigned_to_var(val(Expr, Val, Line), (Expr1, Line1)).
+
+:- if(\+ current_prolog_flag(npe_rules_tabled, true)).
 single_step_transfer(val(Expr, Val, Line), (Expr1, Line1), Considered) :-
     single_step_transfer(val(Expr, Val, Line), (Expr1, Line1)),
     \+ memberchk((Expr1, Line1), Considered).
@@ -168,6 +227,7 @@ multi_step_transfer(val(Expr, Val, Line), (Expr1, Line1), Considered) :-
 multi_step_transfer(val(Expr, Val, Line), (Expr1, Line1), Considered) :-
     single_step_transfer(val(Expr, Val, Line), (Expr2, Line2), Considered),
     multi_step_transfer(val(Expr2, Val, Line2), (Expr1, Line1), [(Expr2, Line2)|Considered]).
+:- endif.
 
 %copied from another expression.
 copied_from_expr(val(Expr, Val, Line), (Expr1, Line1)) :-
@@ -201,6 +261,26 @@ val_first_introduced(Expr, Val, Line) :-
 check_val(Expr, Val, Line) :- has_val(Expr, Val, Line), !.
 
 %has_val/3 can produce candidates.
+:- if(current_prolog_flag(npe_rules_tabled, true)).
+has_val(Expr, Val, Line) :- has_val_at(Expr, Val, Line).
+has_val(Expr, Val, Line) :-
+    context_module(M),
+    copied_to(M, (Expr, Line), (Expr1, Line1)),
+    has_val_at(Expr1, Val, Line1).
+
+%copied_to/3 follows copied_from/2 transitively in the module of facts, where tabling stops at cycles.
+:- table copied_to/3.
+copied_to(M, (Expr, Line), (Expr1, Line1)) :-
+    M:copied_step((Expr, Line), (Expr1, Line1)).
+copied_to(M, (Expr, Line), (Expr1, Line1)) :-
+    copied_to(M, (Expr, Line), (Expr2, Line2)),
+    M:copied_step((Expr2, Line2), (Expr1, Line1)).
+copied_step((Expr, Line), (Expr1, Line1)) :-
+    copied_from((Expr, Line), (Expr1, Line1)).
+copied_step((Name, _), (Expr, Line1)) :-
+    is_var(Name),
+    copied_from((Name, _), (Expr, Line1)).
+:- else.
 has_val(Expr, Val, Line) :- has_val_at(Expr, Val, Line) ; has_val(Expr, Val, Line, []).
 has_val(Expr, Val, Line, Considered) :- 
     memberchk((Expr, Line), Considered),
@@ -214,6 +294,7 @@ has_val(Name, Val, _, Considered) :-
     copied_from((Name, _), (Expr, Line1)),
     \+ memberchk((Expr, Line1), Considered),
     has_val(Expr, Val, Line1, [(Expr, Line1)|Considered]).
+:- endif.
 
 %has_val_at/3 provides base cases.
 has_val_at(Expr, Val, _) :- Expr == Val.
@@ -288,13 +369,8 @@ is_test_class(ClassName) :-
 
 
 %Common utilities for convenience.
-remove_duplicates([], []).
-remove_duplicates([H|T], [H|Unique]) :-
-    remove_all(H, T, Removed),
-    remove_duplicates(Removed, Unique).
-
-remove_all(X, List, Result) :-
-    exclude(==(X), List, Result).
+%list_to_set/2 compares elements with ==/2 after sorting, and keeps the first occurrences in order.
+remove_duplicates(Total, Unique) :- list_to_set(Total, Unique).
 
 find_candidates((Expr, Line), Pred) :-
     findall((Expr, Line), Pred, Exprs),
@@ -1,11 +1,15 @@
 package kr.ac.seoultech.selab.logicfl.analyzer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 
@@ -116,6 +120,89 @@ public class DynamicAnalyzerTest {
         }
     }
 
+    @Test
+    void testProbeRecorder() {
+        try{
+            String configFilePath = "src/test/resources/config.recorder.properties";
+            StaticAnalyzer staticAnalyzer = new StaticAnalyzer(configFilePath);
+            staticAnalyzer.run();
+            DynamicAnalyzer analyzer = new DynamicAnalyzer(configFilePath);
+            analyzer.run();
+            assertTrue(analyzer.getConfig().probeValuesPath.toFile().exists());
+            List<String> lines = getFactStrings(analyzer.getConfig());
+            assertTrue(lines.stream().anyMatch(s -> s.startsWith("val") && s.contains("null")));
+            assertTrue(lines.stream().anyMatch(s -> s.startsWith("val") && (s.contains("true") || s.contains("false"))));
+            assertTrue(!lines.get(0).contains("."));
+        }catch(Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void testBreakpointRemoval() {
+        String configFilePath = "src/test/resources/config.sample.properties";
+        new StaticAnalyzer(configFilePath).run();
+        List<String> expected = getValFacts(configFilePath, config -> {});
+        assertFalse(expected.isEmpty());
+        //A val/3 fact keeps the value of the last observed hit, and booleans can be observed before the last hit.
+        //For the sample, no values appear only after the first hit.
+        List<String> limited = getValFacts(configFilePath, config -> config.breakpointHitLimit = 1);
+        assertEquals(getNullFacts(expected), getNullFacts(limited));
+        assertEquals(maskBooleans(expected), maskBooleans(limited));
+        List<String> lazy = getValFacts(configFilePath, config -> config.lazyBreakpointRemoval = true);
+        assertEquals(getNullFacts(expected), getNullFacts(lazy));
+        assertEquals(maskBooleans(expected), maskBooleans(lazy));
+    }
+
+    @Test
+    void testMappedVariablesOnly() {
+        String configFilePath = "src/test/resources/config.sample.properties";
+        new StaticAnalyzer(configFilePath).run();
+        List<String> expected = getValFacts(configFilePath,
+            config -> config.monitorMethod = Configuration.MONITOR_ALL_VISIBLE);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, getValFacts(configFilePath, config -> {
+            config.monitorMethod = Configuration.MONITOR_ALL_VISIBLE;
+            config.mappedVariablesOnly = true;
+        }));
+    }
+
+    @Test
+    void testJdiThreads() {
+        String configFilePath = "src/test/resources/config.sample.properties";
+        new StaticAnalyzer(configFilePath).run();
+        List<String> expected = getValFacts(configFilePath, config -> config.jdiThreads = 1);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, getValFacts(configFilePath, config -> config.jdiThreads = 4));
+    }
+
+    /**
+     * Runs the dynamic analyzer with modified configurations, and returns sorted val/3 facts.
+     */
+    private List<String> getValFacts(String configFilePath, Consumer<Configuration> setup) {
+        DynamicAnalyzer analyzer = new DynamicAnalyzer(configFilePath);
+        setup.accept(analyzer.getConfig());
+        analyzer.run();
+        try {
+            return getFactStrings(analyzer.getConfig()).stream()
+                .filter(s -> s.startsWith("val("))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail();
+            return null;
+        }
+    }
+
+    private List<String> getNullFacts(List<String> facts) {
+        return facts.stream().filter(s -> s.contains(", null, ")).toList();
+    }
+
+    private List<String> maskBooleans(List<String> facts) {
+        return facts.stream().map(s -> s.replaceFirst(", (true|false), ", ", boolean, ")).sorted().toList();
+    }
+
     private List<String> getFactStrings(Configuration config) throws IOException {
         File factsFile = config.flFactsPath.toFile();
         List<String> lines = Files.readAllLines(factsFile.toPath());
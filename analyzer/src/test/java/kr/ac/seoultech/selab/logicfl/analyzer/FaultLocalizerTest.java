@@ -1,13 +1,23 @@
 package kr.ac.seoultech.selab.logicfl.analyzer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import logicfl.analyzer.FaultLocalizer;
+import logicfl.analyzer.PrologEnginePool;
 import logicfl.coverage.StackTrace;
+import logicfl.logic.FactCompiler;
+import logicfl.utils.Configuration;
 
 public class FaultLocalizerTest {
     @Test
@@ -17,6 +27,116 @@ public class FaultLocalizerTest {
         localizer.run();
     }
 
+    @Test
+    void testEnginePool() throws IOException {
+        String configFilePath = "src/test/resources/config.properties";
+        FaultLocalizer consulted = new FaultLocalizer(configFilePath);
+        consulted.loadTracesFromJSON();
+        consulted.run();
+        String expected = Files.readString(consulted.getConfig().rootCausePath);
+        assertTrue(expected.contains("can be caused by"));
+        //The second run reuses rules loaded by the first run.
+        for(int i=0; i<2; i++) {
+            FaultLocalizer localizer = createLocalizer(configFilePath, "pool");
+            localizer.getConfig().prologEnginePool = true;
+            localizer.loadTracesFromJSON();
+            localizer.run();
+            assertEquals(getCandidates(consulted), getCandidates(localizer));
+            assertEquals(expected, Files.readString(localizer.getConfig().rootCausePath));
+        }
+    }
+
+    @Test
+    void testRunConcurrently() throws IOException {
+        String[] configFilePaths = { "src/test/resources/config.properties", "src/test/resources/config.sample.properties" };
+        List<String> expected = new ArrayList<>();
+        List<FaultLocalizer> localizers = new ArrayList<>();
+        for(String configFilePath : configFilePaths) {
+            FaultLocalizer localizer = createLocalizer(configFilePath, "single");
+            localizer.getConfig().prologEnginePool = true;
+            localizer.run();
+            expected.add(Files.readString(localizer.getConfig().rootCausePath));
+            localizers.add(createLocalizer(configFilePath, "concurrent"));
+        }
+        //Facts of both configurations are loaded at the same time, sharing the rules.
+        FaultLocalizer.runConcurrently(localizers);
+        for(int i=0; i<localizers.size(); i++) {
+            assertEquals(expected.get(i), Files.readString(localizers.get(i).getConfig().rootCausePath), configFilePaths[i]);
+        }
+    }
+
+    @Test
+    void testRunConcurrentlySameFacts() throws IOException {
+        String[] configFilePaths = { "src/test/resources/config.properties", "src/test/resources/config.sample.properties" };
+        List<String> expected = new ArrayList<>();
+        for(String configFilePath : configFilePaths) {
+            FaultLocalizer localizer = createLocalizer(configFilePath, "single");
+            localizer.getConfig().prologEnginePool = true;
+            localizer.run();
+            expected.add(Files.readString(localizer.getConfig().rootCausePath));
+        }
+        //Localizers of the same configuration share a facts module, which is unloaded after the last of them.
+        for(int round=0; round<2; round++) {
+            List<FaultLocalizer> localizers = new ArrayList<>();
+            for(int i=0; i<3; i++) {
+                for(String configFilePath : configFilePaths)
+                    localizers.add(createLocalizer(configFilePath, "concurrent" + i));
+            }
+            FaultLocalizer.runConcurrently(localizers);
+            for(int i=0; i<localizers.size(); i++) {
+                assertEquals(expected.get(i % configFilePaths.length),
+                    Files.readString(localizers.get(i).getConfig().rootCausePath), "round " + round + ", localizer " + i);
+            }
+        }
+    }
+
+    @Test
+    void testFactsInAnotherModule() {
+        Configuration config = new FaultLocalizer("src/test/resources/config.properties").getConfig();
+        String module = PrologEnginePool.acquire(config.rulesPath, config.flFactsPath, config.codeFactsPath);
+        try {
+            assertThrows(IllegalStateException.class,
+                () -> PrologEnginePool.acquire(Paths.get("src/main/resources/npe-rules-tabled.pl"), config.flFactsPath, config.codeFactsPath));
+        } finally {
+            PrologEnginePool.release(module, config.flFactsPath, config.codeFactsPath);
+        }
+    }
+
+    @Test
+    void testQlf() throws IOException {
+        String configFilePath = "src/test/resources/config.properties";
+        FaultLocalizer consulted = createLocalizer(configFilePath, "pl");
+        consulted.loadTracesFromJSON();
+        consulted.run();
+        String expected = Files.readString(consulted.getConfig().rootCausePath);
+        assertTrue(expected.contains("can be caused by"));
+
+        Configuration config = consulted.getConfig();
+        Path[] factsPaths = { config.flFactsPath, config.codeFactsPath };
+        try {
+            FactCompiler.compile(factsPaths);
+            for(Path factsPath : factsPaths)
+                assertEquals(FactCompiler.getQlfPath(factsPath), FactCompiler.getLoadPath(factsPath));
+            for(boolean pool : new boolean[] { false, true }) {
+                FaultLocalizer localizer = createLocalizer(configFilePath, pool ? "qlf.pool" : "qlf");
+                localizer.getConfig().factsQlf = true;
+                localizer.getConfig().prologEnginePool = pool;
+                localizer.loadTracesFromJSON();
+                localizer.run();
+                assertEquals(getCandidates(consulted), getCandidates(localizer));
+                assertEquals(expected, Files.readString(localizer.getConfig().rootCausePath));
+            }
+            //Facts modified after they are compiled are loaded instead of the quick load files.
+            for(Path factsPath : factsPaths) {
+                FactCompiler.getQlfPath(factsPath).toFile().setLastModified(factsPath.toFile().lastModified() - 1000);
+                assertEquals(factsPath, FactCompiler.getLoadPath(factsPath));
+            }
+        } finally {
+            for(Path factsPath : factsPaths)
+                Files.deleteIfExists(FactCompiler.getQlfPath(factsPath));
+        }
+    }
+
     @Test
     void testLoadTracesFromJSON() {
         String configFilePath = "src/test/resources/config.properties";
@@ -26,4 +146,22 @@ public class FaultLocalizerTest {
         assertEquals(1, traces.size());
         assertEquals("sample.Example", traces.get(0).className);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a localizer which writes its results to files of the given name.
+     */
+    private FaultLocalizer createLocalizer(String configFilePath, String name) throws IOException {
+        FaultLocalizer localizer = new FaultLocalizer(configFilePath);
+        Configuration config = localizer.getConfig();
+        String suffix = name + "." + Paths.get(configFilePath).getFileName();
+        config.rootCausePath = config.getOutputFilePath("root_cause." + suffix + ".txt");
+        config.faultyLinesPath = config.getOutputFilePath("fault_locs." + suffix + ".txt");
+        config.execTimePath = config.getOutputFilePath("exec.time." + suffix + ".json");
+        Files.deleteIfExists(config.rootCausePath);
+        return localizer;
+    }
+
+    private List<String> getCandidates(FaultLocalizer localizer) {
+        return localizer.getCandidates().stream().map(st -> st.getJSONObject().toString()).toList();
+    }
+}
@@ -0,0 +1,174 @@
+package kr.ac.seoultech.selab.logicfl.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.jpl7.Atom;
+import org.jpl7.Query;
+import org.jpl7.Term;
+import org.junit.jupiter.api.Test;
+
+import logicfl.analyzer.FaultLocalizer;
+import logicfl.analyzer.PrologEnginePool;
+import logicfl.utils.Configuration;
+
+public class RulesBenchmarkTest {
+    private static final Path RULES = Paths.get("src/main/resources/npe-rules.pl");
+    private static final Path TABLED_RULES = Paths.get("src/main/resources/npe-rules-tabled.pl");
+    private static final int[] SIZES = { 4, 8, 12 };
+    private static final int[] CHAIN_SIZES = { 500, 1000, 2000 };
+    private static final int[] VAL_SIZES = { 1000, 2000, 4000 };
+    private static final String LINE = "line(1, 10)";
+
+    @Test
+    void testTabledRules() throws IOException {
+        //A file is loaded into a single module, so each rules file has its own copy of facts.
+        for(int size : SIZES)
+            assertSameAnswers(writeLadderFacts(size, "plain"), writeLadderFacts(size, "tabled"), size);
+    }
+
+    @Test
+    void testTabledRulesOnChains() throws IOException {
+        for(int size : CHAIN_SIZES)
+            assertSameAnswers(writeChainFacts(size, "plain"), writeChainFacts(size, "tabled"), size);
+    }
+
+    private void assertSameAnswers(Path facts, Path tabledFacts, int size) throws IOException {
+        //Causes are ranked in the order of transfers, while has_val/3 is only checked.
+        String transfers = "findall((E, L), can_be_transferred(val(e0, null, " + LINE + "), (E, L)), Result)";
+        String values = "findall(V, has_val(e0, V, " + LINE + "), Vals), sort(Vals, Result)";
+        try {
+            String expected = benchmark("transfers", RULES, facts, size, transfers);
+            //Both fact bases transfer null from e0 to e1, ..., eN and f0, ..., fN-1.
+            assertEquals(2 * size, Term.textToTerm(expected).listLength());
+            assertEquals(expected, benchmark("transfers", TABLED_RULES, tabledFacts, size, transfers));
+            assertEquals(benchmark("has_val", RULES, facts, size, values),
+                benchmark("has_val", TABLED_RULES, tabledFacts, size, values));
+        } finally {
+            Files.delete(facts);
+            Files.delete(tabledFacts);
+        }
+    }
+
+    @Test
+    void testTabledLocalization() throws IOException {
+        String configFilePath = "src/test/resources/config.properties";
+        String expected = null;
+        //The tabled rules are consulted last, since they redefine the rules consulted before.
+        for(Path rulesPath : new Path[] { RULES, TABLED_RULES }) {
+            for(boolean pool : rulesPath == RULES ? new boolean[] { false, true } : new boolean[] { true, false }) {
+                FaultLocalizer localizer = new FaultLocalizer(configFilePath);
+                Configuration config = localizer.getConfig();
+                String suffix = (rulesPath == RULES ? "plain" : "tabled") + (pool ? ".pool" : ".consult");
+                config.rulesPath = rulesPath;
+                config.prologEnginePool = pool;
+                config.rootCausePath = config.getOutputFilePath("root_cause." + suffix + ".txt");
+                config.faultyLinesPath = config.getOutputFilePath("fault_locs." + suffix + ".txt");
+                Files.deleteIfExists(config.rootCausePath);
+                try {
+                    localizer.run();
+                } finally {
+                    if(!pool && rulesPath == TABLED_RULES)
+                        new Query("unload_file", new Term[] { new Atom(rulesPath.toAbsolutePath().toString()) }).hasSolution();
+                }
+                //Root causes are written in the order of answers of find_npe_cause/4.
+                String rootCauses = Files.readString(config.rootCausePath);
+                if(expected == null)
+                    expected = rootCauses;
+                assertEquals(expected, rootCauses, suffix);
+            }
+        }
+    }
+
+    @Test
+    void testRemoveDuplicates() throws IOException {
+        //Values are listed in reverse and then in order, so the first occurrences differ from the sorted order.
+        String reversed = "findall((E, L), val(E, null, L), Vals), reverse(Vals, Reversed)";
+        String vals = reversed + ", append(Reversed, Vals, Pairs)";
+        //Same as the previous remove_duplicates/2, which scans the rest of the list for each element.
+        String scan = vals + ", foldl([X, Seen0, Seen]>>((member(Y, Seen0), Y == X) -> Seen = Seen0 ; Seen = [X|Seen0]),"
+            + " Pairs, [], Scanned), reverse(Scanned, Result)";
+        String rules = vals + ", remove_duplicates(Pairs, Result)";
+        for(int size : VAL_SIZES) {
+            StringBuilder sb = new StringBuilder();
+            for(int i=0; i<size; i++)
+                sb.append(String.format("val(v%d, null, line(%d, %d)).\n", i, i % 10, i));
+            Path facts = Files.createTempFile("vals_" + size + "_", ".pl");
+            Files.writeString(facts, sb.toString());
+            String expected = benchmark("reverse", RULES, facts, size, reversed + ", Result = Reversed");
+            assertEquals(expected, benchmark("scan", RULES, facts, size, scan));
+            assertEquals(expected, benchmark("remove_duplicates", RULES, facts, size, rules));
+            Files.delete(facts);
+        }
+    }
+
+    @Test
+    void testRemoveDuplicatesOrder() throws IOException {
+        //rank_causes/2 keeps the order of causes, so remove_duplicates/2 should keep the first occurrences.
+        Path facts = Files.createTempFile("empty_", ".pl");
+        String query = "remove_duplicates([c, (b, 1), a, c, b, (b, 1), a, (b, 2)], Result)";
+        assertEquals(Term.textToTerm("[c, (b, 1), a, b, (b, 2)]").toString(), benchmark("order", RULES, facts, 8, query));
+        Files.delete(facts);
+    }
+
+    /**
+     * Writes assignments of a ladder with a cycle, e0 = f0 = e1 = f1 = ... = eN = e0,
+     * where there are 2^N paths from e0 to eN.
+     */
+    private Path writeLadderFacts(int size, String prefix) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(int i=0; i<size; i++) {
+            sb.append(String.format("assign(e%d, e%d, %s).\n", i, i+1, LINE));
+            sb.append(String.format("assign(e%d, f%d, %s).\n", i, i, LINE));
+            sb.append(String.format("assign(f%d, e%d, %s).\n", i, i+1, LINE));
+        }
+        sb.append(String.format("assign(e%d, e0, %s).\n", size, LINE));
+        for(int i=0; i<=size; i++)
+            sb.append(String.format("val(e%d, null, %s).\n", i, LINE));
+        for(int i=0; i<size; i++)
+            sb.append(String.format("val(f%d, null, %s).\n", i, LINE));
+        Path facts = Files.createTempFile(prefix + "_ladder_" + size + "_", ".pl");
+        Files.writeString(facts, sb.toString());
+        return facts;
+    }
+
+    /**
+     * Writes assignments of a chain with a cycle, e0 = e1 = ... = eN = e0,
+     * where each ei also has a leaf fi, so that there are 2N pairs transferred from e0.
+     */
+    private Path writeChainFacts(int size, String prefix) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(int i=0; i<size; i++) {
+            sb.append(String.format("assign(e%d, e%d, %s).\n", i, i+1, LINE));
+            sb.append(String.format("assign(e%d, f%d, %s).\n", i, i, LINE));
+        }
+        sb.append(String.format("assign(e%d, e0, %s).\n", size, LINE));
+        for(int i=0; i<=size; i++)
+            sb.append(String.format("val(e%d, null, %s).\n", i, LINE));
+        for(int i=0; i<size; i++)
+            sb.append(String.format("val(f%d, null, %s).\n", i, LINE));
+        Path facts = Files.createTempFile(prefix + "_chain_" + size + "_", ".pl");
+        Files.writeString(facts, sb.toString());
+        return facts;
+    }
+
+    private String benchmark(String name, Path rulesPath, Path factsPath, int size, String textQuery) {
+        String module = PrologEnginePool.acquire(rulesPath, factsPath);
+        try {
+            long start = System.nanoTime();
+            Map<String, Term> solution = PrologEnginePool.query(module, "abolish_all_tables, " + textQuery).oneSolution();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            Term result = solution.get("Result");
+            System.out.printf("%s with %s - size %d, %d answers, %d ms\n", name, rulesPath.getFileName(), size,
+                result.listLength(), millis);
+            return result.toString();
+        } finally {
+            PrologEnginePool.release(module, factsPath);
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package kr.ac.seoultech.selab.logicfl.analyzer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
 import logicfl.analyzer.StaticAnalyzer;
 import logicfl.coverage.CoverageAnalyzer;
 import logicfl.utils.Configuration;
+import logicfl.utils.InMemoryCompiler;
+import logicfl.utils.IncrementalCompiler;
 
 public class StaticAnalyzerTest {
 
@@ -40,6 +50,9 @@ public class StaticAnalyzerTest {
             assertTrue(lines.size() > 10);
             assertTrue(lines.stream().anyMatch(s -> s.startsWith("ref")));
             assertTrue(lines.stream().anyMatch(s -> s.startsWith("throw")));
+            //Traces are read again from the file when facts are exported.
+            assertTrue(lines.stream().anyMatch(s -> s.startsWith("test_failure")));
+            assertTrue(lines.stream().anyMatch(s -> s.startsWith("trace")));
             assertTrue(lines.stream().anyMatch(s -> s.startsWith("cond_expr")));
             assertTrue(classDir.toFile().exists());
             verifyCodeFacts(config);
@@ -134,6 +147,173 @@ public class StaticAnalyzerTest {
         }
     }
 
+    @Test
+    void testParallel() {
+        String configFilePath = "src/test/resources/config.sample.properties";
+        Configuration config = new Configuration(configFilePath);
+        checkCoverageInfo(configFilePath, config);
+        try {
+            config.staticThreads = 1;
+            new StaticAnalyzer(config).run();
+            String facts = Files.readString(config.flFactsPath);
+            String codeFacts = Files.readString(config.codeFactsPath);
+
+            config.staticThreads = 4;
+            new StaticAnalyzer(config).run();
+            assertEquals(facts, Files.readString(config.flFactsPath));
+            assertEquals(codeFacts, Files.readString(config.codeFactsPath));
+            assertTrue(config.getOutputFilePath("classes").toFile().exists());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void testStaticCache() {
+        String configFilePath = "src/test/resources/config.sample.properties";
+        Configuration config = new Configuration(configFilePath);
+        checkCoverageInfo(configFilePath, config);
+        try {
+            new StaticAnalyzer(config).run();
+            String facts = Files.readString(config.flFactsPath);
+            String codeFacts = Files.readString(config.codeFactsPath);
+
+            config.staticCache = true;
+            new StaticAnalyzer(config).run();
+            assertTrue(config.staticCachePath.toFile().exists());
+            new StaticAnalyzer(config).run();
+            assertEquals(facts, Files.readString(config.flFactsPath));
+            assertEquals(codeFacts, Files.readString(config.codeFactsPath));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void testIncrementalCompile() {
+        String configFilePath = "src/test/resources/config.sample.properties";
+        Configuration config = new Configuration(configFilePath);
+        checkCoverageInfo(configFilePath, config);
+        config.incrementalCompile = true;
+        new StaticAnalyzer(config).run();
+        assertTrue(config.compileStatePath.toFile().exists());
+        List<File> classFiles = getClassFiles(config.getOutputFilePath("classes"));
+        assertTrue(classFiles.size() > 0);
+        Map<File, Long> modified = new HashMap<>();
+        classFiles.forEach(f -> modified.put(f, f.lastModified()));
+
+        //Nothing is changed, so no class file should be rewritten.
+        new StaticAnalyzer(config).run();
+        for(File f : classFiles) {
+            assertTrue(f.exists());
+            assertEquals(modified.get(f), f.lastModified());
+        }
+    }
+
+    @Test
+    void testIncrementalDependents() throws IOException {
+        Configuration config = new Configuration("src/test/resources/config.properties");
+        Path srcDir = config.getOutputFilePath("incremental/src");
+        Path classDir = config.getOutputFilePath("incremental/classes");
+        Path statePath = config.getOutputFilePath("incremental/compile.state.json");
+        deleteDirectory(config.getOutputFilePath("incremental"));
+        Files.createDirectories(srcDir.resolve("inc"));
+        //B uses a constant of A, which is inlined into B, while C is independent.
+        Files.writeString(srcDir.resolve("inc/A.java"), "package inc;\npublic class A { public static final int N = 1; }\n");
+        Files.writeString(srcDir.resolve("inc/B.java"), "package inc;\npublic class B { int n = A.N; }\n");
+        Files.writeString(srcDir.resolve("inc/C.java"), "package inc;\npublic class C { class Inner {} }\n");
+        String[] classPath = new String[0];
+        IncrementalCompiler compiler = new IncrementalCompiler(statePath);
+        assertTrue(compiler.compile(srcDir, classDir, classPath));
+        File a = classDir.resolve("inc/A.class").toFile();
+        File b = classDir.resolve("inc/B.class").toFile();
+        File c = classDir.resolve("inc/C.class").toFile();
+        File inner = classDir.resolve("inc/C$Inner.class").toFile();
+        for(File f : List.of(a, b, c, inner))
+            assertTrue(f.exists());
+
+        //A and its dependent B are compiled again, while C is kept.
+        Files.writeString(srcDir.resolve("inc/A.java"), "package inc;\npublic class A { public static final int N = 2; }\n");
+        for(File f : List.of(a, b, c, inner))
+            f.setLastModified(0);
+        assertTrue(compiler.compile(srcDir, classDir, classPath));
+        assertNotEquals(0, a.lastModified());
+        assertNotEquals(0, b.lastModified());
+        assertEquals(0, c.lastModified());
+        assertEquals(0, inner.lastModified());
+
+        //Only B is compiled again, with A on the class path.
+        Files.writeString(srcDir.resolve("inc/B.java"), "package inc;\npublic class B { int n = A.N + 1; }\n");
+        for(File f : List.of(a, b))
+            f.setLastModified(0);
+        assertTrue(compiler.compile(srcDir, classDir, classPath));
+        assertEquals(0, a.lastModified());
+        assertNotEquals(0, b.lastModified());
+
+        //Class files of a removed source are removed.
+        Files.delete(srcDir.resolve("inc/C.java"));
+        assertTrue(compiler.compile(srcDir, classDir, classPath));
+        assertFalse(c.exists());
+        assertFalse(inner.exists());
+        assertTrue(a.exists());
+
+        //A failed source is compiled again next time.
+        Files.writeString(srcDir.resolve("inc/B.java"), "package inc;\npublic class B { int n = A.M; }\n");
+        assertFalse(compiler.compile(srcDir, classDir, classPath));
+        assertFalse(b.exists());
+        Files.writeString(srcDir.resolve("inc/B.java"), "package inc;\npublic class B { int n = A.N; }\n");
+        assertTrue(compiler.compile(srcDir, classDir, classPath));
+        assertTrue(b.exists());
+        compiler.close();
+    }
+
+    @Test
+    void testInMemoryCompile() {
+        String configFilePath = "src/test/resources/config.sample.properties";
+        Configuration config = new Configuration(configFilePath);
+        checkCoverageInfo(configFilePath, config);
+        config.inMemoryCompile = true;
+        new StaticAnalyzer(config).run();
+        assertTrue(config.probedJarPath.toFile().exists());
+        assertFalse(config.getOutputFilePath("src").toFile().exists());
+        try (JarFile jar = new JarFile(config.probedJarPath.toFile())) {
+            assertTrue(jar.stream().anyMatch(e -> e.getName().endsWith(".class")));
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Test
+    void testInMemoryCompileFailure() throws IOException {
+        Configuration config = new Configuration("src/test/resources/config.properties");
+        Path jarPath = config.getOutputFilePath("failed.probed.jar");
+        assertTrue(InMemoryCompiler.compileToJar(Map.of("inc.A", "package inc;\npublic class A {}\n"), jarPath, ""));
+        assertTrue(jarPath.toFile().exists());
+
+        //A jar of the previous compilation should not be left behind.
+        assertFalse(InMemoryCompiler.compileToJar(Map.of("inc.A", "package inc;\npublic class A { x }\n"), jarPath, ""));
+        assertFalse(jarPath.toFile().exists());
+    }
+
+    private void deleteDirectory(Path dir) throws IOException {
+        if(!dir.toFile().exists())
+            return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private List<File> getClassFiles(Path classDir) {
+        try {
+            return Files.walk(classDir)
+                .filter(p -> p.toString().endsWith(".class"))
+                .map(Path::toFile)
+                .toList();
+        } catch (IOException e) {
+            return fail(e);
+        }
+    }
+
     private void verifyCodeFacts(Configuration config) throws IOException {
         File codeFactsFile = config.codeFactsPath.toFile();
         List<String> lines = Files.readAllLines(codeFactsFile.toPath());
@@ -1,16 +1,32 @@
 package kr.ac.seoultech.selab.logicfl.coverage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
 import logicfl.coverage.CoverageAnalyzer;
 import logicfl.coverage.CoverageInfo;
+import logicfl.coverage.CoverageMatrix;
+import logicfl.coverage.OfflineInstrumenter;
+import logicfl.coverage.TestExecPolicy;
+import logicfl.coverage.TestRunnerDaemonClient;
 import logicfl.utils.Configuration;
 import logicfl.utils.JSONUtils;
 
@@ -33,6 +49,205 @@ public class CoverageAnalyzerTest {
         }
     }
 
+    @Test
+    void testPerTestCoverage() {
+        String configFilePath = "src/test/resources/config.properties";
+        Configuration config = new Configuration(configFilePath);
+        config.perTestCoverage = true;
+        config.coverageInfoPath = config.getOutputFilePath("coverage.per.test.json");
+        CoverageAnalyzer analyzer = new CoverageAnalyzer(configFilePath, config);
+        analyzer.run();
+        try {
+            CoverageInfo coverage = JSONUtils.loadCoverage(config.coverageInfoPath);
+            assertTrue(coverage.isCovered("sample.Example", 8));
+            CoverageMatrix matrix = CoverageMatrix.load(config.coverageMatrixPath);
+            int failed = matrix.getTests().indexOf("sample.ExampleTest#test1");
+            assertTrue(failed >= 0);
+            assertTrue(matrix.isFailed(failed));
+            assertTrue(matrix.isCovered(failed, "sample.Example", 8));
+            assertTrue(matrix.getOchiai("sample.Example", 8) > 0);
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail();
+        }
+    }
+
+    @Test
+    void testCoverageThreads() {
+        String configFilePath = "src/test/resources/config.properties";
+        Configuration config = new Configuration(configFilePath);
+        config.coverageThreads = 1;
+        config.coverageInfoPath = config.getOutputFilePath("coverage.threads.json");
+        CoverageInfo expected = runExample(configFilePath, config);
+        //The same execution data are analyzed on multiple workers.
+        config.coverageThreads = 4;
+        Path coverageInfoPath = config.getOutputFilePath("coverage.threads.4.json");
+        try {
+            new CoverageAnalyzer(configFilePath, config).analyzeCoverageData(new CoverageInfo(), coverageInfoPath,
+                config.npeInfoPath);
+            CoverageInfo coverage = JSONUtils.loadCoverage(coverageInfoPath);
+            assertEquals(expected.getClasses(), coverage.getClasses());
+            for(String className : expected.getClasses())
+                assertEquals(expected.getCoverage(className), coverage.getCoverage(className));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail();
+        }
+    }
+
+    @Test
+    void testTestShards() {
+        String configFilePath = "src/test/resources/config.properties";
+        Configuration config = new Configuration(configFilePath);
+        config.testShards = 2;
+        config.testsInfoPath = Paths.get("src/test/resources/tests.shards.json");
+        config.coverageInfoPath = config.getOutputFilePath("coverage.shards.json");
+        CoverageInfo coverage = runExample(configFilePath, config);
+        assertTrue(coverage.isCovered("sample.SampleTest", 10));
+        //Each shard is recorded separately.
+        for(int i=0; i<2; i++) {
+            JSONObject execTime = JSONUtils.loadExecutionTime(TestExecPolicy.getTimerName(true, i), config.execTimePath);
+            assertTrue(execTime != null);
+            assertEquals(1, execTime.getInt("selected_tests"));
+        }
+        //Execution data of shards are merged, and the directory of shards is removed.
+        assertTrue(config.jacocoExecPath.toFile().exists());
+        File[] shardDirs = config.jacocoExecPath.toAbsolutePath().getParent().toFile()
+            .listFiles(f -> f.isDirectory() && f.getName().startsWith("shards"));
+        assertEquals(0, shardDirs.length);
+    }
+
+    @Test
+    void testTestDaemon() {
+        String configFilePath = "src/test/resources/config.properties";
+        Configuration config = new Configuration(configFilePath);
+        config.testDaemon = true;
+        config.coverageInfoPath = config.getOutputFilePath("coverage.daemon.json");
+        //The class initializer of a test class should be executed on each run.
+        CoverageInfo coverage = runExample(configFilePath, config);
+        assertTrue(coverage.isCovered("sample.ExampleTest", 23));
+        Set<Long> pids = TestRunnerDaemonClient.getDaemonPids();
+        assertFalse(pids.isEmpty());
+        //The second run reuses the daemon started by the first run.
+        coverage = runExample(configFilePath, config);
+        assertTrue(coverage.isCovered("sample.ExampleTest", 23));
+        assertEquals(pids, TestRunnerDaemonClient.getDaemonPids());
+    }
+
+    @Test
+    void testInProcess() {
+        String configFilePath = "src/test/resources/config.properties";
+        Configuration config = new Configuration(configFilePath);
+        config.testInProcess = true;
+        config.coverageInfoPath = config.getOutputFilePath("coverage.in.process.json");
+        try {
+            Files.deleteIfExists(config.jacocoExecPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail();
+        }
+        runExample(configFilePath, config);
+        //Coverage is collected in memory without the agent.
+        assertFalse(config.jacocoExecPath.toFile().exists());
+    }
+
+    @Test
+    void testOfflineInstrumentation() {
+        String configFilePath = "src/test/resources/config.properties";
+        Configuration config = new Configuration(configFilePath);
+        config.offlineInstrumentation = true;
+        config.coverageInfoPath = config.getOutputFilePath("coverage.offline.json");
+        deleteDirectory(config.instrumentedClassesPath);
+        runExample(configFilePath, config);
+        File[] outputDirs = config.instrumentedClassesPath.toFile().listFiles(File::isDirectory);
+        assertTrue(outputDirs != null && outputDirs.length > 0);
+        List<File> classFiles = new ArrayList<>();
+        for(File outputDir : outputDirs) {
+            assertTrue(new File(outputDir, OfflineInstrumenter.INDEX_FILE).exists());
+            classFiles.addAll(getClassFiles(outputDir.toPath()));
+        }
+        assertFalse(classFiles.isEmpty());
+
+        //The second run reuses instrumented classes of the first run, so no class should be instrumented again.
+        classFiles.forEach(f -> f.setLastModified(0));
+        runExample(configFilePath, config);
+        for(File f : classFiles) {
+            assertTrue(f.exists());
+            assertEquals(0, f.lastModified());
+        }
+    }
+
+    @Test
+    void testOfflineAgentChange() throws IOException {
+        Configuration config = new Configuration("src/test/resources/config.properties");
+        String classPath = String.join(File.pathSeparator, config.classPath);
+        Path outputDir = new OfflineInstrumenter(config).instrument(classPath);
+
+        //Another version of the agent has its runtime in another package.
+        Path agentPath = config.getOutputFilePath("other.jacocoagent.jar");
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(agentPath))) {
+            jar.putNextEntry(new JarEntry("org/jacoco/agent/rt/internal_0000000/Offline.class"));
+            jar.closeEntry();
+        }
+        config.jacocoPath = agentPath.toString();
+        Path otherOutputDir = new OfflineInstrumenter(config).instrument(classPath);
+        assertNotEquals(outputDir, otherOutputDir);
+        assertTrue(otherOutputDir.resolve(OfflineInstrumenter.INDEX_FILE).toFile().exists());
+        Files.delete(agentPath);
+    }
+
+    /**
+     * Runs the coverage analyzer on the example, and checks the coverage common to all test execution modes.
+     */
+    private CoverageInfo runExample(String configFilePath, Configuration config) {
+        CoverageAnalyzer analyzer = new CoverageAnalyzer(configFilePath, config);
+        analyzer.run();
+        CoverageInfo coverage = null;
+        try {
+            coverage = JSONUtils.loadCoverage(config.coverageInfoPath);
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail();
+        }
+        assertTrue(coverage.isCovered("sample.Example", 8));
+        assertTrue(coverage.isCovered("sample.Example", 32));
+        assertTrue(!coverage.isCovered("sample.ExampleTest", 14));
+        return coverage;
+    }
+
+    private List<File> getClassFiles(Path directory) {
+        try (var files = Files.walk(directory)) {
+            return files.filter(p -> p.toString().endsWith(".class")).map(Path::toFile).toList();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return List.of();
+        }
+    }
+
+    private void deleteDirectory(Path directory) {
+        if(!directory.toFile().exists())
+            return;
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void testAdaptiveTimeout() {
+        String configFilePath = "src/test/resources/config.properties";
+        Configuration config = new Configuration(configFilePath);
+        config.adaptiveTimeout = true;
+        config.coverageInfoPath = config.getOutputFilePath("coverage.adaptive.json");
+        CoverageAnalyzer analyzer = new CoverageAnalyzer(configFilePath, config);
+        analyzer.run();
+        JSONObject execTime = JSONUtils.loadExecutionTime(TestExecPolicy.FAILED_TESTS_TIMER, config.execTimePath);
+        assertTrue(execTime != null);
+        assertTrue(execTime.getLong("timeout_millis") >= config.testTimeout);
+        assertTrue(execTime.getLong("peak_heap_bytes") > 0);
+    }
+
     @Test
     void testExampleFilter() {
         String configFilePath = "src/test/resources/config.properties";
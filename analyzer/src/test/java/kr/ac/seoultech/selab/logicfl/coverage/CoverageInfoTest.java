@@ -0,0 +1,127 @@
+package kr.ac.seoultech.selab.logicfl.coverage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import logicfl.coverage.CoverageInfo;
+import logicfl.utils.Configuration;
+import logicfl.utils.JSONUtils;
+
+public class CoverageInfoTest {
+
+    @Test
+    void testAdd() {
+        CoverageInfo coverage = new CoverageInfo();
+        coverage.addCoverage("sample.Example", 8);
+        coverage.addCoverage("sample.Example", 12);
+        assertEquals(1, coverage.getCount("sample.Example", 8));
+
+        //Counts are kept once a line is hit again.
+        coverage.addCoverage("sample.Example", 8);
+        coverage.addCoverage("sample.Example", Map.of(12, 3, 100, 2));
+        assertEquals(2, coverage.getCount("sample.Example", 8));
+        assertEquals(4, coverage.getCount("sample.Example", 12));
+        assertEquals(2, coverage.getCount("sample.Example", 100));
+        assertEquals(Map.of(8, 2, 12, 4, 100, 2), coverage.getCoverage("sample.Example"));
+
+        //Invalid lines and counts are ignored.
+        coverage.addCoverage("sample.Example", -1);
+        coverage.addCoverage("sample.Example", Map.of(20, 0));
+        assertEquals(0, coverage.getCount("sample.Example", -1));
+        assertFalse(coverage.isCovered("sample.Example", 20));
+
+        BitSet lines = new BitSet();
+        lines.set(3);
+        lines.set(5);
+        coverage.addCoverage("sample.Person", lines);
+        coverage.addCoverage("sample.Person", lines);
+        assertEquals(2, coverage.getCount("sample.Person", 5));
+
+        coverage.addClass("sample.ExampleTest");
+        assertEquals(Set.of("sample.Example", "sample.Person", "sample.ExampleTest"), coverage.getClasses());
+        assertEquals(Map.of(), coverage.getCoverage("sample.ExampleTest"));
+        assertNull(coverage.getCoverage("sample.Unknown"));
+    }
+
+    @Test
+    void testFirstCount() {
+        CoverageInfo coverage = new CoverageInfo();
+        coverage.addCoverage("sample.Example", Map.of(5, 3));
+        assertEquals(3, coverage.getCount("sample.Example", 5));
+        coverage.addCoverage("sample.Example", 8);
+        assertEquals(1, coverage.getCount("sample.Example", 8));
+        coverage.addCoverage("sample.Example", Map.of(5, 2, 8, 4));
+        assertEquals(5, coverage.getCount("sample.Example", 5));
+        assertEquals(5, coverage.getCount("sample.Example", 8));
+
+        //The returned map is a copy without lines of count 0.
+        coverage.addCoverage("sample.Person", Map.of(3, 0, 4, 2));
+        Map<Integer, Integer> counts = coverage.getCoverage("sample.Person");
+        assertEquals(Map.of(4, 2), counts);
+        counts.put(10, 1);
+        assertFalse(coverage.isCovered("sample.Person", 10));
+    }
+
+    @Test
+    void testIsCovered() {
+        CoverageInfo coverage = new CoverageInfo();
+        coverage.addCoverage("sample.Example", 8);
+        coverage.addCoverage("sample.Example", 32);
+        assertTrue(coverage.isCovered("sample.Example", 8));
+        assertTrue(coverage.isCovered("sample.Example", 32));
+        assertFalse(coverage.isCovered("sample.Example", 9));
+        assertFalse(coverage.isCovered("sample.Example", -1));
+        assertFalse(coverage.isCovered("sample.Person", 8));
+    }
+
+    @Test
+    void testLineRange() {
+        CoverageInfo coverage = new CoverageInfo();
+        coverage.addCoverage("sample.Example", 8);
+        coverage.addCoverage("sample.Example", 32);
+        assertTrue(coverage.isCovered("sample.Example", 1, 8));
+        assertTrue(coverage.isCovered("sample.Example", 8, 8));
+        assertTrue(coverage.isCovered("sample.Example", 10, 40));
+        assertFalse(coverage.isCovered("sample.Example", 9, 31));
+        assertFalse(coverage.isCovered("sample.Example", 33, 100));
+        assertFalse(coverage.isCovered("sample.Example", -10, 7));
+        assertFalse(coverage.isCovered("sample.Person", 1, 100));
+
+        BitSet lines = coverage.getCoveredLineSet("sample.Example");
+        assertEquals(List.of(8, 32), lines.stream().boxed().toList());
+        //The returned set is a copy.
+        lines.set(10);
+        assertFalse(coverage.isCovered("sample.Example", 10));
+        assertNull(coverage.getCoveredLineSet("sample.Person"));
+        assertEquals(Map.of("sample.Example", List.of(8, 32)), coverage.getCoveredLines());
+    }
+
+    @Test
+    void testJSONRoundTrip() {
+        CoverageInfo coverage = new CoverageInfo();
+        coverage.addCoverage("sample.Example", Map.of(8, 2, 32, 1));
+        coverage.addCoverage("sample.Person", 13);
+        coverage.addClass("sample.ExampleTest");
+        Configuration config = new Configuration("src/test/resources/config.properties");
+        Path path = config.getOutputFilePath("coverage.round.trip.json");
+        JSONUtils.exportCoverageInfo(coverage, path);
+
+        //Hit counts are not stored in JSON, so each covered line is loaded with a count of 1.
+        CoverageInfo loaded = JSONUtils.loadCoverage(path);
+        assertEquals(coverage.getClasses(), loaded.getClasses());
+        assertEquals(coverage.getCoveredLines(), loaded.getCoveredLines());
+        assertEquals(Map.of(8, 1, 32, 1), loaded.getCoverage("sample.Example"));
+        assertTrue(loaded.isCovered("sample.Person", 13));
+        assertEquals(Map.of(), loaded.getCoverage("sample.ExampleTest"));
+    }
+}
@@ -0,0 +1,81 @@
+package kr.ac.seoultech.selab.logicfl.coverage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import logicfl.coverage.TestExecPolicy;
+import logicfl.coverage.TestOutputHandler;
+import logicfl.coverage.TestRunner;
+import logicfl.utils.Configuration;
+
+public class TestOutputHandlerTest {
+
+    @Test
+    void testOutputLimit() {
+        Configuration config = new Configuration("src/test/resources/config.properties");
+        config.testOutputLimit = 20;
+        Path spillPath = config.getOutputFilePath("test.output.handler.log");
+        try {
+            Files.deleteIfExists(spillPath);
+            TestOutputHandler handler = createHandler(config, spillPath);
+            //Each forwarded line is counted with its line separator.
+            handler.handleLine("0123456789");
+            handler.handleLine(TestRunner.PROGRESS + " " + TestRunner.STARTED + " sample.ExampleTest#test1");
+            handler.handleLine("abcdefgh");
+            handler.handleLine(TestRunner.PROGRESS + " " + TestRunner.FAILED + " sample.ExampleTest#test1");
+            handler.handleLine(TestRunner.PROGRESS + " " + TestRunner.STARTED + " sample.ExampleTest#test2");
+            handler.handleLine("exceeds");
+            handler.handleLine(TestRunner.PROGRESS + " " + TestRunner.PASSED + " sample.ExampleTest#test2");
+            //Once the limit is reached, all remaining lines are spilled.
+            handler.handleLine("a");
+            handler.handleLine(TestExecPolicy.STATS + " tests=2 peak_heap=100");
+            handler.close();
+
+            assertEquals(List.of("exceeds", "a"), Files.readAllLines(spillPath));
+            assertEquals(2, handler.getStartedCount());
+            assertEquals(1, handler.getPassedCount());
+            assertEquals(1, handler.getFailedCount());
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail();
+        }
+    }
+
+    @Test
+    void testNoOutputLimit() {
+        Configuration config = new Configuration("src/test/resources/config.properties");
+        config.testOutputLimit = 0;
+        Path spillPath = config.getOutputFilePath("test.output.handler.unlimited.log");
+        try {
+            Files.deleteIfExists(spillPath);
+            TestOutputHandler handler = createHandler(config, spillPath);
+            for(int i=0; i<100; i++)
+                handler.handleLine("0123456789");
+            handler.handleLine(TestRunner.PROGRESS + " " + TestRunner.STARTED + " sample.ExampleTest#test1");
+            handler.handleLine(TestRunner.PROGRESS + " " + TestRunner.PASSED + " sample.ExampleTest#test1");
+            handler.close();
+
+            assertFalse(spillPath.toFile().exists());
+            assertEquals(1, handler.getStartedCount());
+            assertEquals(1, handler.getPassedCount());
+            assertEquals(0, handler.getFailedCount());
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail();
+        }
+    }
+
+    private TestOutputHandler createHandler(Configuration config, Path spillPath) {
+        TestExecPolicy policy = TestExecPolicy.create(config, config.testsInfoPath.toString(), true);
+        policy.setOutputSpillPath(spillPath);
+        return new TestOutputHandler(policy);
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +45,28 @@ public class CodeUtilsTest {
         assertEquals("sample1_1", CodeUtils.camelToLower("Sample1_1"));
     }
 
+    @Test
+    void testGetCompilationUnits() {
+        String[] srcPath = new String[]{ "src/test/java" };
+        String[] classPath = new String[]{ "src/test/resources/test-sample.jar" };
+        Map<String, Path> sourceFiles = new HashMap<>();
+        sourceFiles.put("sample.Example", CodeUtils.getSourceFile("sample.Example", srcPath));
+        sourceFiles.put("sample.Person", CodeUtils.getSourceFile("sample.Person", srcPath));
+        Map<String, CompilationUnit> units = CodeUtils.getCompilationUnits(sourceFiles, classPath, srcPath);
+        assertEquals(2, units.size());
+        List<ITypeBinding> bindings = new ArrayList<>();
+        units.get("sample.Example").accept(new ASTVisitor() {
+            @Override
+            public boolean visit(SimpleName node) {
+                if(node.getIdentifier().equals("Person") && node.resolveTypeBinding() != null)
+                    bindings.add(node.resolveTypeBinding());
+                return false;
+            }
+        });
+        assertTrue(bindings.size() > 0);
+        assertEquals("sample.Person", bindings.get(0).getErasure().getQualifiedName());
+    }
+
     @Test
     void testGetTypeName() {
         assertEquals("Assignment", CodeUtils.getTypeName(ASTNode.ASSIGNMENT));
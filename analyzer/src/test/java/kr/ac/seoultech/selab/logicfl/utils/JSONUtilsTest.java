@@ -1,5 +1,6 @@
 package kr.ac.seoultech.selab.logicfl.utils;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -16,7 +17,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import logicfl.coverage.CoverageInfo;
+import logicfl.coverage.CoverageStore;
 import logicfl.coverage.NPETrace;
+import logicfl.coverage.NPETraceWriter;
 import logicfl.coverage.TestInfo;
 import logicfl.probe.LineMatcher;
 import logicfl.probe.ProbeRange;
@@ -101,10 +104,47 @@ public class JSONUtilsTest {
         assertEquals("sample.Example", trace.traces.get(0).className);
     }
 
+    @Test
+    void testStreamingNPETraces() {
+        List<NPETrace> traces = JSONUtils.loadTracesFromJSON(config.npeInfoPath);
+        Path orgFile = config.npeInfoPath;
+        Path newFile = Paths.get(orgFile.getParent().toString(), "test."+orgFile.getFileName().toString());
+        try (NPETraceWriter writer = new NPETraceWriter(newFile)) {
+            traces.forEach(writer::write);
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail();
+        }
+        List<NPETrace> loaded = JSONUtils.loadTracesFromJSON(newFile);
+        assertEquals(traces.size(), loaded.size());
+        for(int i=0; i<traces.size(); i++) {
+            assertEquals(traces.get(i).getJSONObject(false).toString(), loaded.get(i).getJSONObject(false).toString());
+        }
+        assertEquals(JSONUtils.loadTraceInfoFromJSON(orgFile, true, true),
+            JSONUtils.loadTraceInfoFromJSON(newFile, true, true));
+    }
+
     @Test
     void testLoadCoverageInfo() {
         CoverageInfo coverage = JSONUtils.loadCoverage(config.coverageInfoPath);
         assertTrue(coverage.getClasses().contains("sample.Example"));
         assertTrue(coverage.isCovered("sample.Example", 17));
     }
+
+    @Test
+    void testBinaryCoverage() {
+        CoverageInfo coverage = JSONUtils.loadCoverage(config.coverageInfoPath);
+        Path orgFile = config.coverageInfoPath;
+        Path newFile = Paths.get(orgFile.getParent().toString(), "test.coverage.bin");
+        CoverageStore.export(coverage, newFile);
+        assertTrue(CoverageStore.isBinary(newFile));
+        assertFalse(CoverageStore.isBinary(orgFile));
+
+        CoverageInfo loaded = CoverageStore.load(newFile);
+        assertEquals(coverage.getClasses(), loaded.getClasses());
+        assertEquals(coverage.getCoveredLines(), loaded.getCoveredLines());
+        assertTrue(loaded.isCovered("sample.Example", 17));
+        assertTrue(loaded.isCovered("sample.Example", 10, 17));
+        assertFalse(loaded.isCovered("sample.Example", -1, 0));
+    }
 }
@@ -7,7 +7,7 @@ public class ExampleTest {
 
     @Test
     public void test1() {
-        Person p = new Person("Art");
+        Person p = new Person(MAJOR);
         Example e = new Example(p);
         e.lastName("ABC DEF");
         assertEquals(",", e.decorate());
@@ -15,8 +15,10 @@ public class ExampleTest {
 
     @Test
     public void test2() {
-        Person p = new Person(null, "Art");
+        Person p = new Person(null, MAJOR);
         Example e = new Example(p);
         assertEquals(",", e.decorate());
     }
+
+    private static final String MAJOR = new String("Art");
 }
\ No newline at end of file
@@ -0,0 +1,459 @@
+%%% Code Facts
+:- style_check(-discontiguous).
+%%% Classes
+class(example_test_1, 'sample.ExampleTest').
+class(example_1, 'sample.Example').
+class(person_1, 'sample.Person').
+
+%%% Methods
+%example_test_1 - sample.ExampleTest
+method(m_test_1_14, range(example_test_1, 146, 183, 8, 14)).
+method(m_test_2_17, range(example_test_1, 335, 158, 16, 21)).
+%example_1 - sample.Example
+method(m_example_1, range(example_1, 92, 61, 7, 9)).
+method(m_example_2, range(example_1, 159, 86, 11, 14)).
+method(m_decorate_3, range(example_1, 251, 197, 16, 21)).
+method(m_first_name_4, range(example_1, 454, 140, 23, 26)).
+method(m_last_name_6, range(example_1, 600, 454, 28, 40)).
+%person_1 - sample.Person
+method(m_person_15, range(person_1, 118, 62, 8, 10)).
+method(m_person_18, range(person_1, 186, 102, 12, 15)).
+method(m_get_name_5, range(person_1, 294, 52, 17, 19)).
+method(m_get_major_20, range(person_1, 352, 87, 21, 23)).
+
+%%% Blocks
+%example_test_1 - sample.ExampleTest
+block(example_test_1_block1, block, example_test_1_code7, body, range(example_test_1, 176, 153, 9, 14)).
+block(example_test_1_block2, block, example_test_1_code16, body, range(example_test_1, 365, 128, 17, 21)).
+%example_1 - sample.Example
+block(example_1_block1, block, example_1_code15, body, range(example_1, 120, 33, 7, 9)).
+block(example_1_block2, block, example_1_code21, body, range(example_1, 197, 48, 11, 14)).
+block(example_1_block3, block, example_1_code29, body, range(example_1, 276, 172, 16, 21)).
+block(example_1_block4, block, example_1_code36, body, range(example_1, 491, 103, 23, 26)).
+block(example_1_block5, block, example_1_code43, body, range(example_1, 664, 390, 28, 40)).
+%person_1 - sample.Person
+block(person_1_block1, block, person_1_code18, body, range(person_1, 146, 34, 8, 10)).
+block(person_1_block2, block, person_1_code22, body, range(person_1, 227, 61, 12, 15)).
+block(person_1_block3, block, person_1_code28, body, range(person_1, 318, 28, 17, 19)).
+block(person_1_block4, block, person_1_code31, body, range(person_1, 377, 62, 21, 23)).
+
+%%% Statements
+%example_test_1 - sample.ExampleTest
+stmt(example_test_1_stmt1, variable_declaration_statement, example_test_1_block1, (statements, 0), range(example_test_1, 186, 29, 10, 10)).
+stmt(example_test_1_stmt2, variable_declaration_statement, example_test_1_block1, (statements, 1), range(example_test_1, 224, 27, 11, 11)).
+stmt(example_test_1_stmt3, expression_statement, example_test_1_block1, (statements, 2), range(example_test_1, 260, 22, 12, 12)).
+stmt(example_test_1_stmt4, expression_statement, example_test_1_block1, (statements, 3), range(example_test_1, 291, 32, 13, 13)).
+stmt(example_test_1_stmt5, variable_declaration_statement, example_test_1_block2, (statements, 0), range(example_test_1, 375, 35, 18, 18)).
+stmt(example_test_1_stmt6, variable_declaration_statement, example_test_1_block2, (statements, 1), range(example_test_1, 419, 27, 19, 19)).
+stmt(example_test_1_stmt7, expression_statement, example_test_1_block2, (statements, 2), range(example_test_1, 455, 32, 20, 20)).
+%example_1 - sample.Example
+stmt(example_1_stmt1, constructor_invocation, example_1_block1, (statements, 0), range(example_1, 130, 17, 8, 8)).
+stmt(example_1_stmt2, expression_statement, example_1_block2, (statements, 0), range(example_1, 207, 11, 12, 12)).
+stmt(example_1_stmt3, expression_statement, example_1_block2, (statements, 1), range(example_1, 227, 12, 13, 13)).
+stmt(example_1_stmt4, variable_declaration_statement, example_1_block3, (statements, 0), range(example_1, 286, 49, 17, 17)).
+stmt(example_1_stmt5, variable_declaration_statement, example_1_block3, (statements, 1), range(example_1, 344, 40, 18, 18)).
+stmt(example_1_stmt6, return_statement, example_1_block3, (statements, 2), range(example_1, 394, 48, 20, 20)).
+stmt(example_1_stmt7, variable_declaration_statement, example_1_block4, (statements, 0), range(example_1, 501, 30, 24, 24)).
+stmt(example_1_stmt8, return_statement, example_1_block4, (statements, 1), range(example_1, 540, 48, 25, 25)).
+stmt(example_1_stmt9, if_statement, example_1_block5, (statements, 0), range(example_1, 674, 62, 29, 30)).
+stmt(example_1_stmt10, throw_statement, example_1_stmt9, thenStatement, range(example_1, 703, 33, 30, 30)).
+stmt(example_1_stmt11, variable_declaration_statement, example_1_block5, (statements, 1), range(example_1, 745, 30, 31, 31)).
+stmt(example_1_stmt12, if_statement, example_1_block5, (statements, 2), range(example_1, 784, 148, 32, 35)).
+stmt(example_1_stmt13, return_statement, example_1_stmt12, thenStatement, range(example_1, 857, 31, 33, 33)).
+stmt(example_1_stmt14, expression_statement, example_1_stmt12, elseStatement, range(example_1, 914, 18, 35, 35)).
+stmt(example_1_stmt15, expression_statement, example_1_block5, (statements, 3), range(example_1, 941, 86, 36, 38)).
+stmt(example_1_stmt16, return_statement, example_1_block5, (statements, 4), range(example_1, 1036, 12, 39, 39)).
+%person_1 - sample.Person
+stmt(person_1_stmt1, constructor_invocation, person_1_block1, (statements, 0), range(person_1, 156, 18, 9, 9)).
+stmt(person_1_stmt2, expression_statement, person_1_block2, (statements, 0), range(person_1, 237, 17, 13, 13)).
+stmt(person_1_stmt3, expression_statement, person_1_block2, (statements, 1), range(person_1, 263, 19, 14, 14)).
+stmt(person_1_stmt4, return_statement, person_1_block3, (statements, 0), range(person_1, 328, 12, 18, 18)).
+stmt(person_1_stmt5, return_statement, person_1_block4, (statements, 0), range(person_1, 387, 46, 22, 22)).
+
+%%% Expressions
+%example_test_1 - sample.ExampleTest
+expr(example_test_1_expr1, marker_annotation, example_test_1_code7, (modifiers, 0), range(example_test_1, 146, 5, 8, 8), "@Test").
+expr(example_test_1_expr2, class_instance_creation, example_test_1_code11, initializer, range(example_test_1, 197, 17, 10, 10), "new Person(MAJOR)").
+expr(example_test_1_expr3, class_instance_creation, example_test_1_code14, initializer, range(example_test_1, 236, 14, 11, 11), "new Example(p)").
+expr(example_test_1_expr4, method_invocation, example_test_1_stmt3, expression, range(example_test_1, 260, 21, 12, 12), "e.lastName(\"ABC DEF\")").
+expr(example_test_1_expr5, method_invocation, example_test_1_stmt4, expression, range(example_test_1, 291, 31, 13, 13), "assertEquals(\",\",e.decorate())").
+expr(example_test_1_expr6, method_invocation, example_test_1_expr5, (arguments, 1), range(example_test_1, 309, 12, 13, 13), "e.decorate()").
+expr(example_test_1_expr7, marker_annotation, example_test_1_code16, (modifiers, 0), range(example_test_1, 335, 5, 16, 16), "@Test").
+expr(example_test_1_expr8, class_instance_creation, example_test_1_code20, initializer, range(example_test_1, 386, 23, 18, 18), "new Person(null,MAJOR)").
+expr(example_test_1_expr9, class_instance_creation, example_test_1_code23, initializer, range(example_test_1, 431, 14, 19, 19), "new Example(p)").
+expr(example_test_1_expr10, method_invocation, example_test_1_stmt7, expression, range(example_test_1, 455, 31, 20, 20), "assertEquals(\",\",e.decorate())").
+expr(example_test_1_expr11, method_invocation, example_test_1_expr10, (arguments, 1), range(example_test_1, 473, 12, 20, 20), "e.decorate()").
+expr(example_test_1_expr12, class_instance_creation, example_test_1_code30, initializer, range(example_test_1, 535, 17, 23, 23), "new String(\"Art\")").
+%example_1 - sample.Example
+expr(example_1_expr1, constructor_invocation, example_1_block1, (statements, 0), range(example_1, 130, 17, 8, 8), "this(p,p.field);").
+expr(example_1_expr2, assignment, example_1_stmt2, expression, range(example_1, 207, 10, 12, 12), "this.p=p").
+expr(example_1_expr3, field_access, example_1_expr2, left_hand_side, range(example_1, 207, 6, 12, 12), "this.p").
+expr(example_1_expr4, this_expression, f_p_1, expression, range(example_1, 207, 4, 12, 12), "this").
+expr(example_1_expr5, assignment, example_1_stmt3, expression, range(example_1, 227, 11, 13, 13), "s=p.field").
+expr(example_1_expr6, method_invocation, example_1_code33, initializer, range(example_1, 305, 29, 17, 17), "firstName((this.p.getName()))").
+expr(example_1_expr7, parenthesized_expression, example_1_expr6, (arguments, 0), range(example_1, 315, 18, 17, 17), "(this.p.getName())").
+expr(example_1_expr8, method_invocation, example_1_expr7, expression, range(example_1, 316, 16, 17, 17), "this.p.getName()").
+expr(example_1_expr9, field_access, example_1_expr8, expression, range(example_1, 316, 6, 17, 17), "this.p").
+expr(example_1_expr10, this_expression, f_p_1, expression, range(example_1, 316, 4, 17, 17), "this").
+expr(example_1_expr11, method_invocation, example_1_code35, initializer, range(example_1, 362, 21, 18, 18), "lastName(p.getName())").
+expr(example_1_expr12, method_invocation, example_1_expr11, (arguments, 0), range(example_1, 371, 11, 18, 18), "p.getName()").
+expr(example_1_expr13, infix_expression, example_1_stmt6, expression, range(example_1, 401, 40, 20, 20), "lastName.toUpperCase() + \",\" + firstName").
+expr(example_1_expr14, method_invocation, example_1_expr13, left_operand, range(example_1, 401, 22, 20, 20), "lastName.toUpperCase()").
+expr(example_1_expr15, method_invocation, example_1_code42, initializer, range(example_1, 513, 17, 24, 24), "name.indexOf(' ')").
+expr(example_1_expr16, method_invocation, example_1_stmt8, expression, range(example_1, 547, 40, 25, 25), "name.substring(0,index > 0 ? index : 0)").
+expr(example_1_expr17, conditional_expression, example_1_expr16, (arguments, 1), range(example_1, 565, 21, 25, 25), "index > 0 ? index : 0").
+expr(example_1_expr18, infix_expression, example_1_expr17, expression, range(example_1, 565, 9, 25, 25), "index > 0").
+expr(example_1_expr19, infix_expression, example_1_stmt9, expression, range(example_1, 677, 12, 29, 29), "name == null").
+expr(example_1_expr20, class_instance_creation, example_1_stmt10, expression, range(example_1, 709, 26, 30, 30), "new NullPointerException()").
+expr(example_1_expr21, method_invocation, example_1_code51, initializer, range(example_1, 757, 17, 31, 31), "name.indexOf(' ')").
+expr(example_1_expr22, infix_expression, example_1_stmt12, expression, range(example_1, 787, 56, 32, 32), "name != null && index >= 0 && !(index + 1 < name.length())").
+expr(example_1_expr23, infix_expression, example_1_expr22, left_operand, range(example_1, 787, 26, 32, 32), "name != null && index >= 0").
+expr(example_1_expr24, infix_expression, example_1_expr23, left_operand, range(example_1, 787, 12, 32, 32), "name != null").
+expr(example_1_expr25, infix_expression, example_1_expr23, right_operand, range(example_1, 803, 10, 32, 32), "index >= 0").
+expr(example_1_expr26, prefix_expression, example_1_expr22, right_operand, range(example_1, 817, 26, 32, 32), "!(index + 1 < name.length())").
+expr(example_1_expr27, parenthesized_expression, example_1_expr26, operand, range(example_1, 818, 25, 32, 32), "(index + 1 < name.length())").
+expr(example_1_expr28, infix_expression, example_1_expr27, expression, range(example_1, 819, 23, 32, 32), "index + 1 < name.length()").
+expr(example_1_expr29, infix_expression, example_1_expr28, left_operand, range(example_1, 819, 7, 32, 32), "index + 1").
+expr(example_1_expr30, method_invocation, example_1_expr28, right_operand, range(example_1, 829, 13, 32, 32), "name.length()").
+expr(example_1_expr31, method_invocation, example_1_stmt13, expression, range(example_1, 864, 23, 33, 33), "name.substring(index + 1)").
+expr(example_1_expr32, infix_expression, example_1_expr31, (arguments, 0), range(example_1, 879, 7, 33, 33), "index + 1").
+expr(example_1_expr33, assignment, example_1_stmt14, expression, range(example_1, 914, 17, 35, 35), "index=index + 1").
+expr(example_1_expr34, infix_expression, example_1_expr33, right_hand_side, range(example_1, 922, 9, 35, 35), "index + 1").
+expr(example_1_expr35, assignment, example_1_stmt15, expression, range(example_1, 941, 85, 36, 38), "name=index > 0 ? name.substring(0,index) : firstName(name)").
+expr(example_1_expr36, conditional_expression, example_1_expr35, right_hand_side, range(example_1, 948, 78, 36, 38), "index > 0 ? name.substring(0,index) : firstName(name)").
+expr(example_1_expr37, infix_expression, example_1_expr36, expression, range(example_1, 948, 9, 36, 36), "index > 0").
+expr(example_1_expr38, method_invocation, example_1_expr36, then_expression, range(example_1, 972, 24, 37, 37), "name.substring(0,index)").
+expr(example_1_expr39, method_invocation, example_1_expr36, else_expression, range(example_1, 1011, 15, 38, 38), "firstName(name)").
+%person_1 - sample.Person
+expr(person_1_expr1, constructor_invocation, person_1_block1, (statements, 0), range(person_1, 156, 18, 9, 9), "this(null,major);").
+expr(person_1_expr2, assignment, person_1_stmt2, expression, range(person_1, 237, 16, 13, 13), "this.name=name").
+expr(person_1_expr3, field_access, person_1_expr2, left_hand_side, range(person_1, 237, 9, 13, 13), "this.name").
+expr(person_1_expr4, this_expression, f_name_24, expression, range(person_1, 237, 4, 13, 13), "this").
+expr(person_1_expr5, assignment, person_1_stmt3, expression, range(person_1, 263, 18, 14, 14), "this.major=major").
+expr(person_1_expr6, field_access, person_1_expr5, left_hand_side, range(person_1, 263, 10, 14, 14), "this.major").
+expr(person_1_expr7, this_expression, f_major_25, expression, range(person_1, 263, 4, 14, 14), "this").
+expr(person_1_expr8, conditional_expression, person_1_stmt5, expression, range(person_1, 394, 38, 22, 22), "major == null ? new String(\"\") : major").
+expr(person_1_expr9, infix_expression, person_1_expr8, expression, range(person_1, 394, 13, 22, 22), "major == null").
+expr(person_1_expr10, class_instance_creation, person_1_expr8, then_expression, range(person_1, 410, 14, 22, 22), "new String(\"\")").
+
+%%% Names
+%example_test_1 - sample.ExampleTest
+name(n_sample_1, simple_name, example_test_1_code2, name, range(example_test_1, 8, 6, 1, 1), 'sample').
+name(m_assert_equals_13, qualified_name, example_test_1_code3, name, range(example_test_1, 30, 45, 2, 2), 'assertEquals').
+name(t_test_2, qualified_name, example_test_1_code4, name, range(example_test_1, 85, 26, 4, 4), 'Test').
+name(t_example_test_3, simple_name, example_test_1_code5, name, range(example_test_1, 127, 11, 6, 6), 'ExampleTest').
+name(t_test_2, simple_name, example_test_1_expr1, type_name, range(example_test_1, 147, 4, 8, 8), 'Test').
+name(m_test_1_14, simple_name, example_test_1_code7, name, range(example_test_1, 168, 5, 9, 9), 'test1').
+name(v_p_13, simple_name, example_test_1_code11, name, range(example_test_1, 193, 1, 10, 10), 'p').
+name(f_major_14, simple_name, example_test_1_expr2, (arguments, 0), range(example_test_1, 208, 5, 10, 10), 'MAJOR').
+name(v_e_15, simple_name, example_test_1_code14, name, range(example_test_1, 232, 1, 11, 11), 'e').
+name(v_p_13, simple_name, example_test_1_expr3, (arguments, 0), range(example_test_1, 248, 1, 11, 11), 'p').
+name(v_e_15, simple_name, example_test_1_expr4, expression, range(example_test_1, 260, 1, 12, 12), 'e').
+name(m_last_name_6, simple_name, example_test_1_expr4, name, range(example_test_1, 262, 8, 12, 12), 'lastName').
+name(m_assert_equals_16, simple_name, example_test_1_expr5, name, range(example_test_1, 291, 12, 13, 13), 'assertEquals').
+name(v_e_15, simple_name, example_test_1_expr6, expression, range(example_test_1, 309, 1, 13, 13), 'e').
+name(m_decorate_3, simple_name, example_test_1_expr6, name, range(example_test_1, 311, 8, 13, 13), 'decorate').
+name(t_test_2, simple_name, example_test_1_expr7, type_name, range(example_test_1, 336, 4, 16, 16), 'Test').
+name(m_test_2_17, simple_name, example_test_1_code16, name, range(example_test_1, 357, 5, 17, 17), 'test2').
+name(v_p_16, simple_name, example_test_1_code20, name, range(example_test_1, 382, 1, 18, 18), 'p').
+name(f_major_14, simple_name, example_test_1_expr8, (arguments, 1), range(example_test_1, 403, 5, 18, 18), 'MAJOR').
+name(v_e_17, simple_name, example_test_1_code23, name, range(example_test_1, 427, 1, 19, 19), 'e').
+name(v_p_16, simple_name, example_test_1_expr9, (arguments, 0), range(example_test_1, 443, 1, 19, 19), 'p').
+name(m_assert_equals_16, simple_name, example_test_1_expr10, name, range(example_test_1, 455, 12, 20, 20), 'assertEquals').
+name(v_e_17, simple_name, example_test_1_expr11, expression, range(example_test_1, 473, 1, 20, 20), 'e').
+name(m_decorate_3, simple_name, example_test_1_expr11, name, range(example_test_1, 475, 8, 20, 20), 'decorate').
+name(f_major_14, simple_name, example_test_1_code30, name, range(example_test_1, 527, 5, 23, 23), 'MAJOR').
+%example_1 - sample.Example
+name(n_sample_1, simple_name, example_1_code2, name, range(example_1, 8, 6, 1, 1), 'sample').
+name(t_example_1, simple_name, example_1_code3, name, range(example_1, 30, 7, 3, 3), 'Example').
+name(f_p_1, simple_name, example_1_code10, name, range(example_1, 62, 1, 4, 4), 'p').
+name(f_s_2, simple_name, example_1_code14, name, range(example_1, 84, 1, 5, 5), 's').
+name(m_example_1, simple_name, example_1_code15, name, range(example_1, 99, 7, 7, 7), 'Example').
+name(p_p_3, simple_name, example_1_code17, name, range(example_1, 117, 1, 7, 7), 'p').
+name(p_p_3, simple_name, example_1_stmt1, (arguments, 0), range(example_1, 135, 1, 8, 8), 'p').
+name(q_field_1, qualified_name, example_1_stmt1, (arguments, 1), range(example_1, 138, 7, 8, 8), 'p.field').
+name(p_p_3, simple_name, q_field_1, qualifier, range(example_1, 138, 1, 8, 8), 'p').
+name(m_example_2, simple_name, example_1_code21, name, range(example_1, 166, 7, 11, 11), 'Example').
+name(p_p_5, simple_name, example_1_code23, name, range(example_1, 184, 1, 11, 11), 'p').
+name(p_s_6, simple_name, example_1_code27, name, range(example_1, 194, 1, 11, 11), 's').
+name(f_p_1, simple_name, example_1_expr3, name, range(example_1, 212, 1, 12, 12), 'p').
+name(p_p_5, simple_name, example_1_expr2, right_hand_side, range(example_1, 216, 1, 12, 12), 'p').
+name(p_s_6, simple_name, example_1_expr5, left_hand_side, range(example_1, 227, 1, 13, 13), 's').
+name(q_field_2, qualified_name, example_1_expr5, right_hand_side, range(example_1, 231, 7, 13, 13), 'p.field').
+name(p_p_5, simple_name, q_field_2, qualifier, range(example_1, 231, 1, 13, 13), 'p').
+name(m_decorate_3, simple_name, example_1_code29, name, range(example_1, 265, 8, 16, 16), 'decorate').
+name(v_first_name_7, simple_name, example_1_code33, name, range(example_1, 293, 9, 17, 17), 'firstName').
+name(m_first_name_4, simple_name, example_1_expr6, name, range(example_1, 305, 9, 17, 17), 'firstName').
+name(f_p_1, simple_name, example_1_expr9, name, range(example_1, 321, 1, 17, 17), 'p').
+name(m_get_name_5, simple_name, example_1_expr8, name, range(example_1, 323, 7, 17, 17), 'getName').
+name(v_last_name_8, simple_name, example_1_code35, name, range(example_1, 351, 8, 18, 18), 'lastName').
+name(m_last_name_6, simple_name, example_1_expr11, name, range(example_1, 362, 8, 18, 18), 'lastName').
+name(f_p_1, simple_name, example_1_expr12, expression, range(example_1, 371, 1, 18, 18), 'p').
+name(m_get_name_5, simple_name, example_1_expr12, name, range(example_1, 373, 7, 18, 18), 'getName').
+name(v_last_name_8, simple_name, example_1_expr14, expression, range(example_1, 401, 8, 20, 20), 'lastName').
+name(m_to_upper_case_7, simple_name, example_1_expr14, name, range(example_1, 410, 11, 20, 20), 'toUpperCase').
+name(v_first_name_7, simple_name, example_1_expr13, (extended_operands, 0), range(example_1, 432, 9, 20, 20), 'firstName').
+name(m_first_name_4, simple_name, example_1_code36, name, range(example_1, 468, 9, 23, 23), 'firstName').
+name(p_name_9, simple_name, example_1_code39, name, range(example_1, 485, 4, 23, 23), 'name').
+name(v_index_10, simple_name, example_1_code42, name, range(example_1, 505, 5, 24, 24), 'index').
+name(p_name_9, simple_name, example_1_expr15, expression, range(example_1, 513, 4, 24, 24), 'name').
+name(m_index_of_8, simple_name, example_1_expr15, name, range(example_1, 518, 7, 24, 24), 'indexOf').
+name(p_name_9, simple_name, example_1_expr16, expression, range(example_1, 547, 4, 25, 25), 'name').
+name(m_substring_9, simple_name, example_1_expr16, name, range(example_1, 552, 9, 25, 25), 'substring').
+name(v_index_10, simple_name, example_1_expr18, left_operand, range(example_1, 565, 5, 25, 25), 'index').
+name(v_index_10, simple_name, example_1_expr17, then_expression, range(example_1, 577, 5, 25, 25), 'index').
+name(m_last_name_6, simple_name, example_1_code43, name, range(example_1, 614, 8, 28, 28), 'lastName').
+name(p_name_11, simple_name, example_1_code46, name, range(example_1, 630, 4, 28, 28), 'name').
+name(p_name_11, simple_name, example_1_expr19, left_operand, range(example_1, 677, 4, 29, 29), 'name').
+name(v_index_12, simple_name, example_1_code51, name, range(example_1, 749, 5, 31, 31), 'index').
+name(p_name_11, simple_name, example_1_expr21, expression, range(example_1, 757, 4, 31, 31), 'name').
+name(m_index_of_8, simple_name, example_1_expr21, name, range(example_1, 762, 7, 31, 31), 'indexOf').
+name(p_name_11, simple_name, example_1_expr24, left_operand, range(example_1, 787, 4, 32, 32), 'name').
+name(v_index_12, simple_name, example_1_expr25, left_operand, range(example_1, 803, 5, 32, 32), 'index').
+name(v_index_12, simple_name, example_1_expr29, left_operand, range(example_1, 819, 5, 32, 32), 'index').
+name(p_name_11, simple_name, example_1_expr30, expression, range(example_1, 829, 4, 32, 32), 'name').
+name(m_length_11, simple_name, example_1_expr30, name, range(example_1, 834, 6, 32, 32), 'length').
+name(p_name_11, simple_name, example_1_expr31, expression, range(example_1, 864, 4, 33, 33), 'name').
+name(m_substring_12, simple_name, example_1_expr31, name, range(example_1, 869, 9, 33, 33), 'substring').
+name(v_index_12, simple_name, example_1_expr32, left_operand, range(example_1, 879, 5, 33, 33), 'index').
+name(v_index_12, simple_name, example_1_expr33, left_hand_side, range(example_1, 914, 5, 35, 35), 'index').
+name(v_index_12, simple_name, example_1_expr34, left_operand, range(example_1, 922, 5, 35, 35), 'index').
+name(p_name_11, simple_name, example_1_expr35, left_hand_side, range(example_1, 941, 4, 36, 36), 'name').
+name(v_index_12, simple_name, example_1_expr37, left_operand, range(example_1, 948, 5, 36, 36), 'index').
+name(p_name_11, simple_name, example_1_expr38, expression, range(example_1, 972, 4, 37, 37), 'name').
+name(m_substring_9, simple_name, example_1_expr38, name, range(example_1, 977, 9, 37, 37), 'substring').
+name(v_index_12, simple_name, example_1_expr38, (arguments, 1), range(example_1, 990, 5, 37, 37), 'index').
+name(m_first_name_4, simple_name, example_1_expr39, name, range(example_1, 1011, 9, 38, 38), 'firstName').
+name(p_name_11, simple_name, example_1_expr39, (arguments, 0), range(example_1, 1021, 4, 38, 38), 'name').
+%person_1 - sample.Person
+name(n_sample_1, simple_name, person_1_code2, name, range(person_1, 8, 6, 1, 1), 'sample').
+name(t_person_4, simple_name, person_1_code3, name, range(person_1, 30, 6, 3, 3), 'Person').
+name(t_t_5, simple_name, person_1_code5, name, range(person_1, 37, 1, 3, 3), 'T').
+name(f_name_18, simple_name, person_1_code9, name, range(person_1, 61, 4, 4, 4), 'name').
+name(f_major_19, simple_name, person_1_code13, name, range(person_1, 86, 5, 5, 5), 'major').
+name(f_field_20, simple_name, person_1_code17, name, range(person_1, 106, 5, 6, 6), 'field').
+name(m_person_15, simple_name, person_1_code18, name, range(person_1, 125, 6, 8, 8), 'Person').
+name(p_major_21, simple_name, person_1_code20, name, range(person_1, 139, 5, 8, 8), 'major').
+name(p_major_21, simple_name, person_1_stmt1, (arguments, 1), range(person_1, 167, 5, 9, 9), 'major').
+name(m_person_18, simple_name, person_1_code22, name, range(person_1, 193, 6, 12, 12), 'Person').
+name(p_name_22, simple_name, person_1_code24, name, range(person_1, 207, 4, 12, 12), 'name').
+name(p_major_23, simple_name, person_1_code26, name, range(person_1, 220, 5, 12, 12), 'major').
+name(f_name_24, simple_name, person_1_expr3, name, range(person_1, 242, 4, 13, 13), 'name').
+name(p_name_22, simple_name, person_1_expr2, right_hand_side, range(person_1, 249, 4, 13, 13), 'name').
+name(f_major_25, simple_name, person_1_expr6, name, range(person_1, 268, 5, 14, 14), 'major').
+name(p_major_23, simple_name, person_1_expr5, right_hand_side, range(person_1, 276, 5, 14, 14), 'major').
+name(m_get_name_5, simple_name, person_1_code28, name, range(person_1, 308, 7, 17, 17), 'getName').
+name(f_name_24, simple_name, person_1_stmt4, expression, range(person_1, 335, 4, 18, 18), 'name').
+name(m_get_major_20, simple_name, person_1_code31, name, range(person_1, 366, 8, 21, 21), 'getMajor').
+name(f_major_25, simple_name, person_1_expr9, left_operand, range(person_1, 394, 5, 22, 22), 'major').
+name(f_major_25, simple_name, person_1_expr8, else_expression, range(person_1, 427, 5, 22, 22), 'major').
+
+%%% Literals
+%example_test_1 - sample.ExampleTest
+literal(example_test_1_literal1, string_literal, example_test_1_expr4, (arguments, 0), range(example_test_1, 271, 9, 12, 12), "ABC DEF").
+literal(example_test_1_literal2, string_literal, example_test_1_expr5, (arguments, 0), range(example_test_1, 304, 3, 13, 13), ",").
+literal(example_test_1_literal3, null_literal, example_test_1_expr8, (arguments, 0), range(example_test_1, 397, 4, 18, 18), null).
+literal(example_test_1_literal4, string_literal, example_test_1_expr10, (arguments, 0), range(example_test_1, 468, 3, 20, 20), ",").
+literal(example_test_1_literal5, string_literal, example_test_1_expr12, (arguments, 0), range(example_test_1, 546, 5, 23, 23), "Art").
+%example_1 - sample.Example
+literal(example_1_literal1, string_literal, example_1_expr13, right_operand, range(example_1, 426, 3, 20, 20), ",").
+literal(example_1_literal2, character_literal, example_1_expr15, (arguments, 0), range(example_1, 526, 3, 24, 24), ' ').
+literal(example_1_literal3, number_literal, example_1_expr16, (arguments, 0), range(example_1, 562, 1, 25, 25), 0).
+literal(example_1_literal5, number_literal, example_1_expr18, right_operand, range(example_1, 573, 1, 25, 25), 0).
+literal(example_1_literal4, number_literal, example_1_expr17, else_expression, range(example_1, 585, 1, 25, 25), 0).
+literal(example_1_literal6, null_literal, example_1_expr19, right_operand, range(example_1, 685, 4, 29, 29), null).
+literal(example_1_literal7, character_literal, example_1_expr21, (arguments, 0), range(example_1, 770, 3, 31, 31), ' ').
+literal(example_1_literal8, null_literal, example_1_expr24, right_operand, range(example_1, 795, 4, 32, 32), null).
+literal(example_1_literal9, number_literal, example_1_expr25, right_operand, range(example_1, 812, 1, 32, 32), 0).
+literal(example_1_literal10, number_literal, example_1_expr29, right_operand, range(example_1, 825, 1, 32, 32), 1).
+literal(example_1_literal11, number_literal, example_1_expr32, right_operand, range(example_1, 885, 1, 33, 33), 1).
+literal(example_1_literal12, number_literal, example_1_expr34, right_operand, range(example_1, 930, 1, 35, 35), 1).
+literal(example_1_literal13, number_literal, example_1_expr37, right_operand, range(example_1, 956, 1, 36, 36), 0).
+literal(example_1_literal14, number_literal, example_1_expr38, (arguments, 0), range(example_1, 987, 1, 37, 37), 0).
+literal(example_1_literal15, null_literal, example_1_stmt16, expression, range(example_1, 1043, 4, 39, 39), null).
+%person_1 - sample.Person
+literal(person_1_literal1, null_literal, person_1_stmt1, (arguments, 0), range(person_1, 161, 4, 9, 9), null).
+literal(person_1_literal2, null_literal, person_1_expr9, right_operand, range(person_1, 403, 4, 22, 22), null).
+literal(person_1_literal3, string_literal, person_1_expr10, (arguments, 0), range(person_1, 421, 2, 22, 22), "").
+
+%%% Other Code Entities
+%example_test_1 - sample.ExampleTest
+code(example_test_1_code1, compilation_unit, range(example_test_1, 0, 555, 1, -1)).
+code(example_test_1_code2, package_declaration, example_test_1_code1, package, range(example_test_1, 0, 15, 1, 1)).
+code(example_test_1_code3, import_declaration, example_test_1_code1, (imports, 0), range(example_test_1, 16, 60, 2, 2)).
+code(example_test_1_code4, import_declaration, example_test_1_code1, (imports, 1), range(example_test_1, 78, 34, 4, 4)).
+code(example_test_1_code5, type_declaration, example_test_1_code1, (types, 0), range(example_test_1, 114, 441, 6, -1)).
+code(example_test_1_code6, modifier, example_test_1_code5, (modifiers, 0), range(example_test_1, 114, 6, 6, 6)).
+code(example_test_1_code7, method_declaration, example_test_1_code5, (body_declarations, 0), range(example_test_1, 146, 183, 8, 14)).
+code(example_test_1_code8, modifier, example_test_1_code7, (modifiers, 1), range(example_test_1, 156, 6, 9, 9)).
+code(example_test_1_code9, primitive_type, example_test_1_code7, return_type2, range(example_test_1, 163, 4, 9, 9)).
+code(example_test_1_code10, simple_type, example_test_1_stmt1, type, range(example_test_1, 186, 6, 10, 10)).
+code(example_test_1_code11, variable_declaration_fragment, example_test_1_stmt1, (fragments, 0), range(example_test_1, 193, 21, 10, 10)).
+code(example_test_1_code12, simple_type, example_test_1_expr2, type, range(example_test_1, 201, 6, 10, 10)).
+code(example_test_1_code13, simple_type, example_test_1_stmt2, type, range(example_test_1, 224, 7, 11, 11)).
+code(example_test_1_code14, variable_declaration_fragment, example_test_1_stmt2, (fragments, 0), range(example_test_1, 232, 18, 11, 11)).
+code(example_test_1_code15, simple_type, example_test_1_expr3, type, range(example_test_1, 240, 7, 11, 11)).
+code(example_test_1_code16, method_declaration, example_test_1_code5, (body_declarations, 1), range(example_test_1, 335, 158, 16, 21)).
+code(example_test_1_code17, modifier, example_test_1_code16, (modifiers, 1), range(example_test_1, 345, 6, 17, 17)).
+code(example_test_1_code18, primitive_type, example_test_1_code16, return_type2, range(example_test_1, 352, 4, 17, 17)).
+code(example_test_1_code19, simple_type, example_test_1_stmt5, type, range(example_test_1, 375, 6, 18, 18)).
+code(example_test_1_code20, variable_declaration_fragment, example_test_1_stmt5, (fragments, 0), range(example_test_1, 382, 27, 18, 18)).
+code(example_test_1_code21, simple_type, example_test_1_expr8, type, range(example_test_1, 390, 6, 18, 18)).
+code(example_test_1_code22, simple_type, example_test_1_stmt6, type, range(example_test_1, 419, 7, 19, 19)).
+code(example_test_1_code23, variable_declaration_fragment, example_test_1_stmt6, (fragments, 0), range(example_test_1, 427, 18, 19, 19)).
+code(example_test_1_code24, simple_type, example_test_1_expr9, type, range(example_test_1, 435, 7, 19, 19)).
+code(example_test_1_code25, field_declaration, example_test_1_code5, (body_declarations, 2), range(example_test_1, 499, 54, 23, 23)).
+code(example_test_1_code26, modifier, example_test_1_code25, (modifiers, 0), range(example_test_1, 499, 7, 23, 23)).
+code(example_test_1_code27, modifier, example_test_1_code25, (modifiers, 1), range(example_test_1, 507, 6, 23, 23)).
+code(example_test_1_code28, modifier, example_test_1_code25, (modifiers, 2), range(example_test_1, 514, 5, 23, 23)).
+code(example_test_1_code29, simple_type, example_test_1_code25, type, range(example_test_1, 520, 6, 23, 23)).
+code(example_test_1_code30, variable_declaration_fragment, example_test_1_code25, (fragments, 0), range(example_test_1, 527, 25, 23, 23)).
+code(example_test_1_code31, simple_type, example_test_1_expr12, type, range(example_test_1, 539, 6, 23, 23)).
+%example_1 - sample.Example
+code(example_1_code1, compilation_unit, range(example_1, 0, 1056, 1, -1)).
+code(example_1_code2, package_declaration, example_1_code1, package, range(example_1, 0, 15, 1, 1)).
+code(example_1_code3, type_declaration, example_1_code1, (types, 0), range(example_1, 17, 1039, 3, -1)).
+code(example_1_code4, modifier, example_1_code3, (modifiers, 0), range(example_1, 17, 6, 3, 3)).
+code(example_1_code5, field_declaration, example_1_code3, (body_declarations, 0), range(example_1, 44, 20, 4, 4)).
+code(example_1_code6, modifier, example_1_code5, (modifiers, 0), range(example_1, 44, 7, 4, 4)).
+code(example_1_code7, parameterized_type, example_1_code5, type, range(example_1, 52, 9, 4, 4)).
+code(example_1_code8, simple_type, example_1_code7, type, range(example_1, 52, 6, 4, 4)).
+code(example_1_code9, wildcard_type, example_1_code7, (type_arguments, 0), range(example_1, 59, 1, 4, 4)).
+code(example_1_code10, variable_declaration_fragment, example_1_code5, (fragments, 0), range(example_1, 62, 1, 4, 4)).
+code(example_1_code11, field_declaration, example_1_code3, (body_declarations, 1), range(example_1, 69, 17, 5, 5)).
+code(example_1_code12, modifier, example_1_code11, (modifiers, 0), range(example_1, 69, 7, 5, 5)).
+code(example_1_code13, simple_type, example_1_code11, type, range(example_1, 77, 6, 5, 5)).
+code(example_1_code14, variable_declaration_fragment, example_1_code11, (fragments, 0), range(example_1, 84, 1, 5, 5)).
+code(example_1_code15, method_declaration, example_1_code3, (body_declarations, 2), range(example_1, 92, 61, 7, 9)).
+code(example_1_code16, modifier, example_1_code15, (modifiers, 0), range(example_1, 92, 6, 7, 7)).
+code(example_1_code17, single_variable_declaration, example_1_code15, (parameters, 0), range(example_1, 107, 11, 7, 7)).
+code(example_1_code18, parameterized_type, example_1_code17, type, range(example_1, 107, 9, 7, 7)).
+code(example_1_code19, simple_type, example_1_code18, type, range(example_1, 107, 6, 7, 7)).
+code(example_1_code20, wildcard_type, example_1_code18, (type_arguments, 0), range(example_1, 114, 1, 7, 7)).
+code(example_1_code21, method_declaration, example_1_code3, (body_declarations, 3), range(example_1, 159, 86, 11, 14)).
+code(example_1_code22, modifier, example_1_code21, (modifiers, 0), range(example_1, 159, 6, 11, 11)).
+code(example_1_code23, single_variable_declaration, example_1_code21, (parameters, 0), range(example_1, 174, 11, 11, 11)).
+code(example_1_code24, parameterized_type, example_1_code23, type, range(example_1, 174, 9, 11, 11)).
+code(example_1_code25, simple_type, example_1_code24, type, range(example_1, 174, 6, 11, 11)).
+code(example_1_code26, wildcard_type, example_1_code24, (type_arguments, 0), range(example_1, 181, 1, 11, 11)).
+code(example_1_code27, single_variable_declaration, example_1_code21, (parameters, 1), range(example_1, 187, 8, 11, 11)).
+code(example_1_code28, simple_type, example_1_code27, type, range(example_1, 187, 6, 11, 11)).
+code(example_1_code29, method_declaration, example_1_code3, (body_declarations, 4), range(example_1, 251, 197, 16, 21)).
+code(example_1_code30, modifier, example_1_code29, (modifiers, 0), range(example_1, 251, 6, 16, 16)).
+code(example_1_code31, simple_type, example_1_code29, return_type2, range(example_1, 258, 6, 16, 16)).
+code(example_1_code32, simple_type, example_1_stmt4, type, range(example_1, 286, 6, 17, 17)).
+code(example_1_code33, variable_declaration_fragment, example_1_stmt4, (fragments, 0), range(example_1, 293, 41, 17, 17)).
+code(example_1_code34, simple_type, example_1_stmt5, type, range(example_1, 344, 6, 18, 18)).
+code(example_1_code35, variable_declaration_fragment, example_1_stmt5, (fragments, 0), range(example_1, 351, 32, 18, 18)).
+code(example_1_code36, method_declaration, example_1_code3, (body_declarations, 5), range(example_1, 454, 140, 23, 26)).
+code(example_1_code37, modifier, example_1_code36, (modifiers, 0), range(example_1, 454, 6, 23, 23)).
+code(example_1_code38, simple_type, example_1_code36, return_type2, range(example_1, 461, 6, 23, 23)).
+code(example_1_code39, single_variable_declaration, example_1_code36, (parameters, 0), range(example_1, 478, 11, 23, 23)).
+code(example_1_code40, simple_type, example_1_code39, type, range(example_1, 478, 6, 23, 23)).
+code(example_1_code41, primitive_type, example_1_stmt7, type, range(example_1, 501, 3, 24, 24)).
+code(example_1_code42, variable_declaration_fragment, example_1_stmt7, (fragments, 0), range(example_1, 505, 25, 24, 24)).
+code(example_1_code43, method_declaration, example_1_code3, (body_declarations, 6), range(example_1, 600, 454, 28, 40)).
+code(example_1_code44, modifier, example_1_code43, (modifiers, 0), range(example_1, 600, 6, 28, 28)).
+code(example_1_code45, simple_type, example_1_code43, return_type2, range(example_1, 607, 6, 28, 28)).
+code(example_1_code46, single_variable_declaration, example_1_code43, (parameters, 0), range(example_1, 623, 11, 28, 28)).
+code(example_1_code47, simple_type, example_1_code46, type, range(example_1, 623, 6, 28, 28)).
+code(example_1_code48, simple_type, example_1_code43, (thrown_exception_types, 0), range(example_1, 643, 20, 28, 28)).
+code(example_1_code49, simple_type, example_1_expr20, type, range(example_1, 713, 20, 30, 30)).
+code(example_1_code50, primitive_type, example_1_stmt11, type, range(example_1, 745, 3, 31, 31)).
+code(example_1_code51, variable_declaration_fragment, example_1_stmt11, (fragments, 0), range(example_1, 749, 25, 31, 31)).
+%person_1 - sample.Person
+code(person_1_code1, compilation_unit, range(person_1, 0, 441, 1, -1)).
+code(person_1_code2, package_declaration, person_1_code1, package, range(person_1, 0, 15, 1, 1)).
+code(person_1_code3, type_declaration, person_1_code1, (types, 0), range(person_1, 17, 424, 3, -1)).
+code(person_1_code4, modifier, person_1_code3, (modifiers, 0), range(person_1, 17, 6, 3, 3)).
+code(person_1_code5, type_parameter, person_1_code3, (type_parameters, 0), range(person_1, 37, 1, 3, 3)).
+code(person_1_code6, field_declaration, person_1_code3, (body_declarations, 0), range(person_1, 46, 20, 4, 4)).
+code(person_1_code7, modifier, person_1_code6, (modifiers, 0), range(person_1, 46, 7, 4, 4)).
+code(person_1_code8, simple_type, person_1_code6, type, range(person_1, 54, 6, 4, 4)).
+code(person_1_code9, variable_declaration_fragment, person_1_code6, (fragments, 0), range(person_1, 61, 4, 4, 4)).
+code(person_1_code10, field_declaration, person_1_code3, (body_declarations, 1), range(person_1, 71, 21, 5, 5)).
+code(person_1_code11, modifier, person_1_code10, (modifiers, 0), range(person_1, 71, 7, 5, 5)).
+code(person_1_code12, simple_type, person_1_code10, type, range(person_1, 79, 6, 5, 5)).
+code(person_1_code13, variable_declaration_fragment, person_1_code10, (fragments, 0), range(person_1, 86, 5, 5, 5)).
+code(person_1_code14, field_declaration, person_1_code3, (body_declarations, 2), range(person_1, 97, 15, 6, 6)).
+code(person_1_code15, modifier, person_1_code14, (modifiers, 0), range(person_1, 97, 6, 6, 6)).
+code(person_1_code16, simple_type, person_1_code14, type, range(person_1, 104, 1, 6, 6)).
+code(person_1_code17, variable_declaration_fragment, person_1_code14, (fragments, 0), range(person_1, 106, 5, 6, 6)).
+code(person_1_code18, method_declaration, person_1_code3, (body_declarations, 3), range(person_1, 118, 62, 8, 10)).
+code(person_1_code19, modifier, person_1_code18, (modifiers, 0), range(person_1, 118, 6, 8, 8)).
+code(person_1_code20, single_variable_declaration, person_1_code18, (parameters, 0), range(person_1, 132, 12, 8, 8)).
+code(person_1_code21, simple_type, person_1_code20, type, range(person_1, 132, 6, 8, 8)).
+code(person_1_code22, method_declaration, person_1_code3, (body_declarations, 4), range(person_1, 186, 102, 12, 15)).
+code(person_1_code23, modifier, person_1_code22, (modifiers, 0), range(person_1, 186, 6, 12, 12)).
+code(person_1_code24, single_variable_declaration, person_1_code22, (parameters, 0), range(person_1, 200, 11, 12, 12)).
+code(person_1_code25, simple_type, person_1_code24, type, range(person_1, 200, 6, 12, 12)).
+code(person_1_code26, single_variable_declaration, person_1_code22, (parameters, 1), range(person_1, 213, 12, 12, 12)).
+code(person_1_code27, simple_type, person_1_code26, type, range(person_1, 213, 6, 12, 12)).
+code(person_1_code28, method_declaration, person_1_code3, (body_declarations, 5), range(person_1, 294, 52, 17, 19)).
+code(person_1_code29, modifier, person_1_code28, (modifiers, 0), range(person_1, 294, 6, 17, 17)).
+code(person_1_code30, simple_type, person_1_code28, return_type2, range(person_1, 301, 6, 17, 17)).
+code(person_1_code31, method_declaration, person_1_code3, (body_declarations, 6), range(person_1, 352, 87, 21, 23)).
+code(person_1_code32, modifier, person_1_code31, (modifiers, 0), range(person_1, 352, 6, 21, 21)).
+code(person_1_code33, simple_type, person_1_code31, return_type2, range(person_1, 359, 6, 21, 21)).
+code(person_1_code34, simple_type, person_1_expr10, type, range(person_1, 414, 6, 22, 22)).
+
+%%% Name References
+
+name_ref(n_sample_1, none, 'sample', 'sample').
+name_ref(t_example_1, type, 'Example', 'Lsample/Example;').
+name_ref(t_example_test_3, type, 'ExampleTest', 'Lsample/ExampleTest;').
+name_ref(t_person_4, type, 'Person', 'Lsample/Person<TT;>;').
+name_ref(t_t_5, type, 'T', 'Lsample/Person;:TT;').
+name_ref(t_test_2, type, 'Test', 'Lorg/junit/jupiter/api/Test;').
+name_ref(p_major_21, param, 'major', 'person_1;major_line_9').
+name_ref(p_p_3, param, 'p', 'example_1;p_line_8').
+name_ref(f_field_4, field, 'field', 'example_1;field_line_8').
+name_ref(v_e_15, var, 'e', 'Lsample/ExampleTest;.test1()V#e').
+name_ref(v_e_17, var, 'e', 'Lsample/ExampleTest;.test2()V#e').
+name_ref(v_first_name_7, var, 'firstName', 'Lsample/Example;.decorate()Ljava/lang/String;#firstName').
+name_ref(v_index_10, var, 'index', 'Lsample/Example;.firstName(Ljava/lang/String;)Ljava/lang/String;#index').
+name_ref(v_index_12, var, 'index', 'Lsample/Example;.lastName(Ljava/lang/String;)Ljava/lang/String;|Ljava/lang/NullPointerException;#index').
+name_ref(v_last_name_8, var, 'lastName', 'Lsample/Example;.decorate()Ljava/lang/String;#lastName').
+name_ref(v_p_13, var, 'p', 'Lsample/ExampleTest;.test1()V#p').
+name_ref(v_p_16, var, 'p', 'Lsample/ExampleTest;.test2()V#p').
+name_ref(p_major_21, param, 'major', 'Lsample/Person;.(Ljava/lang/String;)V#major#0#0').
+name_ref(p_major_23, param, 'major', 'Lsample/Person;.(Ljava/lang/String;Ljava/lang/String;)V#major#0#1').
+name_ref(p_name_11, param, 'name', 'Lsample/Example;.lastName(Ljava/lang/String;)Ljava/lang/String;|Ljava/lang/NullPointerException;#name#0#0').
+name_ref(p_name_22, param, 'name', 'Lsample/Person;.(Ljava/lang/String;Ljava/lang/String;)V#name#0#0').
+name_ref(p_name_9, param, 'name', 'Lsample/Example;.firstName(Ljava/lang/String;)Ljava/lang/String;#name#0#0').
+name_ref(p_p_3, param, 'p', 'Lsample/Example;.(Lsample/Person<*>;)V#p#0#0').
+name_ref(p_p_5, param, 'p', 'Lsample/Example;.(Lsample/Person<*>;Ljava/lang/Object;)V#p#0#0').
+name_ref(p_s_6, param, 's', 'Lsample/Example;.(Lsample/Person<*>;Ljava/lang/Object;)V#s#0#1').
+name_ref(f_field_20, field, 'field', 'Lsample/Person;.field)Lsample/Person;:TT;').
+name_ref(f_field_4, field, 'field', 'Lsample/Example;&Lsample/Person<!Lsample/Person;{0}*144;>;.field)!Lsample/Person;{0}*144;').
+name_ref(f_major_14, field, 'MAJOR', 'Lsample/ExampleTest;.MAJOR)Ljava/lang/String;').
+name_ref(f_major_19, field, 'major', 'Lsample/Person;.major)Ljava/lang/String;').
+name_ref(f_major_25, field, 'major', 'Lsample/Person<Lsample/Person;:TT;>;.major)Ljava/lang/String;').
+name_ref(f_name_18, field, 'name', 'Lsample/Person;.name)Ljava/lang/String;').
+name_ref(f_name_24, field, 'name', 'Lsample/Person<Lsample/Person;:TT;>;.name)Ljava/lang/String;').
+name_ref(f_p_1, field, 'p', 'Lsample/Example;.p)Lsample/Person<Lsample/Person;{0}*>;').
+name_ref(f_s_2, field, 's', 'Lsample/Example;.s)Ljava/lang/Object;').
+name_ref(m_assert_equals_13, method, 'assertEquals', 'Lorg/junit/jupiter/api/Assertions;.assertEquals(DDDLjava/util/function/Supplier<Ljava/lang/String;>;)V').
+name_ref(m_assert_equals_16, method, 'assertEquals', 'Lorg/junit/jupiter/api/Assertions;.assertEquals(Ljava/lang/Object;Ljava/lang/Object;)V').
+name_ref(m_decorate_3, method, 'decorate', 'Lsample/Example;.decorate()Ljava/lang/String;').
+name_ref(m_example_1, method, 'Example', 'Lsample/Example;.(Lsample/Person<*>;)V').
+name_ref(m_example_2, method, 'Example', 'Lsample/Example;.(Lsample/Person<*>;Ljava/lang/Object;)V').
+name_ref(m_first_name_4, method, 'firstName', 'Lsample/Example;.firstName(Ljava/lang/String;)Ljava/lang/String;').
+name_ref(m_get_major_20, method, 'getMajor', 'Lsample/Person;.getMajor()Ljava/lang/String;').
+name_ref(m_get_name_5, method, 'getName', 'Lsample/Person;.getName()Ljava/lang/String;').
+name_ref(m_index_of_8, method, 'indexOf', 'Ljava/lang/String;.indexOf(I)I').
+name_ref(m_last_name_6, method, 'lastName', 'Lsample/Example;.lastName(Ljava/lang/String;)Ljava/lang/String;|Ljava/lang/NullPointerException;').
+name_ref(m_length_11, method, 'length', 'Ljava/lang/String;.length()I').
+name_ref(m_null_pointer_exception_10, method, 'NullPointerException', 'Ljava/lang/NullPointerException;.()V').
+name_ref(m_person_15, method, 'Person', 'Lsample/Person;.(Ljava/lang/String;)V').
+name_ref(m_person_18, method, 'Person', 'Lsample/Person;.(Ljava/lang/String;Ljava/lang/String;)V').
+name_ref(m_string_19, method, 'String', 'Ljava/lang/String;.(Ljava/lang/String;)V').
+name_ref(m_substring_12, method, 'substring', 'Ljava/lang/String;.substring(I)Ljava/lang/String;').
+name_ref(m_substring_9, method, 'substring', 'Ljava/lang/String;.substring(II)Ljava/lang/String;').
+name_ref(m_test_1_14, method, 'test1', 'Lsample/ExampleTest;.test1()V').
+name_ref(m_test_2_17, method, 'test2', 'Lsample/ExampleTest;.test2()V').
+name_ref(m_to_upper_case_7, method, 'toUpperCase', 'Ljava/lang/String;.toUpperCase()Ljava/lang/String;').
+name_ref(q_field_1, q_name, 'p.field', 'Lsample/Example;.(Lsample/Person<*>;)V#p#0#0:Lsample/Example;&Lsample/Person<!Lsample/Person;{0}*144;>;.field)!Lsample/Person;{0}*144;').
+name_ref(q_field_2, q_name, 'p.field', 'Lsample/Example;.(Lsample/Person<*>;Ljava/lang/Object;)V#p#0#0:Lsample/Example;&Lsample/Person<!Lsample/Person;{0}*237;>;.field)!Lsample/Person;{0}*237;').
+
+%%% End of Code Facts
\ No newline at end of file
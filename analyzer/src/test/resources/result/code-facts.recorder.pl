@@ -0,0 +1,298 @@
+%%% Code Facts
+:- style_check(-discontiguous).
+%%% Classes
+class(sample_test_1, 'sample.SampleTest').
+class(sample_1, 'sample.Sample').
+
+%%% Methods
+%sample_test_1 - sample.SampleTest
+method(m_test_1_20, range(sample_test_1, 143, 109, 8, 12)).
+%sample_1 - sample.Sample
+method(m_sample_1, range(sample_1, 256, 65, 15, 18)).
+method(m_get_num_2, range(sample_1, 327, 47, 20, 22)).
+method(m_get_str_3, range(sample_1, 380, 50, 24, 26)).
+method(m_run_4, range(sample_1, 436, 1165, 28, 63)).
+
+%%% Blocks
+%sample_test_1 - sample.SampleTest
+block(sample_test_1_block1, block, sample_test_1_code4, body, range(sample_test_1, 173, 79, 9, 12)).
+%sample_1 - sample.Sample
+block(sample_1_block1, block, sample_1_code3, body, range(sample_1, 272, 49, 15, 18)).
+block(sample_1_block2, block, sample_1_code5, body, range(sample_1, 347, 27, 20, 22)).
+block(sample_1_block3, block, sample_1_code6, body, range(sample_1, 403, 27, 24, 26)).
+block(sample_1_block4, block, sample_1_code7, body, range(sample_1, 457, 1144, 28, 63)).
+block(sample_1_block5, block, sample_1_stmt5, body, range(sample_1, 575, 52, 29, 31)).
+block(sample_1_block6, block, sample_1_code12, body, range(sample_1, 648, 44, 31, 33)).
+block(sample_1_block7, block, sample_1_stmt10, body, range(sample_1, 836, 37, 37, 37)).
+block(sample_1_block8, block, sample_1_stmt15, body, range(sample_1, 995, 147, 41, 47)).
+block(sample_1_block9, block, sample_1_stmt17, then_statement, range(sample_1, 1062, 70, 43, 46)).
+block(sample_1_block10, block, sample_1_expr26, body, range(sample_1, 1171, 135, 48, 53)).
+block(sample_1_block11, block, sample_1_stmt19, then_statement, range(sample_1, 1200, 96, 49, 52)).
+
+%%% Statements
+%sample_test_1 - sample.SampleTest
+stmt(sample_test_1_stmt1, variable_declaration_statement, sample_test_1_block1, (statements, 0), range(sample_test_1, 183, 29, 10, 10)).
+stmt(sample_test_1_stmt2, expression_statement, sample_test_1_block1, (statements, 1), range(sample_test_1, 221, 25, 11, 11)).
+%sample_1 - sample.Sample
+stmt(sample_1_stmt1, expression_statement, sample_1_block1, (statements, 0), range(sample_1, 282, 13, 16, 16)).
+stmt(sample_1_stmt2, expression_statement, sample_1_block1, (statements, 1), range(sample_1, 304, 11, 17, 17)).
+stmt(sample_1_stmt3, return_statement, sample_1_block2, (statements, 0), range(sample_1, 357, 11, 21, 21)).
+stmt(sample_1_stmt4, return_statement, sample_1_block3, (statements, 0), range(sample_1, 413, 11, 25, 25)).
+stmt(sample_1_stmt5, try_statement, sample_1_block4, (statements, 0), range(sample_1, 467, 225, 29, 33)).
+stmt(sample_1_stmt6, variable_declaration_statement, sample_1_block5, (statements, 0), range(sample_1, 589, 28, 30, 30)).
+stmt(sample_1_stmt7, variable_declaration_statement, sample_1_block4, (statements, 1), range(sample_1, 701, 38, 34, 34)).
+stmt(sample_1_stmt8, for_statement, sample_1_block4, (statements, 2), range(sample_1, 748, 58, 35, 36)).
+stmt(sample_1_stmt9, expression_statement, sample_1_stmt8, body, range(sample_1, 783, 23, 36, 36)).
+stmt(sample_1_stmt10, enhanced_for_statement, sample_1_block4, (statements, 3), range(sample_1, 815, 58, 37, 37)).
+stmt(sample_1_stmt11, expression_statement, sample_1_block7, (statements, 0), range(sample_1, 838, 33, 37, 37)).
+stmt(sample_1_stmt12, empty_statement, sample_1_block4, (statements, 4), range(sample_1, 873, 1, 37, 37)).
+stmt(sample_1_stmt13, variable_declaration_statement, sample_1_block4, (statements, 5), range(sample_1, 883, 38, 38, 38)).
+stmt(sample_1_stmt14, variable_declaration_statement, sample_1_block4, (statements, 6), range(sample_1, 930, 12, 39, 39)).
+stmt(sample_1_stmt15, while_statement, sample_1_block4, (statements, 7), range(sample_1, 951, 191, 40, 47)).
+stmt(sample_1_stmt16, expression_statement, sample_1_block8, (statements, 0), range(sample_1, 1009, 26, 42, 42)).
+stmt(sample_1_stmt17, if_statement, sample_1_block8, (statements, 1), range(sample_1, 1048, 84, 43, 46)).
+stmt(sample_1_stmt18, expression_statement, sample_1_block4, (statements, 8), range(sample_1, 1151, 157, 48, 53)).
+stmt(sample_1_stmt19, if_statement, sample_1_block10, (statements, 0), range(sample_1, 1185, 111, 49, 52)).
+stmt(sample_1_stmt20, variable_declaration_statement, sample_1_block11, (statements, 0), range(sample_1, 1218, 26, 50, 50)).
+stmt(sample_1_stmt21, expression_statement, sample_1_block11, (statements, 1), range(sample_1, 1261, 21, 51, 51)).
+stmt(sample_1_stmt22, if_statement, sample_1_block4, (statements, 9), range(sample_1, 1317, 98, 54, 57)).
+stmt(sample_1_stmt23, expression_statement, sample_1_stmt22, elseStatement, range(sample_1, 1393, 22, 57, 57)).
+stmt(sample_1_stmt24, variable_declaration_statement, sample_1_block4, (statements, 10), range(sample_1, 1424, 49, 58, 58)).
+stmt(sample_1_stmt25, expression_statement, sample_1_block4, (statements, 11), range(sample_1, 1482, 32, 59, 59)).
+stmt(sample_1_stmt26, expression_statement, sample_1_block4, (statements, 12), range(sample_1, 1523, 51, 60, 61)).
+
+%%% Expressions
+%sample_test_1 - sample.SampleTest
+expr(sample_test_1_expr1, class_instance_creation, sample_test_1_code6, initializer, range(sample_test_1, 199, 12, 10, 10), "new Sample()").
+expr(sample_test_1_expr2, method_invocation, sample_test_1_stmt2, expression, range(sample_test_1, 221, 24, 11, 11), "assertTrue(sample.run())").
+expr(sample_test_1_expr3, method_invocation, sample_test_1_expr2, (arguments, 0), range(sample_test_1, 232, 12, 11, 11), "sample.run()").
+%sample_1 - sample.Sample
+expr(sample_1_expr1, assignment, sample_1_stmt1, expression, range(sample_1, 282, 12, 16, 16), "this.num=0").
+expr(sample_1_expr2, field_access, sample_1_expr1, left_hand_side, range(sample_1, 282, 8, 16, 16), "this.num").
+expr(sample_1_expr3, this_expression, f_num_1, expression, range(sample_1, 282, 4, 16, 16), "this").
+expr(sample_1_expr4, assignment, sample_1_stmt2, expression, range(sample_1, 304, 10, 17, 17), "str=null").
+expr(sample_1_expr5, variable_declaration_expression, sample_1_stmt5, (resources, 0), range(sample_1, 472, 101, 29, 29), "BufferedReader br=Files.newBufferedReader(Paths.get(\"src/test/resources/config.sample.properties\"))").
+expr(sample_1_expr6, method_invocation, sample_1_code9, initializer, range(sample_1, 492, 81, 29, 29), "Files.newBufferedReader(Paths.get(\"src/test/resources/config.sample.properties\"))").
+expr(sample_1_expr7, method_invocation, sample_1_expr6, (arguments, 0), range(sample_1, 516, 56, 29, 29), "Paths.get(\"src/test/resources/config.sample.properties\")").
+expr(sample_1_expr8, method_invocation, sample_1_code11, initializer, range(sample_1, 603, 13, 30, 30), "br.readLine()").
+expr(sample_1_expr9, class_instance_creation, sample_1_code16, initializer, range(sample_1, 721, 17, 34, 34), "new ArrayList<>()").
+expr(sample_1_expr10, variable_declaration_expression, sample_1_stmt8, (initializers, 0), range(sample_1, 752, 7, 35, 35), "int i=0").
+expr(sample_1_expr11, infix_expression, sample_1_stmt8, expression, range(sample_1, 761, 3, 35, 35), "i < 5").
+expr(sample_1_expr12, postfix_expression, sample_1_stmt8, (updaters, 0), range(sample_1, 766, 3, 35, 35), "i++").
+expr(sample_1_expr13, method_invocation, sample_1_stmt9, expression, range(sample_1, 783, 22, 36, 36), "list.add(new Sample())").
+expr(sample_1_expr14, class_instance_creation, sample_1_expr13, (arguments, 0), range(sample_1, 792, 12, 36, 36), "new Sample()").
+expr(sample_1_expr15, method_invocation, sample_1_stmt11, expression, range(sample_1, 838, 32, 37, 37), "System.out.println(s.toString())").
+expr(sample_1_expr16, method_invocation, sample_1_expr15, (arguments, 0), range(sample_1, 857, 12, 37, 37), "s.toString()").
+expr(sample_1_expr17, method_invocation, sample_1_code27, initializer, range(sample_1, 905, 15, 38, 38), "list.iterator()").
+expr(sample_1_expr18, infix_expression, sample_1_stmt15, expression, range(sample_1, 957, 36, 40, 41), "num < 10 && it.hasNext()").
+expr(sample_1_expr19, infix_expression, sample_1_expr18, left_operand, range(sample_1, 957, 8, 40, 40), "num < 10").
+expr(sample_1_expr20, method_invocation, sample_1_expr18, right_operand, range(sample_1, 981, 12, 41, 41), "it.hasNext()").
+expr(sample_1_expr21, assignment, sample_1_stmt16, expression, range(sample_1, 1009, 25, 42, 42), "num+=it.next().getNum()").
+expr(sample_1_expr22, method_invocation, sample_1_expr21, right_hand_side, range(sample_1, 1016, 18, 42, 42), "it.next().getNum()").
+expr(sample_1_expr23, method_invocation, sample_1_expr22, expression, range(sample_1, 1016, 9, 42, 42), "it.next()").
+expr(sample_1_expr24, infix_expression, sample_1_stmt17, expression, range(sample_1, 1051, 9, 43, 43), "num >= 10").
+expr(sample_1_expr25, method_invocation, sample_1_stmt18, expression, range(sample_1, 1151, 156, 48, 53), "list.forEach((s) -> {\n  if (s.num >= 0) {\n    String str=s.toString();\n    s.num=str.length();\n  }\n}\n)").
+expr(sample_1_expr26, lambda_expression, sample_1_expr25, (arguments, 0), range(sample_1, 1164, 142, 48, 53), "(s) -> {\n  if (s.num >= 0) {\n    String str=s.toString();\n    s.num=str.length();\n  }\n}").
+expr(sample_1_expr27, infix_expression, sample_1_stmt19, expression, range(sample_1, 1188, 10, 49, 49), "s.num >= 0").
+expr(sample_1_expr28, method_invocation, sample_1_code32, initializer, range(sample_1, 1231, 12, 50, 50), "s.toString()").
+expr(sample_1_expr29, assignment, sample_1_stmt21, expression, range(sample_1, 1261, 20, 51, 51), "s.num=str.length()").
+expr(sample_1_expr30, method_invocation, sample_1_expr29, right_hand_side, range(sample_1, 1269, 12, 51, 51), "str.length()").
+expr(sample_1_expr31, infix_expression, sample_1_stmt22, expression, range(sample_1, 1320, 15, 54, 54), "list.size() < 0").
+expr(sample_1_expr32, method_invocation, sample_1_expr31, left_operand, range(sample_1, 1320, 11, 54, 54), "list.size()").
+expr(sample_1_expr33, method_invocation, sample_1_stmt23, expression, range(sample_1, 1393, 21, 57, 57), "list.add(list.get(0))").
+expr(sample_1_expr34, method_invocation, sample_1_expr33, (arguments, 0), range(sample_1, 1402, 11, 57, 57), "list.get(0)").
+expr(sample_1_expr35, conditional_expression, sample_1_code34, initializer, range(sample_1, 1438, 34, 58, 58), "getStr() == null ? null : getStr()").
+expr(sample_1_expr36, infix_expression, sample_1_expr35, expression, range(sample_1, 1438, 16, 58, 58), "getStr() == null").
+expr(sample_1_expr38, method_invocation, sample_1_expr36, left_operand, range(sample_1, 1438, 8, 58, 58), "getStr()").
+expr(sample_1_expr37, method_invocation, sample_1_expr35, else_expression, range(sample_1, 1464, 8, 58, 58), "getStr()").
+expr(sample_1_expr39, assignment, sample_1_stmt25, expression, range(sample_1, 1482, 31, 59, 59), "test=test == null ? test : \"\"").
+expr(sample_1_expr40, conditional_expression, sample_1_expr39, right_hand_side, range(sample_1, 1489, 24, 59, 59), "test == null ? test : \"\"").
+expr(sample_1_expr41, infix_expression, sample_1_expr40, expression, range(sample_1, 1489, 12, 59, 59), "test == null").
+expr(sample_1_expr42, method_invocation, sample_1_stmt26, expression, range(sample_1, 1523, 50, 60, 61), "System.out.println(test.length())").
+expr(sample_1_expr43, method_invocation, sample_1_expr42, (arguments, 0), range(sample_1, 1559, 13, 61, 61), "test.length()").
+
+%%% Names
+%sample_test_1 - sample.SampleTest
+name(t_sample_test_4, simple_name, sample_test_1_code2, name, range(sample_test_1, 125, 10, 6, 6), 'SampleTest').
+name(v_sample_14, simple_name, sample_test_1_code6, name, range(sample_test_1, 190, 6, 10, 10), 'sample').
+name(m_assert_true_21, simple_name, sample_test_1_expr2, name, range(sample_test_1, 221, 10, 11, 11), 'assertTrue').
+name(v_sample_14, simple_name, sample_test_1_expr3, expression, range(sample_test_1, 232, 6, 11, 11), 'sample').
+name(m_run_4, simple_name, sample_test_1_expr3, name, range(sample_test_1, 239, 3, 11, 11), 'run').
+%sample_1 - sample.Sample
+name(m_sample_1, simple_name, sample_1_code3, name, range(sample_1, 263, 6, 15, 15), 'Sample').
+name(f_num_1, simple_name, sample_1_expr2, name, range(sample_1, 287, 3, 16, 16), 'num').
+name(f_str_2, simple_name, sample_1_expr4, left_hand_side, range(sample_1, 304, 3, 17, 17), 'str').
+name(f_num_1, simple_name, sample_1_stmt3, expression, range(sample_1, 364, 3, 21, 21), 'num').
+name(f_str_2, simple_name, sample_1_stmt4, expression, range(sample_1, 420, 3, 25, 25), 'str').
+name(v_br_3, simple_name, sample_1_code9, name, range(sample_1, 487, 2, 29, 29), 'br').
+name(t_files_1, simple_name, sample_1_expr6, expression, range(sample_1, 492, 5, 29, 29), 'Files').
+name(m_new_buffered_reader_5, simple_name, sample_1_expr6, name, range(sample_1, 498, 17, 29, 29), 'newBufferedReader').
+name(t_paths_2, simple_name, sample_1_expr7, expression, range(sample_1, 516, 5, 29, 29), 'Paths').
+name(m_get_6, simple_name, sample_1_expr7, name, range(sample_1, 522, 3, 29, 29), 'get').
+name(v_line_4, simple_name, sample_1_code11, name, range(sample_1, 596, 4, 30, 30), 'line').
+name(v_br_3, simple_name, sample_1_expr8, expression, range(sample_1, 603, 2, 30, 30), 'br').
+name(m_read_line_7, simple_name, sample_1_expr8, name, range(sample_1, 606, 8, 30, 30), 'readLine').
+name(v_list_5, simple_name, sample_1_code16, name, range(sample_1, 714, 4, 34, 34), 'list').
+name(v_i_6, simple_name, sample_1_code20, name, range(sample_1, 756, 1, 35, 35), 'i').
+name(v_i_6, simple_name, sample_1_expr11, left_operand, range(sample_1, 761, 1, 35, 35), 'i').
+name(v_i_6, simple_name, sample_1_expr12, operand, range(sample_1, 766, 1, 35, 35), 'i').
+name(v_list_5, simple_name, sample_1_expr13, expression, range(sample_1, 783, 4, 36, 36), 'list').
+name(m_add_9, simple_name, sample_1_expr13, name, range(sample_1, 788, 3, 36, 36), 'add').
+name(v_s_7, simple_name, sample_1_code22, name, range(sample_1, 826, 1, 37, 37), 's').
+name(v_list_5, simple_name, sample_1_stmt10, expression, range(sample_1, 830, 4, 37, 37), 'list').
+name(q_out_1, qualified_name, sample_1_expr15, expression, range(sample_1, 838, 10, 37, 37), 'System.out').
+name(t_system_3, simple_name, q_out_1, qualifier, range(sample_1, 838, 6, 37, 37), 'System').
+name(m_println_10, simple_name, sample_1_expr15, name, range(sample_1, 849, 7, 37, 37), 'println').
+name(v_s_7, simple_name, sample_1_expr16, expression, range(sample_1, 857, 1, 37, 37), 's').
+name(m_to_string_11, simple_name, sample_1_expr16, name, range(sample_1, 859, 8, 37, 37), 'toString').
+name(v_it_9, simple_name, sample_1_code27, name, range(sample_1, 900, 2, 38, 38), 'it').
+name(v_list_5, simple_name, sample_1_expr17, expression, range(sample_1, 905, 4, 38, 38), 'list').
+name(m_iterator_12, simple_name, sample_1_expr17, name, range(sample_1, 910, 8, 38, 38), 'iterator').
+name(v_num_10, simple_name, sample_1_code29, name, range(sample_1, 934, 3, 39, 39), 'num').
+name(v_num_10, simple_name, sample_1_expr19, left_operand, range(sample_1, 957, 3, 40, 40), 'num').
+name(v_it_9, simple_name, sample_1_expr20, expression, range(sample_1, 981, 2, 41, 41), 'it').
+name(m_has_next_13, simple_name, sample_1_expr20, name, range(sample_1, 984, 7, 41, 41), 'hasNext').
+name(v_num_10, simple_name, sample_1_expr21, left_hand_side, range(sample_1, 1009, 3, 42, 42), 'num').
+name(v_it_9, simple_name, sample_1_expr23, expression, range(sample_1, 1016, 2, 42, 42), 'it').
+name(m_next_14, simple_name, sample_1_expr23, name, range(sample_1, 1019, 4, 42, 42), 'next').
+name(m_get_num_2, simple_name, sample_1_expr22, name, range(sample_1, 1026, 6, 42, 42), 'getNum').
+name(v_num_10, simple_name, sample_1_expr24, left_operand, range(sample_1, 1051, 3, 43, 43), 'num').
+name(v_list_5, simple_name, sample_1_expr25, expression, range(sample_1, 1151, 4, 48, 48), 'list').
+name(m_for_each_15, simple_name, sample_1_expr25, name, range(sample_1, 1156, 7, 48, 48), 'forEach').
+name(p_s_11, simple_name, sample_1_code30, name, range(sample_1, 1165, 1, 48, 48), 's').
+name(q_num_2, qualified_name, sample_1_expr27, left_operand, range(sample_1, 1188, 5, 49, 49), 's.num').
+name(p_s_11, simple_name, q_num_2, qualifier, range(sample_1, 1188, 1, 49, 49), 's').
+name(v_str_12, simple_name, sample_1_code32, name, range(sample_1, 1225, 3, 50, 50), 'str').
+name(p_s_11, simple_name, sample_1_expr28, expression, range(sample_1, 1231, 1, 50, 50), 's').
+name(m_to_string_11, simple_name, sample_1_expr28, name, range(sample_1, 1233, 8, 50, 50), 'toString').
+name(q_num_3, qualified_name, sample_1_expr29, left_hand_side, range(sample_1, 1261, 5, 51, 51), 's.num').
+name(p_s_11, simple_name, q_num_3, qualifier, range(sample_1, 1261, 1, 51, 51), 's').
+name(v_str_12, simple_name, sample_1_expr30, expression, range(sample_1, 1269, 3, 51, 51), 'str').
+name(m_length_16, simple_name, sample_1_expr30, name, range(sample_1, 1273, 6, 51, 51), 'length').
+name(v_list_5, simple_name, sample_1_expr32, expression, range(sample_1, 1320, 4, 54, 54), 'list').
+name(m_size_17, simple_name, sample_1_expr32, name, range(sample_1, 1325, 4, 54, 54), 'size').
+name(v_list_5, simple_name, sample_1_expr33, expression, range(sample_1, 1393, 4, 57, 57), 'list').
+name(m_add_9, simple_name, sample_1_expr33, name, range(sample_1, 1398, 3, 57, 57), 'add').
+name(v_list_5, simple_name, sample_1_expr34, expression, range(sample_1, 1402, 4, 57, 57), 'list').
+name(m_get_18, simple_name, sample_1_expr34, name, range(sample_1, 1407, 3, 57, 57), 'get').
+name(v_test_13, simple_name, sample_1_code34, name, range(sample_1, 1431, 4, 58, 58), 'test').
+name(m_get_str_3, simple_name, sample_1_expr38, name, range(sample_1, 1438, 6, 58, 58), 'getStr').
+name(m_get_str_3, simple_name, sample_1_expr37, name, range(sample_1, 1464, 6, 58, 58), 'getStr').
+name(v_test_13, simple_name, sample_1_expr39, left_hand_side, range(sample_1, 1482, 4, 59, 59), 'test').
+name(v_test_13, simple_name, sample_1_expr41, left_operand, range(sample_1, 1489, 4, 59, 59), 'test').
+name(v_test_13, simple_name, sample_1_expr40, then_expression, range(sample_1, 1504, 4, 59, 59), 'test').
+name(q_out_3, qualified_name, sample_1_expr42, expression, range(sample_1, 1523, 10, 60, 60), 'System.out').
+name(t_system_3, simple_name, q_out_3, qualifier, range(sample_1, 1523, 6, 60, 60), 'System').
+name(m_println_19, simple_name, sample_1_expr42, name, range(sample_1, 1534, 7, 60, 60), 'println').
+name(v_test_13, simple_name, sample_1_expr43, expression, range(sample_1, 1559, 4, 61, 61), 'test').
+name(m_length_16, simple_name, sample_1_expr43, name, range(sample_1, 1564, 6, 61, 61), 'length').
+
+%%% Literals
+%sample_test_1 - sample.SampleTest
+%sample_1 - sample.Sample
+literal(sample_1_literal1, number_literal, sample_1_expr1, right_hand_side, range(sample_1, 293, 1, 16, 16), 0).
+literal(sample_1_literal2, null_literal, sample_1_expr4, right_hand_side, range(sample_1, 310, 4, 17, 17), null).
+literal(sample_1_literal3, string_literal, sample_1_expr7, (arguments, 0), range(sample_1, 526, 45, 29, 29), "src/test/resources/config.sample.properties").
+literal(sample_1_literal4, number_literal, sample_1_code20, initializer, range(sample_1, 758, 1, 35, 35), 0).
+literal(sample_1_literal5, number_literal, sample_1_expr11, right_operand, range(sample_1, 763, 1, 35, 35), 5).
+literal(sample_1_literal6, number_literal, sample_1_code29, initializer, range(sample_1, 940, 1, 39, 39), 0).
+literal(sample_1_literal7, number_literal, sample_1_expr19, right_operand, range(sample_1, 963, 2, 40, 40), 10).
+literal(sample_1_literal8, number_literal, sample_1_expr24, right_operand, range(sample_1, 1058, 2, 43, 43), 10).
+literal(sample_1_literal9, number_literal, sample_1_expr27, right_operand, range(sample_1, 1197, 1, 49, 49), 0).
+literal(sample_1_literal10, number_literal, sample_1_expr31, right_operand, range(sample_1, 1334, 1, 54, 54), 0).
+literal(sample_1_literal11, number_literal, sample_1_expr34, (arguments, 0), range(sample_1, 1411, 1, 57, 57), 0).
+literal(sample_1_literal13, null_literal, sample_1_expr36, right_operand, range(sample_1, 1450, 4, 58, 58), null).
+literal(sample_1_literal12, null_literal, sample_1_expr35, then_expression, range(sample_1, 1457, 4, 58, 58), null).
+literal(sample_1_literal15, null_literal, sample_1_expr41, right_operand, range(sample_1, 1497, 4, 59, 59), null).
+literal(sample_1_literal14, string_literal, sample_1_expr40, else_expression, range(sample_1, 1511, 2, 59, 59), "").
+
+%%% Other Code Entities
+%sample_test_1 - sample.SampleTest
+code(sample_test_1_code1, compilation_unit, range(sample_test_1, 0, 254, 1, -1)).
+code(sample_test_1_code2, type_declaration, sample_test_1_code1, (types, 0), range(sample_test_1, 112, 142, 6, -1)).
+code(sample_test_1_code3, modifier, sample_test_1_code2, (modifiers, 0), range(sample_test_1, 112, 6, 6, 6)).
+code(sample_test_1_code4, method_declaration, sample_test_1_code2, (body_declarations, 0), range(sample_test_1, 143, 109, 8, 12)).
+code(sample_test_1_code5, simple_type, sample_test_1_stmt1, type, range(sample_test_1, 183, 6, 10, 10)).
+code(sample_test_1_code6, variable_declaration_fragment, sample_test_1_stmt1, (fragments, 0), range(sample_test_1, 190, 21, 10, 10)).
+code(sample_test_1_code7, simple_type, sample_test_1_expr1, type, range(sample_test_1, 203, 6, 10, 10)).
+%sample_1 - sample.Sample
+code(sample_1_code1, compilation_unit, range(sample_1, 0, 1603, 1, -1)).
+code(sample_1_code2, type_declaration, sample_1_code1, (types, 0), range(sample_1, 183, 1420, 10, -1)).
+code(sample_1_code3, method_declaration, sample_1_code2, (body_declarations, 2), range(sample_1, 256, 65, 15, 18)).
+code(sample_1_code4, modifier, sample_1_code3, (modifiers, 0), range(sample_1, 256, 6, 15, 15)).
+code(sample_1_code5, method_declaration, sample_1_code2, (body_declarations, 3), range(sample_1, 327, 47, 20, 22)).
+code(sample_1_code6, method_declaration, sample_1_code2, (body_declarations, 4), range(sample_1, 380, 50, 24, 26)).
+code(sample_1_code7, method_declaration, sample_1_code2, (body_declarations, 5), range(sample_1, 436, 1165, 28, 63)).
+code(sample_1_code8, simple_type, sample_1_expr5, type, range(sample_1, 472, 14, 29, 29)).
+code(sample_1_code9, variable_declaration_fragment, sample_1_expr5, (fragments, 0), range(sample_1, 487, 86, 29, 29)).
+code(sample_1_code10, simple_type, sample_1_stmt6, type, range(sample_1, 589, 6, 30, 30)).
+code(sample_1_code11, variable_declaration_fragment, sample_1_stmt6, (fragments, 0), range(sample_1, 596, 20, 30, 30)).
+code(sample_1_code12, catch_clause, sample_1_stmt5, (catch_clauses, 0), range(sample_1, 628, 64, 31, 33)).
+code(sample_1_code13, parameterized_type, sample_1_stmt7, type, range(sample_1, 701, 12, 34, 34)).
+code(sample_1_code14, simple_type, sample_1_code13, type, range(sample_1, 701, 4, 34, 34)).
+code(sample_1_code15, simple_type, sample_1_code13, (type_arguments, 0), range(sample_1, 706, 6, 34, 34)).
+code(sample_1_code16, variable_declaration_fragment, sample_1_stmt7, (fragments, 0), range(sample_1, 714, 24, 34, 34)).
+code(sample_1_code17, parameterized_type, sample_1_expr9, type, range(sample_1, 725, 11, 34, 34)).
+code(sample_1_code18, simple_type, sample_1_code17, type, range(sample_1, 725, 9, 34, 34)).
+code(sample_1_code19, primitive_type, sample_1_expr10, type, range(sample_1, 752, 3, 35, 35)).
+code(sample_1_code20, variable_declaration_fragment, sample_1_expr10, (fragments, 0), range(sample_1, 756, 3, 35, 35)).
+code(sample_1_code21, simple_type, sample_1_expr14, type, range(sample_1, 796, 6, 36, 36)).
+code(sample_1_code22, single_variable_declaration, sample_1_stmt10, parameter, range(sample_1, 819, 8, 37, 37)).
+code(sample_1_code23, simple_type, sample_1_code22, type, range(sample_1, 819, 6, 37, 37)).
+code(sample_1_code24, parameterized_type, sample_1_stmt13, type, range(sample_1, 883, 16, 38, 38)).
+code(sample_1_code25, simple_type, sample_1_code24, type, range(sample_1, 883, 8, 38, 38)).
+code(sample_1_code26, simple_type, sample_1_code24, (type_arguments, 0), range(sample_1, 892, 6, 38, 38)).
+code(sample_1_code27, variable_declaration_fragment, sample_1_stmt13, (fragments, 0), range(sample_1, 900, 20, 38, 38)).
+code(sample_1_code28, primitive_type, sample_1_stmt14, type, range(sample_1, 930, 3, 39, 39)).
+code(sample_1_code29, variable_declaration_fragment, sample_1_stmt14, (fragments, 0), range(sample_1, 934, 7, 39, 39)).
+code(sample_1_code30, variable_declaration_fragment, sample_1_expr26, (parameters, 0), range(sample_1, 1165, 1, 48, 48)).
+code(sample_1_code31, simple_type, sample_1_stmt20, type, range(sample_1, 1218, 6, 50, 50)).
+code(sample_1_code32, variable_declaration_fragment, sample_1_stmt20, (fragments, 0), range(sample_1, 1225, 18, 50, 50)).
+code(sample_1_code33, simple_type, sample_1_stmt24, type, range(sample_1, 1424, 6, 58, 58)).
+code(sample_1_code34, variable_declaration_fragment, sample_1_stmt24, (fragments, 0), range(sample_1, 1431, 41, 58, 58)).
+
+%%% Name References
+
+name_ref(t_files_1, type, 'Files', 'Ljava/nio/file/Files;').
+name_ref(t_paths_2, type, 'Paths', 'Ljava/nio/file/Paths;').
+name_ref(t_sample_test_4, type, 'SampleTest', 'Lsample/SampleTest;').
+name_ref(t_system_3, type, 'System', 'Ljava/lang/System;').
+name_ref(v_br_3, var, 'br', 'Lsample/Sample;.run()Z#0#0#br').
+name_ref(v_i_6, var, 'i', 'Lsample/Sample;.run()Z#1#i').
+name_ref(v_it_9, var, 'it', 'Lsample/Sample;.run()Z#it').
+name_ref(v_line_4, var, 'line', 'Lsample/Sample;.run()Z#0#0#0#line').
+name_ref(v_list_5, var, 'list', 'Lsample/Sample;.run()Z#list').
+name_ref(v_num_10, var, 'num', 'Lsample/Sample;.run()Z#num').
+name_ref(v_s_7, var, 's', 'Lsample/Sample;.run()Z#2#s').
+name_ref(v_sample_14, var, 'sample', 'Lsample/SampleTest;.test1()V#sample').
+name_ref(v_str_12, var, 'str', 'Lsample/Sample;.lambda$0(Lsample/Sample;)V#0#str').
+name_ref(v_test_13, var, 'test', 'Lsample/Sample;.run()Z#test').
+name_ref(p_s_11, param, 's', 'Lsample/Sample;.lambda$0(Lsample/Sample;)V#s#0#0').
+name_ref(f_num_1, field, 'num', 'Lsample/Sample;.num)I').
+name_ref(f_out_8, field, 'out', 'Ljava/lang/System;.out)Ljava/io/PrintStream;').
+name_ref(f_str_2, field, 'str', 'Lsample/Sample;.str)Ljava/lang/String;').
+name_ref(m_add_9, method, 'add', 'Ljava/util/List;.add(TE;)Z').
+name_ref(m_array_list_8, method, 'ArrayList', 'Ljava/util/ArrayList;.()V').
+name_ref(m_assert_true_21, method, 'assertTrue', 'Lorg/junit/jupiter/api/Assertions;.assertTrue(Z)V').
+name_ref(m_for_each_15, method, 'forEach', 'Ljava/lang/Iterable;.forEach(Ljava/util/function/Consumer<-TT;>;)V').
+name_ref(m_get_18, method, 'get', 'Ljava/util/List;.get(I)TE;').
+name_ref(m_get_6, method, 'get', 'Ljava/nio/file/Paths;.get(Ljava/lang/String;[Ljava/lang/String;)Ljava/nio/file/Path;').
+name_ref(m_get_num_2, method, 'getNum', 'Lsample/Sample;.getNum()I').
+name_ref(m_get_str_3, method, 'getStr', 'Lsample/Sample;.getStr()Ljava/lang/String;').
+name_ref(m_has_next_13, method, 'hasNext', 'Ljava/util/Iterator;.hasNext()Z').
+name_ref(m_iterator_12, method, 'iterator', 'Ljava/util/List;.iterator()Ljava/util/Iterator<TE;>;').
+name_ref(m_length_16, method, 'length', 'Ljava/lang/String;.length()I').
+name_ref(m_new_buffered_reader_5, method, 'newBufferedReader', 'Ljava/nio/file/Files;.newBufferedReader(Ljava/nio/file/Path;)Ljava/io/BufferedReader;|Ljava/io/IOException;').
+name_ref(m_next_14, method, 'next', 'Ljava/util/Iterator;.next()TE;').
+name_ref(m_println_10, method, 'println', 'Ljava/io/PrintStream;.println(Ljava/lang/String;)V').
+name_ref(m_println_19, method, 'println', 'Ljava/io/PrintStream;.println(I)V').
+name_ref(m_read_line_7, method, 'readLine', 'Ljava/io/BufferedReader;.readLine()Ljava/lang/String;|Ljava/io/IOException;').
+name_ref(m_run_4, method, 'run', 'Lsample/Sample;.run()Z').
+name_ref(m_sample_1, method, 'Sample', 'Lsample/Sample;.()V').
+name_ref(m_size_17, method, 'size', 'Ljava/util/List;.size()I').
+name_ref(m_test_1_20, method, 'test1', 'Lsample/SampleTest;.test1()V').
+name_ref(m_to_string_11, method, 'toString', 'Ljava/lang/Object;.toString()Ljava/lang/String;').
+name_ref(q_num_2, q_name, 's.num', 'Lsample/Sample;.lambda$0(Lsample/Sample;)V#s#0#0:Lsample/Sample;.num)I').
+name_ref(q_out_1, q_name, 'System.out', 'Ljava/lang/System;:Ljava/lang/System;.out)Ljava/io/PrintStream;').
+
+%%% End of Code Facts
\ No newline at end of file
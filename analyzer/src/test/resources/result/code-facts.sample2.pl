@@ -0,0 +1,111 @@
+%%% Code Facts
+:- style_check(-discontiguous).
+%%% Classes
+class(sample2_1, 'sample.Sample2').
+class(sample2_test_1, 'sample.Sample2Test').
+
+%%% Methods
+%sample2_1 - sample.Sample2
+method(m_run_1, range(sample2_1, 44, 211, 4, 15)).
+%sample2_test_1 - sample.Sample2Test
+method(m_test_1_5, range(sample2_test_1, 84, 99, 6, 10)).
+
+%%% Blocks
+%sample2_1 - sample.Sample2
+block(sample2_1_block1, block, sample2_1_code4, body, range(sample2_1, 62, 193, 4, 15)).
+%sample2_test_1 - sample.Sample2Test
+block(sample2_test_1_block1, block, sample2_test_1_code4, body, range(sample2_test_1, 114, 69, 7, 10)).
+
+%%% Statements
+%sample2_1 - sample.Sample2
+stmt(sample2_1_stmt1, variable_declaration_statement, sample2_1_block1, (statements, 0), range(sample2_1, 72, 18, 5, 5)).
+stmt(sample2_1_stmt2, variable_declaration_statement, sample2_1_block1, (statements, 1), range(sample2_1, 99, 17, 6, 6)).
+stmt(sample2_1_stmt3, expression_statement, sample2_1_block1, (statements, 2), range(sample2_1, 126, 19, 8, 8)).
+stmt(sample2_1_stmt4, expression_statement, sample2_1_block1, (statements, 3), range(sample2_1, 154, 10, 9, 9)).
+stmt(sample2_1_stmt5, expression_statement, sample2_1_block1, (statements, 4), range(sample2_1, 174, 11, 11, 11)).
+stmt(sample2_1_stmt6, expression_statement, sample2_1_block1, (statements, 5), range(sample2_1, 194, 10, 12, 12)).
+stmt(sample2_1_stmt7, expression_statement, sample2_1_block1, (statements, 6), range(sample2_1, 214, 35, 14, 14)).
+%sample2_test_1 - sample.Sample2Test
+stmt(sample2_test_1_stmt1, variable_declaration_statement, sample2_test_1_block1, (statements, 0), range(sample2_test_1, 124, 31, 8, 8)).
+stmt(sample2_test_1_stmt2, expression_statement, sample2_test_1_block1, (statements, 1), range(sample2_test_1, 164, 13, 9, 9)).
+
+%%% Expressions
+%sample2_1 - sample.Sample2
+expr(sample2_1_expr1, assignment, sample2_1_stmt3, expression, range(sample2_1, 126, 18, 8, 8), "foo=new Object()").
+expr(sample2_1_expr2, class_instance_creation, sample2_1_expr1, right_hand_side, range(sample2_1, 132, 12, 8, 8), "new Object()").
+expr(sample2_1_expr3, assignment, sample2_1_stmt4, expression, range(sample2_1, 154, 9, 9, 9), "bar=foo").
+expr(sample2_1_expr4, assignment, sample2_1_stmt5, expression, range(sample2_1, 174, 10, 11, 11), "foo=null").
+expr(sample2_1_expr5, assignment, sample2_1_stmt6, expression, range(sample2_1, 194, 9, 12, 12), "bar=foo").
+expr(sample2_1_expr6, method_invocation, sample2_1_stmt7, expression, range(sample2_1, 214, 34, 14, 14), "System.out.println(bar.toString())").
+expr(sample2_1_expr7, method_invocation, sample2_1_expr6, (arguments, 0), range(sample2_1, 233, 14, 14, 14), "bar.toString()").
+%sample2_test_1 - sample.Sample2Test
+expr(sample2_test_1_expr1, class_instance_creation, sample2_test_1_code6, initializer, range(sample2_test_1, 141, 13, 8, 8), "new Sample2()").
+expr(sample2_test_1_expr2, method_invocation, sample2_test_1_stmt2, expression, range(sample2_test_1, 164, 12, 9, 9), "sample.run()").
+
+%%% Names
+%sample2_1 - sample.Sample2
+name(t_sample2_1, simple_name, sample2_1_code2, name, range(sample2_1, 30, 7, 3, 3), 'Sample2').
+name(v_foo_1, simple_name, sample2_1_code6, name, range(sample2_1, 79, 3, 5, 5), 'foo').
+name(v_bar_2, simple_name, sample2_1_code8, name, range(sample2_1, 106, 3, 6, 6), 'bar').
+name(v_foo_1, simple_name, sample2_1_code8, initializer, range(sample2_1, 112, 3, 6, 6), 'foo').
+name(v_foo_1, simple_name, sample2_1_expr1, left_hand_side, range(sample2_1, 126, 3, 8, 8), 'foo').
+name(v_bar_2, simple_name, sample2_1_expr3, left_hand_side, range(sample2_1, 154, 3, 9, 9), 'bar').
+name(v_foo_1, simple_name, sample2_1_expr3, right_hand_side, range(sample2_1, 160, 3, 9, 9), 'foo').
+name(v_foo_1, simple_name, sample2_1_expr4, left_hand_side, range(sample2_1, 174, 3, 11, 11), 'foo').
+name(v_bar_2, simple_name, sample2_1_expr5, left_hand_side, range(sample2_1, 194, 3, 12, 12), 'bar').
+name(v_foo_1, simple_name, sample2_1_expr5, right_hand_side, range(sample2_1, 200, 3, 12, 12), 'foo').
+name(q_out_1, qualified_name, sample2_1_expr6, expression, range(sample2_1, 214, 10, 14, 14), 'System.out').
+name(t_system_2, simple_name, q_out_1, qualifier, range(sample2_1, 214, 6, 14, 14), 'System').
+name(m_println_3, simple_name, sample2_1_expr6, name, range(sample2_1, 225, 7, 14, 14), 'println').
+name(v_bar_2, simple_name, sample2_1_expr7, expression, range(sample2_1, 233, 3, 14, 14), 'bar').
+name(m_to_string_4, simple_name, sample2_1_expr7, name, range(sample2_1, 237, 8, 14, 14), 'toString').
+%sample2_test_1 - sample.Sample2Test
+name(t_sample2_test_3, simple_name, sample2_test_1_code2, name, range(sample2_test_1, 65, 11, 4, 4), 'Sample2Test').
+name(v_sample_4, simple_name, sample2_test_1_code6, name, range(sample2_test_1, 132, 6, 8, 8), 'sample').
+name(v_sample_4, simple_name, sample2_test_1_expr2, expression, range(sample2_test_1, 164, 6, 9, 9), 'sample').
+name(m_run_1, simple_name, sample2_test_1_expr2, name, range(sample2_test_1, 171, 3, 9, 9), 'run').
+
+%%% Literals
+%sample2_1 - sample.Sample2
+literal(sample2_1_literal1, null_literal, sample2_1_code6, initializer, range(sample2_1, 85, 4, 5, 5), null).
+literal(sample2_1_literal2, null_literal, sample2_1_expr4, right_hand_side, range(sample2_1, 180, 4, 11, 11), null).
+%sample2_test_1 - sample.Sample2Test
+
+%%% Other Code Entities
+%sample2_1 - sample.Sample2
+code(sample2_1_code1, compilation_unit, range(sample2_1, 0, 258, 1, -1)).
+code(sample2_1_code2, type_declaration, sample2_1_code1, (types, 0), range(sample2_1, 17, 240, 3, 16)).
+code(sample2_1_code3, modifier, sample2_1_code2, (modifiers, 0), range(sample2_1, 17, 6, 3, 3)).
+code(sample2_1_code4, method_declaration, sample2_1_code2, (body_declarations, 0), range(sample2_1, 44, 211, 4, 15)).
+code(sample2_1_code5, simple_type, sample2_1_stmt1, type, range(sample2_1, 72, 6, 5, 5)).
+code(sample2_1_code6, variable_declaration_fragment, sample2_1_stmt1, (fragments, 0), range(sample2_1, 79, 10, 5, 5)).
+code(sample2_1_code7, simple_type, sample2_1_stmt2, type, range(sample2_1, 99, 6, 6, 6)).
+code(sample2_1_code8, variable_declaration_fragment, sample2_1_stmt2, (fragments, 0), range(sample2_1, 106, 9, 6, 6)).
+code(sample2_1_code9, simple_type, sample2_1_expr2, type, range(sample2_1, 136, 6, 8, 8)).
+%sample2_test_1 - sample.Sample2Test
+code(sample2_test_1_code1, compilation_unit, range(sample2_test_1, 0, 185, 1, -1)).
+code(sample2_test_1_code2, type_declaration, sample2_test_1_code1, (types, 0), range(sample2_test_1, 52, 133, 4, -1)).
+code(sample2_test_1_code3, modifier, sample2_test_1_code2, (modifiers, 0), range(sample2_test_1, 52, 6, 4, 4)).
+code(sample2_test_1_code4, method_declaration, sample2_test_1_code2, (body_declarations, 0), range(sample2_test_1, 84, 99, 6, 10)).
+code(sample2_test_1_code5, simple_type, sample2_test_1_stmt1, type, range(sample2_test_1, 124, 7, 8, 8)).
+code(sample2_test_1_code6, variable_declaration_fragment, sample2_test_1_stmt1, (fragments, 0), range(sample2_test_1, 132, 22, 8, 8)).
+code(sample2_test_1_code7, simple_type, sample2_test_1_expr1, type, range(sample2_test_1, 145, 7, 8, 8)).
+
+%%% Name References
+
+name_ref(t_sample2_1, type, 'Sample2', 'Lsample/Sample2;').
+name_ref(t_sample2_test_3, type, 'Sample2Test', 'Lsample/Sample2Test;').
+name_ref(t_system_2, type, 'System', 'Ljava/lang/System;').
+name_ref(v_bar_2, var, 'bar', 'Lsample/Sample2;.run()V#bar').
+name_ref(v_foo_1, var, 'foo', 'Lsample/Sample2;.run()V#foo').
+name_ref(v_sample_4, var, 'sample', 'Lsample/Sample2Test;.test1()V#sample').
+name_ref(f_out_3, field, 'out', 'Ljava/lang/System;.out)Ljava/io/PrintStream;').
+name_ref(m_object_2, method, 'Object', 'Ljava/lang/Object;.()V').
+name_ref(m_println_3, method, 'println', 'Ljava/io/PrintStream;.println(Ljava/lang/String;)V').
+name_ref(m_run_1, method, 'run', 'Lsample/Sample2;.run()V').
+name_ref(m_sample2_6, method, 'Sample2', 'Lsample/Sample2;.()V').
+name_ref(m_test_1_5, method, 'test1', 'Lsample/Sample2Test;.test1()V').
+name_ref(m_to_string_4, method, 'toString', 'Ljava/lang/Object;.toString()Ljava/lang/String;').
+name_ref(q_out_1, q_name, 'System.out', 'Ljava/lang/System;:Ljava/lang/System;.out)Ljava/io/PrintStream;').
+
+%%% End of Code Facts
\ No newline at end of file
@@ -0,0 +1,250 @@
+%%% Code Facts
+:- style_check(-discontiguous).
+%%% Classes
+class(sample3_1, 'sample.Sample3').
+class(sample3_test_1, 'sample.Sample3Test').
+
+%%% Methods
+%sample3_1 - sample.Sample3
+method(m_sample3_1, range(sample3_1, 385, 119, 19, 23)).
+method(m_lambda_sample_2, range(sample3_1, 510, 88, 25, 27)).
+method(m_to_string_4, range(sample3_1, 604, 165, 29, 33)).
+method(m_get_methods_8, range(sample3_1, 775, 496, 35, 47)).
+method(m_visit_14, range(sample3_1, 1000, 228, 39, 44)).
+method(m_get_visitor_12, range(sample3_1, 1277, 80, 49, 51)).
+%sample3_test_1 - sample.Sample3Test
+method(m_test_1_19, range(sample3_test_1, 170, 353, 10, 17)).
+
+%%% Blocks
+%sample3_1 - sample.Sample3
+block(sample3_1_block1, block, sample3_1_code3, body, range(sample3_1, 431, 73, 19, 23)).
+block(sample3_1_block2, block, sample3_1_code11, body, range(sample3_1, 549, 49, 25, 27)).
+block(sample3_1_block3, block, sample3_1_code12, body, range(sample3_1, 643, 126, 30, 33)).
+block(sample3_1_block4, block, sample3_1_code15, body, range(sample3_1, 821, 450, 35, 47)).
+block(sample3_1_block5, block, sample3_1_code26, body, range(sample3_1, 1067, 161, 40, 44)).
+block(sample3_1_block6, block, sample3_1_code29, body, range(sample3_1, 1326, 31, 49, 51)).
+%sample3_test_1 - sample.Sample3Test
+block(sample3_test_1_block1, block, sample3_test_1_code4, body, range(sample3_test_1, 200, 323, 11, 17)).
+
+%%% Statements
+%sample3_1 - sample.Sample3
+stmt(sample3_1_stmt1, expression_statement, sample3_1_block1, (statements, 0), range(sample3_1, 441, 13, 20, 20)).
+stmt(sample3_1_stmt2, expression_statement, sample3_1_block1, (statements, 1), range(sample3_1, 463, 13, 21, 21)).
+stmt(sample3_1_stmt3, expression_statement, sample3_1_block1, (statements, 2), range(sample3_1, 485, 13, 22, 22)).
+stmt(sample3_1_stmt4, return_statement, sample3_1_block2, (statements, 0), range(sample3_1, 559, 33, 26, 26)).
+stmt(sample3_1_stmt5, variable_declaration_statement, sample3_1_block3, (statements, 0), range(sample3_1, 653, 37, 31, 31)).
+stmt(sample3_1_stmt6, return_statement, sample3_1_block3, (statements, 1), range(sample3_1, 699, 64, 32, 32)).
+stmt(sample3_1_stmt7, variable_declaration_statement, sample3_1_block4, (statements, 0), range(sample3_1, 831, 41, 36, 36)).
+stmt(sample3_1_stmt8, variable_declaration_statement, sample3_1_block4, (statements, 1), range(sample3_1, 881, 58, 37, 37)).
+stmt(sample3_1_stmt9, expression_statement, sample3_1_block4, (statements, 2), range(sample3_1, 948, 293, 38, 45)).
+stmt(sample3_1_stmt10, variable_declaration_statement, sample3_1_block5, (statements, 0), range(sample3_1, 1085, 46, 41, 41)).
+stmt(sample3_1_stmt11, expression_statement, sample3_1_block5, (statements, 1), range(sample3_1, 1148, 24, 42, 42)).
+stmt(sample3_1_stmt12, return_statement, sample3_1_block5, (statements, 2), range(sample3_1, 1189, 25, 43, 43)).
+stmt(sample3_1_stmt13, return_statement, sample3_1_block4, (statements, 3), range(sample3_1, 1250, 15, 46, 46)).
+stmt(sample3_1_stmt14, return_statement, sample3_1_block6, (statements, 0), range(sample3_1, 1336, 15, 50, 50)).
+%sample3_test_1 - sample.Sample3Test
+stmt(sample3_test_1_stmt1, variable_declaration_statement, sample3_test_1_block1, (statements, 0), range(sample3_test_1, 210, 48, 12, 12)).
+stmt(sample3_test_1_stmt2, variable_declaration_statement, sample3_test_1_block1, (statements, 1), range(sample3_test_1, 267, 93, 13, 13)).
+stmt(sample3_test_1_stmt3, variable_declaration_statement, sample3_test_1_block1, (statements, 2), range(sample3_test_1, 369, 49, 14, 14)).
+stmt(sample3_test_1_stmt4, expression_statement, sample3_test_1_block1, (statements, 3), range(sample3_test_1, 427, 32, 15, 15)).
+stmt(sample3_test_1_stmt5, expression_statement, sample3_test_1_block1, (statements, 4), range(sample3_test_1, 468, 49, 16, 16)).
+
+%%% Expressions
+%sample3_1 - sample.Sample3
+expr(sample3_1_expr1, assignment, sample3_1_stmt1, expression, range(sample3_1, 441, 12, 20, 20), "this.str=s").
+expr(sample3_1_expr2, field_access, sample3_1_expr1, left_hand_side, range(sample3_1, 441, 8, 20, 20), "this.str").
+expr(sample3_1_expr3, this_expression, f_str_4, expression, range(sample3_1, 441, 4, 20, 20), "this").
+expr(sample3_1_expr4, assignment, sample3_1_stmt2, expression, range(sample3_1, 463, 12, 21, 21), "this.num=n").
+expr(sample3_1_expr5, field_access, sample3_1_expr4, left_hand_side, range(sample3_1, 463, 8, 21, 21), "this.num").
+expr(sample3_1_expr6, this_expression, f_num_5, expression, range(sample3_1, 463, 4, 21, 21), "this").
+expr(sample3_1_expr7, assignment, sample3_1_stmt3, expression, range(sample3_1, 485, 12, 22, 22), "this.obj=o").
+expr(sample3_1_expr8, field_access, sample3_1_expr7, left_hand_side, range(sample3_1, 485, 8, 22, 22), "this.obj").
+expr(sample3_1_expr9, this_expression, f_obj_6, expression, range(sample3_1, 485, 4, 22, 22), "this").
+expr(sample3_1_expr10, lambda_expression, sample3_1_stmt4, expression, range(sample3_1, 566, 25, 26, 26), "() -> this.num.toString()").
+expr(sample3_1_expr11, method_invocation, sample3_1_expr10, body, range(sample3_1, 572, 19, 26, 26), "this.num.toString()").
+expr(sample3_1_expr12, field_access, sample3_1_expr11, expression, range(sample3_1, 572, 8, 26, 26), "this.num").
+expr(sample3_1_expr13, this_expression, f_num_5, expression, range(sample3_1, 572, 4, 26, 26), "this").
+expr(sample3_1_expr14, method_invocation, sample3_1_code14, initializer, range(sample3_1, 664, 25, 31, 31), "this.lambdaSample().get()").
+expr(sample3_1_expr15, method_invocation, sample3_1_expr14, expression, range(sample3_1, 664, 19, 31, 31), "this.lambdaSample()").
+expr(sample3_1_expr16, this_expression, sample3_1_expr15, expression, range(sample3_1, 664, 4, 31, 31), "this").
+expr(sample3_1_expr17, method_invocation, sample3_1_stmt6, expression, range(sample3_1, 706, 56, 32, 32), "String.join(\"/\",str,num.toString(),obj.toString(),s)").
+expr(sample3_1_expr18, method_invocation, sample3_1_expr17, (arguments, 2), range(sample3_1, 728, 14, 32, 32), "num.toString()").
+expr(sample3_1_expr19, method_invocation, sample3_1_expr17, (arguments, 3), range(sample3_1, 744, 14, 32, 32), "obj.toString()").
+expr(sample3_1_expr20, class_instance_creation, sample3_1_code19, initializer, range(sample3_1, 854, 17, 36, 36), "new ArrayList<>()").
+expr(sample3_1_expr21, method_invocation, sample3_1_code23, initializer, range(sample3_1, 902, 36, 37, 37), "CodeUtils.getCompilationUnit(source)").
+expr(sample3_1_expr22, method_invocation, sample3_1_stmt9, expression, range(sample3_1, 948, 292, 38, 45), "cu.accept(getVisitor(new ASTVisitor(){\n  @Override public boolean visit(  MethodDeclaration node){\n    String methodName=node.getName().toString();\n    methods.add(methodName);\n    return super.visit(node);\n  }\n}\n))").
+expr(sample3_1_expr23, method_invocation, sample3_1_expr22, (arguments, 0), range(sample3_1, 958, 281, 38, 45), "getVisitor(new ASTVisitor(){\n  @Override public boolean visit(  MethodDeclaration node){\n    String methodName=node.getName().toString();\n    methods.add(methodName);\n    return super.visit(node);\n  }\n}\n)").
+expr(sample3_1_expr24, class_instance_creation, sample3_1_expr23, (arguments, 0), range(sample3_1, 969, 269, 38, 45), "new ASTVisitor(){\n  @Override public boolean visit(  MethodDeclaration node){\n    String methodName=node.getName().toString();\n    methods.add(methodName);\n    return super.visit(node);\n  }\n}").
+expr(sample3_1_expr25, method_invocation, sample3_1_code28, initializer, range(sample3_1, 1105, 25, 41, 41), "node.getName().toString()").
+expr(sample3_1_expr26, method_invocation, sample3_1_expr25, expression, range(sample3_1, 1105, 14, 41, 41), "node.getName()").
+expr(sample3_1_expr27, method_invocation, sample3_1_stmt11, expression, range(sample3_1, 1148, 23, 42, 42), "methods.add(methodName)").
+expr(sample3_1_expr28, super_method_invocation, sample3_1_stmt12, expression, range(sample3_1, 1196, 17, 43, 43), "super.visit(node)").
+%sample3_test_1 - sample.Sample3Test
+expr(sample3_test_1_expr1, class_instance_creation, sample3_test_1_code6, initializer, range(sample3_test_1, 227, 30, 12, 12), "new Sample3(\"string\",1,null)").
+expr(sample3_test_1_expr2, method_invocation, sample3_test_1_code13, initializer, range(sample3_test_1, 392, 25, 14, 14), "sample.getMethods(source)").
+expr(sample3_test_1_expr3, method_invocation, sample3_test_1_stmt4, expression, range(sample3_test_1, 427, 31, 15, 15), "assertEquals(2,methods.size())").
+expr(sample3_test_1_expr4, method_invocation, sample3_test_1_expr3, (arguments, 1), range(sample3_test_1, 443, 14, 15, 15), "methods.size()").
+expr(sample3_test_1_expr5, method_invocation, sample3_test_1_stmt5, expression, range(sample3_test_1, 468, 48, 16, 16), "assertEquals(\"string/1/null\",sample.toString())").
+expr(sample3_test_1_expr6, method_invocation, sample3_test_1_expr5, (arguments, 1), range(sample3_test_1, 498, 17, 16, 16), "sample.toString()").
+
+%%% Names
+%sample3_1 - sample.Sample3
+name(m_sample3_1, simple_name, sample3_1_code3, name, range(sample3_1, 392, 7, 19, 19), 'Sample3').
+name(p_s_1, simple_name, sample3_1_code5, name, range(sample3_1, 407, 1, 19, 19), 's').
+name(p_n_2, simple_name, sample3_1_code7, name, range(sample3_1, 418, 1, 19, 19), 'n').
+name(p_o_3, simple_name, sample3_1_code9, name, range(sample3_1, 428, 1, 19, 19), 'o').
+name(f_str_4, simple_name, sample3_1_expr2, name, range(sample3_1, 446, 3, 20, 20), 'str').
+name(p_s_1, simple_name, sample3_1_expr1, right_hand_side, range(sample3_1, 452, 1, 20, 20), 's').
+name(f_num_5, simple_name, sample3_1_expr5, name, range(sample3_1, 468, 3, 21, 21), 'num').
+name(p_n_2, simple_name, sample3_1_expr4, right_hand_side, range(sample3_1, 474, 1, 21, 21), 'n').
+name(f_obj_6, simple_name, sample3_1_expr8, name, range(sample3_1, 490, 3, 22, 22), 'obj').
+name(p_o_3, simple_name, sample3_1_expr7, right_hand_side, range(sample3_1, 496, 1, 22, 22), 'o').
+name(f_num_5, simple_name, sample3_1_expr12, name, range(sample3_1, 577, 3, 26, 26), 'num').
+name(m_to_string_3, simple_name, sample3_1_expr11, name, range(sample3_1, 581, 8, 26, 26), 'toString').
+name(v_s_7, simple_name, sample3_1_code14, name, range(sample3_1, 660, 1, 31, 31), 's').
+name(m_lambda_sample_2, simple_name, sample3_1_expr15, name, range(sample3_1, 669, 12, 31, 31), 'lambdaSample').
+name(m_get_5, simple_name, sample3_1_expr14, name, range(sample3_1, 684, 3, 31, 31), 'get').
+name(t_string_1, simple_name, sample3_1_expr17, expression, range(sample3_1, 706, 6, 32, 32), 'String').
+name(m_join_6, simple_name, sample3_1_expr17, name, range(sample3_1, 713, 4, 32, 32), 'join').
+name(f_str_4, simple_name, sample3_1_expr17, (arguments, 1), range(sample3_1, 723, 3, 32, 32), 'str').
+name(f_num_5, simple_name, sample3_1_expr18, expression, range(sample3_1, 728, 3, 32, 32), 'num').
+name(m_to_string_3, simple_name, sample3_1_expr18, name, range(sample3_1, 732, 8, 32, 32), 'toString').
+name(f_obj_6, simple_name, sample3_1_expr19, expression, range(sample3_1, 744, 3, 32, 32), 'obj').
+name(m_to_string_7, simple_name, sample3_1_expr19, name, range(sample3_1, 748, 8, 32, 32), 'toString').
+name(v_s_7, simple_name, sample3_1_expr17, (arguments, 4), range(sample3_1, 760, 1, 32, 32), 's').
+name(v_methods_9, simple_name, sample3_1_code19, name, range(sample3_1, 844, 7, 36, 36), 'methods').
+name(v_cu_10, simple_name, sample3_1_code23, name, range(sample3_1, 897, 2, 37, 37), 'cu').
+name(t_code_utils_2, simple_name, sample3_1_expr21, expression, range(sample3_1, 902, 9, 37, 37), 'CodeUtils').
+name(m_get_compilation_unit_10, simple_name, sample3_1_expr21, name, range(sample3_1, 912, 18, 37, 37), 'getCompilationUnit').
+name(p_source_8, simple_name, sample3_1_expr21, (arguments, 0), range(sample3_1, 931, 6, 37, 37), 'source').
+name(v_cu_10, simple_name, sample3_1_expr22, expression, range(sample3_1, 948, 2, 38, 38), 'cu').
+name(m_accept_11, simple_name, sample3_1_expr22, name, range(sample3_1, 951, 6, 38, 38), 'accept').
+name(m_get_visitor_12, simple_name, sample3_1_expr23, name, range(sample3_1, 958, 10, 38, 38), 'getVisitor').
+name(v_method_name_12, simple_name, sample3_1_code28, name, range(sample3_1, 1092, 10, 41, 41), 'methodName').
+name(p_node_11, simple_name, sample3_1_expr26, expression, range(sample3_1, 1105, 4, 41, 41), 'node').
+name(m_get_name_16, simple_name, sample3_1_expr26, name, range(sample3_1, 1110, 7, 41, 41), 'getName').
+name(m_to_string_15, simple_name, sample3_1_expr25, name, range(sample3_1, 1120, 8, 41, 41), 'toString').
+name(v_methods_9, simple_name, sample3_1_expr27, expression, range(sample3_1, 1148, 7, 42, 42), 'methods').
+name(m_add_17, simple_name, sample3_1_expr27, name, range(sample3_1, 1156, 3, 42, 42), 'add').
+name(v_method_name_12, simple_name, sample3_1_expr27, (arguments, 0), range(sample3_1, 1160, 10, 42, 42), 'methodName').
+name(m_visit_18, simple_name, sample3_1_expr28, name, range(sample3_1, 1202, 5, 43, 43), 'visit').
+name(p_node_11, simple_name, sample3_1_expr28, (arguments, 0), range(sample3_1, 1208, 4, 43, 43), 'node').
+name(v_methods_9, simple_name, sample3_1_stmt13, expression, range(sample3_1, 1257, 7, 46, 46), 'methods').
+name(p_visitor_13, simple_name, sample3_1_stmt14, expression, range(sample3_1, 1343, 7, 50, 50), 'visitor').
+%sample3_test_1 - sample.Sample3Test
+name(t_sample3_test_3, simple_name, sample3_test_1_code2, name, range(sample3_test_1, 151, 11, 8, 8), 'Sample3Test').
+name(v_sample_14, simple_name, sample3_test_1_code6, name, range(sample3_test_1, 218, 6, 12, 12), 'sample').
+name(v_source_15, simple_name, sample3_test_1_code9, name, range(sample3_test_1, 274, 6, 13, 13), 'source').
+name(v_methods_16, simple_name, sample3_test_1_code13, name, range(sample3_test_1, 382, 7, 14, 14), 'methods').
+name(v_sample_14, simple_name, sample3_test_1_expr2, expression, range(sample3_test_1, 392, 6, 14, 14), 'sample').
+name(m_get_methods_8, simple_name, sample3_test_1_expr2, name, range(sample3_test_1, 399, 10, 14, 14), 'getMethods').
+name(v_source_15, simple_name, sample3_test_1_expr2, (arguments, 0), range(sample3_test_1, 410, 6, 14, 14), 'source').
+name(m_assert_equals_20, simple_name, sample3_test_1_expr3, name, range(sample3_test_1, 427, 12, 15, 15), 'assertEquals').
+name(v_methods_16, simple_name, sample3_test_1_expr4, expression, range(sample3_test_1, 443, 7, 15, 15), 'methods').
+name(m_size_21, simple_name, sample3_test_1_expr4, name, range(sample3_test_1, 451, 4, 15, 15), 'size').
+name(m_assert_equals_22, simple_name, sample3_test_1_expr5, name, range(sample3_test_1, 468, 12, 16, 16), 'assertEquals').
+name(v_sample_14, simple_name, sample3_test_1_expr6, expression, range(sample3_test_1, 498, 6, 16, 16), 'sample').
+name(m_to_string_4, simple_name, sample3_test_1_expr6, name, range(sample3_test_1, 505, 8, 16, 16), 'toString').
+
+%%% Literals
+%sample3_1 - sample.Sample3
+literal(sample3_1_literal1, string_literal, sample3_1_expr17, (arguments, 0), range(sample3_1, 718, 3, 32, 32), "/").
+%sample3_test_1 - sample.Sample3Test
+literal(sample3_test_1_literal1, string_literal, sample3_test_1_expr1, (arguments, 0), range(sample3_test_1, 239, 8, 12, 12), "string").
+literal(sample3_test_1_literal2, number_literal, sample3_test_1_expr1, (arguments, 1), range(sample3_test_1, 249, 1, 12, 12), 1).
+literal(sample3_test_1_literal3, null_literal, sample3_test_1_expr1, (arguments, 2), range(sample3_test_1, 252, 4, 12, 12), null).
+literal(sample3_test_1_literal4, string_literal, sample3_test_1_code9, initializer, range(sample3_test_1, 283, 76, 13, 13), "public class Test { public void method1() {} \n public void method2() {} }").
+literal(sample3_test_1_literal5, number_literal, sample3_test_1_expr3, (arguments, 0), range(sample3_test_1, 440, 1, 15, 15), 2).
+literal(sample3_test_1_literal6, string_literal, sample3_test_1_expr5, (arguments, 0), range(sample3_test_1, 481, 15, 16, 16), "string/1/null").
+
+%%% Other Code Entities
+%sample3_1 - sample.Sample3
+code(sample3_1_code1, compilation_unit, range(sample3_1, 0, 1359, 1, -1)).
+code(sample3_1_code2, type_declaration, sample3_1_code1, (types, 0), range(sample3_1, 283, 1076, 13, -1)).
+code(sample3_1_code3, method_declaration, sample3_1_code2, (body_declarations, 3), range(sample3_1, 385, 119, 19, 23)).
+code(sample3_1_code4, modifier, sample3_1_code3, (modifiers, 0), range(sample3_1, 385, 6, 19, 19)).
+code(sample3_1_code5, single_variable_declaration, sample3_1_code3, (parameters, 0), range(sample3_1, 400, 8, 19, 19)).
+code(sample3_1_code6, simple_type, sample3_1_code5, type, range(sample3_1, 400, 6, 19, 19)).
+code(sample3_1_code7, single_variable_declaration, sample3_1_code3, (parameters, 1), range(sample3_1, 410, 9, 19, 19)).
+code(sample3_1_code8, simple_type, sample3_1_code7, type, range(sample3_1, 410, 7, 19, 19)).
+code(sample3_1_code9, single_variable_declaration, sample3_1_code3, (parameters, 2), range(sample3_1, 421, 8, 19, 19)).
+code(sample3_1_code10, simple_type, sample3_1_code9, type, range(sample3_1, 421, 6, 19, 19)).
+code(sample3_1_code11, method_declaration, sample3_1_code2, (body_declarations, 4), range(sample3_1, 510, 88, 25, 27)).
+code(sample3_1_code12, method_declaration, sample3_1_code2, (body_declarations, 5), range(sample3_1, 604, 165, 29, 33)).
+code(sample3_1_code13, simple_type, sample3_1_stmt5, type, range(sample3_1, 653, 6, 31, 31)).
+code(sample3_1_code14, variable_declaration_fragment, sample3_1_stmt5, (fragments, 0), range(sample3_1, 660, 29, 31, 31)).
+code(sample3_1_code15, method_declaration, sample3_1_code2, (body_declarations, 6), range(sample3_1, 775, 496, 35, 47)).
+code(sample3_1_code16, parameterized_type, sample3_1_stmt7, type, range(sample3_1, 831, 12, 36, 36)).
+code(sample3_1_code17, simple_type, sample3_1_code16, type, range(sample3_1, 831, 4, 36, 36)).
+code(sample3_1_code18, simple_type, sample3_1_code16, (type_arguments, 0), range(sample3_1, 836, 6, 36, 36)).
+code(sample3_1_code19, variable_declaration_fragment, sample3_1_stmt7, (fragments, 0), range(sample3_1, 844, 27, 36, 36)).
+code(sample3_1_code20, parameterized_type, sample3_1_expr20, type, range(sample3_1, 858, 11, 36, 36)).
+code(sample3_1_code21, simple_type, sample3_1_code20, type, range(sample3_1, 858, 9, 36, 36)).
+code(sample3_1_code22, simple_type, sample3_1_stmt8, type, range(sample3_1, 881, 15, 37, 37)).
+code(sample3_1_code23, variable_declaration_fragment, sample3_1_stmt8, (fragments, 0), range(sample3_1, 897, 41, 37, 37)).
+code(sample3_1_code24, simple_type, sample3_1_expr24, type, range(sample3_1, 973, 10, 38, 38)).
+code(sample3_1_code25, anonymous_class_declaration, sample3_1_expr24, anonymous_class_declaration, range(sample3_1, 986, 252, 38, 45)).
+code(sample3_1_code26, method_declaration, sample3_1_code25, (body_declarations, 0), range(sample3_1, 1000, 228, 39, 44)).
+code(sample3_1_code27, simple_type, sample3_1_stmt10, type, range(sample3_1, 1085, 6, 41, 41)).
+code(sample3_1_code28, variable_declaration_fragment, sample3_1_stmt10, (fragments, 0), range(sample3_1, 1092, 38, 41, 41)).
+code(sample3_1_code29, method_declaration, sample3_1_code2, (body_declarations, 7), range(sample3_1, 1277, 80, 49, 51)).
+%sample3_test_1 - sample.Sample3Test
+code(sample3_test_1_code1, compilation_unit, range(sample3_test_1, 0, 525, 1, -1)).
+code(sample3_test_1_code2, type_declaration, sample3_test_1_code1, (types, 0), range(sample3_test_1, 138, 387, 8, -1)).
+code(sample3_test_1_code3, modifier, sample3_test_1_code2, (modifiers, 0), range(sample3_test_1, 138, 6, 8, 8)).
+code(sample3_test_1_code4, method_declaration, sample3_test_1_code2, (body_declarations, 0), range(sample3_test_1, 170, 353, 10, 17)).
+code(sample3_test_1_code5, simple_type, sample3_test_1_stmt1, type, range(sample3_test_1, 210, 7, 12, 12)).
+code(sample3_test_1_code6, variable_declaration_fragment, sample3_test_1_stmt1, (fragments, 0), range(sample3_test_1, 218, 39, 12, 12)).
+code(sample3_test_1_code7, simple_type, sample3_test_1_expr1, type, range(sample3_test_1, 231, 7, 12, 12)).
+code(sample3_test_1_code8, simple_type, sample3_test_1_stmt2, type, range(sample3_test_1, 267, 6, 13, 13)).
+code(sample3_test_1_code9, variable_declaration_fragment, sample3_test_1_stmt2, (fragments, 0), range(sample3_test_1, 274, 85, 13, 13)).
+code(sample3_test_1_code10, parameterized_type, sample3_test_1_stmt3, type, range(sample3_test_1, 369, 12, 14, 14)).
+code(sample3_test_1_code11, simple_type, sample3_test_1_code10, type, range(sample3_test_1, 369, 4, 14, 14)).
+code(sample3_test_1_code12, simple_type, sample3_test_1_code10, (type_arguments, 0), range(sample3_test_1, 374, 6, 14, 14)).
+code(sample3_test_1_code13, variable_declaration_fragment, sample3_test_1_stmt3, (fragments, 0), range(sample3_test_1, 382, 35, 14, 14)).
+
+%%% Name References
+
+name_ref(t_code_utils_2, type, 'CodeUtils', 'Llogicfl/utils/CodeUtils;').
+name_ref(t_sample3_test_3, type, 'Sample3Test', 'Lsample/Sample3Test;').
+name_ref(t_string_1, type, 'String', 'Ljava/lang/String;').
+name_ref(v_cu_10, var, 'cu', 'Lsample/Sample3;.getMethods(Ljava/lang/String;)Ljava/util/List<Ljava/lang/String;>;#cu').
+name_ref(v_method_name_12, var, 'methodName', 'Lsample/Sample3$973;.visit(Lorg/eclipse/jdt/core/dom/MethodDeclaration;)Z#methodName').
+name_ref(v_methods_16, var, 'methods', 'Lsample/Sample3Test;.test1()V#methods').
+name_ref(v_methods_9, var, 'methods', 'Lsample/Sample3;.getMethods(Ljava/lang/String;)Ljava/util/List<Ljava/lang/String;>;#methods').
+name_ref(v_s_7, var, 's', 'Lsample/Sample3;.toString()Ljava/lang/String;#s').
+name_ref(v_sample_14, var, 'sample', 'Lsample/Sample3Test;.test1()V#sample').
+name_ref(v_source_15, var, 'source', 'Lsample/Sample3Test;.test1()V#source').
+name_ref(p_n_2, param, 'n', 'Lsample/Sample3;.(Ljava/lang/String;Ljava/lang/Integer;Ljava/lang/Object;)V#n#0#1').
+name_ref(p_node_11, param, 'node', 'Lsample/Sample3$973;.visit(Lorg/eclipse/jdt/core/dom/MethodDeclaration;)Z#node#0#0').
+name_ref(p_o_3, param, 'o', 'Lsample/Sample3;.(Ljava/lang/String;Ljava/lang/Integer;Ljava/lang/Object;)V#o#0#2').
+name_ref(p_s_1, param, 's', 'Lsample/Sample3;.(Ljava/lang/String;Ljava/lang/Integer;Ljava/lang/Object;)V#s#0#0').
+name_ref(p_source_8, param, 'source', 'Lsample/Sample3;.getMethods(Ljava/lang/String;)Ljava/util/List<Ljava/lang/String;>;#source#0#0').
+name_ref(p_visitor_13, param, 'visitor', 'Lsample/Sample3;.getVisitor(Lorg/eclipse/jdt/core/dom/ASTVisitor;)Lorg/eclipse/jdt/core/dom/ASTVisitor;#visitor#0#0').
+name_ref(f_num_5, field, 'num', 'Lsample/Sample3;.num)Ljava/lang/Integer;').
+name_ref(f_obj_6, field, 'obj', 'Lsample/Sample3;.obj)Ljava/lang/Object;').
+name_ref(f_str_4, field, 'str', 'Lsample/Sample3;.str)Ljava/lang/String;').
+name_ref(m__13, method, '', 'Lsample/Sample3$973;.()V').
+name_ref(m_accept_11, method, 'accept', 'Lorg/eclipse/jdt/core/dom/ASTNode;.accept(Lorg/eclipse/jdt/core/dom/ASTVisitor;)V').
+name_ref(m_add_17, method, 'add', 'Ljava/util/List;.add(TE;)Z').
+name_ref(m_array_list_9, method, 'ArrayList', 'Ljava/util/ArrayList;.()V').
+name_ref(m_assert_equals_20, method, 'assertEquals', 'Lorg/junit/jupiter/api/Assertions;.assertEquals(II)V').
+name_ref(m_assert_equals_22, method, 'assertEquals', 'Lorg/junit/jupiter/api/Assertions;.assertEquals(Ljava/lang/Object;Ljava/lang/Object;)V').
+name_ref(m_get_5, method, 'get', 'Ljava/util/function/Supplier;.get()TT;').
+name_ref(m_get_compilation_unit_10, method, 'getCompilationUnit', 'Llogicfl/utils/CodeUtils;.getCompilationUnit(Ljava/lang/String;)Lorg/eclipse/jdt/core/dom/CompilationUnit;').
+name_ref(m_get_methods_8, method, 'getMethods', 'Lsample/Sample3;.getMethods(Ljava/lang/String;)Ljava/util/List<Ljava/lang/String;>;').
+name_ref(m_get_name_16, method, 'getName', 'Lorg/eclipse/jdt/core/dom/MethodDeclaration;.getName()Lorg/eclipse/jdt/core/dom/SimpleName;').
+name_ref(m_get_visitor_12, method, 'getVisitor', 'Lsample/Sample3;.getVisitor(Lorg/eclipse/jdt/core/dom/ASTVisitor;)Lorg/eclipse/jdt/core/dom/ASTVisitor;').
+name_ref(m_join_6, method, 'join', 'Ljava/lang/String;.join(Ljava/lang/CharSequence;[Ljava/lang/CharSequence;)Ljava/lang/String;').
+name_ref(m_lambda_sample_2, method, 'lambdaSample', 'Lsample/Sample3;.lambdaSample()Ljava/util/function/Supplier<Ljava/lang/String;>;').
+name_ref(m_sample3_1, method, 'Sample3', 'Lsample/Sample3;.(Ljava/lang/String;Ljava/lang/Integer;Ljava/lang/Object;)V').
+name_ref(m_size_21, method, 'size', 'Ljava/util/List;.size()I').
+name_ref(m_test_1_19, method, 'test1', 'Lsample/Sample3Test;.test1()V').
+name_ref(m_to_string_15, method, 'toString', 'Lorg/eclipse/jdt/core/dom/ASTNode;.toString()Ljava/lang/String;').
+name_ref(m_to_string_3, method, 'toString', 'Ljava/lang/Integer;.toString()Ljava/lang/String;').
+name_ref(m_to_string_4, method, 'toString', 'Lsample/Sample3;.toString()Ljava/lang/String;').
+name_ref(m_to_string_7, method, 'toString', 'Ljava/lang/Object;.toString()Ljava/lang/String;').
+name_ref(m_visit_14, method, 'visit', 'Lsample/Sample3$973;.visit(Lorg/eclipse/jdt/core/dom/MethodDeclaration;)Z').
+name_ref(m_visit_18, method, 'visit', 'Lorg/eclipse/jdt/core/dom/ASTVisitor;.visit(Lorg/eclipse/jdt/core/dom/MethodDeclaration;)Z').
+
+%%% End of Code Facts
\ No newline at end of file
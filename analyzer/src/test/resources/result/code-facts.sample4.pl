@@ -0,0 +1,406 @@
+%%% Code Facts
+:- style_check(-discontiguous).
+%%% Classes
+class(sample4_test_1, 'sample.Sample4Test').
+class(sample4_1, 'sample.Sample4').
+
+%%% Methods
+%sample4_test_1 - sample.Sample4Test
+method(m_test_1_14, range(sample4_test_1, 146, 205, 8, 14)).
+%sample4_1 - sample.Sample4
+method(m_sample4_1, range(sample4_1, 119, 109, 10, 13)).
+method(m_generate_2, range(sample4_1, 234, 432, 15, 32)).
+method(m_method_1_5, range(sample4_1, 672, 256, 34, 43)).
+method(m_method_2_6, range(sample4_1, 934, 205, 45, 51)).
+method(m_method_3_7, range(sample4_1, 1145, 160, 53, 58)).
+method(m_method_4_8, range(sample4_1, 1311, 205, 60, 68)).
+method(m_method_5_9, range(sample4_1, 1522, 284, 70, 78)).
+
+%%% Blocks
+%sample4_test_1 - sample.Sample4Test
+block(sample4_test_1_block1, block, sample4_test_1_code4, body, range(sample4_test_1, 176, 175, 9, 14)).
+%sample4_1 - sample.Sample4
+block(sample4_1_block1, block, sample4_1_code3, body, range(sample4_1, 161, 67, 10, 13)).
+block(sample4_1_block2, block, sample4_1_code9, body, range(sample4_1, 259, 407, 15, 32)).
+block(sample4_1_block3, block, sample4_1_code19, body, range(sample4_1, 710, 218, 34, 43)).
+block(sample4_1_block4, block, sample4_1_stmt16, body, range(sample4_1, 746, 136, 36, 42)).
+block(sample4_1_block5, block, sample4_1_stmt18, then_statement, range(sample4_1, 810, 41, 38, 40)).
+block(sample4_1_block6, block, sample4_1_code23, body, range(sample4_1, 972, 167, 45, 51)).
+block(sample4_1_block7, block, sample4_1_stmt21, body, range(sample4_1, 1070, 42, 47, 49)).
+block(sample4_1_block8, block, sample4_1_code24, body, range(sample4_1, 1168, 137, 53, 58)).
+block(sample4_1_block9, block, sample4_1_stmt25, body, range(sample4_1, 1263, 36, 55, 57)).
+block(sample4_1_block10, block, sample4_1_code31, body, range(sample4_1, 1334, 182, 60, 68)).
+block(sample4_1_block11, block, sample4_1_stmt29, body, range(sample4_1, 1407, 2, 63, 63)).
+block(sample4_1_block12, block, sample4_1_stmt30, body, range(sample4_1, 1421, 2, 64, 64)).
+block(sample4_1_block13, block, sample4_1_stmt31, body, range(sample4_1, 1508, 2, 67, 67)).
+block(sample4_1_block14, block, sample4_1_code39, body, range(sample4_1, 1545, 261, 70, 78)).
+
+%%% Statements
+%sample4_test_1 - sample.Sample4Test
+stmt(sample4_test_1_stmt1, variable_declaration_statement, sample4_test_1_block1, (statements, 0), range(sample4_test_1, 186, 32, 10, 10)).
+stmt(sample4_test_1_stmt2, expression_statement, sample4_test_1_block1, (statements, 1), range(sample4_test_1, 227, 36, 11, 11)).
+stmt(sample4_test_1_stmt3, expression_statement, sample4_test_1_block1, (statements, 2), range(sample4_test_1, 272, 25, 12, 12)).
+stmt(sample4_test_1_stmt4, expression_statement, sample4_test_1_block1, (statements, 3), range(sample4_test_1, 306, 39, 13, 13)).
+%sample4_1 - sample.Sample4
+stmt(sample4_1_stmt1, expression_statement, sample4_1_block1, (statements, 0), range(sample4_1, 171, 21, 11, 11)).
+stmt(sample4_1_stmt2, expression_statement, sample4_1_block1, (statements, 1), range(sample4_1, 201, 21, 12, 12)).
+stmt(sample4_1_stmt3, variable_declaration_statement, sample4_1_block2, (statements, 0), range(sample4_1, 269, 38, 16, 16)).
+stmt(sample4_1_stmt4, for_statement, sample4_1_block2, (statements, 1), range(sample4_1, 316, 59, 17, 18)).
+stmt(sample4_1_stmt5, expression_statement, sample4_1_stmt4, body, range(sample4_1, 356, 19, 18, 18)).
+stmt(sample4_1_stmt6, variable_declaration_statement, sample4_1_block2, (statements, 2), range(sample4_1, 385, 37, 20, 20)).
+stmt(sample4_1_stmt7, expression_statement, sample4_1_block2, (statements, 3), range(sample4_1, 431, 12, 21, 21)).
+stmt(sample4_1_stmt8, expression_statement, sample4_1_block2, (statements, 4), range(sample4_1, 452, 24, 22, 22)).
+stmt(sample4_1_stmt9, expression_statement, sample4_1_block2, (statements, 5), range(sample4_1, 485, 12, 23, 23)).
+stmt(sample4_1_stmt10, expression_statement, sample4_1_block2, (statements, 6), range(sample4_1, 506, 10, 24, 24)).
+stmt(sample4_1_stmt11, expression_statement, sample4_1_block2, (statements, 7), range(sample4_1, 525, 10, 25, 25)).
+stmt(sample4_1_stmt12, expression_statement, sample4_1_block2, (statements, 8), range(sample4_1, 544, 10, 26, 26)).
+stmt(sample4_1_stmt13, if_statement, sample4_1_block2, (statements, 9), range(sample4_1, 564, 96, 28, 31)).
+stmt(sample4_1_stmt14, return_statement, sample4_1_stmt13, thenStatement, range(sample4_1, 600, 22, 29, 29)).
+stmt(sample4_1_stmt15, variable_declaration_statement, sample4_1_block3, (statements, 0), range(sample4_1, 720, 14, 35, 35)).
+stmt(sample4_1_stmt16, do_statement, sample4_1_block3, (statements, 1), range(sample4_1, 743, 179, 36, 42)).
+stmt(sample4_1_stmt17, expression_statement, sample4_1_block4, (statements, 0), range(sample4_1, 760, 18, 37, 37)).
+stmt(sample4_1_stmt18, if_statement, sample4_1_block4, (statements, 1), range(sample4_1, 791, 60, 38, 40)).
+stmt(sample4_1_stmt19, continue_statement, sample4_1_block5, (statements, 0), range(sample4_1, 828, 9, 39, 39)).
+stmt(sample4_1_stmt20, expression_statement, sample4_1_block4, (statements, 2), range(sample4_1, 864, 8, 41, 41)).
+stmt(sample4_1_stmt21, for_statement, sample4_1_block6, (statements, 1), range(sample4_1, 1000, 112, 47, 49)).
+stmt(sample4_1_stmt22, expression_statement, sample4_1_block7, (statements, 0), range(sample4_1, 1084, 18, 48, 48)).
+stmt(sample4_1_stmt23, expression_statement, sample4_1_block6, (statements, 2), range(sample4_1, 1121, 12, 50, 50)).
+stmt(sample4_1_stmt24, variable_declaration_statement, sample4_1_block8, (statements, 0), range(sample4_1, 1178, 44, 54, 54)).
+stmt(sample4_1_stmt25, enhanced_for_statement, sample4_1_block8, (statements, 1), range(sample4_1, 1231, 68, 55, 57)).
+stmt(sample4_1_stmt26, expression_statement, sample4_1_block9, (statements, 0), range(sample4_1, 1277, 12, 56, 56)).
+stmt(sample4_1_stmt27, variable_declaration_statement, sample4_1_block10, (statements, 0), range(sample4_1, 1344, 14, 61, 61)).
+stmt(sample4_1_stmt28, variable_declaration_statement, sample4_1_block10, (statements, 1), range(sample4_1, 1367, 10, 62, 62)).
+stmt(sample4_1_stmt29, while_statement, sample4_1_block10, (statements, 2), range(sample4_1, 1386, 23, 63, 63)).
+stmt(sample4_1_stmt30, do_statement, sample4_1_block10, (statements, 3), range(sample4_1, 1418, 25, 64, 64)).
+stmt(sample4_1_stmt31, for_statement, sample4_1_block10, (statements, 4), range(sample4_1, 1452, 58, 65, 67)).
+stmt(sample4_1_stmt32, variable_declaration_statement, sample4_1_block14, (statements, 0), range(sample4_1, 1555, 33, 71, 71)).
+stmt(sample4_1_stmt33, variable_declaration_statement, sample4_1_block14, (statements, 1), range(sample4_1, 1597, 33, 72, 72)).
+stmt(sample4_1_stmt34, variable_declaration_statement, sample4_1_block14, (statements, 2), range(sample4_1, 1639, 33, 73, 73)).
+stmt(sample4_1_stmt35, expression_statement, sample4_1_block14, (statements, 3), range(sample4_1, 1681, 24, 74, 74)).
+stmt(sample4_1_stmt36, expression_statement, sample4_1_block14, (statements, 4), range(sample4_1, 1714, 22, 75, 75)).
+stmt(sample4_1_stmt37, expression_statement, sample4_1_block14, (statements, 5), range(sample4_1, 1745, 24, 76, 76)).
+stmt(sample4_1_stmt38, expression_statement, sample4_1_block14, (statements, 6), range(sample4_1, 1778, 22, 77, 77)).
+
+%%% Expressions
+%sample4_test_1 - sample.Sample4Test
+expr(sample4_test_1_expr1, class_instance_creation, sample4_test_1_code6, initializer, range(sample4_test_1, 198, 19, 10, 10), "new Sample4(\"a\",5)").
+expr(sample4_test_1_expr2, method_invocation, sample4_test_1_stmt2, expression, range(sample4_test_1, 227, 35, 11, 11), "assertEquals(\"aaaaa\",s.generate())").
+expr(sample4_test_1_expr3, method_invocation, sample4_test_1_expr2, (arguments, 1), range(sample4_test_1, 249, 12, 11, 11), "s.generate()").
+expr(sample4_test_1_expr4, assignment, sample4_test_1_stmt3, expression, range(sample4_test_1, 272, 24, 12, 12), "s=new Sample4(null,2)").
+expr(sample4_test_1_expr5, class_instance_creation, sample4_test_1_expr4, right_hand_side, range(sample4_test_1, 276, 20, 12, 12), "new Sample4(null,2)").
+expr(sample4_test_1_expr6, method_invocation, sample4_test_1_stmt4, expression, range(sample4_test_1, 306, 38, 13, 13), "assertEquals(\"nullnull\",s.generate())").
+expr(sample4_test_1_expr7, method_invocation, sample4_test_1_expr6, (arguments, 1), range(sample4_test_1, 331, 12, 13, 13), "s.generate()").
+%sample4_1 - sample.Sample4
+expr(sample4_1_expr1, assignment, sample4_1_stmt1, expression, range(sample4_1, 171, 20, 11, 11), "this.field1=field1").
+expr(sample4_1_expr2, field_access, sample4_1_expr1, left_hand_side, range(sample4_1, 171, 11, 11, 11), "this.field1").
+expr(sample4_1_expr3, this_expression, f_field_1_3, expression, range(sample4_1, 171, 4, 11, 11), "this").
+expr(sample4_1_expr4, assignment, sample4_1_stmt2, expression, range(sample4_1, 201, 20, 12, 12), "this.field2=field2").
+expr(sample4_1_expr5, field_access, sample4_1_expr4, left_hand_side, range(sample4_1, 201, 11, 12, 12), "this.field2").
+expr(sample4_1_expr6, this_expression, f_field_2_4, expression, range(sample4_1, 201, 4, 12, 12), "this").
+expr(sample4_1_expr7, class_instance_creation, sample4_1_code11, initializer, range(sample4_1, 288, 18, 16, 16), "new StringBuffer()").
+expr(sample4_1_expr8, variable_declaration_expression, sample4_1_stmt4, (initializers, 0), range(sample4_1, 320, 7, 17, 17), "int i=0").
+expr(sample4_1_expr9, infix_expression, sample4_1_stmt4, expression, range(sample4_1, 329, 8, 17, 17), "i < field2").
+expr(sample4_1_expr10, postfix_expression, sample4_1_stmt4, (updaters, 0), range(sample4_1, 339, 3, 17, 17), "i++").
+expr(sample4_1_expr11, method_invocation, sample4_1_stmt5, expression, range(sample4_1, 356, 18, 18, 18), "sb2.append(field1)").
+expr(sample4_1_expr12, class_instance_creation, sample4_1_code16, initializer, range(sample4_1, 403, 18, 20, 20), "new StringBuffer()").
+expr(sample4_1_expr13, method_invocation, sample4_1_stmt7, expression, range(sample4_1, 431, 11, 21, 21), "method1(sb)").
+expr(sample4_1_expr14, assignment, sample4_1_stmt8, expression, range(sample4_1, 452, 23, 22, 22), "sb=new StringBuffer()").
+expr(sample4_1_expr15, class_instance_creation, sample4_1_expr14, right_hand_side, range(sample4_1, 457, 18, 22, 22), "new StringBuffer()").
+expr(sample4_1_expr16, method_invocation, sample4_1_stmt9, expression, range(sample4_1, 485, 11, 23, 23), "method2(sb)").
+expr(sample4_1_expr17, method_invocation, sample4_1_stmt10, expression, range(sample4_1, 506, 9, 24, 24), "method3()").
+expr(sample4_1_expr18, method_invocation, sample4_1_stmt11, expression, range(sample4_1, 525, 9, 25, 25), "method4()").
+expr(sample4_1_expr19, method_invocation, sample4_1_stmt12, expression, range(sample4_1, 544, 9, 26, 26), "method5()").
+expr(sample4_1_expr20, infix_expression, sample4_1_stmt13, expression, range(sample4_1, 567, 19, 28, 28), "field1.length() > 0").
+expr(sample4_1_expr21, method_invocation, sample4_1_expr20, left_operand, range(sample4_1, 567, 15, 28, 28), "field1.length()").
+expr(sample4_1_expr22, method_invocation, sample4_1_stmt14, expression, range(sample4_1, 607, 14, 29, 29), "sb2.toString()").
+expr(sample4_1_expr23, method_invocation, sample4_1_stmt17, expression, range(sample4_1, 760, 17, 37, 37), "sb.append(field1)").
+expr(sample4_1_expr24, infix_expression, sample4_1_stmt18, expression, range(sample4_1, 794, 14, 38, 38), "field1 == null").
+expr(sample4_1_expr25, postfix_expression, sample4_1_stmt20, expression, range(sample4_1, 864, 7, 41, 41), "count++").
+expr(sample4_1_expr26, cast_expression, sample4_1_stmt16, expression, range(sample4_1, 889, 31, 42, 42), "(Boolean)(count++ < field2 * 2)").
+expr(sample4_1_expr27, parenthesized_expression, sample4_1_expr26, expression, range(sample4_1, 898, 22, 42, 42), "(count++ < field2 * 2)").
+expr(sample4_1_expr28, infix_expression, sample4_1_expr27, expression, range(sample4_1, 899, 20, 42, 42), "count++ < field2 * 2").
+expr(sample4_1_expr29, postfix_expression, sample4_1_expr28, left_operand, range(sample4_1, 899, 7, 42, 42), "count++").
+expr(sample4_1_expr30, infix_expression, sample4_1_expr28, right_operand, range(sample4_1, 909, 10, 42, 42), "field2 * 2").
+expr(sample4_1_expr31, assignment, sample4_1_stmt21, (initializers, 0), range(sample4_1, 1004, 15, 47, 47), "i=field2 - field2").
+expr(sample4_1_expr32, infix_expression, sample4_1_expr31, right_hand_side, range(sample4_1, 1006, 13, 47, 47), "field2 - field2").
+expr(sample4_1_expr33, assignment, sample4_1_stmt21, (initializers, 1), range(sample4_1, 1021, 5, 47, 47), "b=i + 1").
+expr(sample4_1_expr34, infix_expression, sample4_1_expr33, right_hand_side, range(sample4_1, 1023, 3, 47, 47), "i + 1").
+expr(sample4_1_expr35, infix_expression, sample4_1_stmt21, expression, range(sample4_1, 1028, 27, 47, 47), "i < field2 && b <= field2 * 2").
+expr(sample4_1_expr36, infix_expression, sample4_1_expr35, left_operand, range(sample4_1, 1028, 10, 47, 47), "i < field2").
+expr(sample4_1_expr37, infix_expression, sample4_1_expr35, right_operand, range(sample4_1, 1042, 13, 47, 47), "b <= field2 * 2").
+expr(sample4_1_expr38, infix_expression, sample4_1_expr37, right_operand, range(sample4_1, 1047, 8, 47, 47), "field2 * 2").
+expr(sample4_1_expr39, postfix_expression, sample4_1_stmt21, (updaters, 0), range(sample4_1, 1058, 3, 47, 47), "i++").
+expr(sample4_1_expr40, assignment, sample4_1_stmt21, (updaters, 1), range(sample4_1, 1063, 5, 47, 47), "b=b + 2").
+expr(sample4_1_expr41, infix_expression, sample4_1_expr40, right_hand_side, range(sample4_1, 1065, 3, 47, 47), "b + 2").
+expr(sample4_1_expr42, method_invocation, sample4_1_stmt22, expression, range(sample4_1, 1084, 17, 48, 48), "sb.append(field1)").
+expr(sample4_1_expr43, assignment, sample4_1_stmt23, expression, range(sample4_1, 1121, 11, 50, 50), "field2+=1").
+expr(sample4_1_expr44, method_invocation, sample4_1_code28, initializer, range(sample4_1, 1199, 22, 54, 54), "List.of(1,2,3,4,5)").
+expr(sample4_1_expr45, method_invocation, sample4_1_stmt25, expression, range(sample4_1, 1243, 18, 55, 55), "list.subList(0,2)").
+expr(sample4_1_expr46, assignment, sample4_1_stmt26, expression, range(sample4_1, 1277, 11, 56, 56), "field2+=x").
+expr(sample4_1_expr47, infix_expression, sample4_1_stmt29, expression, range(sample4_1, 1392, 13, 63, 63), "count++ < i + 1").
+expr(sample4_1_expr48, postfix_expression, sample4_1_expr47, left_operand, range(sample4_1, 1392, 7, 63, 63), "count++").
+expr(sample4_1_expr49, infix_expression, sample4_1_expr47, right_operand, range(sample4_1, 1402, 3, 63, 63), "i + 1").
+expr(sample4_1_expr50, infix_expression, sample4_1_stmt30, expression, range(sample4_1, 1430, 11, 64, 64), "count-- > 0").
+expr(sample4_1_expr51, postfix_expression, sample4_1_expr50, left_operand, range(sample4_1, 1430, 7, 64, 64), "count--").
+expr(sample4_1_expr52, variable_declaration_expression, sample4_1_stmt31, (initializers, 0), range(sample4_1, 1456, 14, 65, 65), "int j=0, k=j + 1").
+expr(sample4_1_expr53, infix_expression, sample4_1_code38, initializer, range(sample4_1, 1467, 3, 65, 65), "j + 1").
+expr(sample4_1_expr54, infix_expression, sample4_1_stmt31, expression, range(sample4_1, 1484, 5, 66, 66), "j < k").
+expr(sample4_1_expr55, postfix_expression, sample4_1_stmt31, (updaters, 0), range(sample4_1, 1503, 3, 67, 67), "j++").
+expr(sample4_1_expr56, class_instance_creation, sample4_1_code41, initializer, range(sample4_1, 1568, 19, 71, 71), "new Sample4(\"1\",1)").
+expr(sample4_1_expr57, class_instance_creation, sample4_1_code44, initializer, range(sample4_1, 1610, 19, 72, 72), "new Sample4(\"2\",2)").
+expr(sample4_1_expr58, class_instance_creation, sample4_1_code47, initializer, range(sample4_1, 1652, 19, 73, 73), "new Sample4(\"3\",3)").
+expr(sample4_1_expr59, assignment, sample4_1_stmt35, expression, range(sample4_1, 1681, 23, 74, 74), "s1.field1=this.field1").
+expr(sample4_1_expr60, field_access, sample4_1_expr59, right_hand_side, range(sample4_1, 1693, 11, 74, 74), "this.field1").
+expr(sample4_1_expr61, this_expression, f_field_1_3, expression, range(sample4_1, 1693, 4, 74, 74), "this").
+expr(sample4_1_expr62, assignment, sample4_1_stmt36, expression, range(sample4_1, 1714, 21, 75, 75), "s2.field2=s3.field2").
+expr(sample4_1_expr63, assignment, sample4_1_stmt37, expression, range(sample4_1, 1745, 23, 76, 76), "this.field2=s1.field2").
+expr(sample4_1_expr64, field_access, sample4_1_expr63, left_hand_side, range(sample4_1, 1745, 11, 76, 76), "this.field2").
+expr(sample4_1_expr65, this_expression, f_field_2_4, expression, range(sample4_1, 1745, 4, 76, 76), "this").
+expr(sample4_1_expr66, assignment, sample4_1_stmt38, expression, range(sample4_1, 1778, 21, 77, 77), "s2.field2=s1.field2").
+
+%%% Names
+%sample4_test_1 - sample.Sample4Test
+name(t_sample4_test_2, simple_name, sample4_test_1_code2, name, range(sample4_test_1, 127, 11, 6, 6), 'Sample4Test').
+name(v_s_22, simple_name, sample4_test_1_code6, name, range(sample4_test_1, 194, 1, 10, 10), 's').
+name(m_assert_equals_15, simple_name, sample4_test_1_expr2, name, range(sample4_test_1, 227, 12, 11, 11), 'assertEquals').
+name(v_s_22, simple_name, sample4_test_1_expr3, expression, range(sample4_test_1, 249, 1, 11, 11), 's').
+name(m_generate_2, simple_name, sample4_test_1_expr3, name, range(sample4_test_1, 251, 8, 11, 11), 'generate').
+name(v_s_22, simple_name, sample4_test_1_expr4, left_hand_side, range(sample4_test_1, 272, 1, 12, 12), 's').
+name(m_assert_equals_15, simple_name, sample4_test_1_expr6, name, range(sample4_test_1, 306, 12, 13, 13), 'assertEquals').
+name(v_s_22, simple_name, sample4_test_1_expr7, expression, range(sample4_test_1, 331, 1, 13, 13), 's').
+name(m_generate_2, simple_name, sample4_test_1_expr7, name, range(sample4_test_1, 333, 8, 13, 13), 'generate').
+%sample4_1 - sample.Sample4
+name(m_sample4_1, simple_name, sample4_1_code3, name, range(sample4_1, 126, 7, 10, 10), 'Sample4').
+name(p_field_1_1, simple_name, sample4_1_code5, name, range(sample4_1, 141, 6, 10, 10), 'field1').
+name(p_field_2_2, simple_name, sample4_1_code7, name, range(sample4_1, 153, 6, 10, 10), 'field2').
+name(f_field_1_3, simple_name, sample4_1_expr2, name, range(sample4_1, 176, 6, 11, 11), 'field1').
+name(p_field_1_1, simple_name, sample4_1_expr1, right_hand_side, range(sample4_1, 185, 6, 11, 11), 'field1').
+name(f_field_2_4, simple_name, sample4_1_expr5, name, range(sample4_1, 206, 6, 12, 12), 'field2').
+name(p_field_2_2, simple_name, sample4_1_expr4, right_hand_side, range(sample4_1, 215, 6, 12, 12), 'field2').
+name(v_sb_2_5, simple_name, sample4_1_code11, name, range(sample4_1, 282, 3, 16, 16), 'sb2').
+name(v_i_6, simple_name, sample4_1_code14, name, range(sample4_1, 324, 1, 17, 17), 'i').
+name(v_i_6, simple_name, sample4_1_expr9, left_operand, range(sample4_1, 329, 1, 17, 17), 'i').
+name(f_field_2_4, simple_name, sample4_1_expr9, right_operand, range(sample4_1, 331, 6, 17, 17), 'field2').
+name(v_i_6, simple_name, sample4_1_expr10, operand, range(sample4_1, 339, 1, 17, 17), 'i').
+name(v_sb_2_5, simple_name, sample4_1_expr11, expression, range(sample4_1, 356, 3, 18, 18), 'sb2').
+name(m_append_4, simple_name, sample4_1_expr11, name, range(sample4_1, 360, 6, 18, 18), 'append').
+name(f_field_1_3, simple_name, sample4_1_expr11, (arguments, 0), range(sample4_1, 367, 6, 18, 18), 'field1').
+name(v_sb_7, simple_name, sample4_1_code16, name, range(sample4_1, 398, 2, 20, 20), 'sb').
+name(m_method_1_5, simple_name, sample4_1_expr13, name, range(sample4_1, 431, 7, 21, 21), 'method1').
+name(v_sb_7, simple_name, sample4_1_expr13, (arguments, 0), range(sample4_1, 439, 2, 21, 21), 'sb').
+name(v_sb_7, simple_name, sample4_1_expr14, left_hand_side, range(sample4_1, 452, 2, 22, 22), 'sb').
+name(m_method_2_6, simple_name, sample4_1_expr16, name, range(sample4_1, 485, 7, 23, 23), 'method2').
+name(v_sb_7, simple_name, sample4_1_expr16, (arguments, 0), range(sample4_1, 493, 2, 23, 23), 'sb').
+name(m_method_3_7, simple_name, sample4_1_expr17, name, range(sample4_1, 506, 7, 24, 24), 'method3').
+name(m_method_4_8, simple_name, sample4_1_expr18, name, range(sample4_1, 525, 7, 25, 25), 'method4').
+name(m_method_5_9, simple_name, sample4_1_expr19, name, range(sample4_1, 544, 7, 26, 26), 'method5').
+name(f_field_1_3, simple_name, sample4_1_expr21, expression, range(sample4_1, 567, 6, 28, 28), 'field1').
+name(m_length_10, simple_name, sample4_1_expr21, name, range(sample4_1, 574, 6, 28, 28), 'length').
+name(v_sb_2_5, simple_name, sample4_1_expr22, expression, range(sample4_1, 607, 3, 29, 29), 'sb2').
+name(m_to_string_11, simple_name, sample4_1_expr22, name, range(sample4_1, 611, 8, 29, 29), 'toString').
+name(v_count_9, simple_name, sample4_1_code21, name, range(sample4_1, 724, 5, 35, 35), 'count').
+name(p_sb_8, simple_name, sample4_1_expr23, expression, range(sample4_1, 760, 2, 37, 37), 'sb').
+name(m_append_4, simple_name, sample4_1_expr23, name, range(sample4_1, 763, 6, 37, 37), 'append').
+name(f_field_1_3, simple_name, sample4_1_expr23, (arguments, 0), range(sample4_1, 770, 6, 37, 37), 'field1').
+name(f_field_1_3, simple_name, sample4_1_expr24, left_operand, range(sample4_1, 794, 6, 38, 38), 'field1').
+name(v_count_9, simple_name, sample4_1_expr25, operand, range(sample4_1, 864, 5, 41, 41), 'count').
+name(v_count_9, simple_name, sample4_1_expr29, operand, range(sample4_1, 899, 5, 42, 42), 'count').
+name(f_field_2_4, simple_name, sample4_1_expr30, left_operand, range(sample4_1, 909, 6, 42, 42), 'field2').
+name(v_i_11, simple_name, sample4_1_expr31, left_hand_side, range(sample4_1, 1004, 1, 47, 47), 'i').
+name(f_field_2_4, simple_name, sample4_1_expr32, left_operand, range(sample4_1, 1006, 6, 47, 47), 'field2').
+name(f_field_2_4, simple_name, sample4_1_expr32, right_operand, range(sample4_1, 1013, 6, 47, 47), 'field2').
+name(v_b_12, simple_name, sample4_1_expr33, left_hand_side, range(sample4_1, 1021, 1, 47, 47), 'b').
+name(v_i_11, simple_name, sample4_1_expr34, left_operand, range(sample4_1, 1023, 1, 47, 47), 'i').
+name(v_i_11, simple_name, sample4_1_expr36, left_operand, range(sample4_1, 1028, 1, 47, 47), 'i').
+name(f_field_2_4, simple_name, sample4_1_expr36, right_operand, range(sample4_1, 1032, 6, 47, 47), 'field2').
+name(v_b_12, simple_name, sample4_1_expr37, left_operand, range(sample4_1, 1042, 1, 47, 47), 'b').
+name(f_field_2_4, simple_name, sample4_1_expr38, left_operand, range(sample4_1, 1047, 6, 47, 47), 'field2').
+name(v_i_11, simple_name, sample4_1_expr39, operand, range(sample4_1, 1058, 1, 47, 47), 'i').
+name(v_b_12, simple_name, sample4_1_expr40, left_hand_side, range(sample4_1, 1063, 1, 47, 47), 'b').
+name(v_b_12, simple_name, sample4_1_expr41, left_operand, range(sample4_1, 1065, 1, 47, 47), 'b').
+name(p_sb_10, simple_name, sample4_1_expr42, expression, range(sample4_1, 1084, 2, 48, 48), 'sb').
+name(m_append_4, simple_name, sample4_1_expr42, name, range(sample4_1, 1087, 6, 48, 48), 'append').
+name(f_field_1_3, simple_name, sample4_1_expr42, (arguments, 0), range(sample4_1, 1094, 6, 48, 48), 'field1').
+name(f_field_2_4, simple_name, sample4_1_expr43, left_hand_side, range(sample4_1, 1121, 6, 50, 50), 'field2').
+name(v_list_13, simple_name, sample4_1_code28, name, range(sample4_1, 1192, 4, 54, 54), 'list').
+name(t_list_1, simple_name, sample4_1_expr44, expression, range(sample4_1, 1199, 4, 54, 54), 'List').
+name(m_of_12, simple_name, sample4_1_expr44, name, range(sample4_1, 1204, 2, 54, 54), 'of').
+name(v_x_14, simple_name, sample4_1_code29, name, range(sample4_1, 1239, 1, 55, 55), 'x').
+name(v_list_13, simple_name, sample4_1_expr45, expression, range(sample4_1, 1243, 4, 55, 55), 'list').
+name(m_sub_list_13, simple_name, sample4_1_expr45, name, range(sample4_1, 1248, 7, 55, 55), 'subList').
+name(f_field_2_4, simple_name, sample4_1_expr46, left_hand_side, range(sample4_1, 1277, 6, 56, 56), 'field2').
+name(v_x_14, simple_name, sample4_1_expr46, right_hand_side, range(sample4_1, 1287, 1, 56, 56), 'x').
+name(v_count_15, simple_name, sample4_1_code33, name, range(sample4_1, 1348, 5, 61, 61), 'count').
+name(v_i_16, simple_name, sample4_1_code35, name, range(sample4_1, 1371, 1, 62, 62), 'i').
+name(v_count_15, simple_name, sample4_1_expr48, operand, range(sample4_1, 1392, 5, 63, 63), 'count').
+name(v_i_16, simple_name, sample4_1_expr49, left_operand, range(sample4_1, 1402, 1, 63, 63), 'i').
+name(v_count_15, simple_name, sample4_1_expr51, operand, range(sample4_1, 1430, 5, 64, 64), 'count').
+name(v_j_17, simple_name, sample4_1_code37, name, range(sample4_1, 1460, 1, 65, 65), 'j').
+name(v_k_18, simple_name, sample4_1_code38, name, range(sample4_1, 1465, 1, 65, 65), 'k').
+name(v_j_17, simple_name, sample4_1_expr53, left_operand, range(sample4_1, 1467, 1, 65, 65), 'j').
+name(v_j_17, simple_name, sample4_1_expr54, left_operand, range(sample4_1, 1484, 1, 66, 66), 'j').
+name(v_k_18, simple_name, sample4_1_expr54, right_operand, range(sample4_1, 1488, 1, 66, 66), 'k').
+name(v_j_17, simple_name, sample4_1_expr55, operand, range(sample4_1, 1503, 1, 67, 67), 'j').
+name(v_s_1_19, simple_name, sample4_1_code41, name, range(sample4_1, 1563, 2, 71, 71), 's1').
+name(v_s_2_20, simple_name, sample4_1_code44, name, range(sample4_1, 1605, 2, 72, 72), 's2').
+name(v_s_3_21, simple_name, sample4_1_code47, name, range(sample4_1, 1647, 2, 73, 73), 's3').
+name(q_field_1_1, qualified_name, sample4_1_expr59, left_hand_side, range(sample4_1, 1681, 9, 74, 74), 's1.field1').
+name(v_s_1_19, simple_name, q_field_1_1, qualifier, range(sample4_1, 1681, 2, 74, 74), 's1').
+name(f_field_1_3, simple_name, sample4_1_expr60, name, range(sample4_1, 1698, 6, 74, 74), 'field1').
+name(q_field_2_2, qualified_name, sample4_1_expr62, left_hand_side, range(sample4_1, 1714, 9, 75, 75), 's2.field2').
+name(v_s_2_20, simple_name, q_field_2_2, qualifier, range(sample4_1, 1714, 2, 75, 75), 's2').
+name(q_field_2_3, qualified_name, sample4_1_expr62, right_hand_side, range(sample4_1, 1726, 9, 75, 75), 's3.field2').
+name(v_s_3_21, simple_name, q_field_2_3, qualifier, range(sample4_1, 1726, 2, 75, 75), 's3').
+name(f_field_2_4, simple_name, sample4_1_expr64, name, range(sample4_1, 1750, 6, 76, 76), 'field2').
+name(q_field_2_4, qualified_name, sample4_1_expr63, right_hand_side, range(sample4_1, 1759, 9, 76, 76), 's1.field2').
+name(v_s_1_19, simple_name, q_field_2_4, qualifier, range(sample4_1, 1759, 2, 76, 76), 's1').
+name(q_field_2_5, qualified_name, sample4_1_expr66, left_hand_side, range(sample4_1, 1778, 9, 77, 77), 's2.field2').
+name(v_s_2_20, simple_name, q_field_2_5, qualifier, range(sample4_1, 1778, 2, 77, 77), 's2').
+name(q_field_2_5, qualified_name, sample4_1_expr66, right_hand_side, range(sample4_1, 1790, 9, 77, 77), 's1.field2').
+name(v_s_1_19, simple_name, q_field_2_5, qualifier, range(sample4_1, 1790, 2, 77, 77), 's1').
+
+%%% Literals
+%sample4_test_1 - sample.Sample4Test
+literal(sample4_test_1_literal1, string_literal, sample4_test_1_expr1, (arguments, 0), range(sample4_test_1, 210, 3, 10, 10), "a").
+literal(sample4_test_1_literal2, number_literal, sample4_test_1_expr1, (arguments, 1), range(sample4_test_1, 215, 1, 10, 10), 5).
+literal(sample4_test_1_literal3, string_literal, sample4_test_1_expr2, (arguments, 0), range(sample4_test_1, 240, 7, 11, 11), "aaaaa").
+literal(sample4_test_1_literal4, null_literal, sample4_test_1_expr5, (arguments, 0), range(sample4_test_1, 288, 4, 12, 12), null).
+literal(sample4_test_1_literal5, number_literal, sample4_test_1_expr5, (arguments, 1), range(sample4_test_1, 294, 1, 12, 12), 2).
+literal(sample4_test_1_literal6, string_literal, sample4_test_1_expr6, (arguments, 0), range(sample4_test_1, 319, 10, 13, 13), "nullnull").
+%sample4_1 - sample.Sample4
+literal(sample4_1_literal1, number_literal, sample4_1_code14, initializer, range(sample4_1, 326, 1, 17, 17), 0).
+literal(sample4_1_literal2, number_literal, sample4_1_expr20, right_operand, range(sample4_1, 585, 1, 28, 28), 0).
+literal(sample4_1_literal3, number_literal, sample4_1_code21, initializer, range(sample4_1, 732, 1, 35, 35), 0).
+literal(sample4_1_literal4, null_literal, sample4_1_expr24, right_operand, range(sample4_1, 804, 4, 38, 38), null).
+literal(sample4_1_literal5, number_literal, sample4_1_expr30, right_operand, range(sample4_1, 918, 1, 42, 42), 2).
+literal(sample4_1_literal6, number_literal, sample4_1_expr34, right_operand, range(sample4_1, 1025, 1, 47, 47), 1).
+literal(sample4_1_literal7, number_literal, sample4_1_expr38, right_operand, range(sample4_1, 1054, 1, 47, 47), 2).
+literal(sample4_1_literal8, number_literal, sample4_1_expr41, right_operand, range(sample4_1, 1067, 1, 47, 47), 2).
+literal(sample4_1_literal9, number_literal, sample4_1_expr43, right_hand_side, range(sample4_1, 1131, 1, 50, 50), 1).
+literal(sample4_1_literal10, number_literal, sample4_1_expr44, (arguments, 0), range(sample4_1, 1207, 1, 54, 54), 1).
+literal(sample4_1_literal11, number_literal, sample4_1_expr44, (arguments, 1), range(sample4_1, 1210, 1, 54, 54), 2).
+literal(sample4_1_literal12, number_literal, sample4_1_expr44, (arguments, 2), range(sample4_1, 1213, 1, 54, 54), 3).
+literal(sample4_1_literal13, number_literal, sample4_1_expr44, (arguments, 3), range(sample4_1, 1216, 1, 54, 54), 4).
+literal(sample4_1_literal14, number_literal, sample4_1_expr44, (arguments, 4), range(sample4_1, 1219, 1, 54, 54), 5).
+literal(sample4_1_literal15, number_literal, sample4_1_expr45, (arguments, 0), range(sample4_1, 1256, 1, 55, 55), 0).
+literal(sample4_1_literal16, number_literal, sample4_1_expr45, (arguments, 1), range(sample4_1, 1259, 1, 55, 55), 2).
+literal(sample4_1_literal17, number_literal, sample4_1_code33, initializer, range(sample4_1, 1356, 1, 61, 61), 0).
+literal(sample4_1_literal18, number_literal, sample4_1_code35, initializer, range(sample4_1, 1375, 1, 62, 62), 5).
+literal(sample4_1_literal19, number_literal, sample4_1_expr49, right_operand, range(sample4_1, 1404, 1, 63, 63), 1).
+literal(sample4_1_literal20, number_literal, sample4_1_expr50, right_operand, range(sample4_1, 1440, 1, 64, 64), 0).
+literal(sample4_1_literal21, number_literal, sample4_1_code37, initializer, range(sample4_1, 1462, 1, 65, 65), 0).
+literal(sample4_1_literal22, number_literal, sample4_1_expr53, right_operand, range(sample4_1, 1469, 1, 65, 65), 1).
+literal(sample4_1_literal23, string_literal, sample4_1_expr56, (arguments, 0), range(sample4_1, 1580, 3, 71, 71), "1").
+literal(sample4_1_literal24, number_literal, sample4_1_expr56, (arguments, 1), range(sample4_1, 1585, 1, 71, 71), 1).
+literal(sample4_1_literal25, string_literal, sample4_1_expr57, (arguments, 0), range(sample4_1, 1622, 3, 72, 72), "2").
+literal(sample4_1_literal26, number_literal, sample4_1_expr57, (arguments, 1), range(sample4_1, 1627, 1, 72, 72), 2).
+literal(sample4_1_literal27, string_literal, sample4_1_expr58, (arguments, 0), range(sample4_1, 1664, 3, 73, 73), "3").
+literal(sample4_1_literal28, number_literal, sample4_1_expr58, (arguments, 1), range(sample4_1, 1669, 1, 73, 73), 3).
+
+%%% Other Code Entities
+%sample4_test_1 - sample.Sample4Test
+code(sample4_test_1_code1, compilation_unit, range(sample4_test_1, 0, 353, 1, -1)).
+code(sample4_test_1_code2, type_declaration, sample4_test_1_code1, (types, 0), range(sample4_test_1, 114, 239, 6, -1)).
+code(sample4_test_1_code3, modifier, sample4_test_1_code2, (modifiers, 0), range(sample4_test_1, 114, 6, 6, 6)).
+code(sample4_test_1_code4, method_declaration, sample4_test_1_code2, (body_declarations, 0), range(sample4_test_1, 146, 205, 8, 14)).
+code(sample4_test_1_code5, simple_type, sample4_test_1_stmt1, type, range(sample4_test_1, 186, 7, 10, 10)).
+code(sample4_test_1_code6, variable_declaration_fragment, sample4_test_1_stmt1, (fragments, 0), range(sample4_test_1, 194, 23, 10, 10)).
+code(sample4_test_1_code7, simple_type, sample4_test_1_expr1, type, range(sample4_test_1, 202, 7, 10, 10)).
+code(sample4_test_1_code8, simple_type, sample4_test_1_expr5, type, range(sample4_test_1, 280, 7, 12, 12)).
+%sample4_1 - sample.Sample4
+code(sample4_1_code1, compilation_unit, range(sample4_1, 0, 1808, 1, -1)).
+code(sample4_1_code2, type_declaration, sample4_1_code1, (types, 0), range(sample4_1, 41, 1767, 5, -1)).
+code(sample4_1_code3, method_declaration, sample4_1_code2, (body_declarations, 2), range(sample4_1, 119, 109, 10, 13)).
+code(sample4_1_code4, modifier, sample4_1_code3, (modifiers, 0), range(sample4_1, 119, 6, 10, 10)).
+code(sample4_1_code5, single_variable_declaration, sample4_1_code3, (parameters, 0), range(sample4_1, 134, 13, 10, 10)).
+code(sample4_1_code6, simple_type, sample4_1_code5, type, range(sample4_1, 134, 6, 10, 10)).
+code(sample4_1_code7, single_variable_declaration, sample4_1_code3, (parameters, 1), range(sample4_1, 149, 10, 10, 10)).
+code(sample4_1_code8, primitive_type, sample4_1_code7, type, range(sample4_1, 149, 3, 10, 10)).
+code(sample4_1_code9, method_declaration, sample4_1_code2, (body_declarations, 3), range(sample4_1, 234, 432, 15, 32)).
+code(sample4_1_code10, simple_type, sample4_1_stmt3, type, range(sample4_1, 269, 12, 16, 16)).
+code(sample4_1_code11, variable_declaration_fragment, sample4_1_stmt3, (fragments, 0), range(sample4_1, 282, 24, 16, 16)).
+code(sample4_1_code12, simple_type, sample4_1_expr7, type, range(sample4_1, 292, 12, 16, 16)).
+code(sample4_1_code13, primitive_type, sample4_1_expr8, type, range(sample4_1, 320, 3, 17, 17)).
+code(sample4_1_code14, variable_declaration_fragment, sample4_1_expr8, (fragments, 0), range(sample4_1, 324, 3, 17, 17)).
+code(sample4_1_code15, simple_type, sample4_1_stmt6, type, range(sample4_1, 385, 12, 20, 20)).
+code(sample4_1_code16, variable_declaration_fragment, sample4_1_stmt6, (fragments, 0), range(sample4_1, 398, 23, 20, 20)).
+code(sample4_1_code17, simple_type, sample4_1_expr12, type, range(sample4_1, 407, 12, 20, 20)).
+code(sample4_1_code18, simple_type, sample4_1_expr15, type, range(sample4_1, 461, 12, 22, 22)).
+code(sample4_1_code19, method_declaration, sample4_1_code2, (body_declarations, 4), range(sample4_1, 672, 256, 34, 43)).
+code(sample4_1_code20, primitive_type, sample4_1_stmt15, type, range(sample4_1, 720, 3, 35, 35)).
+code(sample4_1_code21, variable_declaration_fragment, sample4_1_stmt15, (fragments, 0), range(sample4_1, 724, 9, 35, 35)).
+code(sample4_1_code22, simple_type, sample4_1_expr26, type, range(sample4_1, 890, 7, 42, 42)).
+code(sample4_1_code23, method_declaration, sample4_1_code2, (body_declarations, 5), range(sample4_1, 934, 205, 45, 51)).
+code(sample4_1_code24, method_declaration, sample4_1_code2, (body_declarations, 6), range(sample4_1, 1145, 160, 53, 58)).
+code(sample4_1_code25, parameterized_type, sample4_1_stmt24, type, range(sample4_1, 1178, 13, 54, 54)).
+code(sample4_1_code26, simple_type, sample4_1_code25, type, range(sample4_1, 1178, 4, 54, 54)).
+code(sample4_1_code27, simple_type, sample4_1_code25, (type_arguments, 0), range(sample4_1, 1183, 7, 54, 54)).
+code(sample4_1_code28, variable_declaration_fragment, sample4_1_stmt24, (fragments, 0), range(sample4_1, 1192, 29, 54, 54)).
+code(sample4_1_code29, single_variable_declaration, sample4_1_stmt25, parameter, range(sample4_1, 1235, 5, 55, 55)).
+code(sample4_1_code30, primitive_type, sample4_1_code29, type, range(sample4_1, 1235, 3, 55, 55)).
+code(sample4_1_code31, method_declaration, sample4_1_code2, (body_declarations, 7), range(sample4_1, 1311, 205, 60, 68)).
+code(sample4_1_code32, primitive_type, sample4_1_stmt27, type, range(sample4_1, 1344, 3, 61, 61)).
+code(sample4_1_code33, variable_declaration_fragment, sample4_1_stmt27, (fragments, 0), range(sample4_1, 1348, 9, 61, 61)).
+code(sample4_1_code34, primitive_type, sample4_1_stmt28, type, range(sample4_1, 1367, 3, 62, 62)).
+code(sample4_1_code35, variable_declaration_fragment, sample4_1_stmt28, (fragments, 0), range(sample4_1, 1371, 5, 62, 62)).
+code(sample4_1_code36, primitive_type, sample4_1_expr52, type, range(sample4_1, 1456, 3, 65, 65)).
+code(sample4_1_code37, variable_declaration_fragment, sample4_1_expr52, (fragments, 0), range(sample4_1, 1460, 3, 65, 65)).
+code(sample4_1_code38, variable_declaration_fragment, sample4_1_expr52, (fragments, 1), range(sample4_1, 1465, 5, 65, 65)).
+code(sample4_1_code39, method_declaration, sample4_1_code2, (body_declarations, 8), range(sample4_1, 1522, 284, 70, 78)).
+code(sample4_1_code40, simple_type, sample4_1_stmt32, type, range(sample4_1, 1555, 7, 71, 71)).
+code(sample4_1_code41, variable_declaration_fragment, sample4_1_stmt32, (fragments, 0), range(sample4_1, 1563, 24, 71, 71)).
+code(sample4_1_code42, simple_type, sample4_1_expr56, type, range(sample4_1, 1572, 7, 71, 71)).
+code(sample4_1_code43, simple_type, sample4_1_stmt33, type, range(sample4_1, 1597, 7, 72, 72)).
+code(sample4_1_code44, variable_declaration_fragment, sample4_1_stmt33, (fragments, 0), range(sample4_1, 1605, 24, 72, 72)).
+code(sample4_1_code45, simple_type, sample4_1_expr57, type, range(sample4_1, 1614, 7, 72, 72)).
+code(sample4_1_code46, simple_type, sample4_1_stmt34, type, range(sample4_1, 1639, 7, 73, 73)).
+code(sample4_1_code47, variable_declaration_fragment, sample4_1_stmt34, (fragments, 0), range(sample4_1, 1647, 24, 73, 73)).
+code(sample4_1_code48, simple_type, sample4_1_expr58, type, range(sample4_1, 1656, 7, 73, 73)).
+
+%%% Name References
+
+name_ref(t_list_1, type, 'List', 'Ljava/util/List<>;').
+name_ref(t_sample4_test_2, type, 'Sample4Test', 'Lsample/Sample4Test;').
+name_ref(v_b_12, var, 'b', 'Lsample/Sample4;.method2(Ljava/lang/StringBuffer;)V#b').
+name_ref(v_count_15, var, 'count', 'Lsample/Sample4;.method4()V#count').
+name_ref(v_count_9, var, 'count', 'Lsample/Sample4;.method1(Ljava/lang/StringBuffer;)V#count').
+name_ref(v_i_11, var, 'i', 'Lsample/Sample4;.method2(Ljava/lang/StringBuffer;)V#i').
+name_ref(v_i_16, var, 'i', 'Lsample/Sample4;.method4()V#i').
+name_ref(v_i_6, var, 'i', 'Lsample/Sample4;.generate()Ljava/lang/String;#0#i').
+name_ref(v_j_17, var, 'j', 'Lsample/Sample4;.method4()V#0#j').
+name_ref(v_k_18, var, 'k', 'Lsample/Sample4;.method4()V#0#k').
+name_ref(v_list_13, var, 'list', 'Lsample/Sample4;.method3()V#list').
+name_ref(v_s_1_19, var, 's1', 'Lsample/Sample4;.method5()V#s1').
+name_ref(v_s_22, var, 's', 'Lsample/Sample4Test;.test1()V#s').
+name_ref(v_s_2_20, var, 's2', 'Lsample/Sample4;.method5()V#s2').
+name_ref(v_s_3_21, var, 's3', 'Lsample/Sample4;.method5()V#s3').
+name_ref(v_sb_2_5, var, 'sb2', 'Lsample/Sample4;.generate()Ljava/lang/String;#sb2').
+name_ref(v_sb_7, var, 'sb', 'Lsample/Sample4;.generate()Ljava/lang/String;#sb').
+name_ref(v_x_14, var, 'x', 'Lsample/Sample4;.method3()V#0#x').
+name_ref(p_field_1_1, param, 'field1', 'Lsample/Sample4;.(Ljava/lang/String;I)V#field1#0#0').
+name_ref(p_field_2_2, param, 'field2', 'Lsample/Sample4;.(Ljava/lang/String;I)V#field2#0#1').
+name_ref(p_sb_10, param, 'sb', 'Lsample/Sample4;.method2(Ljava/lang/StringBuffer;)V#sb#0#0').
+name_ref(p_sb_8, param, 'sb', 'Lsample/Sample4;.method1(Ljava/lang/StringBuffer;)V#sb#0#0').
+name_ref(f_field_1_3, field, 'field1', 'Lsample/Sample4;.field1)Ljava/lang/String;').
+name_ref(f_field_2_4, field, 'field2', 'Lsample/Sample4;.field2)I').
+name_ref(m_append_4, method, 'append', 'Ljava/lang/StringBuffer;.append(Ljava/lang/String;)Ljava/lang/StringBuffer;').
+name_ref(m_assert_equals_15, method, 'assertEquals', 'Lorg/junit/jupiter/api/Assertions;.assertEquals(Ljava/lang/Object;Ljava/lang/Object;)V').
+name_ref(m_generate_2, method, 'generate', 'Lsample/Sample4;.generate()Ljava/lang/String;').
+name_ref(m_length_10, method, 'length', 'Ljava/lang/String;.length()I').
+name_ref(m_method_1_5, method, 'method1', 'Lsample/Sample4;.method1(Ljava/lang/StringBuffer;)V').
+name_ref(m_method_2_6, method, 'method2', 'Lsample/Sample4;.method2(Ljava/lang/StringBuffer;)V').
+name_ref(m_method_3_7, method, 'method3', 'Lsample/Sample4;.method3()V').
+name_ref(m_method_4_8, method, 'method4', 'Lsample/Sample4;.method4()V').
+name_ref(m_method_5_9, method, 'method5', 'Lsample/Sample4;.method5()V').
+name_ref(m_of_12, method, 'of', 'Ljava/util/List;.of<E:Ljava/lang/Object;>(TE;TE;TE;TE;TE;)Ljava/util/List<TE;>;').
+name_ref(m_sample4_1, method, 'Sample4', 'Lsample/Sample4;.(Ljava/lang/String;I)V').
+name_ref(m_string_buffer_3, method, 'StringBuffer', 'Ljava/lang/StringBuffer;.()V').
+name_ref(m_sub_list_13, method, 'subList', 'Ljava/util/List;.subList(II)Ljava/util/List<TE;>;').
+name_ref(m_test_1_14, method, 'test1', 'Lsample/Sample4Test;.test1()V').
+name_ref(m_to_string_11, method, 'toString', 'Ljava/lang/StringBuffer;.toString()Ljava/lang/String;').
+name_ref(q_field_1_1, q_name, 's1.field1', 'Lsample/Sample4;.method5()V#s1:Lsample/Sample4;.field1)Ljava/lang/String;').
+name_ref(q_field_2_2, q_name, 's2.field2', 'Lsample/Sample4;.method5()V#s2:Lsample/Sample4;.field2)I').
+name_ref(q_field_2_3, q_name, 's3.field2', 'Lsample/Sample4;.method5()V#s3:Lsample/Sample4;.field2)I').
+name_ref(q_field_2_4, q_name, 's1.field2', 'Lsample/Sample4;.method5()V#s1:Lsample/Sample4;.field2)I').
+
+%%% End of Code Facts
\ No newline at end of file
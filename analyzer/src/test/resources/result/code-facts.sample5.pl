@@ -0,0 +1,218 @@
+%%% Code Facts
+:- style_check(-discontiguous).
+%%% Classes
+class(sample5_test_1, 'sample.Sample5Test').
+class(sample5_1, 'sample.Sample5').
+
+%%% Methods
+%sample5_test_1 - sample.Sample5Test
+method(m_test_1_8, range(sample5_test_1, 144, 109, 8, 12)).
+%sample5_1 - sample.Sample5
+method(m_sample5_1, range(sample5_1, 94, 109, 7, 10)).
+method(m_test_2, range(sample5_1, 209, 162, 12, 21)).
+method(m_method_1_3, range(sample5_1, 377, 249, 23, 33)).
+method(m_method_2_4, range(sample5_1, 632, 102, 35, 39)).
+method(m_method_3_5, range(sample5_1, 740, 257, 41, 51)).
+
+%%% Blocks
+%sample5_test_1 - sample.Sample5Test
+block(sample5_test_1_block1, block, sample5_test_1_code4, body, range(sample5_test_1, 174, 79, 9, 12)).
+%sample5_1 - sample.Sample5
+block(sample5_1_block1, block, sample5_1_code3, body, range(sample5_1, 136, 67, 7, 10)).
+block(sample5_1_block2, block, sample5_1_code9, body, range(sample5_1, 231, 140, 12, 21)).
+block(sample5_1_block3, block, sample5_1_code10, body, range(sample5_1, 400, 226, 23, 33)).
+block(sample5_1_block4, block, sample5_1_stmt10, then_statement, range(sample5_1, 448, 34, 25, 27)).
+block(sample5_1_block5, block, sample5_1_stmt12, then_statement, range(sample5_1, 504, 43, 27, 29)).
+block(sample5_1_block6, block, sample5_1_stmt12, else_statement, range(sample5_1, 553, 43, 29, 31)).
+block(sample5_1_block7, block, sample5_1_code13, body, range(sample5_1, 654, 80, 35, 39)).
+block(sample5_1_block8, block, sample5_1_code16, body, range(sample5_1, 763, 234, 41, 51)).
+block(sample5_1_block9, block, sample5_1_stmt20, then_statement, range(sample5_1, 831, 34, 44, 46)).
+block(sample5_1_block10, block, sample5_1_stmt21, then_statement, range(sample5_1, 890, 101, 46, 50)).
+block(sample5_1_block11, block, sample5_1_stmt22, body, range(sample5_1, 938, 43, 47, 49)).
+
+%%% Statements
+%sample5_test_1 - sample.Sample5Test
+stmt(sample5_test_1_stmt1, variable_declaration_statement, sample5_test_1_block1, (statements, 0), range(sample5_test_1, 184, 33, 10, 10)).
+stmt(sample5_test_1_stmt2, expression_statement, sample5_test_1_block1, (statements, 1), range(sample5_test_1, 226, 21, 11, 11)).
+%sample5_1 - sample.Sample5
+stmt(sample5_1_stmt1, expression_statement, sample5_1_block1, (statements, 0), range(sample5_1, 146, 21, 8, 8)).
+stmt(sample5_1_stmt2, expression_statement, sample5_1_block1, (statements, 1), range(sample5_1, 176, 21, 9, 9)).
+stmt(sample5_1_stmt3, expression_statement, sample5_1_block2, (statements, 0), range(sample5_1, 241, 10, 13, 13)).
+stmt(sample5_1_stmt4, expression_statement, sample5_1_block2, (statements, 1), range(sample5_1, 260, 10, 14, 14)).
+stmt(sample5_1_stmt5, expression_statement, sample5_1_block2, (statements, 2), range(sample5_1, 279, 10, 15, 15)).
+stmt(sample5_1_stmt6, expression_statement, sample5_1_block2, (statements, 3), range(sample5_1, 298, 10, 16, 16)).
+stmt(sample5_1_stmt7, expression_statement, sample5_1_block2, (statements, 4), range(sample5_1, 317, 10, 17, 17)).
+stmt(sample5_1_stmt8, return_statement, sample5_1_block2, (statements, 5), range(sample5_1, 338, 27, 20, 20)).
+stmt(sample5_1_stmt9, variable_declaration_statement, sample5_1_block3, (statements, 0), range(sample5_1, 410, 14, 24, 24)).
+stmt(sample5_1_stmt10, if_statement, sample5_1_block3, (statements, 1), range(sample5_1, 433, 163, 25, 31)).
+stmt(sample5_1_stmt11, expression_statement, sample5_1_block4, (statements, 0), range(sample5_1, 462, 10, 26, 26)).
+stmt(sample5_1_stmt12, if_statement, sample5_1_stmt10, elseStatement, range(sample5_1, 488, 108, 27, 31)).
+stmt(sample5_1_stmt13, expression_statement, sample5_1_block5, (statements, 0), range(sample5_1, 518, 19, 28, 28)).
+stmt(sample5_1_stmt14, expression_statement, sample5_1_block6, (statements, 0), range(sample5_1, 567, 19, 30, 30)).
+stmt(sample5_1_stmt15, expression_statement, sample5_1_block3, (statements, 2), range(sample5_1, 605, 15, 32, 32)).
+stmt(sample5_1_stmt16, variable_declaration_statement, sample5_1_block7, (statements, 0), range(sample5_1, 664, 36, 36, 36)).
+stmt(sample5_1_stmt17, return_statement, sample5_1_block7, (statements, 1), range(sample5_1, 710, 18, 38, 38)).
+stmt(sample5_1_stmt18, variable_declaration_statement, sample5_1_block8, (statements, 0), range(sample5_1, 773, 14, 42, 42)).
+stmt(sample5_1_stmt19, expression_statement, sample5_1_block8, (statements, 1), range(sample5_1, 796, 11, 43, 43)).
+stmt(sample5_1_stmt20, if_statement, sample5_1_block8, (statements, 2), range(sample5_1, 816, 175, 44, 50)).
+stmt(sample5_1_stmt21, if_statement, sample5_1_stmt20, elseStatement, range(sample5_1, 871, 120, 46, 50)).
+stmt(sample5_1_stmt22, for_statement, sample5_1_block10, (statements, 0), range(sample5_1, 904, 77, 47, 49)).
+stmt(sample5_1_stmt23, expression_statement, sample5_1_block11, (statements, 0), range(sample5_1, 956, 11, 48, 48)).
+
+%%% Expressions
+%sample5_test_1 - sample.Sample5Test
+expr(sample5_test_1_expr1, class_instance_creation, sample5_test_1_code6, initializer, range(sample5_test_1, 196, 20, 10, 10), "new Sample5(null,5)").
+expr(sample5_test_1_expr2, method_invocation, sample5_test_1_stmt2, expression, range(sample5_test_1, 226, 20, 11, 11), "assertTrue(s.test())").
+expr(sample5_test_1_expr3, method_invocation, sample5_test_1_expr2, (arguments, 0), range(sample5_test_1, 237, 8, 11, 11), "s.test()").
+%sample5_1 - sample.Sample5
+expr(sample5_1_expr1, assignment, sample5_1_stmt1, expression, range(sample5_1, 146, 20, 8, 8), "this.field1=field1").
+expr(sample5_1_expr2, field_access, sample5_1_expr1, left_hand_side, range(sample5_1, 146, 11, 8, 8), "this.field1").
+expr(sample5_1_expr3, this_expression, f_field_1_3, expression, range(sample5_1, 146, 4, 8, 8), "this").
+expr(sample5_1_expr4, assignment, sample5_1_stmt2, expression, range(sample5_1, 176, 20, 9, 9), "this.field2=field2").
+expr(sample5_1_expr5, field_access, sample5_1_expr4, left_hand_side, range(sample5_1, 176, 11, 9, 9), "this.field2").
+expr(sample5_1_expr6, this_expression, f_field_2_4, expression, range(sample5_1, 176, 4, 9, 9), "this").
+expr(sample5_1_expr7, method_invocation, sample5_1_stmt3, expression, range(sample5_1, 241, 9, 13, 13), "method1()").
+expr(sample5_1_expr8, method_invocation, sample5_1_stmt4, expression, range(sample5_1, 260, 9, 14, 14), "method1()").
+expr(sample5_1_expr9, method_invocation, sample5_1_stmt5, expression, range(sample5_1, 279, 9, 15, 15), "method1()").
+expr(sample5_1_expr10, method_invocation, sample5_1_stmt6, expression, range(sample5_1, 298, 9, 16, 16), "method2()").
+expr(sample5_1_expr11, method_invocation, sample5_1_stmt7, expression, range(sample5_1, 317, 9, 17, 17), "method3()").
+expr(sample5_1_expr12, method_invocation, sample5_1_stmt8, expression, range(sample5_1, 345, 19, 20, 20), "field1.contains(\"\")").
+expr(sample5_1_expr13, infix_expression, sample5_1_stmt10, expression, range(sample5_1, 436, 10, 25, 25), "field2 > 0").
+expr(sample5_1_expr14, assignment, sample5_1_stmt11, expression, range(sample5_1, 462, 9, 26, 26), "count=0").
+expr(sample5_1_expr15, infix_expression, sample5_1_stmt12, expression, range(sample5_1, 491, 11, 27, 27), "field2 == 0").
+expr(sample5_1_expr16, assignment, sample5_1_stmt13, expression, range(sample5_1, 518, 18, 28, 28), "count=field2 - 1").
+expr(sample5_1_expr17, infix_expression, sample5_1_expr16, right_hand_side, range(sample5_1, 526, 10, 28, 28), "field2 - 1").
+expr(sample5_1_expr18, assignment, sample5_1_stmt14, expression, range(sample5_1, 567, 18, 30, 30), "count=field2 + 2").
+expr(sample5_1_expr19, infix_expression, sample5_1_expr18, right_hand_side, range(sample5_1, 575, 10, 30, 30), "field2 + 2").
+expr(sample5_1_expr20, assignment, sample5_1_stmt15, expression, range(sample5_1, 605, 14, 32, 32), "field2=count").
+expr(sample5_1_expr21, infix_expression, sample5_1_code15, initializer, range(sample5_1, 675, 24, 36, 36), "field1 + field1 + field2").
+expr(sample5_1_expr22, method_invocation, sample5_1_stmt17, expression, range(sample5_1, 717, 10, 38, 38), "s.length()").
+expr(sample5_1_expr23, assignment, sample5_1_stmt19, expression, range(sample5_1, 796, 10, 43, 43), "field2=5").
+expr(sample5_1_expr24, infix_expression, sample5_1_stmt20, expression, range(sample5_1, 819, 10, 44, 44), "field2 < 0").
+expr(sample5_1_expr25, infix_expression, sample5_1_stmt21, expression, range(sample5_1, 874, 14, 46, 46), "count < field2").
+expr(sample5_1_expr26, variable_declaration_expression, sample5_1_stmt22, (initializers, 0), range(sample5_1, 908, 11, 47, 47), "int i=count").
+expr(sample5_1_expr27, infix_expression, sample5_1_stmt22, expression, range(sample5_1, 921, 10, 47, 47), "i < field2").
+expr(sample5_1_expr28, postfix_expression, sample5_1_stmt22, (updaters, 0), range(sample5_1, 933, 3, 47, 47), "i++").
+expr(sample5_1_expr29, assignment, sample5_1_stmt23, expression, range(sample5_1, 956, 10, 48, 48), "count+=2").
+
+%%% Names
+%sample5_test_1 - sample.Sample5Test
+name(t_sample5_test_1, simple_name, sample5_test_1_code2, name, range(sample5_test_1, 125, 11, 6, 6), 'Sample5Test').
+name(v_s_9, simple_name, sample5_test_1_code6, name, range(sample5_test_1, 192, 1, 10, 10), 's').
+name(m_assert_true_9, simple_name, sample5_test_1_expr2, name, range(sample5_test_1, 226, 10, 11, 11), 'assertTrue').
+name(v_s_9, simple_name, sample5_test_1_expr3, expression, range(sample5_test_1, 237, 1, 11, 11), 's').
+name(m_test_2, simple_name, sample5_test_1_expr3, name, range(sample5_test_1, 239, 4, 11, 11), 'test').
+%sample5_1 - sample.Sample5
+name(m_sample5_1, simple_name, sample5_1_code3, name, range(sample5_1, 101, 7, 7, 7), 'Sample5').
+name(p_field_1_1, simple_name, sample5_1_code5, name, range(sample5_1, 116, 6, 7, 7), 'field1').
+name(p_field_2_2, simple_name, sample5_1_code7, name, range(sample5_1, 128, 6, 7, 7), 'field2').
+name(f_field_1_3, simple_name, sample5_1_expr2, name, range(sample5_1, 151, 6, 8, 8), 'field1').
+name(p_field_1_1, simple_name, sample5_1_expr1, right_hand_side, range(sample5_1, 160, 6, 8, 8), 'field1').
+name(f_field_2_4, simple_name, sample5_1_expr5, name, range(sample5_1, 181, 6, 9, 9), 'field2').
+name(p_field_2_2, simple_name, sample5_1_expr4, right_hand_side, range(sample5_1, 190, 6, 9, 9), 'field2').
+name(m_method_1_3, simple_name, sample5_1_expr7, name, range(sample5_1, 241, 7, 13, 13), 'method1').
+name(m_method_1_3, simple_name, sample5_1_expr8, name, range(sample5_1, 260, 7, 14, 14), 'method1').
+name(m_method_1_3, simple_name, sample5_1_expr9, name, range(sample5_1, 279, 7, 15, 15), 'method1').
+name(m_method_2_4, simple_name, sample5_1_expr10, name, range(sample5_1, 298, 7, 16, 16), 'method2').
+name(m_method_3_5, simple_name, sample5_1_expr11, name, range(sample5_1, 317, 7, 17, 17), 'method3').
+name(f_field_1_3, simple_name, sample5_1_expr12, expression, range(sample5_1, 345, 6, 20, 20), 'field1').
+name(m_contains_6, simple_name, sample5_1_expr12, name, range(sample5_1, 352, 8, 20, 20), 'contains').
+name(v_count_5, simple_name, sample5_1_code12, name, range(sample5_1, 414, 5, 24, 24), 'count').
+name(f_field_2_4, simple_name, sample5_1_expr13, left_operand, range(sample5_1, 436, 6, 25, 25), 'field2').
+name(v_count_5, simple_name, sample5_1_expr14, left_hand_side, range(sample5_1, 462, 5, 26, 26), 'count').
+name(f_field_2_4, simple_name, sample5_1_expr15, left_operand, range(sample5_1, 491, 6, 27, 27), 'field2').
+name(v_count_5, simple_name, sample5_1_expr16, left_hand_side, range(sample5_1, 518, 5, 28, 28), 'count').
+name(f_field_2_4, simple_name, sample5_1_expr17, left_operand, range(sample5_1, 526, 6, 28, 28), 'field2').
+name(v_count_5, simple_name, sample5_1_expr18, left_hand_side, range(sample5_1, 567, 5, 30, 30), 'count').
+name(f_field_2_4, simple_name, sample5_1_expr19, left_operand, range(sample5_1, 575, 6, 30, 30), 'field2').
+name(f_field_2_4, simple_name, sample5_1_expr20, left_hand_side, range(sample5_1, 605, 6, 32, 32), 'field2').
+name(v_count_5, simple_name, sample5_1_expr20, right_hand_side, range(sample5_1, 614, 5, 32, 32), 'count').
+name(v_s_6, simple_name, sample5_1_code15, name, range(sample5_1, 671, 1, 36, 36), 's').
+name(f_field_1_3, simple_name, sample5_1_expr21, left_operand, range(sample5_1, 675, 6, 36, 36), 'field1').
+name(f_field_1_3, simple_name, sample5_1_expr21, right_operand, range(sample5_1, 684, 6, 36, 36), 'field1').
+name(f_field_2_4, simple_name, sample5_1_expr21, (extended_operands, 0), range(sample5_1, 693, 6, 36, 36), 'field2').
+name(v_s_6, simple_name, sample5_1_expr22, expression, range(sample5_1, 717, 1, 38, 38), 's').
+name(m_length_7, simple_name, sample5_1_expr22, name, range(sample5_1, 719, 6, 38, 38), 'length').
+name(v_count_7, simple_name, sample5_1_code18, name, range(sample5_1, 777, 5, 42, 42), 'count').
+name(f_field_2_4, simple_name, sample5_1_expr23, left_hand_side, range(sample5_1, 796, 6, 43, 43), 'field2').
+name(f_field_2_4, simple_name, sample5_1_expr24, left_operand, range(sample5_1, 819, 6, 44, 44), 'field2').
+name(v_count_7, simple_name, sample5_1_expr25, left_operand, range(sample5_1, 874, 5, 46, 46), 'count').
+name(f_field_2_4, simple_name, sample5_1_expr25, right_operand, range(sample5_1, 882, 6, 46, 46), 'field2').
+name(v_i_8, simple_name, sample5_1_code20, name, range(sample5_1, 912, 1, 47, 47), 'i').
+name(v_count_7, simple_name, sample5_1_code20, initializer, range(sample5_1, 914, 5, 47, 47), 'count').
+name(v_i_8, simple_name, sample5_1_expr27, left_operand, range(sample5_1, 921, 1, 47, 47), 'i').
+name(f_field_2_4, simple_name, sample5_1_expr27, right_operand, range(sample5_1, 925, 6, 47, 47), 'field2').
+name(v_i_8, simple_name, sample5_1_expr28, operand, range(sample5_1, 933, 1, 47, 47), 'i').
+name(v_count_7, simple_name, sample5_1_expr29, left_hand_side, range(sample5_1, 956, 5, 48, 48), 'count').
+
+%%% Literals
+%sample5_test_1 - sample.Sample5Test
+literal(sample5_test_1_literal1, null_literal, sample5_test_1_expr1, (arguments, 0), range(sample5_test_1, 208, 4, 10, 10), null).
+literal(sample5_test_1_literal2, number_literal, sample5_test_1_expr1, (arguments, 1), range(sample5_test_1, 214, 1, 10, 10), 5).
+%sample5_1 - sample.Sample5
+literal(sample5_1_literal1, string_literal, sample5_1_expr12, (arguments, 0), range(sample5_1, 361, 2, 20, 20), "").
+literal(sample5_1_literal2, number_literal, sample5_1_code12, initializer, range(sample5_1, 422, 1, 24, 24), 0).
+literal(sample5_1_literal3, number_literal, sample5_1_expr13, right_operand, range(sample5_1, 445, 1, 25, 25), 0).
+literal(sample5_1_literal4, number_literal, sample5_1_expr14, right_hand_side, range(sample5_1, 470, 1, 26, 26), 0).
+literal(sample5_1_literal5, number_literal, sample5_1_expr15, right_operand, range(sample5_1, 501, 1, 27, 27), 0).
+literal(sample5_1_literal6, number_literal, sample5_1_expr17, right_operand, range(sample5_1, 535, 1, 28, 28), 1).
+literal(sample5_1_literal7, number_literal, sample5_1_expr19, right_operand, range(sample5_1, 584, 1, 30, 30), 2).
+literal(sample5_1_literal8, number_literal, sample5_1_code18, initializer, range(sample5_1, 785, 1, 42, 42), 0).
+literal(sample5_1_literal9, number_literal, sample5_1_expr23, right_hand_side, range(sample5_1, 805, 1, 43, 43), 5).
+literal(sample5_1_literal10, number_literal, sample5_1_expr24, right_operand, range(sample5_1, 828, 1, 44, 44), 0).
+literal(sample5_1_literal11, number_literal, sample5_1_expr29, right_hand_side, range(sample5_1, 965, 1, 48, 48), 2).
+
+%%% Other Code Entities
+%sample5_test_1 - sample.Sample5Test
+code(sample5_test_1_code1, compilation_unit, range(sample5_test_1, 0, 255, 1, -1)).
+code(sample5_test_1_code2, type_declaration, sample5_test_1_code1, (types, 0), range(sample5_test_1, 112, 143, 6, -1)).
+code(sample5_test_1_code3, modifier, sample5_test_1_code2, (modifiers, 0), range(sample5_test_1, 112, 6, 6, 6)).
+code(sample5_test_1_code4, method_declaration, sample5_test_1_code2, (body_declarations, 0), range(sample5_test_1, 144, 109, 8, 12)).
+code(sample5_test_1_code5, simple_type, sample5_test_1_stmt1, type, range(sample5_test_1, 184, 7, 10, 10)).
+code(sample5_test_1_code6, variable_declaration_fragment, sample5_test_1_stmt1, (fragments, 0), range(sample5_test_1, 192, 24, 10, 10)).
+code(sample5_test_1_code7, simple_type, sample5_test_1_expr1, type, range(sample5_test_1, 200, 7, 10, 10)).
+%sample5_1 - sample.Sample5
+code(sample5_1_code1, compilation_unit, range(sample5_1, 0, 999, 1, -1)).
+code(sample5_1_code2, type_declaration, sample5_1_code1, (types, 0), range(sample5_1, 17, 982, 3, -1)).
+code(sample5_1_code3, method_declaration, sample5_1_code2, (body_declarations, 2), range(sample5_1, 94, 109, 7, 10)).
+code(sample5_1_code4, modifier, sample5_1_code3, (modifiers, 0), range(sample5_1, 94, 6, 7, 7)).
+code(sample5_1_code5, single_variable_declaration, sample5_1_code3, (parameters, 0), range(sample5_1, 109, 13, 7, 7)).
+code(sample5_1_code6, simple_type, sample5_1_code5, type, range(sample5_1, 109, 6, 7, 7)).
+code(sample5_1_code7, single_variable_declaration, sample5_1_code3, (parameters, 1), range(sample5_1, 124, 10, 7, 7)).
+code(sample5_1_code8, primitive_type, sample5_1_code7, type, range(sample5_1, 124, 3, 7, 7)).
+code(sample5_1_code9, method_declaration, sample5_1_code2, (body_declarations, 3), range(sample5_1, 209, 162, 12, 21)).
+code(sample5_1_code10, method_declaration, sample5_1_code2, (body_declarations, 4), range(sample5_1, 377, 249, 23, 33)).
+code(sample5_1_code11, primitive_type, sample5_1_stmt9, type, range(sample5_1, 410, 3, 24, 24)).
+code(sample5_1_code12, variable_declaration_fragment, sample5_1_stmt9, (fragments, 0), range(sample5_1, 414, 9, 24, 24)).
+code(sample5_1_code13, method_declaration, sample5_1_code2, (body_declarations, 5), range(sample5_1, 632, 102, 35, 39)).
+code(sample5_1_code14, simple_type, sample5_1_stmt16, type, range(sample5_1, 664, 6, 36, 36)).
+code(sample5_1_code15, variable_declaration_fragment, sample5_1_stmt16, (fragments, 0), range(sample5_1, 671, 28, 36, 36)).
+code(sample5_1_code16, method_declaration, sample5_1_code2, (body_declarations, 6), range(sample5_1, 740, 257, 41, 51)).
+code(sample5_1_code17, primitive_type, sample5_1_stmt18, type, range(sample5_1, 773, 3, 42, 42)).
+code(sample5_1_code18, variable_declaration_fragment, sample5_1_stmt18, (fragments, 0), range(sample5_1, 777, 9, 42, 42)).
+code(sample5_1_code19, primitive_type, sample5_1_expr26, type, range(sample5_1, 908, 3, 47, 47)).
+code(sample5_1_code20, variable_declaration_fragment, sample5_1_expr26, (fragments, 0), range(sample5_1, 912, 7, 47, 47)).
+
+%%% Name References
+
+name_ref(t_sample5_test_1, type, 'Sample5Test', 'Lsample/Sample5Test;').
+name_ref(v_count_5, var, 'count', 'Lsample/Sample5;.method1()V#count').
+name_ref(v_count_7, var, 'count', 'Lsample/Sample5;.method3()V#count').
+name_ref(v_i_8, var, 'i', 'Lsample/Sample5;.method3()V#0#i').
+name_ref(v_s_6, var, 's', 'Lsample/Sample5;.method2()I#s').
+name_ref(v_s_9, var, 's', 'Lsample/Sample5Test;.test1()V#s').
+name_ref(p_field_1_1, param, 'field1', 'Lsample/Sample5;.(Ljava/lang/String;I)V#field1#0#0').
+name_ref(p_field_2_2, param, 'field2', 'Lsample/Sample5;.(Ljava/lang/String;I)V#field2#0#1').
+name_ref(f_field_1_3, field, 'field1', 'Lsample/Sample5;.field1)Ljava/lang/String;').
+name_ref(f_field_2_4, field, 'field2', 'Lsample/Sample5;.field2)I').
+name_ref(m_assert_true_9, method, 'assertTrue', 'Lorg/junit/jupiter/api/Assertions;.assertTrue(Z)V').
+name_ref(m_contains_6, method, 'contains', 'Ljava/lang/String;.contains(Ljava/lang/CharSequence;)Z').
+name_ref(m_length_7, method, 'length', 'Ljava/lang/String;.length()I').
+name_ref(m_method_1_3, method, 'method1', 'Lsample/Sample5;.method1()V').
+name_ref(m_method_2_4, method, 'method2', 'Lsample/Sample5;.method2()I').
+name_ref(m_method_3_5, method, 'method3', 'Lsample/Sample5;.method3()V').
+name_ref(m_sample5_1, method, 'Sample5', 'Lsample/Sample5;.(Ljava/lang/String;I)V').
+name_ref(m_test_1_8, method, 'test1', 'Lsample/Sample5Test;.test1()V').
+name_ref(m_test_2, method, 'test', 'Lsample/Sample5;.test()Z').
+
+%%% End of Code Facts
\ No newline at end of file
@@ -0,0 +1,143 @@
+%%% Logic-FL Facts
+:- style_check(-discontiguous).
+
+%example_test_1 - sample.ExampleTest
+assign(v_p_13, example_test_1_expr2, line(example_test_1, 10)).
+method_invoc(example_test_1_expr2, m_person_15, line(example_test_1, 10)).
+argument(f_major_14, 1, example_test_1_expr2).
+assign(v_e_15, example_test_1_expr3, line(example_test_1, 11)).
+method_invoc(example_test_1_expr3, m_example_1, line(example_test_1, 11)).
+argument(v_p_13, 1, example_test_1_expr3).
+method_invoc(example_test_1_expr4, m_last_name_6, line(example_test_1, 12)).
+throw(example_test_1_expr4, null_pointer_exception, line(example_test_1, 12)).
+argument(example_test_1_literal1, 1, example_test_1_expr4).
+ref(v_e_15, example_test_1_expr4, line(example_test_1, 12)).
+method_invoc(example_test_1_expr5, m_assert_equals_16, line(example_test_1, 13)).
+argument(example_test_1_literal2, 1, example_test_1_expr5).
+argument(example_test_1_expr6, 2, example_test_1_expr5).
+method_invoc(example_test_1_expr6, m_decorate_3, line(example_test_1, 13)).
+ref(v_e_15, example_test_1_expr6, line(example_test_1, 13)).
+assign(v_p_16, example_test_1_expr8, line(example_test_1, 18)).
+method_invoc(example_test_1_expr8, m_person_18, line(example_test_1, 18)).
+argument(example_test_1_literal3, 1, example_test_1_expr8).
+argument(f_major_14, 2, example_test_1_expr8).
+assign(v_e_17, example_test_1_expr9, line(example_test_1, 19)).
+method_invoc(example_test_1_expr9, m_example_1, line(example_test_1, 19)).
+argument(v_p_16, 1, example_test_1_expr9).
+method_invoc(example_test_1_expr10, m_assert_equals_16, line(example_test_1, 20)).
+argument(example_test_1_literal4, 1, example_test_1_expr10).
+argument(example_test_1_expr11, 2, example_test_1_expr10).
+method_invoc(example_test_1_expr11, m_decorate_3, line(example_test_1, 20)).
+ref(v_e_17, example_test_1_expr11, line(example_test_1, 20)).
+assign(f_major_14, example_test_1_expr12, line(example_test_1, 23)).
+method_invoc(example_test_1_expr12, m_string_19, line(example_test_1, 23)).
+argument(example_test_1_literal5, 1, example_test_1_expr12).
+
+%example_1 - sample.Example
+param(p_p_3, 1, m_example_1).
+method_invoc(example_1_expr1, m_example_2, line(example_1, 8)).
+argument(p_p_3, 1, example_1_expr1).
+argument(q_field_1, 2, example_1_expr1).
+ref(p_p_3, q_field_1, line(example_1, 8)).
+param(p_p_5, 1, m_example_2).
+param(p_s_6, 2, m_example_2).
+assign(f_p_1, p_p_5, line(example_1, 12)).
+assign(p_s_6, q_field_2, line(example_1, 13)).
+ref(p_p_5, q_field_2, line(example_1, 13)).
+assign(v_first_name_7, example_1_expr6, line(example_1, 17)).
+method_invoc(example_1_expr6, m_first_name_4, line(example_1, 17)).
+throw(example_1_expr6, null_pointer_exception, line(example_1, 17)).
+argument(example_1_expr7, 1, example_1_expr6).
+assign(example_1_expr7, example_1_expr8, line(example_1, 17)).
+method_invoc(example_1_expr8, m_get_name_5, line(example_1, 17)).
+ref(f_p_1, example_1_expr8, line(example_1, 17)).
+assign(v_last_name_8, example_1_expr11, line(example_1, 18)).
+method_invoc(example_1_expr11, m_last_name_6, line(example_1, 18)).
+throw(example_1_expr11, null_pointer_exception, line(example_1, 18)).
+argument(example_1_expr12, 1, example_1_expr11).
+method_invoc(example_1_expr12, m_get_name_5, line(example_1, 18)).
+ref(f_p_1, example_1_expr12, line(example_1, 18)).
+return(example_1_expr13, m_decorate_3, line(example_1, 20)).
+method_invoc(example_1_expr14, m_to_upper_case_7, line(example_1, 20)).
+ref(v_last_name_8, example_1_expr14, line(example_1, 20)).
+param(p_name_9, 1, m_first_name_4).
+assign(v_index_10, example_1_expr15, line(example_1, 24)).
+method_invoc(example_1_expr15, m_index_of_8, line(example_1, 24)).
+argument(example_1_literal2, 1, example_1_expr15).
+ref(p_name_9, example_1_expr15, line(example_1, 24)).
+return(example_1_expr16, m_first_name_4, line(example_1, 25)).
+method_invoc(example_1_expr16, m_substring_9, line(example_1, 25)).
+argument(example_1_literal3, 1, example_1_expr16).
+argument(example_1_expr17, 2, example_1_expr16).
+ref(p_name_9, example_1_expr16, line(example_1, 25)).
+cond_expr(example_1_expr18, v_index_10, example_1_literal4, line(example_1, 25)).
+param(p_name_11, 1, m_last_name_6).
+throw(m_last_name_6, null_pointer_exception).
+throw(m_last_name_6, null_pointer_exception).
+method_invoc(example_1_expr20, m_null_pointer_exception_10, line(example_1, 30)).
+assign(v_index_12, example_1_expr21, line(example_1, 31)).
+method_invoc(example_1_expr21, m_index_of_8, line(example_1, 31)).
+argument(example_1_literal7, 1, example_1_expr21).
+ref(p_name_11, example_1_expr21, line(example_1, 31)).
+assign(example_1_expr27, example_1_expr28, line(example_1, 32)).
+method_invoc(example_1_expr30, m_length_11, line(example_1, 32)).
+ref(p_name_11, example_1_expr30, line(example_1, 32)).
+return(example_1_expr31, m_last_name_6, line(example_1, 33)).
+method_invoc(example_1_expr31, m_substring_12, line(example_1, 33)).
+argument(example_1_expr32, 1, example_1_expr31).
+ref(p_name_11, example_1_expr31, line(example_1, 33)).
+assign(v_index_12, example_1_expr34, line(example_1, 35)).
+assign(p_name_11, example_1_expr36, line(example_1, 36)).
+cond_expr(example_1_expr37, example_1_expr38, example_1_expr39, line(example_1, 36)).
+method_invoc(example_1_expr38, m_substring_9, line(example_1, 37)).
+argument(example_1_literal14, 1, example_1_expr38).
+argument(v_index_12, 2, example_1_expr38).
+ref(p_name_11, example_1_expr38, line(example_1, 37)).
+method_invoc(example_1_expr39, m_first_name_4, line(example_1, 38)).
+argument(p_name_11, 1, example_1_expr39).
+return(example_1_literal15, m_last_name_6, line(example_1, 39)).
+throw(example_1_expr8, null_pointer_exception, line(example_1, 17)).
+
+%person_1 - sample.Person
+param(p_major_21, 1, m_person_15).
+method_invoc(person_1_expr1, m_person_18, line(person_1, 9)).
+argument(person_1_literal1, 1, person_1_expr1).
+argument(p_major_21, 2, person_1_expr1).
+param(p_name_22, 1, m_person_18).
+param(p_major_23, 2, m_person_18).
+assign(f_name_24, p_name_22, line(person_1, 13)).
+assign(f_major_25, p_major_23, line(person_1, 14)).
+return(f_name_24, m_get_name_5, line(person_1, 18)).
+return(person_1_expr8, m_get_major_20, line(person_1, 22)).
+cond_expr(person_1_expr9, person_1_expr10, f_major_25, line(person_1, 22)).
+method_invoc(person_1_expr10, m_string_19, line(person_1, 22)).
+argument(person_1_literal3, 1, person_1_expr10).
+
+
+% Stack Trace Info.
+test_failure(failure_1, 'sample.ExampleTest', 'test1').
+trace(trace_1, failure_1, m_first_name_4, line(example_1, 24), failure_1, target).
+trace(trace_2, trace_1, m_decorate_3, line(example_1, 17), failure_1, target).
+trace(trace_3, trace_2, m_test_1_14, line(example_test_1, 13), failure_1, target).
+trace(trace_4, trace_3, 'invoke', line(java_lang_reflect_method, 568), failure_1, non_target).
+trace(trace_5, trace_4, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+trace(trace_6, trace_5, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+
+
+
+%%% End of Static Facts
+
+%%% Values
+
+val(q_field_2, null, line(example_1, 13)).
+val(example_1_expr7, null, line(example_1, 17)).
+val(example_1_expr8, null, line(example_1, 17)).
+val(p_name_7, null, line(example_1, 24)).
+val(example_1_expr28, null, line(example_1, 37)).
+val(example_1_expr29, null, line(example_1, 38)).
+val(p_name_15, null, line(person_1, 13)).
+val(f_name_17, null, line(person_1, 18)).
+
+
+
+%%% End of Facts
\ No newline at end of file
@@ -0,0 +1,113 @@
+%%% Logic-FL Facts
+:- style_check(-discontiguous).
+
+%sample_test_1 - sample.SampleTest
+assign(v_sample_14, sample_test_1_expr1, line(sample_test_1, 10)).
+method_invoc(sample_test_1_expr1, m_sample_1, line(sample_test_1, 10)).
+method_invoc(sample_test_1_expr2, m_assert_true_21, line(sample_test_1, 11)).
+argument(sample_test_1_expr3, 1, sample_test_1_expr2).
+method_invoc(sample_test_1_expr3, m_run_4, line(sample_test_1, 11)).
+ref(v_sample_14, sample_test_1_expr3, line(sample_test_1, 11)).
+
+%sample_1 - sample.Sample
+assign(f_num_1, sample_1_literal1, line(sample_1, 16)).
+assign(f_str_2, sample_1_literal2, line(sample_1, 17)).
+return(f_num_1, m_get_num_2, line(sample_1, 21)).
+return(f_str_2, m_get_str_3, line(sample_1, 25)).
+assign(v_br_3, sample_1_expr6, line(sample_1, 29)).
+method_invoc(sample_1_expr6, m_new_buffered_reader_5, line(sample_1, 29)).
+throw(sample_1_expr6, ioexception, line(sample_1, 29)).
+argument(sample_1_expr7, 1, sample_1_expr6).
+ref(t_files_1, sample_1_expr6, line(sample_1, 29)).
+method_invoc(sample_1_expr7, m_get_6, line(sample_1, 29)).
+argument(sample_1_literal3, 1, sample_1_expr7).
+ref(t_paths_2, sample_1_expr7, line(sample_1, 29)).
+assign(v_line_4, sample_1_expr8, line(sample_1, 30)).
+method_invoc(sample_1_expr8, m_read_line_7, line(sample_1, 30)).
+throw(sample_1_expr8, ioexception, line(sample_1, 30)).
+ref(v_br_3, sample_1_expr8, line(sample_1, 30)).
+assign(v_list_5, sample_1_expr9, line(sample_1, 34)).
+method_invoc(sample_1_expr9, m_array_list_8, line(sample_1, 34)).
+assign(v_i_6, sample_1_literal4, line(sample_1, 35)).
+method_invoc(sample_1_expr13, m_add_9, line(sample_1, 36)).
+argument(sample_1_expr14, 1, sample_1_expr13).
+ref(v_list_5, sample_1_expr13, line(sample_1, 36)).
+method_invoc(sample_1_expr14, m_sample_1, line(sample_1, 36)).
+ref(v_list_5, sample_1_stmt10, line(sample_1, 37)).
+method_invoc(sample_1_expr15, m_println_10, line(sample_1, 37)).
+argument(sample_1_expr16, 1, sample_1_expr15).
+ref(f_out_8, sample_1_expr15, line(sample_1, 37)).
+ref(t_system_3, q_out_1, line(sample_1, 37)).
+method_invoc(sample_1_expr16, m_to_string_11, line(sample_1, 37)).
+ref(v_s_7, sample_1_expr16, line(sample_1, 37)).
+assign(v_it_9, sample_1_expr17, line(sample_1, 38)).
+method_invoc(sample_1_expr17, m_iterator_12, line(sample_1, 38)).
+ref(v_list_5, sample_1_expr17, line(sample_1, 38)).
+assign(v_num_10, sample_1_literal6, line(sample_1, 39)).
+method_invoc(sample_1_expr20, m_has_next_13, line(sample_1, 41)).
+ref(v_it_9, sample_1_expr20, line(sample_1, 41)).
+assign(v_num_10, sample_1_expr22, line(sample_1, 42)).
+method_invoc(sample_1_expr22, m_get_num_2, line(sample_1, 42)).
+ref(sample_1_expr23, sample_1_expr22, line(sample_1, 42)).
+method_invoc(sample_1_expr23, m_next_14, line(sample_1, 42)).
+ref(v_it_9, sample_1_expr23, line(sample_1, 42)).
+method_invoc(sample_1_expr25, m_for_each_15, line(sample_1, 48)).
+argument(sample_1_expr26, 1, sample_1_expr25).
+ref(v_list_5, sample_1_expr25, line(sample_1, 48)).
+ref(p_s_11, q_num_2, line(sample_1, 49)).
+assign(v_str_12, sample_1_expr28, line(sample_1, 50)).
+method_invoc(sample_1_expr28, m_to_string_11, line(sample_1, 50)).
+ref(p_s_11, sample_1_expr28, line(sample_1, 50)).
+assign(q_num_3, sample_1_expr30, line(sample_1, 51)).
+ref(p_s_11, q_num_3, line(sample_1, 51)).
+method_invoc(sample_1_expr30, m_length_16, line(sample_1, 51)).
+ref(v_str_12, sample_1_expr30, line(sample_1, 51)).
+method_invoc(sample_1_expr32, m_size_17, line(sample_1, 54)).
+ref(v_list_5, sample_1_expr32, line(sample_1, 54)).
+method_invoc(sample_1_expr33, m_add_9, line(sample_1, 57)).
+argument(sample_1_expr34, 1, sample_1_expr33).
+ref(v_list_5, sample_1_expr33, line(sample_1, 57)).
+method_invoc(sample_1_expr34, m_get_18, line(sample_1, 57)).
+argument(sample_1_literal11, 1, sample_1_expr34).
+ref(v_list_5, sample_1_expr34, line(sample_1, 57)).
+assign(v_test_13, sample_1_expr35, line(sample_1, 58)).
+cond_expr(sample_1_expr36, sample_1_literal12, sample_1_expr37, line(sample_1, 58)).
+method_invoc(sample_1_expr38, m_get_str_3, line(sample_1, 58)).
+method_invoc(sample_1_expr37, m_get_str_3, line(sample_1, 58)).
+assign(v_test_13, sample_1_expr40, line(sample_1, 59)).
+cond_expr(sample_1_expr41, v_test_13, sample_1_literal14, line(sample_1, 59)).
+method_invoc(sample_1_expr42, m_println_19, line(sample_1, 60)).
+argument(sample_1_expr43, 1, sample_1_expr42).
+ref(f_out_8, sample_1_expr42, line(sample_1, 60)).
+ref(t_system_3, q_out_3, line(sample_1, 60)).
+method_invoc(sample_1_expr43, m_length_16, line(sample_1, 61)).
+ref(v_test_13, sample_1_expr43, line(sample_1, 61)).
+
+
+% Stack Trace Info.
+
+
+
+%%% End of Static Facts
+
+%%% Values
+
+val(f_str_2, null, line(sample_1, 25)).
+val(sample_1_expr11, false, line(sample_1, 35)).
+val(sample_1_expr19, true, line(sample_1, 40)).
+val(sample_1_expr18, false, line(sample_1, 40)).
+val(sample_1_expr20, false, line(sample_1, 41)).
+val(sample_1_expr24, false, line(sample_1, 43)).
+val(sample_1_expr27, true, line(sample_1, 49)).
+val(sample_1_expr31, false, line(sample_1, 54)).
+val(sample_1_expr38, null, line(sample_1, 58)).
+val(sample_1_expr35, null, line(sample_1, 58)).
+val(sample_1_expr36, true, line(sample_1, 58)).
+val(v_test_13, null, line(sample_1, 59)).
+val(sample_1_expr40, null, line(sample_1, 59)).
+val(sample_1_expr41, true, line(sample_1, 59)).
+val(v_test_13, null, line(sample_1, 61)).
+
+
+
+%%% End of Facts
\ No newline at end of file
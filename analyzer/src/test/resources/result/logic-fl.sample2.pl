@@ -0,0 +1,47 @@
+%%% Logic-FL Facts
+:- style_check(-discontiguous).
+
+%sample2_1 - sample.Sample2
+assign(v_foo_1, sample2_1_literal1, line(sample2_1, 5)).
+assign(v_bar_2, v_foo_1, line(sample2_1, 6)).
+assign(v_foo_1, sample2_1_expr2, line(sample2_1, 8)).
+method_invoc(sample2_1_expr2, m_object_2, line(sample2_1, 8)).
+assign(v_bar_2, v_foo_1, line(sample2_1, 9)).
+assign(v_foo_1, sample2_1_literal2, line(sample2_1, 11)).
+assign(v_bar_2, v_foo_1, line(sample2_1, 12)).
+method_invoc(sample2_1_expr6, m_println_3, line(sample2_1, 14)).
+argument(sample2_1_expr7, 1, sample2_1_expr6).
+ref(f_out_3, sample2_1_expr6, line(sample2_1, 14)).
+ref(t_system_2, q_out_1, line(sample2_1, 14)).
+method_invoc(sample2_1_expr7, m_to_string_4, line(sample2_1, 14)).
+ref(v_bar_2, sample2_1_expr7, line(sample2_1, 14)).
+
+%sample2_test_1 - sample.Sample2Test
+assign(v_sample_4, sample2_test_1_expr1, line(sample2_test_1, 8)).
+method_invoc(sample2_test_1_expr1, m_sample2_6, line(sample2_test_1, 8)).
+method_invoc(sample2_test_1_expr2, m_run_1, line(sample2_test_1, 9)).
+throw(sample2_test_1_expr2, null_pointer_exception, line(sample2_test_1, 9)).
+ref(v_sample_4, sample2_test_1_expr2, line(sample2_test_1, 9)).
+
+
+% Stack Trace Info.
+test_failure(failure_1, 'sample.Sample2Test', 'test1').
+trace(trace_1, failure_1, m_run_1, line(sample2_1, 14), failure_1, target).
+trace(trace_2, trace_1, m_test_1_5, line(sample2_test_1, 9), failure_1, target).
+trace(trace_3, trace_2, 'invoke', line(java_lang_reflect_method, 569), failure_1, non_target).
+trace(trace_4, trace_3, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+trace(trace_5, trace_4, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+
+
+
+%%% End of Static Facts
+
+%%% Values
+
+val(v_foo_1, null, line(sample2_1, 6)).
+val(v_foo_1, null, line(sample2_1, 12)).
+val(v_bar_2, null, line(sample2_1, 14)).
+
+
+
+%%% End of Facts
\ No newline at end of file
@@ -0,0 +1,104 @@
+%%% Logic-FL Facts
+:- style_check(-discontiguous).
+
+%sample3_1 - sample.Sample3
+param(p_s_1, 1, m_sample3_1).
+param(p_n_2, 2, m_sample3_1).
+param(p_o_3, 3, m_sample3_1).
+assign(f_str_4, p_s_1, line(sample3_1, 20)).
+assign(f_num_5, p_n_2, line(sample3_1, 21)).
+assign(f_obj_6, p_o_3, line(sample3_1, 22)).
+return(sample3_1_expr10, m_lambda_sample_2, line(sample3_1, 26)).
+method_invoc(sample3_1_expr11, m_to_string_3, line(sample3_1, 26)).
+ref(f_num_5, sample3_1_expr11, line(sample3_1, 26)).
+assign(v_s_7, sample3_1_expr14, line(sample3_1, 31)).
+method_invoc(sample3_1_expr14, m_get_5, line(sample3_1, 31)).
+ref(sample3_1_expr15, sample3_1_expr14, line(sample3_1, 31)).
+method_invoc(sample3_1_expr15, m_lambda_sample_2, line(sample3_1, 31)).
+ref(sample3_1_expr16, sample3_1_expr15, line(sample3_1, 31)).
+return(sample3_1_expr17, m_to_string_4, line(sample3_1, 32)).
+method_invoc(sample3_1_expr17, m_join_6, line(sample3_1, 32)).
+argument(sample3_1_literal1, 1, sample3_1_expr17).
+argument(f_str_4, 2, sample3_1_expr17).
+argument(sample3_1_expr18, 3, sample3_1_expr17).
+argument(sample3_1_expr19, 4, sample3_1_expr17).
+argument(v_s_7, 5, sample3_1_expr17).
+ref(t_string_1, sample3_1_expr17, line(sample3_1, 32)).
+method_invoc(sample3_1_expr18, m_to_string_3, line(sample3_1, 32)).
+ref(f_num_5, sample3_1_expr18, line(sample3_1, 32)).
+method_invoc(sample3_1_expr19, m_to_string_7, line(sample3_1, 32)).
+ref(f_obj_6, sample3_1_expr19, line(sample3_1, 32)).
+param(p_source_8, 1, m_get_methods_8).
+assign(v_methods_9, sample3_1_expr20, line(sample3_1, 36)).
+method_invoc(sample3_1_expr20, m_array_list_9, line(sample3_1, 36)).
+assign(v_cu_10, sample3_1_expr21, line(sample3_1, 37)).
+method_invoc(sample3_1_expr21, m_get_compilation_unit_10, line(sample3_1, 37)).
+argument(p_source_8, 1, sample3_1_expr21).
+ref(t_code_utils_2, sample3_1_expr21, line(sample3_1, 37)).
+method_invoc(sample3_1_expr22, m_accept_11, line(sample3_1, 38)).
+argument(sample3_1_expr23, 1, sample3_1_expr22).
+ref(v_cu_10, sample3_1_expr22, line(sample3_1, 38)).
+method_invoc(sample3_1_expr23, m_get_visitor_12, line(sample3_1, 38)).
+argument(sample3_1_expr24, 1, sample3_1_expr23).
+method_invoc(sample3_1_expr24, m__13, line(sample3_1, 38)).
+param(p_node_11, 1, m_visit_14).
+assign(v_method_name_12, sample3_1_expr25, line(sample3_1, 41)).
+method_invoc(sample3_1_expr25, m_to_string_15, line(sample3_1, 41)).
+ref(sample3_1_expr26, sample3_1_expr25, line(sample3_1, 41)).
+method_invoc(sample3_1_expr26, m_get_name_16, line(sample3_1, 41)).
+ref(p_node_11, sample3_1_expr26, line(sample3_1, 41)).
+method_invoc(sample3_1_expr27, m_add_17, line(sample3_1, 42)).
+argument(v_method_name_12, 1, sample3_1_expr27).
+ref(v_methods_9, sample3_1_expr27, line(sample3_1, 42)).
+return(sample3_1_expr28, m_visit_14, line(sample3_1, 43)).
+method_invoc(sample3_1_expr28, m_visit_18, line(sample3_1, 43)).
+argument(p_node_11, 1, sample3_1_expr28).
+return(v_methods_9, m_visit_14, line(sample3_1, 46)).
+param(p_visitor_13, 1, m_get_visitor_12).
+return(p_visitor_13, m_get_visitor_12, line(sample3_1, 50)).
+
+%sample3_test_1 - sample.Sample3Test
+assign(v_sample_14, sample3_test_1_expr1, line(sample3_test_1, 12)).
+method_invoc(sample3_test_1_expr1, m_sample3_1, line(sample3_test_1, 12)).
+argument(sample3_test_1_literal1, 1, sample3_test_1_expr1).
+argument(sample3_test_1_literal2, 2, sample3_test_1_expr1).
+argument(sample3_test_1_literal3, 3, sample3_test_1_expr1).
+assign(v_source_15, sample3_test_1_literal4, line(sample3_test_1, 13)).
+assign(v_methods_16, sample3_test_1_expr2, line(sample3_test_1, 14)).
+method_invoc(sample3_test_1_expr2, m_get_methods_8, line(sample3_test_1, 14)).
+argument(v_source_15, 1, sample3_test_1_expr2).
+ref(v_sample_14, sample3_test_1_expr2, line(sample3_test_1, 14)).
+method_invoc(sample3_test_1_expr3, m_assert_equals_20, line(sample3_test_1, 15)).
+argument(sample3_test_1_literal5, 1, sample3_test_1_expr3).
+argument(sample3_test_1_expr4, 2, sample3_test_1_expr3).
+method_invoc(sample3_test_1_expr4, m_size_21, line(sample3_test_1, 15)).
+ref(v_methods_16, sample3_test_1_expr4, line(sample3_test_1, 15)).
+method_invoc(sample3_test_1_expr5, m_assert_equals_22, line(sample3_test_1, 16)).
+argument(sample3_test_1_literal6, 1, sample3_test_1_expr5).
+argument(sample3_test_1_expr6, 2, sample3_test_1_expr5).
+method_invoc(sample3_test_1_expr6, m_to_string_4, line(sample3_test_1, 16)).
+throw(sample3_test_1_expr6, null_pointer_exception, line(sample3_test_1, 16)).
+ref(v_sample_14, sample3_test_1_expr6, line(sample3_test_1, 16)).
+throw(sample3_test_1_expr5, null_pointer_exception, line(sample3_test_1, 16)).
+
+
+% Stack Trace Info.
+test_failure(failure_1, 'sample.Sample3Test', 'test1').
+trace(trace_1, failure_1, m_to_string_4, line(sample3_1, 32), failure_1, target).
+trace(trace_2, trace_1, m_test_1_19, line(sample3_test_1, 16), failure_1, target).
+trace(trace_3, trace_2, 'invoke', line(java_lang_reflect_method, 569), failure_1, non_target).
+trace(trace_4, trace_3, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+trace(trace_5, trace_4, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+
+
+
+%%% End of Static Facts
+
+%%% Values
+
+val(p_o_3, null, line(sample3_1, 22)).
+val(f_obj_6, null, line(sample3_1, 32)).
+
+
+
+%%% End of Facts
\ No newline at end of file
@@ -0,0 +1,145 @@
+%%% Logic-FL Facts
+:- style_check(-discontiguous).
+
+%sample4_test_1 - sample.Sample4Test
+assign(v_s_22, sample4_test_1_expr1, line(sample4_test_1, 10)).
+method_invoc(sample4_test_1_expr1, m_sample4_1, line(sample4_test_1, 10)).
+argument(sample4_test_1_literal1, 1, sample4_test_1_expr1).
+argument(sample4_test_1_literal2, 2, sample4_test_1_expr1).
+method_invoc(sample4_test_1_expr2, m_assert_equals_15, line(sample4_test_1, 11)).
+argument(sample4_test_1_literal3, 1, sample4_test_1_expr2).
+argument(sample4_test_1_expr3, 2, sample4_test_1_expr2).
+method_invoc(sample4_test_1_expr3, m_generate_2, line(sample4_test_1, 11)).
+ref(v_s_22, sample4_test_1_expr3, line(sample4_test_1, 11)).
+assign(v_s_22, sample4_test_1_expr5, line(sample4_test_1, 12)).
+method_invoc(sample4_test_1_expr5, m_sample4_1, line(sample4_test_1, 12)).
+argument(sample4_test_1_literal4, 1, sample4_test_1_expr5).
+argument(sample4_test_1_literal5, 2, sample4_test_1_expr5).
+method_invoc(sample4_test_1_expr6, m_assert_equals_15, line(sample4_test_1, 13)).
+argument(sample4_test_1_literal6, 1, sample4_test_1_expr6).
+argument(sample4_test_1_expr7, 2, sample4_test_1_expr6).
+method_invoc(sample4_test_1_expr7, m_generate_2, line(sample4_test_1, 13)).
+throw(sample4_test_1_expr7, null_pointer_exception, line(sample4_test_1, 13)).
+ref(v_s_22, sample4_test_1_expr7, line(sample4_test_1, 13)).
+throw(sample4_test_1_expr6, null_pointer_exception, line(sample4_test_1, 13)).
+
+%sample4_1 - sample.Sample4
+param(p_field_1_1, 1, m_sample4_1).
+param(p_field_2_2, 2, m_sample4_1).
+assign(f_field_1_3, p_field_1_1, line(sample4_1, 11)).
+assign(f_field_2_4, p_field_2_2, line(sample4_1, 12)).
+assign(v_sb_2_5, sample4_1_expr7, line(sample4_1, 16)).
+method_invoc(sample4_1_expr7, m_string_buffer_3, line(sample4_1, 16)).
+assign(v_i_6, sample4_1_literal1, line(sample4_1, 17)).
+method_invoc(sample4_1_expr11, m_append_4, line(sample4_1, 18)).
+argument(f_field_1_3, 1, sample4_1_expr11).
+ref(v_sb_2_5, sample4_1_expr11, line(sample4_1, 18)).
+assign(v_sb_7, sample4_1_expr12, line(sample4_1, 20)).
+method_invoc(sample4_1_expr12, m_string_buffer_3, line(sample4_1, 20)).
+method_invoc(sample4_1_expr13, m_method_1_5, line(sample4_1, 21)).
+argument(v_sb_7, 1, sample4_1_expr13).
+assign(v_sb_7, sample4_1_expr15, line(sample4_1, 22)).
+method_invoc(sample4_1_expr15, m_string_buffer_3, line(sample4_1, 22)).
+method_invoc(sample4_1_expr16, m_method_2_6, line(sample4_1, 23)).
+argument(v_sb_7, 1, sample4_1_expr16).
+method_invoc(sample4_1_expr17, m_method_3_7, line(sample4_1, 24)).
+method_invoc(sample4_1_expr18, m_method_4_8, line(sample4_1, 25)).
+method_invoc(sample4_1_expr19, m_method_5_9, line(sample4_1, 26)).
+method_invoc(sample4_1_expr21, m_length_10, line(sample4_1, 28)).
+ref(f_field_1_3, sample4_1_expr21, line(sample4_1, 28)).
+return(sample4_1_expr22, m_generate_2, line(sample4_1, 29)).
+method_invoc(sample4_1_expr22, m_to_string_11, line(sample4_1, 29)).
+ref(v_sb_2_5, sample4_1_expr22, line(sample4_1, 29)).
+param(p_sb_8, 1, m_method_1_5).
+assign(v_count_9, sample4_1_literal3, line(sample4_1, 35)).
+method_invoc(sample4_1_expr23, m_append_4, line(sample4_1, 37)).
+argument(f_field_1_3, 1, sample4_1_expr23).
+ref(p_sb_8, sample4_1_expr23, line(sample4_1, 37)).
+assign(sample4_1_expr26, sample4_1_expr27, line(sample4_1, 42)).
+assign(sample4_1_expr27, sample4_1_expr28, line(sample4_1, 42)).
+param(p_sb_10, 1, m_method_2_6).
+assign(v_i_11, sample4_1_expr32, line(sample4_1, 47)).
+assign(v_b_12, sample4_1_expr34, line(sample4_1, 47)).
+assign(v_b_12, sample4_1_expr41, line(sample4_1, 47)).
+method_invoc(sample4_1_expr42, m_append_4, line(sample4_1, 48)).
+argument(f_field_1_3, 1, sample4_1_expr42).
+ref(p_sb_10, sample4_1_expr42, line(sample4_1, 48)).
+assign(f_field_2_4, sample4_1_literal9, line(sample4_1, 50)).
+assign(v_list_13, sample4_1_expr44, line(sample4_1, 54)).
+method_invoc(sample4_1_expr44, m_of_12, line(sample4_1, 54)).
+argument(sample4_1_literal10, 1, sample4_1_expr44).
+argument(sample4_1_literal11, 2, sample4_1_expr44).
+argument(sample4_1_literal12, 3, sample4_1_expr44).
+argument(sample4_1_literal13, 4, sample4_1_expr44).
+argument(sample4_1_literal14, 5, sample4_1_expr44).
+ref(t_list_1, sample4_1_expr44, line(sample4_1, 54)).
+ref(sample4_1_expr45, sample4_1_stmt25, line(sample4_1, 55)).
+method_invoc(sample4_1_expr45, m_sub_list_13, line(sample4_1, 55)).
+argument(sample4_1_literal15, 1, sample4_1_expr45).
+argument(sample4_1_literal16, 2, sample4_1_expr45).
+ref(v_list_13, sample4_1_expr45, line(sample4_1, 55)).
+assign(f_field_2_4, v_x_14, line(sample4_1, 56)).
+assign(v_count_15, sample4_1_literal17, line(sample4_1, 61)).
+assign(v_i_16, sample4_1_literal18, line(sample4_1, 62)).
+assign(v_j_17, sample4_1_literal21, line(sample4_1, 65)).
+assign(v_k_18, sample4_1_expr53, line(sample4_1, 65)).
+assign(v_s_1_19, sample4_1_expr56, line(sample4_1, 71)).
+method_invoc(sample4_1_expr56, m_sample4_1, line(sample4_1, 71)).
+argument(sample4_1_literal23, 1, sample4_1_expr56).
+argument(sample4_1_literal24, 2, sample4_1_expr56).
+assign(v_s_2_20, sample4_1_expr57, line(sample4_1, 72)).
+method_invoc(sample4_1_expr57, m_sample4_1, line(sample4_1, 72)).
+argument(sample4_1_literal25, 1, sample4_1_expr57).
+argument(sample4_1_literal26, 2, sample4_1_expr57).
+assign(v_s_3_21, sample4_1_expr58, line(sample4_1, 73)).
+method_invoc(sample4_1_expr58, m_sample4_1, line(sample4_1, 73)).
+argument(sample4_1_literal27, 1, sample4_1_expr58).
+argument(sample4_1_literal28, 2, sample4_1_expr58).
+assign(q_field_1_1, f_field_1_3, line(sample4_1, 74)).
+ref(v_s_1_19, q_field_1_1, line(sample4_1, 74)).
+assign(q_field_2_2, q_field_2_3, line(sample4_1, 75)).
+ref(v_s_2_20, q_field_2_2, line(sample4_1, 75)).
+ref(v_s_3_21, q_field_2_3, line(sample4_1, 75)).
+assign(f_field_2_4, q_field_2_4, line(sample4_1, 76)).
+ref(v_s_1_19, q_field_2_4, line(sample4_1, 76)).
+assign(q_field_2_5, q_field_2_5, line(sample4_1, 77)).
+ref(v_s_2_20, q_field_2_5, line(sample4_1, 77)).
+ref(v_s_1_19, q_field_2_5, line(sample4_1, 77)).
+
+
+% Stack Trace Info.
+test_failure(failure_1, 'sample.Sample4Test', 'test1').
+trace(trace_1, failure_1, m_generate_2, line(sample4_1, 28), failure_1, target).
+trace(trace_2, trace_1, m_test_1_14, line(sample4_test_1, 13), failure_1, target).
+trace(trace_3, trace_2, 'invoke', line(java_lang_reflect_method, 569), failure_1, non_target).
+trace(trace_4, trace_3, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+trace(trace_5, trace_4, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+
+
+
+%%% End of Static Facts
+
+%%% Values
+
+val(p_field_1_1, null, line(sample4_1, 11)).
+val(sample4_1_expr9, false, line(sample4_1, 17)).
+val(f_field_1_3, null, line(sample4_1, 18)).
+val(f_field_1_3, null, line(sample4_1, 28)).
+val(sample4_1_expr20, true, line(sample4_1, 28)).
+val(f_field_1_3, null, line(sample4_1, 37)).
+val(f_field_1_3, null, line(sample4_1, 38)).
+val(sample4_1_expr24, true, line(sample4_1, 38)).
+val(sample4_1_expr28, false, line(sample4_1, 42)).
+val(sample4_1_expr27, false, line(sample4_1, 42)).
+val(sample4_1_expr35, false, line(sample4_1, 47)).
+val(sample4_1_expr37, true, line(sample4_1, 47)).
+val(sample4_1_expr36, false, line(sample4_1, 47)).
+val(f_field_1_3, null, line(sample4_1, 48)).
+val(sample4_1_expr47, false, line(sample4_1, 63)).
+val(sample4_1_expr50, false, line(sample4_1, 64)).
+val(sample4_1_expr54, false, line(sample4_1, 66)).
+val(f_field_1_3, null, line(sample4_1, 74)).
+
+
+
+%%% End of Facts
\ No newline at end of file
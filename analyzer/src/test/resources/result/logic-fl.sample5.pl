@@ -0,0 +1,70 @@
+%%% Logic-FL Facts
+:- style_check(-discontiguous).
+
+%sample5_test_1 - sample.Sample5Test
+assign(v_s_9, sample5_test_1_expr1, line(sample5_test_1, 10)).
+method_invoc(sample5_test_1_expr1, m_sample5_1, line(sample5_test_1, 10)).
+argument(sample5_test_1_literal1, 1, sample5_test_1_expr1).
+argument(sample5_test_1_literal2, 2, sample5_test_1_expr1).
+method_invoc(sample5_test_1_expr2, m_assert_true_9, line(sample5_test_1, 11)).
+argument(sample5_test_1_expr3, 1, sample5_test_1_expr2).
+method_invoc(sample5_test_1_expr3, m_test_2, line(sample5_test_1, 11)).
+throw(sample5_test_1_expr3, null_pointer_exception, line(sample5_test_1, 11)).
+ref(v_s_9, sample5_test_1_expr3, line(sample5_test_1, 11)).
+throw(sample5_test_1_expr2, null_pointer_exception, line(sample5_test_1, 11)).
+
+%sample5_1 - sample.Sample5
+param(p_field_1_1, 1, m_sample5_1).
+param(p_field_2_2, 2, m_sample5_1).
+assign(f_field_1_3, p_field_1_1, line(sample5_1, 8)).
+assign(f_field_2_4, p_field_2_2, line(sample5_1, 9)).
+method_invoc(sample5_1_expr7, m_method_1_3, line(sample5_1, 13)).
+method_invoc(sample5_1_expr8, m_method_1_3, line(sample5_1, 14)).
+method_invoc(sample5_1_expr9, m_method_1_3, line(sample5_1, 15)).
+method_invoc(sample5_1_expr10, m_method_2_4, line(sample5_1, 16)).
+method_invoc(sample5_1_expr11, m_method_3_5, line(sample5_1, 17)).
+return(sample5_1_expr12, m_test_2, line(sample5_1, 20)).
+method_invoc(sample5_1_expr12, m_contains_6, line(sample5_1, 20)).
+argument(sample5_1_literal1, 1, sample5_1_expr12).
+ref(f_field_1_3, sample5_1_expr12, line(sample5_1, 20)).
+assign(v_count_5, sample5_1_literal2, line(sample5_1, 24)).
+assign(v_count_5, sample5_1_literal4, line(sample5_1, 26)).
+assign(v_count_5, sample5_1_expr17, line(sample5_1, 28)).
+assign(v_count_5, sample5_1_expr19, line(sample5_1, 30)).
+assign(f_field_2_4, v_count_5, line(sample5_1, 32)).
+assign(v_s_6, sample5_1_expr21, line(sample5_1, 36)).
+return(sample5_1_expr22, m_method_2_4, line(sample5_1, 38)).
+method_invoc(sample5_1_expr22, m_length_7, line(sample5_1, 38)).
+ref(v_s_6, sample5_1_expr22, line(sample5_1, 38)).
+assign(v_count_7, sample5_1_literal8, line(sample5_1, 42)).
+assign(f_field_2_4, sample5_1_literal9, line(sample5_1, 43)).
+assign(v_i_8, v_count_7, line(sample5_1, 47)).
+assign(v_count_7, sample5_1_literal11, line(sample5_1, 48)).
+
+
+% Stack Trace Info.
+test_failure(failure_1, 'sample.Sample5Test', 'test1').
+trace(trace_1, failure_1, m_test_2, line(sample5_1, 20), failure_1, target).
+trace(trace_2, trace_1, m_test_1_8, line(sample5_test_1, 11), failure_1, target).
+trace(trace_3, trace_2, 'invoke', line(java_lang_reflect_method, 569), failure_1, non_target).
+trace(trace_4, trace_3, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+trace(trace_5, trace_4, 'forEach', line(java_util_array_list, 1511), failure_1, non_target).
+
+
+
+%%% End of Static Facts
+
+%%% Values
+
+val(p_field_1_1, null, line(sample5_1, 8)).
+val(f_field_1_3, null, line(sample5_1, 20)).
+val(sample5_1_expr13, false, line(sample5_1, 25)).
+val(sample5_1_expr15, false, line(sample5_1, 27)).
+val(f_field_1_3, null, line(sample5_1, 36)).
+val(sample5_1_expr24, false, line(sample5_1, 44)).
+val(sample5_1_expr25, true, line(sample5_1, 46)).
+val(sample5_1_expr27, false, line(sample5_1, 47)).
+
+
+
+%%% End of Facts
\ No newline at end of file
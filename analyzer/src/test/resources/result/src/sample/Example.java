@@ -0,0 +1,107 @@
+package sample;
+
+public class Example {
+    private Person<?> p;
+    private Object s;
+
+    public Example(Person<?> p) {
+        this(p, p.field);
+    }
+
+    public Example(Person<?> p, Object s) {
+        int PROBE_START_LINE_12 = 12;
+		Person<?> p_p_5_line_12 = p;
+		int PROBE_END_LINE_12 = 12;
+		this.p = p_p_5_line_12;
+        int PROBE_START_LINE_13 = 13;
+		Person<?> p_p_5_line_13 = p;
+		java.lang.Object q_field_2_line_13 = p_p_5_line_13.field;
+		int PROBE_END_LINE_13 = 13;
+		s = q_field_2_line_13;
+    }
+
+    public String decorate() {
+        int PROBE_START_LINE_17 = 17;
+		Person<?> f_p_1_line_17 = this.p;
+		String example_1_expr8_line_17 = f_p_1_line_17.getName();
+		String example_1_expr7_line_17 = (example_1_expr8_line_17);
+		String example_1_expr6_line_17 = firstName(example_1_expr7_line_17);
+		int PROBE_END_LINE_17 = 17;
+		String firstName = example_1_expr6_line_17;
+        String lastName = lastName(p.getName());
+
+        return lastName.toUpperCase() + "," + firstName;
+    }
+
+    public String firstName(String name) {
+        int PROBE_START_LINE_24 = 24;
+		String p_name_9_line_24 = name;
+		int example_1_expr15_line_24 = p_name_9_line_24.indexOf(' ');
+		int PROBE_END_LINE_24 = 24;
+		int index = example_1_expr15_line_24;
+        return name.substring(0, index > 0 ? index : 0);
+    }
+
+    public String lastName(String name) throws NullPointerException {
+        int PROBE_START_LINE_29 = 30;
+		String p_name_11_line_29 = name;
+		boolean example_1_expr19_line_29 = p_name_11_line_29 == null;
+		int PROBE_END_LINE_29 = 30;
+		if(example_1_expr19_line_29)
+            throw new NullPointerException();
+        int PROBE_START_LINE_31 = 31;
+		String p_name_11_line_31 = name;
+		int example_1_expr21_line_31 = p_name_11_line_31.indexOf(' ');
+		int PROBE_END_LINE_31 = 31;
+		int index = example_1_expr21_line_31;
+        int PROBE_START_LINE_32 = 35;
+		String p_name_11_line_32 = name;
+		boolean example_1_expr24_line_32 = p_name_11_line_32 != null;
+		boolean example_1_expr25_line_32 = true;
+		if (example_1_expr24_line_32) {
+			int v_index_12_line_32 = index;
+			example_1_expr25_line_32 = v_index_12_line_32 >= 0;
+		}
+		boolean example_1_expr23_line_32 = example_1_expr24_line_32 && example_1_expr25_line_32;
+		boolean example_1_expr26_line_32 = true;
+		if (example_1_expr23_line_32) {
+			int v_index_12_line_32_v1 = index;
+			int example_1_expr29_line_32 = v_index_12_line_32_v1 + 1;
+			String p_name_11_line_32_v1 = name;
+			int example_1_expr30_line_32 = p_name_11_line_32_v1.length();
+			boolean example_1_expr28_line_32 = example_1_expr29_line_32 < example_1_expr30_line_32;
+			boolean example_1_expr27_line_32 = (example_1_expr28_line_32);
+			example_1_expr26_line_32 = !example_1_expr27_line_32;
+		}
+		boolean example_1_expr22_line_32 = example_1_expr23_line_32 && example_1_expr26_line_32;
+		int PROBE_END_LINE_32 = 35;
+		if(example_1_expr22_line_32)
+            return name.substring(index+1);
+		else {
+			int PROBE_START_LINE_35 = 35;
+			int v_index_12_line_35 = index;
+			int example_1_expr34_line_35 = v_index_12_line_35 + 1;
+			int PROBE_END_LINE_35 = 35;
+			index = example_1_expr34_line_35;
+		}
+        int PROBE_START_LINE_36 = 38;
+		int v_index_12_line_36 = index;
+		boolean example_1_expr37_line_36 = v_index_12_line_36 > 0;
+		String example_1_expr38_line_37 = null;
+		String example_1_expr39_line_38 = null;
+		if (example_1_expr37_line_36) {
+			String p_name_11_line_37 = name;
+			int v_index_12_line_37 = index;
+			example_1_expr38_line_37 = p_name_11_line_37.substring(0, v_index_12_line_37);
+		} else {
+			String p_name_11_line_38 = name;
+			example_1_expr39_line_38 = firstName(p_name_11_line_38);
+		}
+		String example_1_expr36_line_36 = example_1_expr37_line_36
+				? example_1_expr38_line_37
+				: example_1_expr39_line_38;
+		int PROBE_END_LINE_36 = 38;
+		name = example_1_expr36_line_36;
+        return null;
+    }
+}
\ No newline at end of file
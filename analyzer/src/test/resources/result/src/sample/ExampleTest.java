@@ -0,0 +1,37 @@
+package sample;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ExampleTest {
+
+    @Test
+    public void test1() {
+        int PROBE_START_LINE_10 = 10;
+		String f_major_14_line_10 = MAJOR;
+		int PROBE_END_LINE_10 = 10;
+		Person p = new Person(f_major_14_line_10);
+        int PROBE_START_LINE_11 = 11;
+		sample.Person v_p_13_line_11 = p;
+		int PROBE_END_LINE_11 = 11;
+		Example e = new Example(v_p_13_line_11);
+        int PROBE_START_LINE_12 = 12;
+		sample.Example v_e_15_line_12 = e;
+		int PROBE_END_LINE_12 = 12;
+		v_e_15_line_12.lastName("ABC DEF");
+        int PROBE_START_LINE_13 = 13;
+		sample.Example v_e_15_line_13 = e;
+		String example_test_1_expr6_line_13 = v_e_15_line_13.decorate();
+		int PROBE_END_LINE_13 = 13;
+		assertEquals(",", example_test_1_expr6_line_13);
+    }
+
+    @Test
+    public void test2() {
+        Person p = new Person(null, MAJOR);
+        Example e = new Example(p);
+        assertEquals(",", e.decorate());
+    }
+
+    private static final String MAJOR = new String("Art");
+}
\ No newline at end of file
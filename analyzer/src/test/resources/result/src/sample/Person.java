@@ -0,0 +1,33 @@
+package sample;
+
+public class Person<T> {
+    private String name;
+    private String major;
+    public T field;
+
+    public Person(String major) {
+        this(null, major);
+    }
+
+    public Person(String name, String major) {
+        int PROBE_START_LINE_13 = 13;
+		String p_name_22_line_13 = name;
+		int PROBE_END_LINE_13 = 13;
+		this.name = p_name_22_line_13;
+        int PROBE_START_LINE_14 = 14;
+		String p_major_23_line_14 = major;
+		int PROBE_END_LINE_14 = 14;
+		this.major = p_major_23_line_14;
+    }
+
+    public String getName() {
+        int PROBE_START_LINE_18 = 18;
+		String f_name_24_line_18 = name;
+		int PROBE_END_LINE_18 = 18;
+		return f_name_24_line_18;
+    }
+
+    public String getMajor() {
+        return major == null ? new String("") : major;
+    }
+}
\ No newline at end of file